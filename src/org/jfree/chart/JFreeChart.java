@@ -122,6 +122,8 @@
  *               method (DG);
  * 24-Nov-2005 : Removed OldLegend and related code - don't want to support
  *               this in 1.0.0 final (DG);
+ * 19-Oct-2026 : Fall back to a full draw in drawAppendedData() when an axis
+ *               with auto range headroom has changed its range;
  *
  */
 
@@ -425,7 +427,10 @@ public class JFreeChart implements Drawable,
      * <P>
      * Only draws the appended data as it arrives, does not redraw the chart.
      * Currently uses {@link FastCombinedDomainXYPlot} which in turn calls
-     * {@link FastXYPlot} which decides which custom renderer to call.
+     * {@link FastXYPlot} which decides which custom renderer to call.  Any
+     * other plot, or a fast plot that reports (before anything is painted)
+     * that an axis with auto range headroom has changed its range since the
+     * last full draw, is drawn in full instead.
      *
      * @param g2  the graphics device.
      * @param chartArea  the area within which the chart should be drawn.
@@ -440,6 +445,12 @@ public class JFreeChart implements Drawable,
 //            LOGGER.debug("Entering drawAppendedData() method, chartArea = " + chartArea.toString());
 //        }
 
+        if (!(plot instanceof FastCombinedDomainXYPlot)
+                || !((FastCombinedDomainXYPlot) plot).canDrawAppendedData()) {
+            draw(g2, chartArea, anchor, info);
+            return;
+        }
+
         // draw the plot (axes and data visualisation)
         PlotRenderingInfo plotInfo = null;
         if (info != null) {
@@ -464,20 +475,15 @@ public class JFreeChart implements Drawable,
             }
         }
 
-        if (plot instanceof FastCombinedDomainXYPlot) {
-            // ensure no drawing occurs outside chart area...
-            Shape savedClip = g2.getClip();
-            g2.clip(chartArea);
-
-            g2.addRenderingHints(this.renderingHints);
-            ((FastCombinedDomainXYPlot) plot).drawAppendedData(g2, nonTitleArea,
-                    anchor, null, plotInfo);
+        // ensure no drawing occurs outside chart area...
+        Shape savedClip = g2.getClip();
+        g2.clip(chartArea);
 
-            g2.setClip(savedClip);
-        } else {
+        g2.addRenderingHints(this.renderingHints);
+        ((FastCombinedDomainXYPlot) plot).drawAppendedData(g2, nonTitleArea,
+                anchor, null, plotInfo);
 
-            draw(g2, chartArea, anchor, info);
-        }
+        g2.setClip(savedClip);
 
 //        if (LOGGER.isDebugEnabled()) {
 //            LOGGER.debug("Leaving drawAppendedData() method");
@@ -76,6 +76,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 22-Aug-2006 : API doc updates (DG);
  * 06-Jun-2008 : Added setTickLabelInsets(RectangleInsets, boolean) (DG);
+ * 19-Oct-2026 : Measure the axis label through TextMeasurementCache;
  *
  */
 
@@ -106,6 +107,7 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.event.AxisChangeListener;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.io.SerialUtilities;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
@@ -994,7 +996,9 @@ public abstract class Axis implements Cloneable, Serializable {
         String axisLabel = getLabel();
         if (axisLabel != null && !axisLabel.equals("")) {
             FontMetrics fm = g2.getFontMetrics(getLabelFont());
-            Rectangle2D bounds = TextUtilities.getTextBounds(axisLabel, g2, fm);
+            Rectangle2D bounds 
+                    = TextMeasurementCache.getSharedTextBounds(
+                    axisLabel, g2, fm);
             RectangleInsets insets = getLabelInsets();
             bounds = insets.createOutsetRectangle(bounds);
             double angle = getLabelAngle();
@@ -1046,7 +1050,8 @@ public abstract class Axis implements Cloneable, Serializable {
         g2.setFont(font);
         g2.setPaint(getLabelPaint());
         FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D labelBounds = TextUtilities.getTextBounds(label, g2, fm);
+        Rectangle2D labelBounds 
+                = TextMeasurementCache.getSharedTextBounds(label, g2, fm);
 
         if (edge == RectangleEdge.TOP) {
 
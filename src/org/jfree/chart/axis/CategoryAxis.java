@@ -86,12 +86,17 @@
  *               equalPaintMaps() method (DG);
  * 23-Apr-2008 : Fixed bug 1942059, bad use of insets in
  *               calculateTextBlockWidth() (DG);
+ * 19-Oct-2026 : Added categoryLabelThinning flag;
+ * 19-Oct-2026 : Thin labels by the longest label text, and widen the labels
+ *               that are kept;
+ * 19-Oct-2026 : Measure labels through TextMeasurementCache;
  *
  */
 
 package org.jfree.chart.axis;
 
 import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Shape;
@@ -113,9 +118,9 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleAnchor;
@@ -181,6 +186,12 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
     /** Storage for the category label tooltips (if any). */
     private Map categoryLabelToolTips;
 
+    /**
+     * A flag that controls whether or not labels are skipped when there is
+     * not enough space along the axis to display all of them.
+     */
+    private boolean categoryLabelThinning;
+
     /**
      * Creates a new category axis with no label.
      */
@@ -210,6 +221,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
         this.tickLabelFontMap = new HashMap();
         this.tickLabelPaintMap = new HashMap();
         this.categoryLabelToolTips = new HashMap();
+        this.categoryLabelThinning = false;
 
     }
 
@@ -364,6 +376,43 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
         notifyListeners(new AxisChangeEvent(this));
     }
 
+    /**
+     * Returns the flag that controls whether or not category labels are
+     * skipped when there is not enough space along the axis to display all
+     * of them.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setCategoryLabelThinning(boolean)
+     * @since 1.0.10
+     */
+    public boolean isCategoryLabelThinning() {
+        return this.categoryLabelThinning;
+    }
+
+    /**
+     * Sets the flag that controls whether or not category labels are skipped
+     * when there is not enough space along the axis to display all of them,
+     * and sends an {@link AxisChangeEvent} to all registered listeners.  When
+     * the flag is set, and the spacing between categories is smaller than the
+     * space required by the longest label (measured as a single line in the
+     * tick label font for its category), only every n-th label is created
+     * and drawn.  The labels that are kept are given the width of n
+     * categories, and the other labels are not laid out at all.  This is
+     * useful for axes with a very large number of categories.
+     *
+     * @param thinning  the new flag value.
+     *
+     * @see #isCategoryLabelThinning()
+     * @since 1.0.10
+     */
+    public void setCategoryLabelThinning(boolean thinning) {
+        if (this.categoryLabelThinning != thinning) {
+            this.categoryLabelThinning = thinning;
+            notifyListeners(new AxisChangeEvent(this));
+        }
+    }
+
     /**
      * Returns the category label position specification (this contains label
      * positioning info for all four possible axis locations).
@@ -931,6 +980,11 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
             while (iterator.hasNext()) {
 
                 CategoryTick tick = (CategoryTick) iterator.next();
+                if (tick.getLabel().getLines().isEmpty()) {
+                    // the label was skipped (see isCategoryLabelThinning())
+                    categoryIndex++;
+                    continue;
+                }
                 g2.setFont(getTickLabelFont(tick.getCategory()));
                 g2.setPaint(getTickLabelPaint(tick.getCategory()));
 
@@ -1065,11 +1119,29 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
                     l = (float) dataArea.getHeight();
                 }
             }
+            float width = l * r;
+            int step = 1;
+            if (this.categoryLabelThinning) {
+                step = calculateLabelStep(g2, categories, position, width,
+                        dataArea, edge);
+            }
+            if (position.getWidthType() == CategoryLabelWidthType.CATEGORY) {
+                // a kept label can use the space of the skipped labels
+                width = width * step;
+            }
             int categoryIndex = 0;
             Iterator iterator = categories.iterator();
             while (iterator.hasNext()) {
                 Comparable category = (Comparable) iterator.next();
-                TextBlock label = createLabel(category, l * r, edge, g2);
+                if (categoryIndex % step != 0) {
+                    ticks.add(new CategoryTick(category, new TextBlock(),
+                            position.getLabelAnchor(),
+                            position.getRotationAnchor(),
+                            position.getAngle()));
+                    categoryIndex = categoryIndex + 1;
+                    continue;
+                }
+                TextBlock label = createLabel(category, width, edge, g2);
                 if (edge == RectangleEdge.TOP || edge == RectangleEdge.BOTTOM) {
                     max = Math.max(max, calculateTextBlockHeight(label,
                             position, g2));
@@ -1091,6 +1163,72 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Returns the interval between the categories that are labelled when
+     * labels are thinned.  The space required along the axis by a label is
+     * estimated from the longest label, measured as a single line of text
+     * in the tick label font for its category, at the angle given by the
+     * label position.
+     *
+     * @param g2  the graphics device.
+     * @param categories  the categories.
+     * @param position  the label position.
+     * @param width  the width that a label is wrapped to when all labels
+     *     are shown.
+     * @param area  the area along which the categories are laid out.
+     * @param edge  the edge on which the axis appears.
+     *
+     * @return The interval (always at least 1).
+     */
+    private int calculateLabelStep(Graphics2D g2, List categories,
+            CategoryLabelPosition position, float width, Rectangle2D area,
+            RectangleEdge edge) {
+        int categoryCount = categories.size();
+        if (categoryCount < 2) {
+            return 1;
+        }
+        double spacing = getCategoryStart(1, categoryCount, area, edge)
+                - getCategoryStart(0, categoryCount, area, edge);
+        if (position.getWidthType() == CategoryLabelWidthType.CATEGORY) {
+            // the label width is a fraction of the category width, which
+            // excludes the gap between categories
+            spacing = Math.min(spacing, width);
+        }
+        if (spacing <= 0.0) {
+            return 1;
+        }
+        double w = 0.0;
+        double h = 0.0;
+        Font font = null;
+        FontMetrics fm = null;
+        Iterator iterator = categories.iterator();
+        while (iterator.hasNext()) {
+            Comparable category = (Comparable) iterator.next();
+            Font f = getTickLabelFont(category);
+            if (!f.equals(font)) {
+                font = f;
+                fm = g2.getFontMetrics(f);
+            }
+            Rectangle2D bounds = TextMeasurementCache.getSharedTextBounds(
+                    category.toString(), g2, fm);
+            w = Math.max(w, bounds.getWidth());
+            h = Math.max(h, bounds.getHeight());
+        }
+        double sin = Math.abs(Math.sin(position.getAngle()));
+        double cos = Math.abs(Math.cos(position.getAngle()));
+        double required;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            required = h * sin + w * cos;
+        }
+        else {
+            required = h * cos + w * sin;
+        }
+        if (required <= spacing) {
+            return 1;
+        }
+        return (int) Math.min(categoryCount, Math.ceil(required / spacing));
+    }
+
     /**
      * Creates a label.
      *
@@ -1105,7 +1243,8 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
                                     RectangleEdge edge, Graphics2D g2) {
         TextBlock label = TextUtilities.createTextBlock(category.toString(),
                 getTickLabelFont(category), getTickLabelPaint(category), width,
-                this.maximumCategoryLabelLines, new G2TextMeasurer(g2));
+                this.maximumCategoryLabelLines,
+                TextMeasurementCache.createSharedTextMeasurer(g2));
         return label;
     }
 
@@ -1224,6 +1363,9 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
         if (!equalPaintMaps(this.tickLabelPaintMap, that.tickLabelPaintMap)) {
             return false;
         }
+        if (this.categoryLabelThinning != that.categoryLabelThinning) {
+            return false;
+        }
         return true;
     }
 
@@ -115,6 +115,9 @@
  * 03-May-2007 : Fixed minor bugs in previousStandardDate(), with new JUnit
  *               tests (DG);
  * 21-Nov-2007 : Fixed warnings from FindBugs (DG);
+ * 19-Oct-2026 : Apply the auto range headroom in autoAdjustRange();
+ * 19-Oct-2026 : Round the auto range headroom to tick dates in the axis
+ *               time zone;
  *
  */
 
@@ -1191,6 +1194,70 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Returns the size of the current tick unit (in milliseconds), which is
+     * used to round the automatic range when the auto range headroom is
+     * greater than zero.  The size is approximate for some units (a month
+     * is counted as 31 days), so the rounding itself is done on the
+     * calendar, see {@link #roundAutoRangeDown(double, double)}.
+     *
+     * @return The step size.
+     *
+     * @see #getAutoRangeHeadroom()
+     *
+     * @since 1.0.10
+     */
+    protected double getAutoRangeStepSize() {
+        return getTickUnit().getSize();
+    }
+
+    /**
+     * Rounds a lower bound of the automatic range down to a tick date for
+     * the current tick unit, in the axis time zone (so that, for example,
+     * a range measured in days starts at midnight local time).
+     *
+     * @param value  the value (in milliseconds).
+     * @param step  the step size (no rounding if zero).
+     *
+     * @return The rounded value.
+     *
+     * @since 1.0.10
+     */
+    protected double roundAutoRangeDown(double value, double step) {
+        if (step <= 0.0) {
+            return value;
+        }
+        // previousStandardDate() returns a date strictly before its argument
+        long millis = (long) Math.floor(value);
+        Date date = previousStandardDate(new Date(millis + 1L),
+                getTickUnit());
+        return date.getTime();
+    }
+
+    /**
+     * Rounds an upper bound of the automatic range up to a tick date for the
+     * current tick unit, in the axis time zone.
+     *
+     * @param value  the value (in milliseconds).
+     * @param step  the step size (no rounding if zero).
+     *
+     * @return The rounded value.
+     *
+     * @since 1.0.10
+     */
+    protected double roundAutoRangeUp(double value, double step) {
+        if (step <= 0.0) {
+            return value;
+        }
+        DateTickUnit unit = getTickUnit();
+        long millis = (long) Math.ceil(value);
+        Date date = previousStandardDate(new Date(millis), unit);
+        while (date.getTime() < millis) {
+            date = unit.addToDate(date, this.timeZone);
+        }
+        return date.getTime();
+    }
+
     /**
      * Rescales the axis to ensure that all data is visible.
      */
@@ -1242,7 +1309,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
             upper = this.timeline.toMillisecond(upper);
             lower = this.timeline.toMillisecond(lower);
             DateRange dr = new DateRange(new Date(lower), new Date(upper));
-            setRange(dr, false, false);
+            setRange(applyAutoRangeHeadroom(dr), false, false);
         }
 
     }
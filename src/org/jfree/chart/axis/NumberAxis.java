@@ -90,6 +90,7 @@
  * 11-Dec-2006 : Fix bug in auto-tick unit selection with tick format override,
  *               see bug 1608371 (DG);
  * 22-Mar-2007 : Use new defaultAutoRange attribute (DG);
+ * 19-Oct-2026 : Apply the auto range headroom in autoAdjustRange();
  *
  */
 
@@ -410,6 +411,37 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Returns the size of the current tick unit, which is used to round the
+     * automatic range when the auto range headroom is greater than zero.
+     *
+     * @return The step size.
+     *
+     * @see #getAutoRangeHeadroom()
+     *
+     * @since 1.0.10
+     */
+    protected double getAutoRangeStepSize() {
+        return getTickUnit().getSize();
+    }
+
+    /**
+     * Returns <code>true</code> if the auto range headroom must not move a
+     * bound across zero, which is the case when the auto range is sticky at
+     * zero or includes zero, or the range type is not
+     * <code>RangeType.FULL</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #getAutoRangeHeadroom()
+     *
+     * @since 1.0.10
+     */
+    protected boolean isAutoRangeHeadroomClampedAtZero() {
+        return getAutoRangeStickyZero() || getAutoRangeIncludesZero()
+                || this.rangeType != RangeType.FULL;
+    }
+
     /**
      * Rescales the axis to ensure that all data is visible.
      */
@@ -496,7 +528,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 }
             }
 
-            setRange(new Range(lower, upper), false, false);
+            setRange(applyAutoRangeHeadroom(new Range(lower, upper)), false,
+                    false);
         }
 
     }
@@ -51,6 +51,7 @@
  * 31-Jul-2007 : Fix for inverted axis labelling (see bug 1763413) (DG);
  * 08-Apr-2008 : Notify listeners in setRange(Range, boolean, boolean) - fixes
  *               bug 1932146 (DG);
+ * 19-Oct-2026 : Measure labels through TextMeasurementCache;
  *
  */
 
@@ -83,6 +84,7 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.Month;
@@ -808,9 +810,9 @@ public class PeriodAxis extends ValueAxis
                 new Date(p1.getMiddleMillisecond(this.calendar)));
         String label2 = this.labelInfo[band].getDateFormat().format(
                 new Date(p2.getMiddleMillisecond(this.calendar)));
-        Rectangle2D b1 = TextUtilities.getTextBounds(label1, g2, 
+        Rectangle2D b1 = TextMeasurementCache.getSharedTextBounds(label1, g2, 
                 g2.getFontMetrics());
-        Rectangle2D b2 = TextUtilities.getTextBounds(label2, g2, 
+        Rectangle2D b2 = TextMeasurementCache.getSharedTextBounds(label2, g2, 
                 g2.getFontMetrics());
         double w = Math.max(b1.getWidth(), b2.getWidth());
         long ww = Math.round(java2DToValue(dataArea.getX() + w + 5.0, 
@@ -847,7 +849,8 @@ public class PeriodAxis extends ValueAxis
             if (last > axisMax) {
                 // this is the last period, but it is only partially visible 
                 // so check that the label will fit before displaying it...
-                Rectangle2D bb = TextUtilities.getTextBounds(label, g2, 
+                Rectangle2D bb 
+                        = TextMeasurementCache.getSharedTextBounds(label, g2, 
                         g2.getFontMetrics());
                 if ((x + bb.getWidth() / 2) > dataArea.getMaxX()) {
                     float xstart = (float) valueToJava2D(Math.max(first, 
@@ -863,7 +866,8 @@ public class PeriodAxis extends ValueAxis
             if (first < axisMin) {
                 // this is the first period, but it is only partially visible 
                 // so check that the label will fit before displaying it...
-                Rectangle2D bb = TextUtilities.getTextBounds(label, g2, 
+                Rectangle2D bb 
+                        = TextMeasurementCache.getSharedTextBounds(label, g2, 
                         g2.getFontMetrics());
                 if ((x - bb.getWidth() / 2) < dataArea.getX()) {
                     float xlast = (float) valueToJava2D(Math.min(last, 
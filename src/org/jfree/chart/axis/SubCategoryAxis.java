@@ -43,6 +43,7 @@
  *               Joubert (1277726) (DG);
  * 30-May-2007 : Added argument check and event notification to 
  *               addSubCategory() (DG);
+ * 19-Oct-2026 : Measure labels through TextMeasurementCache;
  *
  */
 
@@ -65,6 +66,7 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.text.TextUtilities;
@@ -220,7 +222,8 @@ public class SubCategoryAxis extends CategoryAxis
         while (iterator.hasNext()) {
             Comparable subcategory = (Comparable) iterator.next();
             String label = subcategory.toString();
-            Rectangle2D bounds = TextUtilities.getTextBounds(label, g2, fm);
+            Rectangle2D bounds 
+                    = TextMeasurementCache.getSharedTextBounds(label, g2, fm);
             double dim = 0.0;
             if (RectangleEdge.isLeftOrRight(edge)) {
                 dim = bounds.getWidth();   
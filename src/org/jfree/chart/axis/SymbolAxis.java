@@ -74,6 +74,7 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 28-Feb-2007 : Fixed bug 1669302 (tick label overlap) (DG);
  * 25-Jul-2007 : Added new field for alternate grid band paint (DG);
+ * 19-Oct-2026 : Measure tick labels through TextMeasurementCache;
  * 
  */
 
@@ -100,9 +101,9 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.TextAnchor;
 import org.jfree.util.PaintUtilities;
@@ -592,8 +593,9 @@ public class SymbolAxis extends NumberAxis implements Serializable {
                 }
                 
                 // avoid to draw overlapping tick labels
-                Rectangle2D bounds = TextUtilities.getTextBounds(tickLabel, g2, 
-                        g2.getFontMetrics());
+                Rectangle2D bounds 
+                        = TextMeasurementCache.getSharedTextBounds(
+                        tickLabel, g2, g2.getFontMetrics());
                 double tickLabelLength = isVerticalTickLabels() 
                         ? bounds.getHeight() : bounds.getWidth();
                 boolean tickLabelsOverlapping = false;
@@ -686,8 +688,9 @@ public class SymbolAxis extends NumberAxis implements Serializable {
                 }
 
                 // avoid to draw overlapping tick labels
-                Rectangle2D bounds = TextUtilities.getTextBounds(tickLabel, g2,
-                        g2.getFontMetrics());
+                Rectangle2D bounds 
+                        = TextMeasurementCache.getSharedTextBounds(
+                        tickLabel, g2, g2.getFontMetrics());
                 double tickLabelLength = isVerticalTickLabels() 
                     ? bounds.getWidth() : bounds.getHeight();
                 boolean tickLabelsOverlapping = false;
@@ -96,6 +96,8 @@
  * 10-Oct-2006 : Source reformatting (DG);
  * 22-Mar-2007 : Added new defaultAutoRange attribute (DG);
  * 02-Aug-2007 : Check for major tick when drawing label (DG);
+ * 19-Oct-2026 : Measure tick labels through TextMeasurementCache;
+ * 19-Oct-2026 : Added autoRangeHeadroom attribute;
  *
  */
 
@@ -119,6 +121,7 @@ import java.util.List;
 
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.Plot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
 import org.jfree.text.TextUtilities;
@@ -246,6 +249,12 @@ public abstract class ValueAxis extends Axis
      */
     private double fixedAutoRange;
 
+    /**
+     * The fraction of the data range that is added as headroom when the
+     * automatic range has to grow (zero disables the headroom).
+     */
+    private double autoRangeHeadroom;
+
     /**
      * Flag that indicates whether or not the tick unit is selected
      * automatically.
@@ -286,6 +295,7 @@ public abstract class ValueAxis extends Axis
         this.upperMargin = DEFAULT_UPPER_MARGIN;
 
         this.fixedAutoRange = 0.0;
+        this.autoRangeHeadroom = 0.0;
 
         this.autoTickUnitSelection = DEFAULT_AUTO_TICK_UNIT_SELECTION;
         this.standardTickUnits = standardTickUnits;
@@ -836,7 +846,8 @@ public abstract class ValueAxis extends Axis
             Iterator iterator = ticks.iterator();
             while (iterator.hasNext()) {
                 Tick tick = (Tick) iterator.next();
-                Rectangle2D labelBounds = TextUtilities.getTextBounds(
+                Rectangle2D labelBounds 
+                        = TextMeasurementCache.getSharedTextBounds(
                         tick.getText(), g2, fm);
                 if (labelBounds.getWidth() + insets.getTop()
                         + insets.getBottom() > maxHeight) {
@@ -879,7 +890,8 @@ public abstract class ValueAxis extends Axis
             Iterator iterator = ticks.iterator();
             while (iterator.hasNext()) {
                 Tick tick = (Tick) iterator.next();
-                Rectangle2D labelBounds = TextUtilities.getTextBounds(
+                Rectangle2D labelBounds 
+                        = TextMeasurementCache.getSharedTextBounds(
                         tick.getText(), g2, fm);
                 if (labelBounds.getWidth() + insets.getLeft()
                         + insets.getRight() > maxWidth) {
@@ -1150,6 +1162,206 @@ public abstract class ValueAxis extends Axis
         notifyListeners(new AxisChangeEvent(this));
     }
 
+    /**
+     * Returns the headroom for the automatic axis range, as a fraction of
+     * the data range.  The default value is zero.
+     *
+     * @return The headroom.
+     *
+     * @see #setAutoRangeHeadroom(double)
+     *
+     * @since 1.0.10
+     */
+    public double getAutoRangeHeadroom() {
+        return this.autoRangeHeadroom;
+    }
+
+    /**
+     * Sets the headroom for the automatic axis range, as a fraction of the
+     * data range, and sends an {@link AxisChangeEvent} to all registered
+     * listeners.  When the headroom is greater than zero, an automatic
+     * range that has to grow is extended by the headroom and rounded
+     * outwards to a multiple of the tick size, and the range is left
+     * unchanged while the data stays within it (and fills enough of it).
+     * For data that is appended to a chart, this means that the axis range
+     * (and so the space needed for the axes) changes only occasionally
+     * rather than with every new item.
+     *
+     * @param headroom  the headroom (zero or greater).
+     *
+     * @see #getAutoRangeHeadroom()
+     *
+     * @since 1.0.10
+     */
+    public void setAutoRangeHeadroom(double headroom) {
+        if (headroom < 0.0) {
+            throw new IllegalArgumentException("Negative 'headroom' argument.");
+        }
+        this.autoRangeHeadroom = headroom;
+        if (isAutoRange()) {
+            autoAdjustRange();
+        }
+        notifyListeners(new AxisChangeEvent(this));
+    }
+
+    /**
+     * Returns the step size that the automatic range bounds are rounded to
+     * when the auto range headroom is greater than zero.  This
+     * implementation returns zero (no rounding), subclasses may return the
+     * current tick size.
+     *
+     * @return The step size (zero or greater).
+     *
+     * @see #getAutoRangeHeadroom()
+     *
+     * @since 1.0.10
+     */
+    protected double getAutoRangeStepSize() {
+        return 0.0;
+    }
+
+    /**
+     * Returns <code>true</code> if the auto range headroom must not move a
+     * bound across zero (so that, for example, a range for positive data
+     * never gets a negative lower bound).  This implementation returns
+     * <code>false</code>, subclasses can override it to apply their own
+     * zero rules.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.10
+     */
+    protected boolean isAutoRangeHeadroomClampedAtZero() {
+        return false;
+    }
+
+    /**
+     * Applies the auto range headroom to a newly calculated automatic range.
+     * If the headroom is zero, the range is returned unchanged.  Otherwise
+     * the current axis range is returned if it contains the new range and is
+     * not more than <code>(1 + 4 * headroom)</code> times as long, so that
+     * small changes in the data do not change the axis.  If the range must
+     * change, the headroom is added only on the side where the data has
+     * grown the most, a side that has not grown keeps its current bound
+     * (while the range stays compact), and the new bounds are rounded
+     * outwards by {@link #roundAutoRangeDown(double, double)} and
+     * {@link #roundAutoRangeUp(double, double)} to the step given by
+     * {@link #getAutoRangeStepSize()} (unless the step is larger than the
+     * range).  If
+     * {@link #isAutoRangeHeadroomClampedAtZero()} returns <code>true</code>,
+     * neither the headroom nor the rounding moves a bound across zero.  For
+     * a fixed auto range, the window is moved forward by the headroom
+     * whenever the data passes its upper bound.
+     *
+     * @param range  the new automatic range (<code>null</code> not
+     *     permitted).
+     *
+     * @return The range to use (never <code>null</code>).
+     *
+     * @since 1.0.10
+     */
+    protected Range applyAutoRangeHeadroom(Range range) {
+        double headroom = this.autoRangeHeadroom;
+        if (headroom <= 0.0) {
+            return range;
+        }
+        Range current = getRange();
+        double step = getAutoRangeStepSize();
+        double lower = range.getLowerBound();
+        double upper = range.getUpperBound();
+        double length = upper - lower;
+        if (step > length) {
+            // the tick unit has not been selected for this range yet
+            step = 0.0;
+        }
+        if (this.fixedAutoRange > 0.0) {
+            double window = this.fixedAutoRange;
+            if (upper <= current.getUpperBound()
+                    && upper >= current.getUpperBound() - 2 * headroom * window
+                    && Math.abs(current.getLength() - window)
+                    <= window * 1.0E-9) {
+                return current;
+            }
+            upper = roundAutoRangeUp(upper + headroom * window, step);
+            return new Range(upper - window, upper);
+        }
+        double lowerGrowth = current.getLowerBound() - lower;
+        double upperGrowth = upper - current.getUpperBound();
+        double limit = length * (1.0 + 4.0 * headroom);
+        if (lowerGrowth <= 0.0 && upperGrowth <= 0.0
+                && current.getLength() <= limit) {
+            return current;
+        }
+        double newLower = lower;
+        double newUpper = upper;
+        if (upperGrowth > 0.0 && upperGrowth >= lowerGrowth) {
+            newUpper = newUpper + headroom * length;
+        }
+        else if (lowerGrowth > 0.0 && lowerGrowth > upperGrowth) {
+            newLower = newLower - headroom * length;
+        }
+        newLower = roundAutoRangeDown(newLower, step);
+        newUpper = roundAutoRangeUp(newUpper, step);
+        if (isAutoRangeHeadroomClampedAtZero()) {
+            if (lower >= 0.0) {
+                newLower = Math.max(0.0, newLower);
+            }
+            if (upper <= 0.0) {
+                newUpper = Math.min(0.0, newUpper);
+            }
+        }
+        // a side that has not grown keeps its bound, to avoid a relayout
+        if (lowerGrowth <= 0.0 && newUpper - current.getLowerBound() <= limit) {
+            newLower = current.getLowerBound();
+        }
+        if (upperGrowth <= 0.0 && current.getUpperBound() - newLower <= limit) {
+            newUpper = current.getUpperBound();
+        }
+        return new Range(newLower, newUpper);
+    }
+
+    /**
+     * Rounds a lower bound of the automatic range down to a multiple of the
+     * step size.  Subclasses can override this to round to boundaries that
+     * are not evenly spaced (for example, calendar dates).
+     *
+     * @param value  the value.
+     * @param step  the step size (no rounding if zero).
+     *
+     * @return The rounded value.
+     *
+     * @see #getAutoRangeStepSize()
+     *
+     * @since 1.0.10
+     */
+    protected double roundAutoRangeDown(double value, double step) {
+        if (step <= 0.0) {
+            return value;
+        }
+        return Math.floor(value / step) * step;
+    }
+
+    /**
+     * Rounds an upper bound of the automatic range up to a multiple of the
+     * step size.  Subclasses can override this to round to boundaries that
+     * are not evenly spaced (for example, calendar dates).
+     *
+     * @param value  the value.
+     * @param step  the step size (no rounding if zero).
+     *
+     * @return The rounded value.
+     *
+     * @see #getAutoRangeStepSize()
+     *
+     * @since 1.0.10
+     */
+    protected double roundAutoRangeUp(double value, double step) {
+        if (step <= 0.0) {
+            return value;
+        }
+        return Math.ceil(value / step) * step;
+    }
+
     /**
      * Returns the lower bound of the axis range.
      *
@@ -1607,6 +1819,9 @@ public abstract class ValueAxis extends Axis
         if (this.fixedAutoRange != that.fixedAutoRange) {
             return false;
         }
+        if (this.autoRangeHeadroom != that.autoRangeHeadroom) {
+            return false;
+        }
         if (this.autoTickUnitSelection != that.autoTickUnitSelection) {
             return false;
         }
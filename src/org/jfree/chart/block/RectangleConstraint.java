@@ -39,6 +39,7 @@
  * 08-Feb-2005 : Separated height and width constraints (DG);
  * 13-May-2005 : Added convenience constructor and new methods for 
  *               transforming constraints (DG);
+ * 19-Oct-2026 : Added equals() and hashCode() methods;
  * 
  */
 
@@ -46,6 +47,7 @@ package org.jfree.chart.block;
 
 import org.jfree.data.Range;
 import org.jfree.ui.Size2D;
+import org.jfree.util.ObjectUtilities;
 
 /**
  * A description of a constraint for resizing a rectangle.  Constraints are
@@ -313,6 +315,60 @@ public class RectangleConstraint {
                 + this.width + ", height=" + this.height + "]";   
     }
     
+    /**
+     * Tests this constraint for equality with an arbitrary object.
+     * 
+     * @param obj  the object (<code>null</code> permitted).
+     * 
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RectangleConstraint)) {
+            return false;
+        }
+        RectangleConstraint that = (RectangleConstraint) obj;
+        if (this.width != that.width) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.widthRange, that.widthRange)) {
+            return false;
+        }
+        if (!this.widthConstraintType.equals(that.widthConstraintType)) {
+            return false;
+        }
+        if (this.height != that.height) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.heightRange, that.heightRange)) {
+            return false;
+        }
+        if (!this.heightConstraintType.equals(that.heightConstraintType)) {
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Returns a hash code for this instance.
+     * 
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = 17;
+        long temp = Double.doubleToLongBits(this.width);
+        result = 37 * result + (int) (temp ^ (temp >>> 32));
+        result = 37 * result + ObjectUtilities.hashCode(this.widthRange);
+        result = 37 * result + this.widthConstraintType.hashCode();
+        temp = Double.doubleToLongBits(this.height);
+        result = 37 * result + (int) (temp ^ (temp >>> 32));
+        result = 37 * result + ObjectUtilities.hashCode(this.heightRange);
+        result = 37 * result + this.heightConstraintType.hashCode();
+        return result;
+    }
+    
     /**
      * Returns the new size that reflects the constraints defined by this 
      * instance.
@@ -0,0 +1,70 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * ItemEntityFactory.java
+ * ----------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+
+import org.jfree.data.general.Dataset;
+
+/**
+ * An object that can create the entity for a data item on demand.  Renderers
+ * implement this interface so that a {@link LazyEntityCollection} can record
+ * just the location of each item while drawing, and generate the tooltip 
+ * and URL text only when an entity is actually requested.
+ *
+ * @since 1.0.10
+ */
+public interface ItemEntityFactory {
+
+    /**
+     * Creates an entity for a data item.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series (or row) index.
+     * @param item  the item (or column) index.
+     * @param area  the entity area.
+     *
+     * @return The entity (never <code>null</code>).
+     */
+    public ChartEntity createItemEntity(Dataset dataset, int series, int item,
+            Shape area);
+
+}
@@ -0,0 +1,551 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * LazyEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.data.general.Dataset;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * An {@link EntityCollection} that stores data item entities in compact 
+ * form.  For each item added with {@link #addItem(ItemEntityFactory, Dataset, 
+ * int, int, Shape)} only the dataset, the series and item indices and the 
+ * bounds of the entity area are recorded, in primitive arrays.  The entity 
+ * itself, including its tooltip and URL text, is created by the 
+ * {@link ItemEntityFactory} (normally the renderer) when it is requested, 
+ * for example by the <code>ChartPanel</code> when the mouse moves over the 
+ * item.  Other entities (for the plot, axes, titles and so on) are stored 
+ * as they are.
+ * <P>
+ * Rectangular and elliptical areas are reproduced exactly.  Other areas are
+ * represented by their bounding rectangles.  Since the tooltips and URLs 
+ * are generated from the current state of the dataset, the collection 
+ * should be cleared (as it is when the chart is redrawn) after the dataset 
+ * changes.
+ * <P>
+ * To use this collection with a <code>ChartPanel</code>, call
+ * <code>panel.getChartRenderingInfo().setEntityCollection(new 
+ * LazyEntityCollection())</code>.
+ *
+ * @since 1.0.10
+ */
+public class LazyEntityCollection implements EntityCollection, Cloneable,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3154622958204781297L;
+
+    /** An item with a rectangular area. */
+    private static final byte RECTANGLE = 0;
+
+    /** An item with an elliptical area. */
+    private static final byte ELLIPSE = 1;
+
+    /** An item represented by the bounds of its area. */
+    private static final byte BOUNDS = 2;
+
+    /** The number of entries (items and ordinary entities). */
+    private int count;
+
+    /** 
+     * For each entry, the index of its factory and dataset (if >= 0), or
+     * <code>-1 - n</code> where n is the index of an ordinary entity.
+     */
+    private int[] sources;
+
+    /** The series index for each item. */
+    private int[] series;
+
+    /** The item index for each item. */
+    private int[] items;
+
+    /** The bounds (x, y, width, height) for each item. */
+    private float[] bounds;
+
+    /** The area type for each item. */
+    private byte[] kinds;
+
+    /** The factories (parallel to {@link #datasets}). */
+    private List factories;
+
+    /** The datasets (parallel to {@link #factories}). */
+    private List datasets;
+
+    /** The ordinary entities. */
+    private List entities;
+
+    /** The index of the most recently created item entity. */
+    private transient int cachedIndex;
+
+    /** The most recently created item entity. */
+    private transient ChartEntity cachedEntity;
+
+    /**
+     * Creates a new collection (initially empty).
+     */
+    public LazyEntityCollection() {
+        this.sources = new int[64];
+        this.series = new int[64];
+        this.items = new int[64];
+        this.bounds = new float[256];
+        this.kinds = new byte[64];
+        this.factories = new ArrayList();
+        this.datasets = new ArrayList();
+        this.entities = new ArrayList();
+        this.cachedIndex = -1;
+    }
+
+    /**
+     * Returns the number of entities in the collection.
+     *
+     * @return The entity count.
+     */
+    public int getEntityCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns an entity from the collection.  For an item, the entity is 
+     * created by the item's factory.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     */
+    public ChartEntity getEntity(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index " + index 
+                    + " out of range.");
+        }
+        int source = this.sources[index];
+        if (source < 0) {
+            return (ChartEntity) this.entities.get(-1 - source);
+        }
+        if (index == this.cachedIndex) {
+            return this.cachedEntity;
+        }
+        ItemEntityFactory factory 
+                = (ItemEntityFactory) this.factories.get(source);
+        Dataset dataset = (Dataset) this.datasets.get(source);
+        ChartEntity entity = factory.createItemEntity(dataset, 
+                this.series[index], this.items[index], getItemArea(index));
+        this.cachedIndex = index;
+        this.cachedEntity = entity;
+        return entity;
+    }
+
+    /**
+     * Returns the area for an item.
+     *
+     * @param index  the entry index.
+     *
+     * @return The area.
+     */
+    private Shape getItemArea(int index) {
+        int b = index * 4;
+        if (this.kinds[index] == ELLIPSE) {
+            return new Ellipse2D.Float(this.bounds[b], this.bounds[b + 1], 
+                    this.bounds[b + 2], this.bounds[b + 3]);
+        }
+        return new Rectangle2D.Float(this.bounds[b], this.bounds[b + 1], 
+                this.bounds[b + 2], this.bounds[b + 3]);
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    public void clear() {
+        this.count = 0;
+        this.factories.clear();
+        this.datasets.clear();
+        this.entities.clear();
+        this.cachedIndex = -1;
+        this.cachedEntity = null;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    public void add(ChartEntity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Null 'entity' argument.");
+        }
+        ensureCapacity(this.count + 1);
+        this.sources[this.count] = -1 - this.entities.size();
+        this.entities.add(entity);
+        this.count++;
+    }
+
+    /**
+     * Records a data item.  The entity for the item will be created by 
+     * <code>factory</code> if and when it is requested.
+     *
+     * @param factory  the factory (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series (or row) index.
+     * @param item  the item (or column) index.
+     * @param area  the entity area (<code>null</code> not permitted).
+     */
+    public void addItem(ItemEntityFactory factory, Dataset dataset, 
+            int series, int item, Shape area) {
+        if (area == null) {
+            throw new IllegalArgumentException("Null 'area' argument.");
+        }
+        byte kind = BOUNDS;
+        if (area instanceof Rectangle2D) {
+            kind = RECTANGLE;
+        }
+        else if (area instanceof Ellipse2D) {
+            kind = ELLIPSE;
+        }
+        Rectangle2D r = area.getBounds2D();
+        addItem(findSource(factory, dataset), series, item, (float) r.getX(),
+                (float) r.getY(), (float) r.getWidth(), (float) r.getHeight(),
+                kind);
+    }
+
+    /**
+     * Returns the index of the given factory and dataset, adding them to the
+     * lists if necessary.
+     *
+     * @param factory  the factory (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    private int findSource(ItemEntityFactory factory, Dataset dataset) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Null 'factory' argument.");
+        }
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        // items normally arrive in runs from the same renderer and dataset
+        for (int i = this.factories.size() - 1; i >= 0; i--) {
+            if (this.factories.get(i) == factory 
+                    && this.datasets.get(i) == dataset) {
+                return i;
+            }
+        }
+        this.factories.add(factory);
+        this.datasets.add(dataset);
+        return this.factories.size() - 1;
+    }
+
+    /**
+     * Appends an item record.
+     *
+     * @param source  the source index.
+     * @param s  the series index.
+     * @param i  the item index.
+     * @param x  the x-coordinate of the bounds.
+     * @param y  the y-coordinate of the bounds.
+     * @param w  the width of the bounds.
+     * @param h  the height of the bounds.
+     * @param kind  the area type.
+     */
+    private void addItem(int source, int s, int i, float x, float y, float w,
+            float h, byte kind) {
+        ensureCapacity(this.count + 1);
+        int n = this.count;
+        this.sources[n] = source;
+        this.series[n] = s;
+        this.items[n] = i;
+        this.kinds[n] = kind;
+        this.bounds[n * 4] = x;
+        this.bounds[n * 4 + 1] = y;
+        this.bounds[n * 4 + 2] = w;
+        this.bounds[n * 4 + 3] = h;
+        this.count++;
+    }
+
+    /**
+     * Grows the storage arrays if necessary.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.sources.length) {
+            return;
+        }
+        int size = Math.max(capacity, this.sources.length * 2);
+        int[] newSources = new int[size];
+        int[] newSeries = new int[size];
+        int[] newItems = new int[size];
+        float[] newBounds = new float[size * 4];
+        byte[] newKinds = new byte[size];
+        System.arraycopy(this.sources, 0, newSources, 0, this.count);
+        System.arraycopy(this.series, 0, newSeries, 0, this.count);
+        System.arraycopy(this.items, 0, newItems, 0, this.count);
+        System.arraycopy(this.bounds, 0, newBounds, 0, this.count * 4);
+        System.arraycopy(this.kinds, 0, newKinds, 0, this.count);
+        this.sources = newSources;
+        this.series = newSeries;
+        this.items = newItems;
+        this.bounds = newBounds;
+        this.kinds = newKinds;
+    }
+
+    /**
+     * Adds all the entities from the specified collection.  Items in another
+     * <code>LazyEntityCollection</code> are copied without being created.
+     *
+     * @param collection  the collection of entities (<code>null</code> not
+     *     permitted).
+     */
+    public void addAll(EntityCollection collection) {
+        if (!(collection instanceof LazyEntityCollection)) {
+            Iterator iterator = collection.iterator();
+            while (iterator.hasNext()) {
+                add((ChartEntity) iterator.next());
+            }
+            return;
+        }
+        LazyEntityCollection that = (LazyEntityCollection) collection;
+        ensureCapacity(this.count + that.count);
+        for (int i = 0; i < that.count; i++) {
+            int source = that.sources[i];
+            if (source < 0) {
+                add((ChartEntity) that.entities.get(-1 - source));
+            }
+            else {
+                int b = i * 4;
+                addItem(findSource(
+                        (ItemEntityFactory) that.factories.get(source), 
+                        (Dataset) that.datasets.get(source)), that.series[i],
+                        that.items[i], that.bounds[b], that.bounds[b + 1], 
+                        that.bounds[b + 2], that.bounds[b + 3], 
+                        that.kinds[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the last entity in the collection with an area that encloses 
+     * the specified coordinates, or <code>null</code> if there is no such 
+     * entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    public ChartEntity getEntity(double x, double y) {
+        for (int i = this.count - 1; i >= 0; i--) {
+            int source = this.sources[i];
+            if (source < 0) {
+                ChartEntity entity 
+                        = (ChartEntity) this.entities.get(-1 - source);
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+                continue;
+            }
+            int b = i * 4;
+            double dx = x - this.bounds[b];
+            double dy = y - this.bounds[b + 1];
+            double w = this.bounds[b + 2];
+            double h = this.bounds[b + 3];
+            if (dx < 0.0 || dy < 0.0 || dx >= w || dy >= h) {
+                continue;
+            }
+            if (this.kinds[i] == ELLIPSE) {
+                double ex = dx / w - 0.5;
+                double ey = dy / h - 0.5;
+                if (ex * ex + ey * ey >= 0.25) {
+                    continue;
+                }
+            }
+            return getEntity(i);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.  Item entities are
+     * created as they are accessed.
+     *
+     * @return The entities.
+     */
+    public Collection getEntities() {
+        return Collections.unmodifiableList(new AbstractList() {
+            public Object get(int index) {
+                return getEntity(index);
+            }
+            public int size() {
+                return getEntityCount();
+            }
+        });
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.
+     *
+     * @return An iterator.
+     */
+    public Iterator iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.  Two 
+     * collections are equal if they record the same items (from equal 
+     * factories and datasets) and equal entities, in the same order.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof LazyEntityCollection)) {
+            return false;
+        }
+        LazyEntityCollection that = (LazyEntityCollection) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            int s1 = this.sources[i];
+            int s2 = that.sources[i];
+            if ((s1 < 0) != (s2 < 0)) {
+                return false;
+            }
+            if (s1 < 0) {
+                if (!ObjectUtilities.equal(this.entities.get(-1 - s1), 
+                        that.entities.get(-1 - s2))) {
+                    return false;
+                }
+                continue;
+            }
+            if (this.series[i] != that.series[i] 
+                    || this.items[i] != that.items[i]
+                    || this.kinds[i] != that.kinds[i]) {
+                return false;
+            }
+            for (int j = i * 4; j < i * 4 + 4; j++) {
+                if (this.bounds[j] != that.bounds[j]) {
+                    return false;
+                }
+            }
+            if (!ObjectUtilities.equal(this.factories.get(s1), 
+                    that.factories.get(s2))) {
+                return false;
+            }
+            if (!ObjectUtilities.equal(this.datasets.get(s1), 
+                    that.datasets.get(s2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this collection.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.count;
+        for (int i = 0; i < this.count; i++) {
+            result = 37 * result + this.series[i];
+            result = 37 * result + this.items[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of this entity collection.  The ordinary entities are
+     * cloned, while the factories and datasets are shared with the original.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        LazyEntityCollection clone = (LazyEntityCollection) super.clone();
+        clone.sources = (int[]) this.sources.clone();
+        clone.series = (int[]) this.series.clone();
+        clone.items = (int[]) this.items.clone();
+        clone.bounds = (float[]) this.bounds.clone();
+        clone.kinds = (byte[]) this.kinds.clone();
+        clone.factories = new ArrayList(this.factories);
+        clone.datasets = new ArrayList(this.datasets);
+        clone.entities = new ArrayList(this.entities.size());
+        for (int i = 0; i < this.entities.size(); i++) {
+            ChartEntity entity = (ChartEntity) this.entities.get(i);
+            clone.entities.add(entity.clone());
+        }
+        clone.cachedIndex = -1;
+        clone.cachedEntity = null;
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws java.io.IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(java.io.ObjectInputStream stream) 
+            throws java.io.IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.cachedIndex = -1;
+    }
+
+}
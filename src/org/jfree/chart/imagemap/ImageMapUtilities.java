@@ -42,13 +42,22 @@
  * 06-Feb-2006 : API doc updates (DG);
  * 04-Dec-2007 : Added htmlEscape() method, and escape 'name' in 
  *               getImageMap() (DG);
+ * 19-Oct-2026 : Added streaming writeImageMap() with optional compaction of
+ *               duplicate areas and polygon coordinates, and a fast path in
+ *               htmlEscape();
  * 
  */
 
 package org.jfree.chart.imagemap;
 
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.entity.ChartEntity;
@@ -134,8 +143,229 @@ public class ImageMapUtilities {
             URLTagFragmentGenerator urlTagFragmentGenerator) 
         throws IOException {
 
-        writer.println(ImageMapUtilities.getImageMap(name, info, 
-                toolTipTagFragmentGenerator, urlTagFragmentGenerator));
+        ImageMapUtilities.writeImageMap((Writer) writer, name, info, 
+                toolTipTagFragmentGenerator, urlTagFragmentGenerator, false);
+        writer.println();
+    }
+
+    /**
+     * Writes an image map directly to a writer, without first assembling the
+     * complete map in memory.  With <code>compact</code> set to 
+     * <code>false</code> the output is identical to the string returned by 
+     * {@link #getImageMap(String, ChartRenderingInfo, 
+     * ToolTipTagFragmentGenerator, URLTagFragmentGenerator)}.  With 
+     * <code>compact</code> set to <code>true</code>:
+     * <ul>
+     * <li>polygon coordinates are reduced by removing repeated points and 
+     *     points that lie on a straight line between their neighbours, and
+     *     polygons that collapse to fewer than three points are written as 
+     *     rectangles;</li>
+     * <li>an area that covers exactly the same pixel region as an area 
+     *     already written is dropped.  Browsers use the first matching area,
+     *     so the dropped areas could never be activated anyway.</li>
+     * </ul>
+     * In compact mode the coordinates are derived from the entity's area 
+     * (see {@link ChartEntity#getArea()}).  For charts with many entities, 
+     * the writer should be buffered.
+     *
+     * @param writer  the writer (<code>null</code> not permitted).
+     * @param name  the map name (<code>null</code> not permitted).
+     * @param info  the chart rendering info (<code>null</code> not permitted).
+     * @param toolTipTagFragmentGenerator  a generator for the HTML fragment
+     *     that will contain the tooltip text (<code>null</code> not permitted 
+     *     if <code>info</code> contains tooltip information).
+     * @param urlTagFragmentGenerator  a generator for the HTML fragment that
+     *     will contain the URL reference (<code>null</code> not permitted if 
+     *     <code>info</code> contains URLs).
+     * @param compact  a flag that controls whether or not duplicate areas are
+     *     dropped and polygon coordinates simplified.
+     *
+     * @throws java.io.IOException if there are any I/O errors.
+     * 
+     * @since 1.0.10
+     */
+    public static void writeImageMap(Writer writer, String name, 
+            ChartRenderingInfo info,
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator, boolean compact) 
+        throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Null 'writer' argument.");
+        }
+        if (info == null) {
+            throw new IllegalArgumentException("Null 'info' argument.");
+        }
+        String lineSeparator = StringUtils.getLineSeparator();
+        String escapedName = htmlEscape(name);
+        writer.write("<map id=\"");
+        writer.write(escapedName);
+        writer.write("\" name=\"");
+        writer.write(escapedName);
+        writer.write("\">");
+        writer.write(lineSeparator);
+        EntityCollection entities = info.getEntityCollection();
+        if (entities != null) {
+            Set written = (compact ? new HashSet() : null);
+            StringBuffer coords = new StringBuffer();
+            int count = entities.getEntityCount();
+            for (int i = count - 1; i >= 0; i--) {
+                ChartEntity entity = entities.getEntity(i);
+                String toolTip = entity.getToolTipText();
+                String url = entity.getURLText();
+                boolean hasToolTip = (toolTip != null && toolTip.length() > 0);
+                boolean hasURL = (url != null && url.length() > 0);
+                if (!hasToolTip && !hasURL) {
+                    continue;
+                }
+                if (!compact) {
+                    writer.write(entity.getImageMapAreaTag(
+                            toolTipTagFragmentGenerator, 
+                            urlTagFragmentGenerator));
+                    writer.write(lineSeparator);
+                    continue;
+                }
+                coords.setLength(0);
+                String shapeType = appendCompactCoords(entity.getArea(), 
+                        coords);
+                String key = shapeType + ':' + coords;
+                if (!written.add(key)) {
+                    continue;
+                }
+                writer.write("<area shape=\"");
+                writer.write(shapeType);
+                writer.write("\" coords=\"");
+                writer.write(key, shapeType.length() + 1, coords.length());
+                writer.write('\"');
+                if (hasToolTip) {
+                    writer.write(toolTipTagFragmentGenerator
+                            .generateToolTipFragment(toolTip));
+                }
+                if (hasURL) {
+                    writer.write(urlTagFragmentGenerator.generateURLFragment(
+                            url));
+                }
+                else {
+                    writer.write(" nohref=\"nohref\"");
+                }
+                if (!hasToolTip) {
+                    writer.write(" alt=\"\"");
+                }
+                writer.write("/>");
+                writer.write(lineSeparator);
+            }
+        }
+        writer.write("</map>");
+    }
+
+    /**
+     * Appends the simplified image map coordinates for an area to a buffer, 
+     * and returns the shape type ("rect" or "poly").  Rectangles are 
+     * truncated to integer coordinates in the same way as 
+     * {@link ChartEntity#getShapeCoords()}.  Polygons are flattened, 
+     * truncated to integer coordinates, and then stripped of repeated and 
+     * collinear points.
+     *
+     * @param area  the area (<code>null</code> not permitted).
+     * @param coords  the buffer (<code>null</code> not permitted).
+     *
+     * @return The shape type.
+     */
+    private static String appendCompactCoords(Shape area, 
+            StringBuffer coords) {
+        if (!(area instanceof Rectangle2D)) {
+            int[] xx = new int[16];
+            int[] yy = new int[16];
+            int n = 0;
+            float[] c = new float[6];
+            PathIterator pi = area.getPathIterator(null, 1.0);
+            while (!pi.isDone()) {
+                if (pi.currentSegment(c) != PathIterator.SEG_CLOSE) {
+                    int x = (int) c[0];
+                    int y = (int) c[1];
+                    if (n > 0 && xx[n - 1] == x && yy[n - 1] == y) {
+                        pi.next();
+                        continue;
+                    }
+                    // drop the previous point if it lies on the line 
+                    // between its predecessor and the new point
+                    if (n > 1 && isRedundant(xx[n - 2], yy[n - 2], xx[n - 1],
+                            yy[n - 1], x, y)) {
+                        n--;
+                    }
+                    if (n == xx.length) {
+                        int[] nx = new int[n * 2];
+                        int[] ny = new int[n * 2];
+                        System.arraycopy(xx, 0, nx, 0, n);
+                        System.arraycopy(yy, 0, ny, 0, n);
+                        xx = nx;
+                        yy = ny;
+                    }
+                    xx[n] = x;
+                    yy[n] = y;
+                    n++;
+                }
+                pi.next();
+            }
+            // the polygon closes implicitly, so handle the wrap-around
+            if (n > 1 && xx[n - 1] == xx[0] && yy[n - 1] == yy[0]) {
+                n--;
+            }
+            if (n > 2 && isRedundant(xx[n - 2], yy[n - 2], xx[n - 1], 
+                    yy[n - 1], xx[0], yy[0])) {
+                n--;
+            }
+            int start = 0;
+            if (n > 2 && isRedundant(xx[n - 1], yy[n - 1], xx[0], yy[0], 
+                    xx[1], yy[1])) {
+                start = 1;
+            }
+            if (n - start > 2) {
+                for (int i = start; i < n; i++) {
+                    if (i > start) {
+                        coords.append(',');
+                    }
+                    coords.append(xx[i]).append(',').append(yy[i]);
+                }
+                return "poly";
+            }
+        }
+        Rectangle2D r = area.getBounds2D();
+        int x1 = (int) r.getX();
+        int y1 = (int) r.getY();
+        int x2 = x1 + (int) r.getWidth();
+        int y2 = y1 + (int) r.getHeight();
+        if (x2 == x1) {
+            x2++;
+        }
+        if (y2 == y1) {
+            y2++;
+        }
+        coords.append(x1).append(',').append(y1).append(',').append(x2)
+                .append(',').append(y2);
+        return "rect";
+    }
+
+    /**
+     * Returns <code>true</code> if the point (bx, by) lies on the straight 
+     * line segment from (ax, ay) to (cx, cy), so that it can be removed from 
+     * a polygon without changing its outline.
+     *
+     * @param ax  the x-coordinate of the previous point.
+     * @param ay  the y-coordinate of the previous point.
+     * @param bx  the x-coordinate of the point being tested.
+     * @param by  the y-coordinate of the point being tested.
+     * @param cx  the x-coordinate of the next point.
+     * @param cy  the y-coordinate of the next point.
+     *
+     * @return A boolean.
+     */
+    private static boolean isRedundant(int ax, int ay, int bx, int by, 
+            int cx, int cy) {
+        long cross = (long) (bx - ax) * (cy - ay) 
+                - (long) (by - ay) * (cx - ax);
+        long dot = (long) (bx - ax) * (cx - bx) + (long) (by - ay) * (cy - by);
+        return cross == 0 && dot >= 0;
     }
 
     /**
@@ -212,9 +442,17 @@ public class ImageMapUtilities {
         if (input == null) {
             throw new IllegalArgumentException("Null 'input' argument.");
         }
-        StringBuffer result = new StringBuffer();
         int length = input.length();
-        for (int i = 0; i < length; i++) {
+        int first = 0;
+        while (first < length && !isHtmlSpecial(input.charAt(first))) {
+            first++;
+        }
+        if (first == length) {
+            return input;
+        }
+        StringBuffer result = new StringBuffer(length + 16);
+        result.append(input.substring(0, first));
+        for (int i = first; i < length; i++) {
             char c = input.charAt(i);
             if (c == '&') {
                 result.append("&amp;");
@@ -240,4 +478,17 @@ public class ImageMapUtilities {
         }
         return result.toString();
     }
+
+    /**
+     * Returns <code>true</code> if the character is escaped by 
+     * {@link #htmlEscape(String)}, and <code>false</code> otherwise.
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    private static boolean isHtmlSpecial(char c) {
+        return c == '&' || c == '\"' || c == '<' || c == '>' || c == '\'' 
+                || c == '\\';
+    }
 }
@@ -158,6 +158,8 @@
  * 07-Apr-2008 : Fixed NPE in removeDomainMarker() and
  *               removeRangeMarker() (DG);
  * 23-Apr-2008 : Fixed equals() and clone() methods (DG);
+ * 19-Oct-2026 : Added optional parallel rendering of datasets;
+ * 19-Oct-2026 : Added processVisibleCategoriesOnly flag;
  *
  *
  */
@@ -202,6 +204,7 @@ import org.jfree.chart.axis.CategoryAnchor;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.RendererChangeEvent;
@@ -422,6 +425,18 @@ public class CategoryPlot extends Plot implements ValueAxisPlot,
      */
     private LegendItemCollection fixedLegendItems;
 
+    /**
+     * A flag that controls whether the datasets are rendered concurrently
+     * into separate layers.
+     */
+    private boolean parallelRendering;
+
+    /**
+     * A flag that controls whether or not the columns that lie outside the
+     * clip region of the graphics device are skipped during rendering.
+     */
+    private boolean processVisibleCategoriesOnly;
+
     /**
      * Default constructor.
      */
@@ -1731,6 +1746,77 @@ public class CategoryPlot extends Plot implements ValueAxisPlot,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the datasets are rendered
+     * concurrently.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     * @since 1.0.10
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the datasets are rendered
+     * concurrently and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  When the flag is set, and the plot is drawn to a device that
+     * is known to be a raster (see
+     * {@link RenderingLayers#isSupported(Graphics2D)}), each dataset is
+     * rendered into its own transparent layer on a separate thread and the
+     * layers are composited in the dataset rendering order.  Entities are
+     * merged in the same order.  Datasets that share a
+     * renderer are rendered on the same thread.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isParallelRendering()
+     * @since 1.0.10
+     */
+    public void setParallelRendering(boolean flag) {
+        if (this.parallelRendering != flag) {
+            this.parallelRendering = flag;
+            fireChangeEvent();
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether or not the categories that lie
+     * outside the clip region of the graphics device are skipped during
+     * rendering.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setProcessVisibleCategoriesOnly(boolean)
+     * @since 1.0.10
+     */
+    public boolean getProcessVisibleCategoriesOnly() {
+        return this.processVisibleCategoriesOnly;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the categories that lie
+     * outside the clip region of the graphics device are skipped during
+     * rendering, and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  This is useful for plots with a large number of categories
+     * that are drawn with a clip region smaller than the data area (for
+     * example, a large chart inside a scroll pane).  Note that no entities
+     * are created for the skipped items.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #getProcessVisibleCategoriesOnly()
+     * @since 1.0.10
+     */
+    public void setProcessVisibleCategoriesOnly(boolean flag) {
+        if (this.processVisibleCategoriesOnly != flag) {
+            this.processVisibleCategoriesOnly = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the fixed legend items, if any.
      *
@@ -2910,15 +2996,20 @@ public class CategoryPlot extends Plot implements ValueAxisPlot,
         g2.setComposite(AlphaComposite.getInstance(
                 AlphaComposite.SRC_OVER, getForegroundAlpha()));
 
-        DatasetRenderingOrder order = getDatasetRenderingOrder();
-        if (order == DatasetRenderingOrder.FORWARD) {
-            for (int i = 0; i < this.datasets.size(); i++) {
-                foundData = render(g2, dataArea, i, state) || foundData;
-            }
+        int count = this.datasets.size();
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = (getDatasetRenderingOrder()
+                    == DatasetRenderingOrder.REVERSE ? count - 1 - i : i);
+        }
+        if (this.parallelRendering && count > 1
+                && RenderingLayers.isSupported(g2)) {
+            foundData = renderInParallel(g2, dataArea, indices, state);
         }
-        else {  // DatasetRenderingOrder.REVERSE
-            for (int i = this.datasets.size() - 1; i >= 0; i--) {
-                foundData = render(g2, dataArea, i, state) || foundData;
+        else {
+            for (int i = 0; i < count; i++) {
+                foundData = render(g2, dataArea, indices[i], state)
+                        || foundData;
             }
         }
         // draw the foreground markers...
@@ -3095,10 +3186,20 @@ public class CategoryPlot extends Plot implements ValueAxisPlot,
                     this, index, info);
             int columnCount = currentDataset.getColumnCount();
             int rowCount = currentDataset.getRowCount();
+            int firstColumn = 0;
+            int lastColumn = columnCount - 1;
+            if (this.processVisibleCategoriesOnly) {
+                int[] visible = findVisibleColumns(g2, dataArea, domainAxis,
+                        columnCount);
+                firstColumn = visible[0];
+                lastColumn = visible[1];
+            }
+            state.setVisibleColumnRange(firstColumn, lastColumn);
             int passCount = renderer.getPassCount();
             for (int pass = 0; pass < passCount; pass++) {
                 if (this.columnRenderingOrder == SortOrder.ASCENDING) {
-                    for (int column = 0; column < columnCount; column++) {
+                    for (int column = firstColumn; column <= lastColumn;
+                            column++) {
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -3116,7 +3217,8 @@ public class CategoryPlot extends Plot implements ValueAxisPlot,
                     }
                 }
                 else {
-                    for (int column = columnCount - 1; column >= 0; column--) {
+                    for (int column = lastColumn; column >= firstColumn;
+                            column--) {
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -3139,6 +3241,131 @@ public class CategoryPlot extends Plot implements ValueAxisPlot,
 
     }
 
+    /**
+     * Returns the indices of the first and last columns that intersect the
+     * clip region of the graphics device.  One extra column is included on
+     * each side, since some renderers draw connecting lines between adjacent
+     * items.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param domainAxis  the domain axis.
+     * @param columnCount  the number of columns in the dataset.
+     *
+     * @return An array containing the first and last column indices (the
+     *     first index is greater than the last if no column is visible).
+     */
+    private int[] findVisibleColumns(Graphics2D g2, Rectangle2D dataArea,
+            CategoryAxis domainAxis, int columnCount) {
+        int[] result = new int[] {0, columnCount - 1};
+        Shape clip = g2.getClip();
+        if (clip == null || columnCount < 2 || domainAxis == null) {
+            return result;
+        }
+        Rectangle2D visible = clip.getBounds2D().createIntersection(dataArea);
+        RectangleEdge edge = getDomainAxisEdge();
+        double lo = visible.getMinX();
+        double hi = visible.getMaxX();
+        if (RectangleEdge.isLeftOrRight(edge)) {
+            lo = visible.getMinY();
+            hi = visible.getMaxY();
+        }
+        if (hi < lo) {
+            result[0] = 0;
+            result[1] = -1;
+            return result;
+        }
+        double start = domainAxis.getCategoryStart(0, columnCount, dataArea,
+                edge);
+        double step = domainAxis.getCategoryStart(1, columnCount, dataArea,
+                edge) - start;
+        if (step <= 0.0) {
+            return result;
+        }
+        double first = Math.floor((lo - start) / step) - 1.0;
+        double last = Math.floor((hi - start) / step) + 1.0;
+        result[0] = (int) Math.max(0.0, Math.min(first, columnCount - 1));
+        result[1] = (int) Math.max(0.0, Math.min(last, columnCount - 1));
+        return result;
+    }
+
+    /**
+     * Renders the datasets concurrently, each into its own layer, then
+     * composites the layers and merges the entities in the given order.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param indices  the dataset indices, in rendering order.
+     * @param info  an optional object for collection dimension information.
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderInParallel(Graphics2D g2,
+            final Rectangle2D dataArea, final int[] indices,
+            PlotRenderingInfo info) {
+
+        final int count = indices.length;
+        List renderers = new ArrayList();
+        List groups = new ArrayList();
+        for (int i = 0; i < count; i++) {
+            CategoryItemRenderer r = getRenderer(indices[i]);
+            CategoryDataset dataset = getDataset(indices[i]);
+            if (r == null || dataset == null) {
+                continue;
+            }
+            RenderingLayers.prepareRenderer(r, dataset.getRowCount());
+            int g = -1;
+            for (int j = 0; j < renderers.size() && g < 0; j++) {
+                if (renderers.get(j) == r) {
+                    g = j;
+                }
+            }
+            if (g < 0) {
+                renderers.add(r);
+                groups.add(new ArrayList());
+                g = renderers.size() - 1;
+            }
+            ((List) groups.get(g)).add(new Integer(i));
+        }
+
+        final RenderingLayers layers = new RenderingLayers(g2, dataArea,
+                count);
+        final boolean[] found = new boolean[count];
+        final PlotRenderingInfo[] infos = new PlotRenderingInfo[count];
+        for (int i = 0; i < count; i++) {
+            infos[i] = RenderingLayers.createLayerInfo(info);
+        }
+        Runnable[] tasks = new Runnable[groups.size()];
+        for (int g = 0; g < tasks.length; g++) {
+            final List group = (List) groups.get(g);
+            tasks[g] = new Runnable() {
+                public void run() {
+                    for (int j = 0; j < group.size(); j++) {
+                        int i = ((Integer) group.get(j)).intValue();
+                        found[i] = render(layers.getGraphics(i), dataArea,
+                                indices[i], infos[i]);
+                    }
+                }
+            };
+        }
+        RenderingLayers.runTasks(tasks,
+                Runtime.getRuntime().availableProcessors());
+        layers.drawLayers();
+
+        boolean foundData = false;
+        EntityCollection entities = null;
+        if (info != null && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        for (int i = 0; i < count; i++) {
+            foundData = foundData || found[i];
+            if (entities != null && infos[i].getOwner() != null) {
+                entities.addAll(infos[i].getOwner().getEntityCollection());
+            }
+        }
+        return foundData;
+    }
+
     /**
      * Draws the gridlines for the plot.
      *
@@ -3949,6 +4176,13 @@ public class CategoryPlot extends Plot implements ValueAxisPlot,
                 that.fixedLegendItems)) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
+        if (this.processVisibleCategoriesOnly
+                != that.processVisibleCategoriesOnly) {
+            return false;
+        }
 
         return super.equals(obj);
 
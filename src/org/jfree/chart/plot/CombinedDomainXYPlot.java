@@ -89,6 +89,8 @@
  * 31-Mar-2008 : Updated getSubplots() to return EMPTY_LIST for null
  *               subplots, as suggested by Richard West (DG);
  * 28-Apr-2008 : Fixed zooming problem (see bug 1950037) (DG);
+ * 19-Oct-2026 : Draw subplots concurrently when parallel rendering is
+ *               enabled;
  *
  */
 
@@ -117,6 +119,14 @@ import org.jfree.util.ObjectUtilities;
 /**
  * An extension of {@link XYPlot} that contains multiple subplots that share a
  * common domain axis.
+ * <P>
+ * If parallel rendering is enabled (see
+ * {@link XYPlot#setParallelRendering(boolean)}), the shared axis is drawn
+ * first and the subplots are then drawn concurrently, each into its own
+ * image, on a device that is known to be a raster (see
+ * {@link RenderingLayers#isSupported(Graphics2D)}).  Printers, PDF and SVG
+ * graphics always receive the subplots as vector drawing.  This is also
+ * skipped if two subplots share a renderer or a non-shared axis.
  */
 public class CombinedDomainXYPlot extends XYPlot
         implements PlotChangeListener {
@@ -457,15 +467,25 @@ public class CombinedDomainXYPlot extends XYPlot
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the subplots
-        for (int i = 0; i < this.subplots.size(); i++) {
-            XYPlot plot = (XYPlot) this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        if (isParallelRendering() && this.subplots.size() > 1
+                && RenderingLayers.isSupported(g2)
+                && RenderingLayers.prepareSubplots(this, this.subplots)) {
+            Plot[] plots = (Plot[]) this.subplots.toArray(
+                    new Plot[this.subplots.size()]);
+            RenderingLayers.drawPlots(g2, plots, this.subplotAreas, anchor,
+                    parentState, info);
+        }
+        else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                XYPlot plot = (XYPlot) this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], anchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], anchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
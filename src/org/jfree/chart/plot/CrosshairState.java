@@ -45,6 +45,8 @@
  * 13-Oct-2006 : Fixed initialisation of CrosshairState - see bug report 
  *               1565168 (DG);
  * 06-Feb-2007 : Added new fields and methods to fix bug 1086307 (DG);
+ * 19-Oct-2026 : Implemented Cloneable and added a method to merge the
+ *               result of another state;
  *
  */
 
@@ -57,7 +59,7 @@ import java.awt.geom.Point2D;
  * calls to the renderer's draw method.  This class is used internally by 
  * JFreeChart - it is not intended for external use.
  */
-public class CrosshairState {
+public class CrosshairState implements Cloneable {
 
     /** 
      * A flag that controls whether the distance is calculated in data space 
@@ -453,4 +455,39 @@ public class CrosshairState {
     public int getRangeAxisIndex() {
         return this.rangeAxisIndex;
     }
+
+    /**
+     * Updates this state with the crosshair point recorded by another state,
+     * if that point is closer to the anchor than the current one.  This is
+     * used to combine the states collected when datasets are rendered
+     * separately; merging the states in rendering order gives the same
+     * result as a single state updated by every item.
+     *
+     * @param state  the other state (<code>null</code> not permitted).
+     *
+     * @since 1.0.10
+     */
+    public void updateCrosshairPoint(CrosshairState state) {
+        if (state.distance < this.distance) {
+            this.crosshairX = state.crosshairX;
+            this.crosshairY = state.crosshairY;
+            this.domainAxisIndex = state.domainAxisIndex;
+            this.rangeAxisIndex = state.rangeAxisIndex;
+            this.distance = state.distance;
+        }
+    }
+
+    /**
+     * Returns a clone of this state.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     *
+     * @since 1.0.10
+     */
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
 }
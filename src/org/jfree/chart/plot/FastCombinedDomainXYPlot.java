@@ -46,6 +46,27 @@ public class FastCombinedDomainXYPlot extends CombinedDomainXYPlot {
     }
 
 
+    /**
+     * Returns <code>true</code> if the appended data can be drawn without
+     * redrawing the plot, which is the case unless a {@link FastXYPlot}
+     * subplot reports that an axis with auto range headroom has changed its
+     * range since the last full draw.
+     *
+     * @return A boolean.
+     *
+     * @see FastXYPlot#canDrawAppendedData()
+     */
+    public boolean canDrawAppendedData() {
+        for (int i = 0; i < this.subplots.size(); i++) {
+            Object plot = this.subplots.get(i);
+            if (plot instanceof FastXYPlot
+                    && !((FastXYPlot) plot).canDrawAppendedData()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Does only the bare minimum calculations required to pass on to the next
      * step of the minimal draw route.
@@ -56,6 +56,7 @@
  *               setDomainAxis() and setRangeAxis() methods (DG);
  * 24-Sep-2007 : Implemented new zooming methods (DG);
  * 25-Mar-2008 : Make use of new fireChangeEvent() method (DG);
+ * 19-Oct-2026 : Added density rendering mode;
  *
  */
 
@@ -86,6 +87,9 @@ import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
 import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.renderer.DensityAccumulator;
+import org.jfree.chart.renderer.DensityNormalization;
+import org.jfree.chart.renderer.PaintScale;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.RectangleEdge;
@@ -93,6 +97,7 @@ import org.jfree.ui.RectangleInsets;
 import org.jfree.util.ArrayUtilities;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PaintUtilities;
+import org.jfree.util.PublicCloneable;
 
 /**
  * A fast scatter plot.
@@ -147,6 +152,18 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
     /** The paint used to draw the range grid-lines. */
     private transient Paint rangeGridlinePaint;
 
+    /**
+     * The paint scale used to draw the data as a density map, or
+     * <code>null</code> if the points are drawn individually.
+     */
+    private PaintScale densityPaintScale;
+
+    /** The normalization for the density map. */
+    private DensityNormalization densityNormalization;
+
+    /** The maximum number of threads used to bin the density map. */
+    private int densityThreadCount;
+
     /** The resourceBundle for the localization. */
     protected static ResourceBundle localizationResources = 
             ResourceBundle.getBundle(
@@ -199,6 +216,10 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
         this.rangeGridlinesVisible = true;
         this.rangeGridlinePaint = FastScatterPlot.DEFAULT_GRIDLINE_PAINT;
         this.rangeGridlineStroke = FastScatterPlot.DEFAULT_GRIDLINE_STROKE;
+
+        this.densityPaintScale = null;
+        this.densityNormalization = DensityNormalization.LOG;
+        this.densityThreadCount = Runtime.getRuntime().availableProcessors();
     
     }
 
@@ -330,6 +351,99 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the paint scale used to draw the data as a density map.  If
+     * this is <code>null</code> (the default), each data point is drawn
+     * individually using the plot's paint.
+     *
+     * @return The paint scale (possibly <code>null</code>).
+     *
+     * @see #setDensityPaintScale(PaintScale)
+     * @since 1.0.10
+     */
+    public PaintScale getDensityPaintScale() {
+        return this.densityPaintScale;
+    }
+
+    /**
+     * Sets the paint scale used to draw the data as a density map and sends a
+     * {@link PlotChangeEvent} to all registered listeners.  In density mode,
+     * the number of points falling in each pixel of the data area is counted
+     * and the counts are drawn as a single image, coloured by normalizing
+     * the counts to the range of the scale.
+     *
+     * @param scale  the paint scale (<code>null</code> permitted, to draw
+     *               the points individually).
+     *
+     * @see #getDensityPaintScale()
+     * @since 1.0.10
+     */
+    public void setDensityPaintScale(PaintScale scale) {
+        this.densityPaintScale = scale;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the normalization applied to the per-pixel counts in density
+     * mode.  The default is {@link DensityNormalization#LOG}.
+     *
+     * @return The normalization (never <code>null</code>).
+     *
+     * @see #setDensityNormalization(DensityNormalization)
+     * @since 1.0.10
+     */
+    public DensityNormalization getDensityNormalization() {
+        return this.densityNormalization;
+    }
+
+    /**
+     * Sets the normalization applied to the per-pixel counts in density mode
+     * and sends a {@link PlotChangeEvent} to all registered listeners.
+     *
+     * @param normalization  the normalization (<code>null</code> not
+     *                       permitted).
+     *
+     * @see #getDensityNormalization()
+     * @since 1.0.10
+     */
+    public void setDensityNormalization(DensityNormalization normalization) {
+        if (normalization == null) {
+            throw new IllegalArgumentException(
+                    "Null 'normalization' argument.");
+        }
+        this.densityNormalization = normalization;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the maximum number of threads used to count points in density
+     * mode.  The default is the number of available processors.
+     *
+     * @return The thread count.
+     *
+     * @see #setDensityThreadCount(int)
+     * @since 1.0.10
+     */
+    public int getDensityThreadCount() {
+        return this.densityThreadCount;
+    }
+
+    /**
+     * Sets the maximum number of threads used to count points in density
+     * mode.  No change event is sent, since this does not affect the output.
+     *
+     * @param count  the thread count (must be at least 1).
+     *
+     * @see #getDensityThreadCount()
+     * @since 1.0.10
+     */
+    public void setDensityThreadCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Requires count > 0.");
+        }
+        this.densityThreadCount = count;
+    }
+
     /**
      * Returns <code>true</code> if the domain gridlines are visible, and 
      * <code>false<code> otherwise.
@@ -577,6 +691,18 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
  
         //long start = System.currentTimeMillis();
         //System.out.println("Start: " + start);
+        if (this.densityPaintScale != null) {
+            if (this.data != null) {
+                DensityAccumulator accumulator = new DensityAccumulator(
+                        dataArea);
+                accumulator.addPoints(this.data, this.domainAxis,
+                        this.rangeAxis, RectangleEdge.BOTTOM, 
+                        RectangleEdge.LEFT, this.densityThreadCount);
+                accumulator.draw(g2, this.densityPaintScale, 
+                        this.densityNormalization);
+            }
+            return;
+        }
         g2.setPaint(this.paint);
 
         // if the axes use a linear scale, you can uncomment the code below and
@@ -930,6 +1056,13 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
                 that.rangeGridlineStroke)) {
             return false;
         }              
+        if (!ObjectUtilities.equal(this.densityPaintScale, 
+                that.densityPaintScale)) {
+            return false;
+        }
+        if (!this.densityNormalization.equals(that.densityNormalization)) {
+            return false;
+        }
         return true;
     }
     
@@ -960,6 +1093,11 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot,
             clone.rangeAxis.setPlot(clone);
             clone.rangeAxis.addChangeListener(clone);
         }
+
+        if (this.densityPaintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.densityPaintScale;
+            clone.densityPaintScale = (PaintScale) pc.clone();
+        }
             
         return clone;
         
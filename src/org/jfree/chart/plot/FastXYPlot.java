@@ -22,6 +22,7 @@ import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRendererFastScatter;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRendererFastXVersusY;
 import org.jfree.chart.renderer.xy.XYStepRendererFast;
+import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.ui.RectangleInsets;
@@ -58,6 +59,12 @@ public class FastXYPlot extends XYPlot implements Serializable {
      */
     private List indexList;
 
+    /**
+     * The ranges of the domain and range axes at the last full draw
+     * (<code>null</code> before the first draw).
+     */
+    private transient Range[] drawnAxisRanges;
+
     // Methods
 
     /**
@@ -105,6 +112,69 @@ public class FastXYPlot extends XYPlot implements Serializable {
                      PlotState parentState, PlotRenderingInfo info) {
         minimalDraw = false;
         super.draw(g2, area, anchor, parentState, info);
+        this.drawnAxisRanges = getAxisRanges();
+    }
+
+    /**
+     * Returns <code>true</code> if the appended data can be drawn without
+     * redrawing the plot.  Only axes with a positive auto range headroom
+     * are checked: if one of them has changed its range since the last full
+     * draw (or the plot has not been drawn yet), this method returns
+     * <code>false</code>.  Axes without headroom are ignored, as they were
+     * before the headroom was introduced, so by default appended data is
+     * always drawn incrementally.
+     *
+     * @return A boolean.
+     *
+     * @see ValueAxis#setAutoRangeHeadroom(double)
+     */
+    public boolean canDrawAppendedData() {
+        ValueAxis[] axes = getAxes();
+        for (int i = 0; i < axes.length; i++) {
+            if (axes[i] == null || axes[i].getAutoRangeHeadroom() <= 0.0) {
+                continue;
+            }
+            if (this.drawnAxisRanges == null
+                    || this.drawnAxisRanges.length != axes.length
+                    || !axes[i].getRange().equals(this.drawnAxisRanges[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the domain axes followed by the range axes (with
+     * <code>null</code> for a missing axis).
+     *
+     * @return The axes.
+     */
+    private ValueAxis[] getAxes() {
+        int domainCount = Math.max(1, getDomainAxisCount());
+        int rangeCount = Math.max(1, getRangeAxisCount());
+        ValueAxis[] result = new ValueAxis[domainCount + rangeCount];
+        for (int i = 0; i < domainCount; i++) {
+            result[i] = getDomainAxis(i);
+        }
+        for (int i = 0; i < rangeCount; i++) {
+            result[domainCount + i] = getRangeAxis(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current ranges of the domain axes followed by those of the
+     * range axes (with <code>null</code> for a missing axis).
+     *
+     * @return The axis ranges.
+     */
+    private Range[] getAxisRanges() {
+        ValueAxis[] axes = getAxes();
+        Range[] result = new Range[axes.length];
+        for (int i = 0; i < axes.length; i++) {
+            result[i] = (axes[i] != null ? axes[i].getRange() : null);
+        }
+        return result;
     }
 
     /**
@@ -390,6 +460,16 @@ public class FastXYPlot extends XYPlot implements Serializable {
         return foundData;
     }
 
+    /**
+     * Returns <code>false</code>, because the per-series indexes used for
+     * minimal draws are shared between datasets.
+     *
+     * @return <code>false</code>.
+     */
+    protected boolean canRenderInParallel() {
+        return false;
+    }
+
     /**
      *
      * <p>Title: PlotIndexes.</p>
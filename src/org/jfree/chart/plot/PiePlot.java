@@ -153,6 +153,10 @@
  * 31-Mar-2008 : Adjust the label area for the interiorGap (DG);
  * 31-Mar-2008 : Added quad and cubic curve label link lines - see patch
  *               1891849 by Martin Hilpert (DG);
+ * 19-Oct-2026 : Measure labels through TextMeasurementCache;
+ * 19-Oct-2026 : Added aggregation of small sections, reuse of section arcs
+ *               between redraws, and no labels for sections too small to 
+ *               draw;
  *    
  */
 
@@ -196,13 +200,13 @@ import org.jfree.chart.labels.PieSectionLabelGenerator;
 import org.jfree.chart.labels.PieToolTipGenerator;
 import org.jfree.chart.labels.StandardPieSectionLabelGenerator;
 import org.jfree.chart.urls.PieURLGenerator;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.DefaultKeyedValues;
 import org.jfree.data.KeyedValues;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.general.PieDataset;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
 import org.jfree.text.TextBox;
 import org.jfree.text.TextUtilities;
@@ -490,6 +494,47 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      */
     private double minimumArcAngleToDraw;
 
+    /** 
+     * The limit (as a percentage, 0.02 is two percent) below which small 
+     * sections are aggregated into a single section when the plot is drawn.
+     * Zero disables aggregation.
+     * 
+     * @since 1.0.10
+     */
+    private double limit;
+    
+    /** 
+     * The key for the aggregated section. 
+     * 
+     * @since 1.0.10
+     */
+    private Comparable aggregatedItemsKey;
+    
+    /** 
+     * The paint for the aggregated section. 
+     * 
+     * @since 1.0.10
+     */
+    private transient Paint aggregatedItemsPaint;
+    
+    /** 
+     * The dataset with the small sections aggregated (<code>null</code> if 
+     * it needs to be recreated). 
+     */
+    private transient PieDataset aggregatedDataset;
+    
+    /** The section arcs from the last drawing, indexed by section. */
+    private transient Arc2D.Double[] sectionArcs;
+    
+    /** The explode percentage used for each of the cached section arcs. */
+    private transient double[] sectionArcExplodes;
+    
+    /** The pie area used for the cached section arcs. */
+    private transient Rectangle2D arcPieArea;
+    
+    /** The exploded pie area used for the cached section arcs. */
+    private transient Rectangle2D arcExplodedPieArea;
+
     /** The resourceBundle for the localization. */
     protected static ResourceBundle localizationResources =
             ResourceBundle.getBundle("org.jfree.chart.plot.LocalizationBundle");
@@ -579,6 +624,10 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         
         this.ignoreNullValues = false;
         this.ignoreZeroValues = false;
+        
+        this.limit = 0.0;
+        this.aggregatedItemsKey = "Other";
+        this.aggregatedItemsPaint = Color.lightGray;
     }
 
     /**
@@ -618,6 +667,146 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         DatasetChangeEvent event = new DatasetChangeEvent(this, dataset);
         datasetChanged(event);
     }
+
+    /**
+     * Returns the dataset that the plot draws.  This is the dataset itself
+     * unless an aggregation limit has been set, in which case it is a copy of
+     * the dataset with the sections below the limit aggregated into a single
+     * section.  The copy is cached until the dataset, the limit or the 
+     * aggregated items key changes.
+     * 
+     * @return The dataset (possibly <code>null</code>).
+     * 
+     * @see #setLimit(double)
+     * 
+     * @since 1.0.10
+     */
+    public PieDataset getAggregatedDataset() {
+        if (this.limit <= 0.0 || this.dataset == null) {
+            return this.dataset;
+        }
+        if (this.aggregatedDataset == null) {
+            this.aggregatedDataset 
+                    = DatasetUtilities.createConsolidatedPieDataset(
+                    this.dataset, this.aggregatedItemsKey, this.limit);
+        }
+        return this.aggregatedDataset;
+    }
+    
+    /**
+     * Returns the limit (as a percentage) below which small pie sections are
+     * aggregated into a single section when the plot is drawn.
+     * 
+     * @return The limit percentage.
+     * 
+     * @see #setLimit(double)
+     * 
+     * @since 1.0.10
+     */
+    public double getLimit() {
+        return this.limit;
+    }
+    
+    /**
+     * Sets the limit (as a percentage, 0.02 is two percent) below which small
+     * pie sections are aggregated into a single section, and sends a 
+     * {@link PlotChangeEvent} to all registered listeners.  Aggregation only 
+     * takes place if at least two sections are below the limit.  A limit of 
+     * zero disables aggregation.
+     * 
+     * @param limit  the limit percentage (not negative).
+     * 
+     * @see #getLimit()
+     * 
+     * @since 1.0.10
+     */
+    public void setLimit(double limit) {
+        if (limit < 0.0) {
+            throw new IllegalArgumentException("Negative 'limit' argument.");
+        }
+        this.limit = limit;
+        this.aggregatedDataset = null;
+        fireChangeEvent();
+    }
+    
+    /**
+     * Returns the key for the aggregated section.
+     * 
+     * @return The key (never <code>null</code>).
+     * 
+     * @see #setAggregatedItemsKey(Comparable)
+     * 
+     * @since 1.0.10
+     */
+    public Comparable getAggregatedItemsKey() {
+        return this.aggregatedItemsKey;
+    }
+    
+    /**
+     * Sets the key for the aggregated section and sends a 
+     * {@link PlotChangeEvent} to all registered listeners.  You must ensure 
+     * that this key is not already in use in the dataset.
+     * 
+     * @param key  the key (<code>null</code> not permitted).
+     * 
+     * @see #getAggregatedItemsKey()
+     * 
+     * @since 1.0.10
+     */
+    public void setAggregatedItemsKey(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        this.aggregatedItemsKey = key;
+        this.aggregatedDataset = null;
+        fireChangeEvent();
+    }
+    
+    /**
+     * Returns the paint used for the aggregated section, unless a paint has
+     * been set for its key with {@link #setSectionPaint(Comparable, Paint)}. 
+     * The default value is <code>Color.lightGray</code>.
+     * 
+     * @return The paint (never <code>null</code>).
+     * 
+     * @see #setAggregatedItemsPaint(Paint)
+     * 
+     * @since 1.0.10
+     */
+    public Paint getAggregatedItemsPaint() {
+        return this.aggregatedItemsPaint;
+    }
+    
+    /**
+     * Sets the paint used for the aggregated section and sends a 
+     * {@link PlotChangeEvent} to all registered listeners.
+     * 
+     * @param paint  the paint (<code>null</code> not permitted).
+     * 
+     * @see #getAggregatedItemsPaint()
+     * 
+     * @since 1.0.10
+     */
+    public void setAggregatedItemsPaint(Paint paint) {
+        if (paint == null) {
+            throw new IllegalArgumentException("Null 'paint' argument.");
+        }
+        this.aggregatedItemsPaint = paint;
+        fireChangeEvent();
+    }
+    
+    /**
+     * Receives notification of a change to the dataset, clears the cached
+     * aggregated dataset and passes the event on.
+     * 
+     * @param event  information about the event.
+     * 
+     * @since 1.0.10
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.aggregatedDataset = null;
+        super.datasetChanged(event);
+    }
     
     /**
      * Returns the pie index (this is used by the {@link MultiplePiePlot} class
@@ -886,6 +1075,11 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
             return result;
         }
         
+        // the aggregated section has its own paint
+        if (this.limit > 0.0 && key.equals(this.aggregatedItemsKey)) {
+            return this.aggregatedItemsPaint;
+        }
+        
         // nothing defined - do we autoPopulate?
         if (autoPopulate) {
             DrawingSupplier ds = getDrawingSupplier();
@@ -950,9 +1144,10 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      */
     protected Comparable getSectionKey(int section) {
         Comparable key = null;
-        if (this.dataset != null) {
-            if (section >= 0 && section < this.dataset.getItemCount()) {
-                key = this.dataset.getKey(section);
+        PieDataset dataset = getAggregatedDataset();
+        if (dataset != null) {
+            if (section >= 0 && section < dataset.getItemCount()) {
+                key = dataset.getKey(section);
             }
         }
         if (key == null) {
@@ -1532,11 +1727,12 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      * @return The percent.
      */
     public double getMaximumExplodePercent() {
-        if (this.dataset == null) {
+        PieDataset dataset = getAggregatedDataset();
+        if (dataset == null) {
             return 0.0;
         }
         double result = 0.0;
-        Iterator iterator = this.dataset.getKeys().iterator();
+        Iterator iterator = dataset.getKeys().iterator();
         while (iterator.hasNext()) {
             Comparable key = (Comparable) iterator.next();
             Number explode = (Number) this.explodePercentages.get(key);
@@ -2241,7 +2437,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         state.setPassesRequired(2);
         if (this.dataset != null) {
             state.setTotal(DatasetUtilities.calculatePieDatasetTotal(
-                    plot.getDataset()));
+                    plot.getAggregatedDataset()));
         }
         state.setLatestAngle(plot.getStartAngle());
         return state;
@@ -2395,17 +2591,18 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         state.setPieHRadius(pieArea.getHeight() / 2.0);
         
         // plot the data (unless the dataset is null)...
-        if ((this.dataset != null) && (this.dataset.getKeys().size() > 0)) {
+        PieDataset dataset = getAggregatedDataset();
+        if ((dataset != null) && (dataset.getKeys().size() > 0)) {
 
-            List keys = this.dataset.getKeys();
+            List keys = dataset.getKeys();
             double totalValue = DatasetUtilities.calculatePieDatasetTotal(
-                    this.dataset);
+                    dataset);
 
             int passesRequired = state.getPassesRequired();
             for (int pass = 0; pass < passesRequired; pass++) {
                 double runningTotal = 0.0;
                 for (int section = 0; section < keys.size(); section++) {
-                    Number n = this.dataset.getValue(section);
+                    Number n = dataset.getValue(section);
                     if (n != null) {
                         double value = n.doubleValue();
                         if (value > 0.0) {
@@ -2441,7 +2638,8 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
     protected void drawItem(Graphics2D g2, int section, Rectangle2D dataArea,
                             PiePlotState state, int currentPass) {
     
-        Number n = this.dataset.getValue(section);
+        PieDataset dataset = getAggregatedDataset();
+        Number n = dataset.getValue(section);
         if (n == null) {
             return;   
         }
@@ -2468,10 +2666,8 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
             if (mep > 0.0) {
                 ep = getExplodePercent(section) / mep;                
             }
-            Rectangle2D arcBounds = getArcBounds(state.getPieArea(), 
-                    state.getExplodedPieArea(), angle1, angle, ep);
-            Arc2D.Double arc = new Arc2D.Double(arcBounds, angle1, angle, 
-                    Arc2D.PIE);
+            Arc2D.Double arc = lookupSectionArc(section, state, angle1, angle,
+                    ep);
             
             if (currentPass == 0) {
                 if (this.shadowPaint != null) {
@@ -2504,15 +2700,15 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                         String tip = null;
                         if (this.toolTipGenerator != null) {
                             tip = this.toolTipGenerator.generateToolTip(
-                                    this.dataset, key);
+                                    dataset, key);
                         }
                         String url = null;
                         if (this.urlGenerator != null) {
-                            url = this.urlGenerator.generateURL(this.dataset, 
+                            url = this.urlGenerator.generateURL(dataset, 
                                     key, this.pieIndex);
                         }
                         PieSectionEntity entity = new PieSectionEntity(
-                                arc, this.dataset, this.pieIndex, section, key,
+                                arc, dataset, this.pieIndex, section, key,
                                 tip, url);
                         entities.add(entity);
                     }
@@ -2522,6 +2718,70 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         state.setLatestAngle(angle2);
     }
     
+    /**
+     * Returns the arc for a pie section.  The arc from the previous drawing 
+     * is reused if the section geometry has not changed (for example, when 
+     * only the section paints have been modified).
+     * 
+     * @param section  the section index.
+     * @param state  the plot state.
+     * @param angle1  the start angle for the arc.
+     * @param angle  the arc angle.
+     * @param ep  the explode percentage (relative to the maximum).
+     * 
+     * @return The arc.
+     */
+    private Arc2D.Double lookupSectionArc(int section, PiePlotState state, 
+            double angle1, double angle, double ep) {
+        Rectangle2D pieArea = state.getPieArea();
+        Rectangle2D explodedPieArea = state.getExplodedPieArea();
+        if (!pieArea.equals(this.arcPieArea) 
+                || !explodedPieArea.equals(this.arcExplodedPieArea)) {
+            this.sectionArcs = null;
+            this.sectionArcExplodes = null;
+            this.arcPieArea = (Rectangle2D) pieArea.clone();
+            this.arcExplodedPieArea = (Rectangle2D) explodedPieArea.clone();
+        }
+        if (this.sectionArcs == null || section >= this.sectionArcs.length) {
+            int size = section + 1;
+            Arc2D.Double[] arcs = new Arc2D.Double[size];
+            double[] explodes = new double[size];
+            if (this.sectionArcs != null) {
+                System.arraycopy(this.sectionArcs, 0, arcs, 0, 
+                        this.sectionArcs.length);
+                System.arraycopy(this.sectionArcExplodes, 0, explodes, 0, 
+                        this.sectionArcExplodes.length);
+            }
+            this.sectionArcs = arcs;
+            this.sectionArcExplodes = explodes;
+        }
+        Arc2D.Double arc = this.sectionArcs[section];
+        if (arc != null && arc.start == angle1 && arc.extent == angle 
+                && this.sectionArcExplodes[section] == ep) {
+            return arc;
+        }
+        Rectangle2D arcBounds = getArcBounds(pieArea, explodedPieArea, angle1,
+                angle, ep);
+        arc = new Arc2D.Double(arcBounds, angle1, angle, Arc2D.PIE);
+        this.sectionArcs[section] = arc;
+        this.sectionArcExplodes[section] = ep;
+        return arc;
+    }
+    
+    /**
+     * Returns <code>true</code> if a section with the given value is large 
+     * enough to be drawn (see {@link #getMinimumArcAngleToDraw()}), and 
+     * <code>false</code> otherwise.
+     * 
+     * @param value  the section value.
+     * @param total  the total of all values in the pie.
+     * 
+     * @return A boolean.
+     */
+    private boolean isSectionDrawn(double value, double total) {
+        return Math.abs(value / total * 360.0) > this.minimumArcAngleToDraw;
+    }
+    
     /**
      * Draws the pie section labels in the simple form.
      * 
@@ -2545,13 +2805,14 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         RectangleInsets labelInsets = new RectangleInsets(UnitType.RELATIVE, 
                 0.18, 0.18, 0.18, 0.18);
         Rectangle2D labelsArea = labelInsets.createInsetRectangle(pieArea);
+        PieDataset dataset = getAggregatedDataset();
         double runningTotal = 0.0;
         Iterator iterator = keys.iterator();
         while (iterator.hasNext()) {
             Comparable key = (Comparable) iterator.next();
             boolean include = true;
             double v = 0.0;
-            Number n = getDataset().getValue(key);
+            Number n = dataset.getValue(key);
             if (n == null) {
                 include = !getIgnoreNullValues();
             }
@@ -2562,6 +2823,10 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
 
             if (include) {
                 runningTotal = runningTotal + v;
+                // no label for a section that is too small to be drawn
+                if (v > 0.0 && !isSectionDrawn(v, totalValue)) {
+                    continue;
+                }
                 // work out the mid angle (0 - 90 and 270 - 360) = right, 
                 // otherwise left
                 double mid = getStartAngle() + (getDirection().getFactor()
@@ -2577,13 +2842,15 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                     continue;
                 }
                 String label = labelGenerator.generateSectionLabel(
-                        this.dataset, key);
+                        dataset, key);
                 if (label == null) {
                     continue;
                 }
                 g2.setFont(this.labelFont);
                 FontMetrics fm = g2.getFontMetrics();
-                Rectangle2D bounds = TextUtilities.getTextBounds(label, g2, fm);
+                Rectangle2D bounds 
+                        = TextMeasurementCache.getSharedTextBounds(
+                        label, g2, fm);
                 Rectangle2D out = this.labelPadding.createOutsetRectangle(
                         bounds);
                 Shape bg = ShapeUtilities.createTranslatedShape(out, 
@@ -2607,8 +2874,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                 
                 g2.setPaint(this.labelPaint);
                 g2.setFont(this.labelFont);
-                TextUtilities.drawAlignedString(getLabelGenerator()
-                        .generateSectionLabel(getDataset(), key), g2, x, y, 
+                TextUtilities.drawAlignedString(label, g2, x, y, 
                         TextAnchor.CENTER);
                 
             }
@@ -2640,13 +2906,14 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         DefaultKeyedValues leftKeys = new DefaultKeyedValues();
         DefaultKeyedValues rightKeys = new DefaultKeyedValues();
        
+        PieDataset dataset = getAggregatedDataset();
         double runningTotal = 0.0;
         Iterator iterator = keys.iterator();
         while (iterator.hasNext()) {
             Comparable key = (Comparable) iterator.next();
             boolean include = true;
             double v = 0.0;
-            Number n = this.dataset.getValue(key);
+            Number n = dataset.getValue(key);
             if (n == null) {
                 include = !this.ignoreNullValues;
             }
@@ -2657,6 +2924,10 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
 
             if (include) {
                 runningTotal = runningTotal + v;
+                // no label for a section that is too small to be drawn
+                if (v > 0.0 && !isSectionDrawn(v, totalValue)) {
+                    continue;
+                }
                 // work out the mid angle (0 - 90 and 270 - 360) = right, 
                 // otherwise left
                 double mid = this.startAngle + (this.direction.getFactor()
@@ -2712,11 +2983,11 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         double verticalLinkRadius = state.getLinkArea().getHeight() / 2.0;
         for (int i = 0; i < leftKeys.getItemCount(); i++) {   
             String label = this.labelGenerator.generateSectionLabel(
-                    this.dataset, leftKeys.getKey(i));
+                    getAggregatedDataset(), leftKeys.getKey(i));
             if (label != null) {
                 TextBlock block = TextUtilities.createTextBlock(label, 
                         this.labelFont, this.labelPaint, maxLabelWidth, 
-                        new G2TextMeasurer(g2));
+                        TextMeasurementCache.createSharedTextMeasurer(g2));
                 TextBox labelBox = new TextBox(block);
                 labelBox.setBackgroundPaint(this.labelBackgroundPaint);
                 labelBox.setOutlinePaint(this.labelOutlinePaint);
@@ -2766,12 +3037,12 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
 
         for (int i = 0; i < keys.getItemCount(); i++) {
             String label = this.labelGenerator.generateSectionLabel(
-                    this.dataset, keys.getKey(i));
+                    getAggregatedDataset(), keys.getKey(i));
 
             if (label != null) {
                 TextBlock block = TextUtilities.createTextBlock(label, 
                         this.labelFont, this.labelPaint, maxLabelWidth, 
-                        new G2TextMeasurer(g2));
+                        TextMeasurementCache.createSharedTextMeasurer(g2));
                 TextBox labelBox = new TextBox(block);
                 labelBox.setBackgroundPaint(this.labelBackgroundPaint);
                 labelBox.setOutlinePaint(this.labelOutlinePaint);
@@ -2807,16 +3078,17 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
     public LegendItemCollection getLegendItems() {
 
         LegendItemCollection result = new LegendItemCollection();
-        if (this.dataset == null) {
+        PieDataset dataset = getAggregatedDataset();
+        if (dataset == null) {
             return result;
         }
-        List keys = this.dataset.getKeys();
+        List keys = dataset.getKeys();
         int section = 0;
         Shape shape = getLegendItemShape();
         Iterator iterator = keys.iterator();
         while (iterator.hasNext()) {
             Comparable key = (Comparable) iterator.next();
-            Number n = this.dataset.getValue(key);
+            Number n = dataset.getValue(key);
             boolean include = true;
             if (n == null) {
                 include = !this.ignoreNullValues;   
@@ -2832,18 +3104,18 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
             }
             if (include) {
                 String label = this.legendLabelGenerator.generateSectionLabel(
-                        this.dataset, key);
+                        dataset, key);
                 if (label != null) {
                     String description = label;
                     String toolTipText = null;
                     if (this.legendLabelToolTipGenerator != null) {
                         toolTipText = this.legendLabelToolTipGenerator
-                                .generateSectionLabel(this.dataset, key);
+                                .generateSectionLabel(dataset, key);
                     }
                     String urlText = null;
                     if (this.legendLabelURLGenerator != null) {
                         urlText = this.legendLabelURLGenerator.generateURL(
-                                this.dataset, key, this.pieIndex);
+                                dataset, key, this.pieIndex);
                     }
                     Paint paint = lookupSectionPaint(key, true);
                     Paint outlinePaint = lookupSectionOutlinePaint(key);
@@ -2853,7 +3125,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                             true, outlinePaint, outlineStroke, 
                             false,          // line not visible
                             new Line2D.Float(), new BasicStroke(), Color.black);
-                    item.setDataset(getDataset());
+                    item.setDataset(dataset);
                     result.add(item);
                 }
                 section++;
@@ -3189,6 +3461,16 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                 that.legendLabelURLGenerator)) {
             return false;
         }
+        if (this.limit != that.limit) {
+            return false;
+        }
+        if (!this.aggregatedItemsKey.equals(that.aggregatedItemsKey)) {
+            return false;
+        }
+        if (!PaintUtilities.equal(this.aggregatedItemsPaint, 
+                that.aggregatedItemsPaint)) {
+            return false;
+        }
         // can't find any difference...
         return true;
     }
@@ -3223,6 +3505,11 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
             clone.legendLabelURLGenerator = (PieURLGenerator) 
                     ObjectUtilities.clone(this.legendLabelURLGenerator);
         }
+        clone.aggregatedDataset = null;
+        clone.sectionArcs = null;
+        clone.sectionArcExplodes = null;
+        clone.arcPieArea = null;
+        clone.arcExplodedPieArea = null;
         return clone;
     }
 
@@ -3250,6 +3537,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         SerialUtilities.writePaint(this.labelLinkPaint, stream);
         SerialUtilities.writeStroke(this.labelLinkStroke, stream);
         SerialUtilities.writeShape(this.legendItemShape, stream);
+        SerialUtilities.writePaint(this.aggregatedItemsPaint, stream);
     }
 
     /**
@@ -3278,6 +3566,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         this.labelLinkPaint = SerialUtilities.readPaint(stream);
         this.labelLinkStroke = SerialUtilities.readStroke(stream);
         this.legendItemShape = SerialUtilities.readShape(stream);
+        this.aggregatedItemsPaint = SerialUtilities.readPaint(stream);
     }
     
     // DEPRECATED METHODS...
@@ -78,6 +78,7 @@
  *               debug code - see debug flags in PiePlot class (DG);
  * 20-Mar-2008 : Fixed bug 1920854 - multiple redraws of the section 
  *               labels (DG);
+ * 19-Oct-2026 : Draw the aggregated dataset;
  *
  */
 
@@ -330,8 +331,8 @@ public class PiePlot3D extends PiePlot implements Serializable {
         state.setPieHRadius((pieArea.getHeight() - depth) / 2.0);
 
         // get the data source - return if null;
-        PieDataset dataset = getDataset();
-        if (DatasetUtilities.isEmptyOrNull(getDataset())) {
+        PieDataset dataset = getAggregatedDataset();
+        if (DatasetUtilities.isEmptyOrNull(dataset)) {
             drawNoDataMessage(g2, plotArea);
             g2.setClip(savedClip);
             drawOutline(g2, plotArea);
@@ -121,6 +121,7 @@
  * 07-Jun-2007 : Added new fillBackground() method to handle GradientPaint
  *               taking into account orientation (DG);
  * 25-Mar-2008 : Added fireChangeEvent() method - see patch 1914411 (DG);
+ * 19-Oct-2026 : Measure the no-data message through TextMeasurementCache;
  *
  */
 
@@ -157,11 +158,11 @@ import org.jfree.chart.event.MarkerChangeEvent;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.PlotChangeListener;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.DatasetGroup;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
 import org.jfree.text.TextBlockAnchor;
 import org.jfree.text.TextUtilities;
@@ -1060,7 +1061,7 @@ public abstract class Plot implements AxisChangeListener,
             TextBlock block = TextUtilities.createTextBlock(
                     this.noDataMessage, this.noDataMessageFont,
                     this.noDataMessagePaint, 0.9f * (float) area.getWidth(),
-                    new G2TextMeasurer(g2));
+                    TextMeasurementCache.createSharedTextMeasurer(g2));
             block.draw(g2, (float) area.getCenterX(),
                     (float) area.getCenterY(), TextBlockAnchor.CENTER);
         }
@@ -0,0 +1,504 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * RenderingLayers.java
+ * --------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Only support devices that are known to be raster;
+ * 19-Oct-2026 : Draw plots directly in drawPlots() if layers are not
+ *               supported;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyEntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.chart.util.GraphicsUtilities;
+
+/**
+ * A set of transparent raster layers covering one area of a graphics device.
+ * Each layer can be drawn on independently (and concurrently, one thread per
+ * layer) and the layers are then composited onto the target device in index
+ * order.  This is used by plots that render their datasets or subplots in
+ * parallel.
+ * <P>
+ * Each layer uses the device resolution of the target, so that the
+ * composited result matches drawing directly onto the target as closely as
+ * possible.  Layered drawing is only supported on devices that are known to
+ * be raster (images and the screen, but not printers or PDF and SVG
+ * graphics) with a transform that contains no rotation or shear, see
+ * {@link #isSupported(Graphics2D)}.
+ *
+ * @since 1.0.10
+ */
+public class RenderingLayers {
+
+    /**
+     * The margin (in user space) added around each plot area by
+     * {@link #drawPlots(Graphics2D, Plot[], Rectangle2D[], Point2D, PlotState,
+     * PlotRenderingInfo)}, so that outlines drawn on the edge of the area are
+     * not clipped.
+     */
+    private static final double PLOT_MARGIN = 8.0;
+
+    /** The target graphics device. */
+    private Graphics2D target;
+
+    /** The area covered by the layers (in user space). */
+    private Rectangle2D area;
+
+    /** The device transform of the target. */
+    private AffineTransform transform;
+
+    /** The area covered by the layers (in device space). */
+    private Rectangle bounds;
+
+    /** The layer images (created on demand). */
+    private BufferedImage[] images;
+
+    /** The graphics for each layer (created on demand). */
+    private Graphics2D[] graphics;
+
+    /**
+     * Creates a new set of layers.
+     *
+     * @param target  the target graphics device (<code>null</code> not
+     *                permitted).
+     * @param area  the area to cover, in user space (<code>null</code> not
+     *              permitted).
+     * @param layerCount  the number of layers.
+     */
+    public RenderingLayers(Graphics2D target, Rectangle2D area,
+            int layerCount) {
+        if (target == null) {
+            throw new IllegalArgumentException("Null 'target' argument.");
+        }
+        if (area == null) {
+            throw new IllegalArgumentException("Null 'area' argument.");
+        }
+        this.target = target;
+        this.area = area;
+        this.transform = target.getTransform();
+        Rectangle b = this.transform.createTransformedShape(area).getBounds();
+        this.bounds = new Rectangle(b.x - 1, b.y - 1, b.width + 2,
+                b.height + 2);
+        this.images = new BufferedImage[layerCount];
+        this.graphics = new Graphics2D[layerCount];
+    }
+
+    /**
+     * Returns <code>true</code> if layered drawing is supported for the
+     * specified graphics device.  Vector devices (printers, PDF and SVG
+     * graphics, and any other device not known to be a raster, see
+     * {@link GraphicsUtilities#isRasterDevice(Graphics2D)}) and transforms
+     * with rotation or shear are not supported, since the layers would not
+     * reproduce the output of direct drawing.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isSupported(Graphics2D g2) {
+        if (!GraphicsUtilities.isRasterDevice(g2)) {
+            return false;
+        }
+        int type = g2.getTransform().getType();
+        return (type & ~(AffineTransform.TYPE_TRANSLATION
+                | AffineTransform.TYPE_MASK_SCALE)) == 0;
+    }
+
+    /**
+     * Returns the number of layers.
+     *
+     * @return The layer count.
+     */
+    public int getLayerCount() {
+        return this.images.length;
+    }
+
+    /**
+     * Returns the graphics device for a layer, creating the layer if
+     * necessary.  The device has the same transform, rendering hints, font,
+     * composite and clip (the layer area) as the target.  Different layers
+     * may be requested and drawn on from different threads.
+     *
+     * @param layer  the layer index.
+     *
+     * @return The graphics device for the layer.
+     */
+    public Graphics2D getGraphics(int layer) {
+        Graphics2D g2 = this.graphics[layer];
+        if (g2 == null) {
+            BufferedImage image = new BufferedImage(this.bounds.width,
+                    this.bounds.height, BufferedImage.TYPE_INT_ARGB_PRE);
+            g2 = image.createGraphics();
+            synchronized (this.target) {
+                g2.setRenderingHints(this.target.getRenderingHints());
+                g2.setFont(this.target.getFont());
+                g2.setComposite(this.target.getComposite());
+                g2.setPaint(this.target.getPaint());
+                g2.setStroke(this.target.getStroke());
+            }
+            g2.translate(-this.bounds.x, -this.bounds.y);
+            g2.transform(this.transform);
+            g2.clip(this.area);
+            this.images[layer] = image;
+            this.graphics[layer] = g2;
+        }
+        return g2;
+    }
+
+    /**
+     * Composites the layers onto the target device in index order and
+     * releases the layer graphics.  Layers that were never requested are
+     * skipped.
+     */
+    public void drawLayers() {
+        Composite saved = this.target.getComposite();
+        AffineTransform savedTransform = this.target.getTransform();
+        this.target.setComposite(AlphaComposite.SrcOver);
+        this.target.setTransform(new AffineTransform());
+        try {
+            for (int i = 0; i < this.images.length; i++) {
+                if (this.images[i] != null) {
+                    this.graphics[i].dispose();
+                    this.target.drawImage(this.images[i], this.bounds.x,
+                            this.bounds.y, null);
+                    this.graphics[i] = null;
+                    this.images[i] = null;
+                }
+            }
+        }
+        finally {
+            this.target.setTransform(savedTransform);
+            this.target.setComposite(saved);
+        }
+    }
+
+    /**
+     * Creates a rendering info object for one layer, with a private entity
+     * collection if <code>info</code> collects entities.  The plot and data
+     * areas are copied from <code>info</code>.
+     *
+     * @param info  the plot rendering info (<code>null</code> permitted).
+     *
+     * @return The info for the layer (<code>null</code> if <code>info</code>
+     *     is <code>null</code>).
+     */
+    public static PlotRenderingInfo createLayerInfo(PlotRenderingInfo info) {
+        if (info == null) {
+            return null;
+        }
+        PlotRenderingInfo result;
+        if (info.getOwner() != null
+                && info.getOwner().getEntityCollection() != null) {
+            EntityCollection entities = info.getOwner().getEntityCollection();
+            ChartRenderingInfo owner = new ChartRenderingInfo(
+                    entities instanceof LazyEntityCollection 
+                    ? (EntityCollection) new LazyEntityCollection()
+                    : new StandardEntityCollection());
+            result = owner.getPlotInfo();
+        }
+        else {
+            result = new PlotRenderingInfo(null);
+        }
+        result.setPlotArea(info.getPlotArea());
+        result.setDataArea(info.getDataArea());
+        return result;
+    }
+
+    /**
+     * Looks up the series attributes of a renderer for the given number of
+     * series, so that any auto-populated paints, strokes and shapes are
+     * assigned in the serial rendering order before the renderer is used
+     * from another thread.
+     *
+     * @param renderer  the renderer (<code>null</code> permitted).
+     * @param seriesCount  the number of series.
+     */
+    public static void prepareRenderer(Object renderer, int seriesCount) {
+        if (!(renderer instanceof AbstractRenderer)) {
+            return;
+        }
+        AbstractRenderer r = (AbstractRenderer) renderer;
+        for (int s = 0; s < seriesCount; s++) {
+            r.lookupSeriesPaint(s);
+            r.lookupSeriesFillPaint(s);
+            r.lookupSeriesOutlinePaint(s);
+            r.lookupSeriesStroke(s);
+            r.lookupSeriesOutlineStroke(s);
+            r.lookupSeriesShape(s);
+        }
+    }
+
+    /**
+     * Runs the given tasks on up to <code>threadCount</code> worker threads
+     * and waits for all of them to finish.  Tasks are started in array
+     * order.  If any task throws an exception, the first one is rethrown
+     * (wrapped if necessary) once all workers have finished.
+     *
+     * @param tasks  the tasks (<code>null</code> not permitted).
+     * @param threadCount  the maximum number of threads to use.
+     */
+    public static void runTasks(final Runnable[] tasks, int threadCount) {
+        if (tasks == null) {
+            throw new IllegalArgumentException("Null 'tasks' argument.");
+        }
+        int workerCount = Math.max(1, Math.min(threadCount, tasks.length));
+        final int[] next = new int[1];
+        final Throwable[] failure = new Throwable[1];
+        Thread[] workers = new Thread[workerCount];
+        for (int w = 0; w < workerCount; w++) {
+            workers[w] = new Thread("RenderingLayers-" + w) {
+                public void run() {
+                    while (true) {
+                        int index;
+                        synchronized (next) {
+                            if (next[0] >= tasks.length || failure[0] != null) {
+                                return;
+                            }
+                            index = next[0]++;
+                        }
+                        try {
+                            tasks[index].run();
+                        }
+                        catch (Throwable t) {
+                            synchronized (next) {
+                                if (failure[0] == null) {
+                                    failure[0] = t;
+                                }
+                            }
+                        }
+                    }
+                }
+            };
+            workers[w].start();
+        }
+        for (int w = 0; w < workerCount; w++) {
+            try {
+                workers[w].join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while rendering.");
+            }
+        }
+        if (failure[0] instanceof RuntimeException) {
+            throw (RuntimeException) failure[0];
+        }
+        if (failure[0] instanceof Error) {
+            throw (Error) failure[0];
+        }
+        if (failure[0] != null) {
+            throw new RuntimeException(failure[0].toString());
+        }
+    }
+
+    /**
+     * Draws several plots concurrently, each into a layer covering its own
+     * area, then composites the layers onto the target in array order.  If
+     * <code>info</code> is not <code>null</code>, a subplot info is added to
+     * it for each plot (in array order) and the entities created by each
+     * plot are added to the owner's entity collection (in the same order),
+     * as if the plots had been drawn one after the other.  This is used by
+     * the combined plots once their shared axis has been drawn.  Each layer
+     * extends a few units beyond the plot area (within the current clip), 
+     * since plots draw their outlines on the edge of the area.
+     * <P>
+     * If layers are not supported for the target (see
+     * {@link #isSupported(Graphics2D)}), the plots are drawn directly onto
+     * it, one after the other, so that vector output never receives
+     * rasterized subplots.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     * @param plots  the plots (<code>null</code> not permitted).
+     * @param areas  the area for each plot (<code>null</code> not
+     *               permitted).
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param parentState  the state from the parent plot
+     *                     (<code>null</code> permitted).
+     * @param info  the parent plot's rendering info (<code>null</code>
+     *              permitted).
+     */
+    public static void drawPlots(Graphics2D g2, final Plot[] plots,
+            final Rectangle2D[] areas, final Point2D anchor,
+            final PlotState parentState, PlotRenderingInfo info) {
+        if (plots == null) {
+            throw new IllegalArgumentException("Null 'plots' argument.");
+        }
+        if (areas == null) {
+            throw new IllegalArgumentException("Null 'areas' argument.");
+        }
+        int count = plots.length;
+        if (!isSupported(g2)) {
+            for (int i = 0; i < count; i++) {
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plots[i].draw(g2, areas[i], anchor, parentState, subplotInfo);
+            }
+            return;
+        }
+        final RenderingLayers[] layers = new RenderingLayers[count];
+        final PlotRenderingInfo[] infos = new PlotRenderingInfo[count];
+        Runnable[] tasks = new Runnable[count];
+        Shape clip = g2.getClip();
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            Rectangle2D layerArea = new Rectangle2D.Double(
+                    areas[i].getX() - PLOT_MARGIN,
+                    areas[i].getY() - PLOT_MARGIN,
+                    areas[i].getWidth() + 2.0 * PLOT_MARGIN,
+                    areas[i].getHeight() + 2.0 * PLOT_MARGIN);
+            if (clip != null) {
+                Rectangle2D.intersect(layerArea, clip.getBounds2D(),
+                        layerArea);
+            }
+            layers[i] = new RenderingLayers(g2, layerArea, 1);
+            infos[i] = createLayerInfo(info);
+            tasks[i] = new Runnable() {
+                public void run() {
+                    plots[index].draw(layers[index].getGraphics(0),
+                            areas[index], anchor, parentState, infos[index]);
+                }
+            };
+        }
+        runTasks(tasks, Runtime.getRuntime().availableProcessors());
+
+        EntityCollection entities = null;
+        if (info != null && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        for (int i = 0; i < count; i++) {
+            layers[i].drawLayers();
+            if (info != null) {
+                PlotRenderingInfo subplotInfo = new PlotRenderingInfo(
+                        info.getOwner());
+                subplotInfo.setPlotArea(infos[i].getPlotArea());
+                subplotInfo.setDataArea(infos[i].getDataArea());
+                for (int j = 0; j < infos[i].getSubplotCount(); j++) {
+                    subplotInfo.addSubplotInfo(infos[i].getSubplotInfo(j));
+                }
+                info.addSubplotInfo(subplotInfo);
+                if (entities != null) {
+                    entities.addAll(infos[i].getOwner().getEntityCollection());
+                }
+            }
+        }
+    }
+
+    /**
+     * Prepares the subplots of a combined plot for concurrent drawing.  This
+     * returns <code>false</code> if any subplot shares a renderer or an axis
+     * (other than the axes of the parent plot) with another, since those
+     * objects are not safe to use from several threads at once.  Otherwise
+     * the renderers' series attributes are looked up in subplot order (see
+     * {@link #prepareRenderer(Object, int)}), since the subplots share the
+     * parent's drawing supplier, and <code>true</code> is returned.
+     *
+     * @param parent  the combined plot.
+     * @param subplots  the subplots (a list of {@link XYPlot} instances).
+     *
+     * @return A boolean.
+     */
+    static boolean prepareSubplots(XYPlot parent, List subplots) {
+        List seen = new ArrayList();
+        for (int i = 0; i < subplots.size(); i++) {
+            XYPlot plot = (XYPlot) subplots.get(i);
+            List objects = new ArrayList();
+            for (int j = 0; j < Math.max(1, plot.getDatasetCount()); j++) {
+                objects.add(plot.getRenderer(j));
+            }
+            for (int j = 0; j < plot.getDomainAxisCount(); j++) {
+                ValueAxis axis = plot.getDomainAxis(j);
+                if (axis != parent.getDomainAxis(j)) {
+                    objects.add(axis);
+                }
+            }
+            for (int j = 0; j < plot.getRangeAxisCount(); j++) {
+                ValueAxis axis = plot.getRangeAxis(j);
+                if (axis != parent.getRangeAxis(j)) {
+                    objects.add(axis);
+                }
+            }
+            for (int j = 0; j < objects.size(); j++) {
+                Object obj = objects.get(j);
+                if (obj == null) {
+                    continue;
+                }
+                for (int k = 0; k < seen.size(); k++) {
+                    if (seen.get(k) == obj) {
+                        return false;
+                    }
+                }
+            }
+            for (int j = 0; j < objects.size(); j++) {
+                if (objects.get(j) != null) {
+                    seen.add(objects.get(j));
+                }
+            }
+        }
+        for (int i = 0; i < subplots.size(); i++) {
+            XYPlot plot = (XYPlot) subplots.get(i);
+            for (int j = 0; j < plot.getDatasetCount(); j++) {
+                if (plot.getDataset(j) != null) {
+                    prepareRenderer(plot.getRendererForDataset(
+                            plot.getDataset(j)),
+                            plot.getDataset(j).getSeriesCount());
+                }
+            }
+        }
+        return true;
+    }
+
+}
@@ -43,6 +43,7 @@
  * 27-Sep-2006 : Updated drawItem() method for new lookup methods (DG);
  * 12-Oct-2006 : Added configurable section depth (DG);
  * 14-Feb-2007 : Added notification in setSectionDepth() method (DG);
+ * 19-Oct-2026 : Draw the aggregated dataset;
  *
  */
 
@@ -339,7 +340,7 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
                             PiePlotState state,
                             int currentPass) {
     
-        PieDataset dataset = getDataset();
+        PieDataset dataset = getAggregatedDataset();
         Number n = dataset.getValue(section);
         if (n == null) {
             return;   
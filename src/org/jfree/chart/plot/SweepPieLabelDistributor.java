@@ -0,0 +1,234 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * SweepPieLabelDistributor.java
+ * -----------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.util.Collections;
+
+/**
+ * A label distributor that sorts the labels for one side of a pie chart and
+ * then places them in a single sweep from top to bottom.  Labels that would
+ * overlap are merged into a cluster that is centred on the preferred
+ * positions of its labels, and a cluster that runs into the one above it is
+ * merged with that one.  Each label is merged at most once, so the
+ * distribution takes O(n log n) time for n labels, which makes this
+ * distributor suitable for pie charts with many labelled sections.
+ * <P>
+ * If the labels do not fit in the available height, they are spaced
+ * evenly.
+ *
+ * @see PiePlot#setLabelDistributor(AbstractPieLabelDistributor)
+ *
+ * @since 1.0.10
+ */
+public class SweepPieLabelDistributor extends AbstractPieLabelDistributor {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3627402817526410829L;
+
+    /** The minimum gap between labels. */
+    private double minGap;
+
+    /**
+     * Creates a new distributor with a minimum gap of 4.0.
+     */
+    public SweepPieLabelDistributor() {
+        this(4.0);
+    }
+
+    /**
+     * Creates a new distributor.
+     *
+     * @param minGap  the minimum gap between labels (in Java2D units).
+     */
+    public SweepPieLabelDistributor(double minGap) {
+        super();
+        if (minGap < 0.0) {
+            throw new IllegalArgumentException("Negative 'minGap' argument.");
+        }
+        this.minGap = minGap;
+    }
+
+    /**
+     * Returns the minimum gap between labels.
+     *
+     * @return The minimum gap (in Java2D units).
+     */
+    public double getMinGap() {
+        return this.minGap;
+    }
+
+    /**
+     * Distributes the labels.
+     *
+     * @param minY  the minimum y-coordinate in Java2D-space.
+     * @param height  the available height (in Java2D units).
+     */
+    public void distributeLabels(double minY, double height) {
+        int count = this.labels.size();
+        if (count == 0) {
+            return;
+        }
+        Collections.sort(this.labels);
+        double sumOfLabelHeights = 0.0;
+        for (int i = 0; i < count; i++) {
+            sumOfLabelHeights += getPieLabelRecord(i).getLabelHeight();
+        }
+        if (sumOfLabelHeights + this.minGap * (count - 1) > height) {
+            spreadEvenly(minY, height, sumOfLabelHeights);
+            return;
+        }
+        double maxY = minY + height;
+
+        // a stack of clusters, each holding the index of its first label,
+        // its height and the sum of the preferred top positions of its
+        // labels (the preferred label centres less their offsets from the
+        // top of the cluster)
+        int[] first = new int[count];
+        double[] clusterHeight = new double[count];
+        double[] sum = new double[count];
+        double[] top = new double[count];
+        int clusters = 0;
+        for (int i = 0; i < count; i++) {
+            PieLabelRecord record = getPieLabelRecord(i);
+            double h = record.getLabelHeight();
+            first[clusters] = i;
+            clusterHeight[clusters] = h;
+            sum[clusters] = record.getBaseY() - h / 2.0;
+            top[clusters] = clampTop(sum[clusters], h, minY, maxY);
+            clusters++;
+            while (clusters > 1) {
+                int c = clusters - 1;
+                int p = c - 1;
+                if (top[p] + clusterHeight[p] + this.minGap <= top[c]) {
+                    break;
+                }
+                int n = i - first[c] + 1;
+                double shift = clusterHeight[p] + this.minGap;
+                sum[p] = sum[p] + sum[c] - n * shift;
+                clusterHeight[p] = shift + clusterHeight[c];
+                int members = i - first[p] + 1;
+                top[p] = clampTop(sum[p] / members, clusterHeight[p], minY,
+                        maxY);
+                clusters--;
+            }
+        }
+
+        // allocate the label positions within each cluster
+        for (int c = 0; c < clusters; c++) {
+            int last = (c < clusters - 1 ? first[c + 1] : count);
+            double y = top[c];
+            for (int i = first[c]; i < last; i++) {
+                PieLabelRecord record = getPieLabelRecord(i);
+                double h = record.getLabelHeight();
+                record.setAllocatedY(y + h / 2.0);
+                y = y + h + this.minGap;
+            }
+        }
+    }
+
+    /**
+     * Restricts the top of a cluster so that the cluster lies within the
+     * available space.
+     *
+     * @param top  the preferred top of the cluster.
+     * @param h  the cluster height.
+     * @param minY  the minimum y-coordinate.
+     * @param maxY  the maximum y-coordinate.
+     *
+     * @return The top of the cluster.
+     */
+    private static double clampTop(double top, double h, double minY,
+            double maxY) {
+        return Math.max(minY, Math.min(top, maxY - h));
+    }
+
+    /**
+     * Spaces the labels evenly in the available height.
+     *
+     * @param minY  the minimum y-coordinate in Java2D-space.
+     * @param height  the available height (in Java2D units).
+     * @param sumOfLabelHeights  the total height of the labels.
+     */
+    private void spreadEvenly(double minY, double height,
+            double sumOfLabelHeights) {
+        int count = this.labels.size();
+        double gap = height - sumOfLabelHeights;
+        if (count > 1) {
+            gap = gap / (count - 1);
+        }
+        double y = minY;
+        for (int i = 0; i < count; i++) {
+            PieLabelRecord record = getPieLabelRecord(i);
+            y = y + record.getLabelHeight() / 2.0;
+            record.setAllocatedY(y);
+            y = y + record.getLabelHeight() / 2.0 + gap;
+        }
+    }
+
+    /**
+     * Tests this distributor for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SweepPieLabelDistributor)) {
+            return false;
+        }
+        SweepPieLabelDistributor that = (SweepPieLabelDistributor) obj;
+        return this.minGap == that.minGap;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        long temp = Double.doubleToLongBits(this.minGap);
+        return (int) (temp ^ (temp >>> 32));
+    }
+
+}
@@ -201,6 +201,9 @@
  * 22-May-2008 : Modified calculateAxisSpace() to process range axes first,
  *               then adjust the plot area before calculating the space
  *               for the domain axes (DG);
+ * 19-Oct-2026 : Added optional parallel rendering of datasets;
+ * 19-Oct-2026 : Added crosshairLookupEnabled flag and findCrosshairPoint()
+ *               method;
  *
  */
 
@@ -242,6 +245,7 @@ import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.RendererChangeEvent;
@@ -250,6 +254,7 @@ import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
@@ -494,6 +499,18 @@ public class XYPlot extends Plot implements ValueAxisPlot, Zoomable,
      */
     private LegendItemCollection fixedLegendItems;
 
+    /**
+     * A flag that controls whether the datasets are rendered concurrently
+     * into separate layers.
+     */
+    private boolean parallelRendering;
+
+    /**
+     * A flag that controls whether crosshairs that are locked on data are
+     * resolved by searching the datasets directly.
+     */
+    private boolean crosshairLookupEnabled;
+
     /**
      * Creates a new <code>XYPlot</code> instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -2832,6 +2849,13 @@ public class XYPlot extends Plot implements ValueAxisPlot, Zoomable,
         }
         crosshairState.setCrosshairX(getDomainCrosshairValue());
         crosshairState.setCrosshairY(getRangeCrosshairValue());
+        CrosshairState renderCrosshairState = crosshairState;
+        if (this.crosshairLookupEnabled && anchor != null 
+                && (this.domainCrosshairLockedOnData 
+                || this.rangeCrosshairLockedOnData)) {
+            findCrosshairPoint(crosshairState, dataArea);
+            renderCrosshairState = null;
+        }
         Shape originalClip = g2.getClip();
         Composite originalComposite = g2.getComposite();
 
@@ -2896,10 +2920,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Zoomable,
             }
 
             // render data items...
-            for (int i = 0; i < getDatasetCount(); i++) {
-                foundData = render(g2, dataArea, i, info, crosshairState)
-                    || foundData;
-            }
+            foundData = renderDatasets(g2, dataArea, order, info,
+                    renderCrosshairState);
 
             // draw foreground annotations
             for (int i = 0; i < rendererCount; i++) {
@@ -2930,10 +2952,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Zoomable,
                 }
             }
 
-            for (int i = getDatasetCount() - 1; i >= 0; i--) {
-                foundData = render(g2, dataArea, i, info, crosshairState)
-                    || foundData;
-            }
+            foundData = renderDatasets(g2, dataArea, order, info,
+                    renderCrosshairState);
 
             // draw foreground annotations
             for (int i = rendererCount - 1; i >= 0; i--) {
@@ -3382,6 +3402,306 @@ public class XYPlot extends Plot implements ValueAxisPlot, Zoomable,
         return foundData;
     }
 
+    /**
+     * Finds the data item closest to the crosshair anchor by searching the
+     * datasets directly, and updates the crosshair state in the same way 
+     * that the renderers do as items are drawn.  For datasets with x-values
+     * in ascending order, a binary search on the anchor's x-value is used 
+     * and the search moves outwards from there only while items can still 
+     * be closer than the best point found, so the cost does not depend on 
+     * the size of the dataset.  Other datasets are scanned without drawing.
+     * Items in series that are not visible, and items with a 
+     * <code>NaN</code> y-value, are ignored.
+     *
+     * @param crosshairState  the crosshair state (<code>null</code> not 
+     *     permitted).
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     *
+     * @see #setCrosshairLookupEnabled(boolean)
+     * @since 1.0.10
+     */
+    protected void findCrosshairPoint(CrosshairState crosshairState,
+            Rectangle2D dataArea) {
+        if (crosshairState == null) {
+            throw new IllegalArgumentException(
+                    "Null 'crosshairState' argument.");
+        }
+        Point2D anchor = crosshairState.getAnchor();
+        boolean domainLocked = this.domainCrosshairLockedOnData;
+        boolean rangeLocked = this.rangeCrosshairLockedOnData;
+        if (anchor == null || (!domainLocked && !rangeLocked)) {
+            return;
+        }
+        PlotOrientation orientation = getOrientation();
+        double anchorX = anchor.getX();
+        double anchorY = anchor.getY();
+        if (orientation == PlotOrientation.HORIZONTAL) {
+            anchorX = anchor.getY();
+            anchorY = anchor.getX();
+        }
+        RectangleEdge xEdge = getDomainAxisEdge();
+        RectangleEdge yEdge = getRangeAxisEdge();
+        for (int i = 0; i < this.datasets.size(); i++) {
+            XYDataset dataset = getDataset(i);
+            if (DatasetUtilities.isEmptyOrNull(dataset)) {
+                continue;
+            }
+            XYItemRenderer renderer = getRendererForDataset(dataset);
+            if (renderer == null) {
+                continue;
+            }
+            ValueAxis xAxis = getDomainAxisForDataset(i);
+            ValueAxis yAxis = getRangeAxisForDataset(i);
+            int xIndex = getDomainAxisIndex(xAxis);
+            int yIndex = getRangeAxisIndex(yAxis);
+            boolean ascending 
+                    = dataset.getDomainOrder() == DomainOrder.ASCENDING;
+            for (int series = 0; series < dataset.getSeriesCount(); series++) {
+                if (!renderer.isSeriesVisible(series)) {
+                    continue;
+                }
+                int itemCount = dataset.getItemCount(series);
+                if (itemCount == 0) {
+                    continue;
+                }
+                int start = itemCount - 1;
+                if (ascending && domainLocked) {
+                    double x;
+                    if (rangeLocked) {
+                        x = xAxis.java2DToValue(anchorX, dataArea, xEdge);
+                    }
+                    else {
+                        x = crosshairState.getAnchorX();
+                    }
+                    start = RendererUtilities.findLiveItemsLowerBound(
+                            dataset, series, x, x);
+                }
+                // search downwards from the start item, and then upwards
+                for (int item = start; item >= 0; item--) {
+                    if (!updateCrosshairPoint(crosshairState, dataset, series,
+                            item, xAxis, yAxis, dataArea, xEdge, yEdge, 
+                            xIndex, yIndex, anchorX, ascending)) {
+                        break;
+                    }
+                }
+                for (int item = start + 1; item < itemCount; item++) {
+                    if (!updateCrosshairPoint(crosshairState, dataset, series,
+                            item, xAxis, yAxis, dataArea, xEdge, yEdge, 
+                            xIndex, yIndex, anchorX, ascending)) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes one data item to the crosshair state, and returns 
+     * <code>false</code> if the search can stop in the current direction 
+     * because no further items (in x-order) can be closer to the anchor.
+     *
+     * @param state  the crosshair state.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     * @param dataArea  the data area.
+     * @param xEdge  the domain axis edge.
+     * @param yEdge  the range axis edge.
+     * @param xIndex  the domain axis index.
+     * @param yIndex  the range axis index.
+     * @param anchorX  the anchor coordinate along the domain axis (in Java2D
+     *     space).
+     * @param ascending  a flag indicating whether the x-values are in 
+     *     ascending order.
+     *
+     * @return A boolean.
+     */
+    private boolean updateCrosshairPoint(CrosshairState state, 
+            XYDataset dataset, int series, int item, ValueAxis xAxis, 
+            ValueAxis yAxis, Rectangle2D dataArea, RectangleEdge xEdge, 
+            RectangleEdge yEdge, int xIndex, int yIndex, double anchorX,
+            boolean ascending) {
+        double x = dataset.getXValue(series, item);
+        double y = dataset.getYValue(series, item);
+        if (this.domainCrosshairLockedOnData) {
+            if (this.rangeCrosshairLockedOnData) {
+                double transX = xAxis.valueToJava2D(x, dataArea, xEdge);
+                double dx = transX - anchorX;
+                if (ascending && dx * dx >= state.getCrosshairDistance()) {
+                    return false;
+                }
+                if (!Double.isNaN(y)) {
+                    double transY = yAxis.valueToJava2D(y, dataArea, yEdge);
+                    state.updateCrosshairPoint(x, y, xIndex, yIndex, transX, 
+                            transY, getOrientation());
+                }
+            }
+            else {
+                double dx = Math.abs(x - state.getAnchorX());
+                if (ascending && dx >= state.getCrosshairDistance()) {
+                    return false;
+                }
+                if (!Double.isNaN(y)) {
+                    state.updateCrosshairX(x, xIndex);
+                }
+            }
+        }
+        else if (!Double.isNaN(y)) {
+            state.updateCrosshairY(y, yIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Renders all the datasets in the given order, either one after the
+     * other or (if {@link #isParallelRendering()} is <code>true</code>)
+     * concurrently.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param order  the dataset rendering order.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderDatasets(Graphics2D g2, Rectangle2D dataArea,
+            DatasetRenderingOrder order, PlotRenderingInfo info,
+            CrosshairState crosshairState) {
+        int count = getDatasetCount();
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = (order == DatasetRenderingOrder.REVERSE
+                    ? count - 1 - i : i);
+        }
+        if (this.parallelRendering && count > 1 && canRenderInParallel()
+                && RenderingLayers.isSupported(g2)) {
+            return renderDatasetsInParallel(g2, dataArea, indices, info,
+                    crosshairState);
+        }
+        boolean foundData = false;
+        for (int i = 0; i < count; i++) {
+            foundData = render(g2, dataArea, indices[i], info, crosshairState)
+                    || foundData;
+        }
+        return foundData;
+    }
+
+    /**
+     * Returns <code>true</code> if the datasets in this plot can be rendered
+     * concurrently.  Subclasses that keep per-draw state outside the renderer
+     * state should override this method to return <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.10
+     */
+    protected boolean canRenderInParallel() {
+        return true;
+    }
+
+    /**
+     * Renders the datasets concurrently, each into its own layer, then
+     * composites the layers and merges the entities and crosshair state in
+     * the given order.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param indices  the dataset indices, in rendering order.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderDatasetsInParallel(Graphics2D g2,
+            final Rectangle2D dataArea, final int[] indices,
+            final PlotRenderingInfo info, CrosshairState crosshairState) {
+
+        final int count = indices.length;
+
+        // datasets that share a renderer are rendered on the same thread,
+        // and series attributes are looked up in the serial order first so
+        // that auto-populated paints, strokes and shapes do not depend on
+        // thread scheduling
+        List renderers = new ArrayList();
+        List groups = new ArrayList();
+        for (int i = 0; i < count; i++) {
+            XYItemRenderer r = getRenderer(indices[i]);
+            if (r == null) {
+                r = getRenderer();
+            }
+            XYDataset dataset = getDataset(indices[i]);
+            if (dataset != null) {
+                RenderingLayers.prepareRenderer(r, dataset.getSeriesCount());
+            }
+            int g = -1;
+            for (int j = 0; j < renderers.size() && g < 0; j++) {
+                if (renderers.get(j) == r) {
+                    g = j;
+                }
+            }
+            if (g < 0) {
+                renderers.add(r);
+                groups.add(new ArrayList());
+                g = renderers.size() - 1;
+            }
+            ((List) groups.get(g)).add(new Integer(i));
+        }
+
+        final RenderingLayers layers = new RenderingLayers(g2, dataArea,
+                count);
+        final boolean[] found = new boolean[count];
+        final PlotRenderingInfo[] infos = new PlotRenderingInfo[count];
+        final CrosshairState[] states = new CrosshairState[count];
+        for (int i = 0; i < count; i++) {
+            infos[i] = RenderingLayers.createLayerInfo(info);
+            if (crosshairState != null) {
+                try {
+                    states[i] = (CrosshairState) crosshairState.clone();
+                }
+                catch (CloneNotSupportedException e) {
+                    throw new IllegalStateException(e.toString());
+                }
+            }
+        }
+        Runnable[] tasks = new Runnable[groups.size()];
+        for (int g = 0; g < tasks.length; g++) {
+            final List group = (List) groups.get(g);
+            tasks[g] = new Runnable() {
+                public void run() {
+                    for (int j = 0; j < group.size(); j++) {
+                        int i = ((Integer) group.get(j)).intValue();
+                        found[i] = render(layers.getGraphics(i), dataArea,
+                                indices[i], infos[i], states[i]);
+                    }
+                }
+            };
+        }
+        RenderingLayers.runTasks(tasks,
+                Runtime.getRuntime().availableProcessors());
+        layers.drawLayers();
+
+        boolean foundData = false;
+        EntityCollection entities = null;
+        if (info != null && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        for (int i = 0; i < count; i++) {
+            foundData = foundData || found[i];
+            if (entities != null) {
+                entities.addAll(infos[i].getOwner().getEntityCollection());
+            }
+            if (crosshairState != null) {
+                crosshairState.updateCrosshairPoint(states[i]);
+            }
+        }
+        return foundData;
+    }
+
     /**
      * Returns the domain axis for a dataset.
      *
@@ -4645,6 +4965,84 @@ public class XYPlot extends Plot implements ValueAxisPlot, Zoomable,
         return result;
     }
 
+    /**
+     * Returns the flag that controls whether the datasets are rendered
+     * concurrently.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     * @since 1.0.10
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the datasets are rendered
+     * concurrently and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  When the flag is set, and the plot is drawn to a device that
+     * is known to be a raster (see
+     * {@link RenderingLayers#isSupported(Graphics2D)}), each dataset is
+     * rendered into its own transparent layer on a separate thread, and the
+     * layers are composited in the dataset rendering order.  Entities and
+     * crosshair values are merged in the same order, so
+     * tooltips behave as if the datasets had been rendered one after the
+     * other.  Datasets that share a renderer are rendered on the same thread.
+     * <P>
+     * Renderers and datasets must not be modified while the plot is being
+     * drawn in this mode.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isParallelRendering()
+     * @since 1.0.10
+     */
+    public void setParallelRendering(boolean flag) {
+        if (this.parallelRendering != flag) {
+            this.parallelRendering = flag;
+            fireChangeEvent();
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether crosshairs that are locked on
+     * data are resolved by searching the datasets directly.  The default 
+     * value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setCrosshairLookupEnabled(boolean)
+     * @since 1.0.10
+     */
+    public boolean isCrosshairLookupEnabled() {
+        return this.crosshairLookupEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether crosshairs that are locked on data
+     * are resolved by searching the datasets directly, and sends a 
+     * {@link PlotChangeEvent} to all registered listeners.  When the flag is
+     * set, the crosshair point is found by 
+     * {@link #findCrosshairPoint(CrosshairState, Rectangle2D)} before the 
+     * data is drawn, instead of by the renderers as each item is drawn.  
+     * For datasets with x-values in ascending order this avoids visiting 
+     * every item.  The search uses the (x, y) values from the dataset, so 
+     * it should not be enabled for renderers that draw items elsewhere 
+     * (for example, stacked renderers).
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isCrosshairLookupEnabled()
+     * @since 1.0.10
+     */
+    public void setCrosshairLookupEnabled(boolean flag) {
+        if (this.crosshairLookupEnabled != flag) {
+            this.crosshairLookupEnabled = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the fixed legend items, if any.
      *
@@ -4889,6 +5287,12 @@ public class XYPlot extends Plot implements ValueAxisPlot, Zoomable,
                 return false;
             }
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
+        if (this.crosshairLookupEnabled != that.crosshairLookupEnabled) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -0,0 +1,418 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DensityAccumulator.java
+ * -----------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.ui.RectangleEdge;
+
+/**
+ * Accumulates point counts in a per-pixel buffer covering a data area, and
+ * converts the counts into a single image using a {@link PaintScale}.  This
+ * is used to draw heavily overplotted scatter data as a density map rather
+ * than as millions of individual (and mostly hidden) points.
+ * <P>
+ * Points can be added one at a time, or in bulk from <code>float[][]</code>
+ * arrays, in which case the binning is split across several threads, each
+ * with its own count buffer, and the buffers are summed at the end.
+ * <P>
+ * This class is not thread-safe.
+ *
+ * @since 1.0.10
+ */
+public class DensityAccumulator {
+
+    /** The number of entries in the colour lookup table. */
+    private static final int LOOKUP_SIZE = 256;
+
+    /**
+     * The minimum number of points handled by each thread in
+     * {@link #addPoints(float[][], ValueAxis, ValueAxis, RectangleEdge,
+     * RectangleEdge, int)}.
+     */
+    private static final int MIN_POINTS_PER_THREAD = 100000;
+
+    /** The x-coordinate of the left edge of the buffer (Java2D space). */
+    private int x0;
+
+    /** The y-coordinate of the top edge of the buffer (Java2D space). */
+    private int y0;
+
+    /** The buffer width in pixels. */
+    private int width;
+
+    /** The buffer height in pixels. */
+    private int height;
+
+    /** The counts, in row-major order. */
+    private int[] counts;
+
+    /** The data area. */
+    private Rectangle2D dataArea;
+
+    /**
+     * Creates a new accumulator covering the specified data area.
+     *
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     */
+    public DensityAccumulator(Rectangle2D dataArea) {
+        if (dataArea == null) {
+            throw new IllegalArgumentException("Null 'dataArea' argument.");
+        }
+        this.dataArea = dataArea;
+        this.x0 = (int) Math.floor(dataArea.getMinX());
+        this.y0 = (int) Math.floor(dataArea.getMinY());
+        this.width = Math.max(1, (int) Math.ceil(dataArea.getMaxX()) - this.x0);
+        this.height = Math.max(1,
+                (int) Math.ceil(dataArea.getMaxY()) - this.y0);
+        this.counts = new int[this.width * this.height];
+    }
+
+    /**
+     * Returns the width of the count buffer.
+     *
+     * @return The width (in pixels).
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the height of the count buffer.
+     *
+     * @return The height (in pixels).
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the count for a pixel of the buffer.
+     *
+     * @param x  the column (zero-based, relative to the buffer).
+     * @param y  the row (zero-based, relative to the buffer).
+     *
+     * @return The count.
+     */
+    public int getCount(int x, int y) {
+        return this.counts[y * this.width + x];
+    }
+
+    /**
+     * Returns the highest count in the buffer.
+     *
+     * @return The highest count.
+     */
+    public int getMaximumCount() {
+        int max = 0;
+        int[] c = this.counts;
+        for (int i = 0; i < c.length; i++) {
+            if (c[i] > max) {
+                max = c[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Clears all counts.
+     */
+    public void clear() {
+        Arrays.fill(this.counts, 0);
+    }
+
+    /**
+     * Adds a point, given in Java2D coordinates.  Points that fall outside
+     * the data area are ignored.
+     *
+     * @param transX  the x-coordinate.
+     * @param transY  the y-coordinate.
+     */
+    public void add(double transX, double transY) {
+        int index = indexOf(transX, transY);
+        if (index >= 0) {
+            this.counts[index]++;
+        }
+    }
+
+    /**
+     * Returns the index in the count buffer for a point in Java2D space, or
+     * <code>-1</code> if the point lies outside the data area.  Points on the
+     * right or bottom edge of the data area are counted in the last column
+     * or row.
+     *
+     * @param transX  the x-coordinate.
+     * @param transY  the y-coordinate.
+     *
+     * @return The index.
+     */
+    private int indexOf(double transX, double transY) {
+        int px = (int) Math.floor(transX) - this.x0;
+        int py = (int) Math.floor(transY) - this.y0;
+        if (px == this.width && transX <= this.dataArea.getMaxX()) {
+            px--;
+        }
+        if (py == this.height && transY <= this.dataArea.getMaxY()) {
+            py--;
+        }
+        if (px >= 0 && px < this.width && py >= 0 && py < this.height) {
+            return py * this.width + px;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds all the points in a <code>float[][]</code> array (x-values in
+     * <code>data[0]</code>, y-values in <code>data[1]</code>), converting
+     * them to Java2D space with the supplied axes.  The work is divided
+     * between up to <code>threadCount</code> threads.
+     *
+     * @param data  the data (<code>null</code> not permitted).
+     * @param xAxis  the axis for the x-values (<code>null</code> not
+     *               permitted).
+     * @param yAxis  the axis for the y-values (<code>null</code> not
+     *               permitted).
+     * @param xEdge  the edge for the x-axis.
+     * @param yEdge  the edge for the y-axis.
+     * @param threadCount  the maximum number of threads to use (1 or more).
+     */
+    public void addPoints(final float[][] data, final ValueAxis xAxis,
+            final ValueAxis yAxis, final RectangleEdge xEdge,
+            final RectangleEdge yEdge, int threadCount) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        final int n = Math.min(data[0].length, data[1].length);
+        int threads = Math.max(1, Math.min(threadCount,
+                n / MIN_POINTS_PER_THREAD));
+        if (threads == 1) {
+            bin(data, 0, n, xAxis, yAxis, xEdge, yEdge, this.counts);
+            return;
+        }
+        final int[][] partials = new int[threads][];
+        Thread[] workers = new Thread[threads];
+        int chunk = (n + threads - 1) / threads;
+        for (int t = 0; t < threads; t++) {
+            final int index = t;
+            final int start = t * chunk;
+            final int end = Math.min(n, start + chunk);
+            workers[t] = new Thread("DensityAccumulator-" + t) {
+                public void run() {
+                    int[] c = new int[DensityAccumulator.this.counts.length];
+                    bin(data, start, end, xAxis, yAxis, xEdge, yEdge, c);
+                    partials[index] = c;
+                }
+            };
+            workers[t].start();
+        }
+        for (int t = 0; t < threads; t++) {
+            try {
+                workers[t].join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while binning.");
+            }
+        }
+        int[] c = this.counts;
+        for (int t = 0; t < threads; t++) {
+            int[] p = partials[t];
+            if (p == null) {
+                throw new IllegalStateException("Binning thread failed.");
+            }
+            for (int i = 0; i < c.length; i++) {
+                c[i] += p[i];
+            }
+        }
+    }
+
+    /**
+     * Bins a range of points into the supplied count buffer.
+     *
+     * @param data  the data.
+     * @param start  the index of the first point.
+     * @param end  the index after the last point.
+     * @param xAxis  the x-axis.
+     * @param yAxis  the y-axis.
+     * @param xEdge  the x-axis edge.
+     * @param yEdge  the y-axis edge.
+     * @param c  the count buffer.
+     */
+    private void bin(float[][] data, int start, int end, ValueAxis xAxis,
+            ValueAxis yAxis, RectangleEdge xEdge, RectangleEdge yEdge,
+            int[] c) {
+        float[] xs = data[0];
+        float[] ys = data[1];
+        Rectangle2D area = this.dataArea;
+        for (int i = start; i < end; i++) {
+            int index = indexOf(xAxis.valueToJava2D(xs[i], area, xEdge),
+                    yAxis.valueToJava2D(ys[i], area, yEdge));
+            if (index >= 0) {
+                c[index]++;
+            }
+        }
+    }
+
+    /**
+     * Creates an image from the current counts.  Pixels with a zero count
+     * are transparent, all others are coloured by mapping the normalized
+     * count (in the range 0 to 1) onto the range of the paint scale.
+     *
+     * @param scale  the paint scale (<code>null</code> not permitted).
+     * @param normalization  the normalization (<code>null</code> not
+     *                       permitted).
+     *
+     * @return The image.
+     */
+    public BufferedImage createImage(PaintScale scale,
+            DensityNormalization normalization) {
+        if (normalization == null) {
+            throw new IllegalArgumentException(
+                    "Null 'normalization' argument.");
+        }
+        int[] lookup = RendererUtilities.createLookupTable(scale,
+                LOOKUP_SIZE);
+        int[] c = this.counts;
+        int[] argb = new int[c.length];
+        int max = getMaximumCount();
+        if (max > 0) {
+            int top = LOOKUP_SIZE - 1;
+            if (normalization == DensityNormalization.HISTOGRAM_EQUALIZED) {
+                int[] sorted = sortedNonZeroCounts();
+                for (int i = 0; i < c.length; i++) {
+                    if (c[i] > 0) {
+                        // fraction of non-empty pixels with count <= c[i]
+                        double f = (double) upperBound(sorted, c[i])
+                                / sorted.length;
+                        argb[i] = lookup[(int) (f * top)];
+                    }
+                }
+            }
+            else if (normalization == DensityNormalization.LOG) {
+                double logMax = Math.log(1.0 + max);
+                for (int i = 0; i < c.length; i++) {
+                    if (c[i] > 0) {
+                        argb[i] = lookup[(int) (Math.log(1.0 + c[i]) / logMax
+                                * top)];
+                    }
+                }
+            }
+            else {
+                for (int i = 0; i < c.length; i++) {
+                    if (c[i] > 0) {
+                        argb[i] = lookup[(int) ((double) c[i] / max * top)];
+                    }
+                }
+            }
+        }
+        BufferedImage image = new BufferedImage(this.width, this.height,
+                BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, this.width, this.height, argb, 0, this.width);
+        return image;
+    }
+
+    /**
+     * Draws the density image at the location of the data area.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     * @param scale  the paint scale (<code>null</code> not permitted).
+     * @param normalization  the normalization (<code>null</code> not
+     *                       permitted).
+     */
+    public void draw(Graphics2D g2, PaintScale scale,
+            DensityNormalization normalization) {
+        g2.drawImage(createImage(scale, normalization), this.x0, this.y0,
+                null);
+    }
+
+    /**
+     * Returns the non-zero counts in ascending order.
+     *
+     * @return The sorted counts.
+     */
+    private int[] sortedNonZeroCounts() {
+        int[] c = this.counts;
+        int n = 0;
+        for (int i = 0; i < c.length; i++) {
+            if (c[i] > 0) {
+                n++;
+            }
+        }
+        int[] result = new int[n];
+        int j = 0;
+        for (int i = 0; i < c.length; i++) {
+            if (c[i] > 0) {
+                result[j++] = c[i];
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the number of entries in a sorted array that are less than or
+     * equal to the specified value.
+     *
+     * @param sorted  the sorted array.
+     * @param value  the value.
+     *
+     * @return The number of entries.
+     */
+    private static int upperBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
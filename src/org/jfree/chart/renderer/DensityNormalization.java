@@ -0,0 +1,142 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DensityNormalization.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * An enumeration of the ways in which per-pixel point counts are mapped onto
+ * the range of a {@link PaintScale} by a {@link DensityAccumulator}.
+ *
+ * @since 1.0.10
+ */
+public final class DensityNormalization implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2952404513409307322L;
+
+    /** Counts are scaled linearly between zero and the maximum count. */
+    public static final DensityNormalization LINEAR = new DensityNormalization(
+            "DensityNormalization.LINEAR");
+
+    /** Counts are scaled by <code>log(1 + count)</code>. */
+    public static final DensityNormalization LOG = new DensityNormalization(
+            "DensityNormalization.LOG");
+
+    /**
+     * Counts are mapped to their rank among all non-empty pixels, so that
+     * each colour in the scale covers roughly the same number of pixels.
+     */
+    public static final DensityNormalization HISTOGRAM_EQUALIZED
+            = new DensityNormalization(
+                    "DensityNormalization.HISTOGRAM_EQUALIZED");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private DensityNormalization(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string.
+     */
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the other object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DensityNormalization)) {
+            return false;
+        }
+        DensityNormalization that = (DensityNormalization) obj;
+        return this.name.equals(that.toString());
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (this.equals(DensityNormalization.LINEAR)) {
+            return DensityNormalization.LINEAR;
+        }
+        else if (this.equals(DensityNormalization.LOG)) {
+            return DensityNormalization.LOG;
+        }
+        else if (this.equals(DensityNormalization.HISTOGRAM_EQUALIZED)) {
+            return DensityNormalization.HISTOGRAM_EQUALIZED;
+        }
+        return null;
+    }
+
+}
@@ -35,11 +35,15 @@
  * Changes
  * -------
  * 19-Apr-2007 : Version 1 (DG);
+ * 19-Oct-2026 : Added createLookupTable() method;
  * 
  */
 
 package org.jfree.chart.renderer;
 
+import java.awt.Color;
+import java.awt.Paint;
+
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.XYDataset;
 
@@ -244,4 +248,40 @@ public class RendererUtilities {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Samples a paint scale at <code>size</code> evenly spaced values from
+     * its lower bound to its upper bound and returns the colours as packed
+     * ARGB integers, suitable for writing directly into an
+     * <code>int[]</code> raster.  Paints that are not instances of
+     * <code>Color</code> are mapped to opaque black.
+     *
+     * @param scale  the paint scale (<code>null</code> not permitted).
+     * @param size  the number of entries (at least 2).
+     *
+     * @return The lookup table.
+     *
+     * @since 1.0.10
+     */
+    public static int[] createLookupTable(PaintScale scale, int size) {
+        if (scale == null) {
+            throw new IllegalArgumentException("Null 'scale' argument.");
+        }
+        if (size < 2) {
+            throw new IllegalArgumentException("Requires size > 1.");
+        }
+        int[] result = new int[size];
+        double lower = scale.getLowerBound();
+        double range = scale.getUpperBound() - lower;
+        for (int i = 0; i < size; i++) {
+            Paint p = scale.getPaint(lower + range * i / (size - 1));
+            if (p instanceof Color) {
+                result[i] = ((Color) p).getRGB();
+            }
+            else {
+                result[i] = 0xFF000000;
+            }
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,487 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * ShapeSpriteCache.java
+ * ---------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Only stamp onto known raster devices, and only with
+ *               Color paints;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jfree.chart.util.GraphicsUtilities;
+
+/**
+ * A cache of pre-rasterized item shapes ("sprites").  Renderers that draw
+ * the same marker shape for many data items can stamp a cached image at each
+ * item location instead of translating, filling and outlining the shape
+ * through the <code>Graphics2D</code> pipeline every time.
+ * <P>
+ * Sprites are keyed on the shape, fill paint, outline paint, outline stroke,
+ * antialiasing state and device scale.  Shapes and strokes are matched by
+ * reference (renderers hand out one instance per series), paints are matched
+ * using <code>equals()</code>.  Only {@link Color} paints can be cached (see
+ * {@link #canStamp(Paint)}), since the appearance of a gradient or texture
+ * depends on where the shape is drawn.  Positions are snapped to the device pixel
+ * grid or, if the subpixel step count is greater than one, to a fraction of
+ * a pixel with one pre-rendered sprite per fractional offset.
+ * <P>
+ * Stamping is only possible when the target is known to be a raster device
+ * and the current transform is a translation with an optional uniform scale,
+ * see {@link #canStamp(Graphics2D)}.  Callers are expected to fall back to
+ * vector drawing otherwise (for example, for printers, PDF or SVG output).
+ *
+ * @since 1.0.10
+ */
+public class ShapeSpriteCache {
+
+    /** The default maximum number of sprites held by the cache. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    /** The sprites, keyed by {@link SpriteKey}. */
+    private Map sprites;
+
+    /** The maximum number of sprites before the cache is flushed. */
+    private int maximumSize;
+
+    /** The number of subpixel positions per pixel (1 = integer snapping). */
+    private int subpixelSteps;
+
+    /** A reusable key for lookups (guarded by this cache's lock). */
+    private SpriteKey lookupKey;
+
+    /**
+     * Creates a new cache that snaps sprites to integer pixel positions.
+     */
+    public ShapeSpriteCache() {
+        this(1, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param subpixelSteps  the number of subpixel positions per pixel (in
+     *                       the range 1 to 8).
+     * @param maximumSize  the maximum number of sprites to hold (must be
+     *                     positive).
+     */
+    public ShapeSpriteCache(int subpixelSteps, int maximumSize) {
+        if (subpixelSteps < 1 || subpixelSteps > 8) {
+            throw new IllegalArgumentException(
+                    "Requires 1 <= subpixelSteps <= 8.");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Requires maximumSize > 0.");
+        }
+        this.sprites = new HashMap();
+        this.maximumSize = maximumSize;
+        this.subpixelSteps = subpixelSteps;
+        this.lookupKey = new SpriteKey();
+    }
+
+    /**
+     * Returns the number of subpixel positions per pixel.
+     *
+     * @return The number of subpixel positions.
+     */
+    public int getSubpixelSteps() {
+        return this.subpixelSteps;
+    }
+
+    /**
+     * Returns the number of sprites currently held by the cache.
+     *
+     * @return The sprite count.
+     */
+    public synchronized int getSpriteCount() {
+        return this.sprites.size();
+    }
+
+    /**
+     * Discards all cached sprites.
+     */
+    public synchronized void clear() {
+        this.sprites.clear();
+    }
+
+    /**
+     * Returns <code>true</code> if sprites can be stamped onto the specified
+     * graphics device, and <code>false</code> if the caller should use vector
+     * drawing instead.  This requires a device that is known to be a raster
+     * (see {@link GraphicsUtilities#isRasterDevice(Graphics2D)}, so printers
+     * and PDF or SVG graphics are excluded) and a transform that is a
+     * translation combined with an optional uniform scale.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     *
+     * @see #canStamp(Paint)
+     */
+    public static boolean canStamp(Graphics2D g2) {
+        if (!GraphicsUtilities.isRasterDevice(g2)) {
+            return false;
+        }
+        AffineTransform t = g2.getTransform();
+        int type = t.getType();
+        if ((type & ~(AffineTransform.TYPE_TRANSLATION
+                | AffineTransform.TYPE_UNIFORM_SCALE)) != 0) {
+            return false;
+        }
+        return t.getScaleX() > 0.0;
+    }
+
+    /**
+     * Returns <code>true</code> if a sprite can be cached for a shape drawn
+     * with the specified paint.  This is the case for <code>null</code> (no
+     * fill or no outline) and for {@link Color} instances.  Other paints
+     * (gradients, textures) are anchored in user space, so the caller should
+     * draw the shape itself.
+     *
+     * @param paint  the paint (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     *
+     * @see #canStamp(Graphics2D)
+     */
+    public static boolean canStamp(Paint paint) {
+        return paint == null || paint instanceof Color;
+    }
+
+    /**
+     * Draws the specified shape, centred (in the same way as
+     * <code>ShapeUtilities.createTranslatedShape()</code>) on the point
+     * <code>(x, y)</code> in user space, using a cached sprite.  The caller
+     * is responsible for checking {@link #canStamp(Graphics2D)} and
+     * {@link #canStamp(Paint)} (for both paints) first.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     * @param shape  the shape (<code>null</code> not permitted).
+     * @param fillPaint  the fill paint (<code>null</code> if the shape is
+     *                   not filled).
+     * @param outlinePaint  the outline paint (<code>null</code> if the shape
+     *                      is not outlined).
+     * @param outlineStroke  the outline stroke (<code>null</code> permitted
+     *                       if <code>outlinePaint</code> is
+     *                       <code>null</code>).
+     * @param x  the x-coordinate of the shape origin (user space).
+     * @param y  the y-coordinate of the shape origin (user space).
+     */
+    public void stamp(Graphics2D g2, Shape shape, Paint fillPaint,
+            Paint outlinePaint, Stroke outlineStroke, double x, double y) {
+
+        AffineTransform t = g2.getTransform();
+        double scale = t.getScaleX();
+        double dx = x * scale + t.getTranslateX();
+        double dy = y * scale + t.getTranslateY();
+
+        int steps = this.subpixelSteps;
+        double qx = Math.floor(dx * steps + 0.5);
+        double qy = Math.floor(dy * steps + 0.5);
+        int ix = (int) Math.floor(qx / steps);
+        int iy = (int) Math.floor(qy / steps);
+        int fx = (int) (qx - ix * (double) steps);
+        int fy = (int) (qy - iy * (double) steps);
+
+        boolean antialias = RenderingHints.VALUE_ANTIALIAS_ON.equals(
+                g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+        Sprite sprite = getSprite(shape, fillPaint, outlinePaint,
+                outlineStroke, antialias, scale);
+        BufferedImage image = sprite.getImage(fx, fy, steps);
+        int left = ix - sprite.originX;
+        int top = iy - sprite.originY;
+        if (scale == 1.0 && t.getTranslateX() == Math.rint(t.getTranslateX())
+                && t.getTranslateY() == Math.rint(t.getTranslateY())) {
+            g2.drawImage(image, left - (int) t.getTranslateX(),
+                    top - (int) t.getTranslateY(), null);
+        }
+        else {
+            AffineTransform xform = new AffineTransform(1.0 / scale, 0.0,
+                    0.0, 1.0 / scale, (left - t.getTranslateX()) / scale,
+                    (top - t.getTranslateY()) / scale);
+            g2.drawImage(image, xform, null);
+        }
+    }
+
+    /**
+     * Returns the sprite for the given attributes, creating it if necessary.
+     *
+     * @param shape  the shape.
+     * @param fillPaint  the fill paint (<code>null</code> permitted).
+     * @param outlinePaint  the outline paint (<code>null</code> permitted).
+     * @param outlineStroke  the outline stroke (<code>null</code> permitted).
+     * @param antialias  the antialiasing state.
+     * @param scale  the device scale.
+     *
+     * @return The sprite (never <code>null</code>).
+     */
+    private synchronized Sprite getSprite(Shape shape, Paint fillPaint,
+            Paint outlinePaint, Stroke outlineStroke, boolean antialias,
+            double scale) {
+        SpriteKey key = this.lookupKey;
+        key.set(shape, fillPaint, outlinePaint, outlineStroke, antialias,
+                scale);
+        Sprite sprite = (Sprite) this.sprites.get(key);
+        if (sprite == null) {
+            if (this.sprites.size() >= this.maximumSize) {
+                this.sprites.clear();
+            }
+            SpriteKey newKey = new SpriteKey();
+            newKey.set(shape, fillPaint, outlinePaint, outlineStroke,
+                    antialias, scale);
+            sprite = new Sprite(newKey, this.subpixelSteps);
+            this.sprites.put(newKey, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * The attributes that determine the appearance of a sprite.
+     */
+    private static final class SpriteKey {
+
+        /** The shape (compared by reference). */
+        Shape shape;
+
+        /** The fill paint. */
+        Paint fillPaint;
+
+        /** The outline paint. */
+        Paint outlinePaint;
+
+        /** The outline stroke (compared by reference). */
+        Stroke outlineStroke;
+
+        /** The antialiasing state. */
+        boolean antialias;
+
+        /** The device scale. */
+        double scale;
+
+        /** The cached hash code. */
+        int hash;
+
+        /**
+         * Sets the attributes of this key.
+         *
+         * @param shape  the shape.
+         * @param fillPaint  the fill paint.
+         * @param outlinePaint  the outline paint.
+         * @param outlineStroke  the outline stroke.
+         * @param antialias  the antialiasing state.
+         * @param scale  the scale.
+         */
+        void set(Shape shape, Paint fillPaint, Paint outlinePaint,
+                Stroke outlineStroke, boolean antialias, double scale) {
+            this.shape = shape;
+            this.fillPaint = fillPaint;
+            this.outlinePaint = outlinePaint;
+            this.outlineStroke = outlineStroke;
+            this.antialias = antialias;
+            this.scale = scale;
+            int h = System.identityHashCode(shape);
+            h = 37 * h + (fillPaint != null ? fillPaint.hashCode() : 0);
+            h = 37 * h + (outlinePaint != null ? outlinePaint.hashCode() : 0);
+            h = 37 * h + System.identityHashCode(outlineStroke);
+            h = 37 * h + (antialias ? 1 : 0);
+            long bits = Double.doubleToLongBits(scale);
+            h = 37 * h + (int) (bits ^ (bits >>> 32));
+            this.hash = h;
+        }
+
+        /**
+         * Returns the hash code for this key.
+         *
+         * @return The hash code.
+         */
+        public int hashCode() {
+            return this.hash;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof SpriteKey)) {
+                return false;
+            }
+            SpriteKey that = (SpriteKey) obj;
+            return this.shape == that.shape
+                    && this.outlineStroke == that.outlineStroke
+                    && this.antialias == that.antialias
+                    && this.scale == that.scale
+                    && equal(this.fillPaint, that.fillPaint)
+                    && equal(this.outlinePaint, that.outlinePaint);
+        }
+
+        /**
+         * Null-safe paint comparison.
+         *
+         * @param p1  paint 1 (<code>null</code> permitted).
+         * @param p2  paint 2 (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        private static boolean equal(Paint p1, Paint p2) {
+            return p1 == p2 || (p1 != null && p1.equals(p2));
+        }
+
+    }
+
+    /**
+     * A pre-rasterized shape, with one image per subpixel offset (rendered
+     * on demand).
+     */
+    private static final class Sprite {
+
+        /** The key holding the drawing attributes. */
+        private SpriteKey key;
+
+        /** The images, indexed by [fy * steps + fx]. */
+        private BufferedImage[] images;
+
+        /** The x-offset of the shape origin within the image (pixels). */
+        int originX;
+
+        /** The y-offset of the shape origin within the image (pixels). */
+        int originY;
+
+        /** The image width. */
+        private int width;
+
+        /** The image height. */
+        private int height;
+
+        /**
+         * Creates a new sprite.
+         *
+         * @param key  the key.
+         * @param steps  the subpixel steps.
+         */
+        Sprite(SpriteKey key, int steps) {
+            this.key = key;
+            this.images = new BufferedImage[steps * steps];
+            Rectangle2D b = key.shape.getBounds2D();
+            if (key.outlinePaint != null && key.outlineStroke != null) {
+                b = key.outlineStroke.createStrokedShape(key.shape)
+                        .getBounds2D().createUnion(b);
+            }
+            double s = key.scale;
+            // one pixel of padding for antialiasing and subpixel offsets
+            this.originX = (int) Math.ceil(-b.getMinX() * s) + 1;
+            this.originY = (int) Math.ceil(-b.getMinY() * s) + 1;
+            this.width = Math.max(1, this.originX
+                    + (int) Math.ceil(b.getMaxX() * s) + 2);
+            this.height = Math.max(1, this.originY
+                    + (int) Math.ceil(b.getMaxY() * s) + 2);
+        }
+
+        /**
+         * Returns the image for the given subpixel offset.
+         *
+         * @param fx  the x-offset (in subpixel steps).
+         * @param fy  the y-offset (in subpixel steps).
+         * @param steps  the number of subpixel steps.
+         *
+         * @return The image.
+         */
+        synchronized BufferedImage getImage(int fx, int fy, int steps) {
+            int index = fy * steps + fx;
+            BufferedImage image = this.images[index];
+            if (image == null) {
+                image = render((double) fx / steps, (double) fy / steps);
+                this.images[index] = image;
+            }
+            return image;
+        }
+
+        /**
+         * Renders the shape into a new transparent image.
+         *
+         * @param offsetX  the subpixel x-offset.
+         * @param offsetY  the subpixel y-offset.
+         *
+         * @return The image.
+         */
+        private BufferedImage render(double offsetX, double offsetY) {
+            BufferedImage image = new BufferedImage(this.width, this.height,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                        this.key.antialias ? RenderingHints.VALUE_ANTIALIAS_ON
+                        : RenderingHints.VALUE_ANTIALIAS_OFF);
+                g2.translate(this.originX + offsetX, this.originY + offsetY);
+                g2.scale(this.key.scale, this.key.scale);
+                if (this.key.fillPaint != null) {
+                    g2.setPaint(this.key.fillPaint);
+                    g2.fill(this.key.shape);
+                }
+                if (this.key.outlinePaint != null
+                        && this.key.outlineStroke != null) {
+                    g2.setPaint(this.key.outlinePaint);
+                    g2.setStroke(this.key.outlineStroke);
+                    g2.draw(this.key.shape);
+                }
+            }
+            finally {
+                g2.dispose();
+            }
+            return image;
+        }
+
+    }
+
+}
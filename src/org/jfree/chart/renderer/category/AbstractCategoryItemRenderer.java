@@ -93,6 +93,9 @@
  *               itemLabelGenerator, toolTipGenerator and itemURLGenerator
  *               override fields (DG);
  * 18-May-2007 : Set dataset and seriesKey for LegendItem (DG);
+ * 19-Oct-2026 : Implemented ItemEntityFactory, and record items compactly in
+ *               addItemEntity() when the collection is a 
+ *               LazyEntityCollection;
  *
  */
 
@@ -116,7 +119,10 @@ import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.ItemEntityFactory;
+import org.jfree.chart.entity.LazyEntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.labels.CategoryItemLabelGenerator;
 import org.jfree.chart.labels.CategorySeriesLabelGenerator;
@@ -135,6 +141,7 @@ import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.urls.CategoryURLGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.GradientPaintTransformer;
@@ -152,8 +159,8 @@ import org.jfree.util.PublicCloneable;
  * but it makes the job easier.
  */
 public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
-        implements CategoryItemRenderer, Cloneable, PublicCloneable,
-        Serializable {
+        implements CategoryItemRenderer, ItemEntityFactory, Cloneable, 
+        PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 1247553218442497391L;
@@ -1576,7 +1583,10 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
     }
 
     /**
-     * Adds an entity with the specified hotspot.
+     * Adds an entity with the specified hotspot.  If the collection is a 
+     * {@link LazyEntityCollection}, only the item's location is recorded and
+     * the entity is created later by 
+     * {@link #createItemEntity(Dataset, int, int, Shape)}.
      *
      * @param entities  the entity collection.
      * @param dataset  the dataset.
@@ -1588,20 +1598,45 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
                                  CategoryDataset dataset, int row, int column,
                                  Shape hotspot) {
 
+        if (entities instanceof LazyEntityCollection) {
+            ((LazyEntityCollection) entities).addItem(this, dataset, row, 
+                    column, hotspot);
+        }
+        else {
+            entities.add(createItemEntity(dataset, row, column, hotspot));
+        }
+
+    }
+
+    /**
+     * Creates a {@link CategoryItemEntity} for a data item, with the tooltip
+     * and URL text (if any) generated for the item.
+     *
+     * @param dataset  the dataset (a {@link CategoryDataset}).
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param area  the entity area.
+     *
+     * @return The entity.
+     *
+     * @since 1.0.10
+     */
+    public ChartEntity createItemEntity(Dataset dataset, int row, int column,
+            Shape area) {
+        CategoryDataset categoryDataset = (CategoryDataset) dataset;
         String tip = null;
         CategoryToolTipGenerator tipster = getToolTipGenerator(row, column);
         if (tipster != null) {
-            tip = tipster.generateToolTip(dataset, row, column);
+            tip = tipster.generateToolTip(categoryDataset, row, column);
         }
         String url = null;
         CategoryURLGenerator urlster = getItemURLGenerator(row, column);
         if (urlster != null) {
-            url = urlster.generateURL(dataset, row, column);
+            url = urlster.generateURL(categoryDataset, row, column);
         }
-        CategoryItemEntity entity = new CategoryItemEntity(hotspot, tip, url,
-                dataset, dataset.getRowKey(row), dataset.getColumnKey(column));
-        entities.add(entity);
-
+        return new CategoryItemEntity(area, tip, url, categoryDataset, 
+                categoryDataset.getRowKey(row), 
+                categoryDataset.getColumnKey(column));
     }
 
 
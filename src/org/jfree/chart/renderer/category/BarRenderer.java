@@ -82,6 +82,8 @@
  * 18-May-2007 : Set dataset and seriesKey for LegendItem (DG);
  * 07-May-2008 : If minimumBarLength is > 0.0, extend the non-base end of the
  *               bar (DG);
+ * 19-Oct-2026 : Added collapseSubPixelBars flag and State class;
+ * 19-Oct-2026 : Documented the subclasses that ignore collapseSubPixelBars;
  *
  */
 
@@ -99,6 +101,7 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.util.Arrays;
 
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.axis.CategoryAxis;
@@ -120,6 +123,7 @@ import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.StandardGradientPaintTransformer;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
+import org.jfree.util.SortOrder;
 
 /**
  * A {@link CategoryItemRenderer} that draws individual data items as bars.
@@ -139,6 +143,66 @@ public class BarRenderer extends AbstractCategoryItemRenderer
      */
     public static final double BAR_OUTLINE_WIDTH_THRESHOLD = 3.0;
 
+    /**
+     * State information for the renderer.  This records the bars that are
+     * pending in collapsed mode, one per series.
+     *
+     * @since 1.0.10
+     */
+    protected static class State extends CategoryItemRendererState {
+
+        /** The pixel index of the pending bar for each row. */
+        private int[] pixel;
+
+        /** The minimum Java2D coordinate of the pending bar for each row. */
+        private double[] low;
+
+        /** The maximum Java2D coordinate of the pending bar for each row. */
+        private double[] high;
+
+        /**
+         * The column of the longest bar in the pending bar for each row
+         * (-1 if no bar is pending).
+         */
+        private int[] column;
+
+        /** The length of the longest bar in the pending bar for each row. */
+        private double[] length;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  collects plot rendering information (<code>null</code>
+         *              permitted).
+         */
+        public State(PlotRenderingInfo info) {
+            super(info);
+            this.pixel = new int[0];
+            this.low = new double[0];
+            this.high = new double[0];
+            this.column = new int[0];
+            this.length = new double[0];
+        }
+
+        /**
+         * Makes sure that pending bars can be recorded for the specified
+         * number of rows.
+         *
+         * @param rowCount  the row count.
+         */
+        void ensureRowCapacity(int rowCount) {
+            if (this.column.length < rowCount) {
+                this.pixel = new int[rowCount];
+                this.low = new double[rowCount];
+                this.high = new double[rowCount];
+                this.column = new int[rowCount];
+                this.length = new double[rowCount];
+                Arrays.fill(this.column, -1);
+            }
+        }
+
+    }
+
     /** The margin between items (bars) within a category. */
     private double itemMargin;
 
@@ -186,6 +250,12 @@ public class BarRenderer extends AbstractCategoryItemRenderer
      */
     private boolean includeBaseInRange;
 
+    /**
+     * A flag that controls whether or not bars narrower than one Java2D unit
+     * are collapsed into one bar per unit.
+     */
+    private boolean collapseSubPixelBars;
+
     /**
      * Creates a new bar renderer with default settings.
      */
@@ -201,6 +271,7 @@ public class BarRenderer extends AbstractCategoryItemRenderer
         this.negativeItemLabelPositionFallback = null;
         this.gradientPaintTransformer = new StandardGradientPaintTransformer();
         this.minimumBarLength = 0.0;
+        this.collapseSubPixelBars = false;
     }
 
     /**
@@ -454,6 +525,52 @@ public class BarRenderer extends AbstractCategoryItemRenderer
         }
     }
 
+    /**
+     * Returns the flag that controls whether or not bars that are narrower
+     * than one Java2D unit are collapsed into a single bar per unit.  The
+     * default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setCollapseSubPixelBars(boolean)
+     * @since 1.0.10
+     */
+    public boolean getCollapseSubPixelBars() {
+        return this.collapseSubPixelBars;
+    }
+
+    /**
+     * Sets the flag that controls whether or not bars that are narrower than
+     * one Java2D unit are collapsed into a single bar per unit, and sends a
+     * {@link RendererChangeEvent} to all registered listeners.  When the bars
+     * are collapsed, all the bars in one series that fall within the same
+     * unit are drawn as one bar that spans the full extent of the values,
+     * with the paint of the longest bar.  Item labels, outlines and the
+     * minimum bar length are not applied to collapsed bars, and one entity is
+     * created per collapsed bar (for the longest bar).  This mode is intended
+     * for charts with a very large number of categories.
+     * <P>
+     * The flag is only applied by the <code>drawItem()</code> method in this
+     * class.  Subclasses that draw their items themselves ignore it and
+     * always draw every bar:  {@link StackedBarRenderer} (and
+     * {@link GroupedStackedBarRenderer}), {@link BarRenderer3D} (and
+     * {@link StackedBarRenderer3D}), {@link LayeredBarRenderer},
+     * {@link StatisticalBarRenderer} and {@link WaterfallBarRenderer}, as
+     * well as {@link IntervalBarRenderer} and {@link GanttRenderer} for
+     * interval and Gantt datasets.
+     *
+     * @param collapse  the new flag value.
+     *
+     * @see #getCollapseSubPixelBars()
+     * @since 1.0.10
+     */
+    public void setCollapseSubPixelBars(boolean collapse) {
+        if (this.collapseSubPixelBars != collapse) {
+            this.collapseSubPixelBars = collapse;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the lower clip value.  This value is recalculated in the
      * initialise() method.
@@ -510,6 +627,19 @@ public class BarRenderer extends AbstractCategoryItemRenderer
 
     }
 
+    /**
+     * Creates a new state instance.
+     *
+     * @param info  collects plot rendering info (<code>null</code> permitted).
+     *
+     * @return The new state instance (never <code>null</code>).
+     *
+     * @since 1.0.10
+     */
+    protected CategoryItemRendererState createState(PlotRenderingInfo info) {
+        return new State(info);
+    }
+
     /**
      * Calculates the bar width and stores it in the renderer state.
      *
@@ -730,6 +860,13 @@ public class BarRenderer extends AbstractCategoryItemRenderer
                          int column,
                          int pass) {
 
+        if (this.collapseSubPixelBars && state instanceof State
+                && state.getBarWidth() < 1.0) {
+            drawCollapsedItem(g2, (State) state, dataArea, plot, domainAxis,
+                    rangeAxis, dataset, row, column);
+            return;
+        }
+
         // nothing is drawn for null values...
         Number dataValue = dataset.getValue(row, column);
         if (dataValue == null) {
@@ -821,6 +958,118 @@ public class BarRenderer extends AbstractCategoryItemRenderer
 
     }
 
+    /**
+     * Handles one item in collapsed mode.  The bar for the item is merged
+     * into the pending bar for the same row if both fall within the same
+     * Java2D unit, otherwise the pending bar is drawn first.  Pending bars
+     * are drawn after the last column has been processed.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     */
+    private void drawCollapsedItem(Graphics2D g2, State state,
+            Rectangle2D dataArea, CategoryPlot plot, CategoryAxis domainAxis,
+            ValueAxis rangeAxis, CategoryDataset dataset, int row,
+            int column) {
+
+        state.ensureRowCapacity(dataset.getRowCount());
+        Number dataValue = dataset.getValue(row, column);
+        double[] barL0L1 = null;
+        if (dataValue != null) {
+            barL0L1 = calculateBarL0L1(dataValue.doubleValue());
+        }
+        if (barL0L1 != null) {
+            PlotOrientation orientation = plot.getOrientation();
+            double barW0 = calculateBarW0(plot, orientation, dataArea,
+                    domainAxis, state, row, column);
+            int p = (int) Math.floor(barW0 + state.getBarWidth() / 2.0);
+            RectangleEdge edge = plot.getRangeAxisEdge();
+            double transL0 = rangeAxis.valueToJava2D(barL0L1[0], dataArea,
+                    edge);
+            double transL1 = rangeAxis.valueToJava2D(barL0L1[1], dataArea,
+                    edge);
+            double l0 = Math.min(transL0, transL1);
+            double l1 = Math.max(transL0, transL1);
+            if (state.column[row] >= 0 && state.pixel[row] != p) {
+                drawCollapsedBar(g2, state, plot, dataset, row);
+            }
+            if (state.column[row] < 0) {
+                state.pixel[row] = p;
+                state.low[row] = l0;
+                state.high[row] = l1;
+                state.column[row] = column;
+                state.length[row] = l1 - l0;
+            }
+            else {
+                state.low[row] = Math.min(state.low[row], l0);
+                state.high[row] = Math.max(state.high[row], l1);
+                if (l1 - l0 > state.length[row]) {
+                    state.column[row] = column;
+                    state.length[row] = l1 - l0;
+                }
+            }
+        }
+
+        // draw the pending bar once the last column has been processed
+        int lastColumn;
+        if (plot.getColumnRenderingOrder() == SortOrder.ASCENDING) {
+            lastColumn = state.getLastVisibleColumn();
+            if (lastColumn < 0) {
+                lastColumn = dataset.getColumnCount() - 1;
+            }
+        }
+        else {
+            lastColumn = state.getFirstVisibleColumn();
+        }
+        if (column == lastColumn && state.column[row] >= 0) {
+            drawCollapsedBar(g2, state, plot, dataset, row);
+        }
+    }
+
+    /**
+     * Draws the pending collapsed bar for a row, and clears it.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param row  the row index (zero-based).
+     */
+    private void drawCollapsedBar(Graphics2D g2, State state,
+            CategoryPlot plot, CategoryDataset dataset, int row) {
+        int column = state.column[row];
+        double p = state.pixel[row];
+        double low = state.low[row];
+        double length = state.high[row] - low;
+        Rectangle2D bar = null;
+        if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+            bar = new Rectangle2D.Double(low, p, length, 1.0);
+        }
+        else {
+            bar = new Rectangle2D.Double(p, low, 1.0, length);
+        }
+        Paint itemPaint = getItemPaint(row, column);
+        GradientPaintTransformer t = getGradientPaintTransformer();
+        if (t != null && itemPaint instanceof GradientPaint) {
+            itemPaint = t.transform((GradientPaint) itemPaint, bar);
+        }
+        g2.setPaint(itemPaint);
+        g2.fill(bar);
+
+        EntityCollection entities = state.getEntityCollection();
+        if (entities != null) {
+            addItemEntity(entities, dataset, row, column, bar);
+        }
+        state.column[row] = -1;
+    }
+
     /**
      * Calculates the available space for each series.
      *
@@ -1086,6 +1335,9 @@ public class BarRenderer extends AbstractCategoryItemRenderer
         if (this.minimumBarLength != that.minimumBarLength) {
             return false;
         }
+        if (this.collapseSubPixelBars != that.collapseSubPixelBars) {
+            return false;
+        }
         if (!ObjectUtilities.equal(this.gradientPaintTransformer,
                 that.gradientPaintTransformer)) {
             return false;
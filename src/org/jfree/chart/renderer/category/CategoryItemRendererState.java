@@ -37,6 +37,7 @@
  * 20-Oct-2003 : Added series running total (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Updated API docs (DG);
+ * 19-Oct-2026 : Added visible column range;
  *
  */
 
@@ -57,6 +58,15 @@ public class CategoryItemRendererState extends RendererState {
     /** The series running total. */
     private double seriesRunningTotal;
     
+    /** The index of the first column that will be rendered. */
+    private int firstVisibleColumn;
+    
+    /** 
+     * The index of the last column that will be rendered (-1 if not 
+     * known). 
+     */
+    private int lastVisibleColumn;
+    
     /**
      * Creates a new object for recording temporary state information for a
      * renderer.
@@ -67,6 +77,8 @@ public class CategoryItemRendererState extends RendererState {
         super(info);
         this.barWidth = 0.0;
         this.seriesRunningTotal = 0.0;
+        this.firstVisibleColumn = 0;
+        this.lastVisibleColumn = -1;
     }
     
     /**
@@ -115,4 +127,49 @@ public class CategoryItemRendererState extends RendererState {
         this.seriesRunningTotal = total;
     }
     
+    /**
+     * Returns the index of the first column that will be rendered.  The 
+     * default value is <code>0</code>.
+     * 
+     * @return The column index.
+     * 
+     * @see #setVisibleColumnRange(int, int)
+     * @since 1.0.10
+     */
+    public int getFirstVisibleColumn() {
+        return this.firstVisibleColumn;
+    }
+    
+    /**
+     * Returns the index of the last column that will be rendered, or 
+     * <code>-1</code> if this is not known (in which case all columns are
+     * rendered).
+     * 
+     * @return The column index.
+     * 
+     * @see #setVisibleColumnRange(int, int)
+     * @since 1.0.10
+     */
+    public int getLastVisibleColumn() {
+        return this.lastVisibleColumn;
+    }
+    
+    /**
+     * Sets the range of columns that will be rendered.  The plot calls this 
+     * method so that renderers that aggregate items across columns know 
+     * where the rendering stops - it is not intended that users call this
+     * method.
+     * 
+     * @param first  the first column index.
+     * @param last  the last column index.
+     * 
+     * @see #getFirstVisibleColumn()
+     * @see #getLastVisibleColumn()
+     * @since 1.0.10
+     */
+    public void setVisibleColumnRange(int first, int last) {
+        this.firstVisibleColumn = first;
+        this.lastVisibleColumn = last;
+    }
+    
 }
@@ -104,6 +104,8 @@
  * 14-May-2008 : Updated addEntity() method to take plot orientation into
  *               account when the incoming area is null (DG);
  * 02-Jun-2008 : Added isPointInRect() method (DG);
+ * 19-Oct-2026 : Implemented ItemEntityFactory, and record items compactly in
+ *               addEntity() when the collection is a LazyEntityCollection;
  *
  */
 
@@ -129,7 +131,10 @@ import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.ItemEntityFactory;
+import org.jfree.chart.entity.LazyEntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.labels.ItemLabelPosition;
@@ -149,6 +154,7 @@ import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.text.TextUtilities;
@@ -166,7 +172,7 @@ import org.jfree.util.PublicCloneable;
  * implementations.
  */
 public abstract class AbstractXYItemRenderer extends AbstractRenderer
-        implements XYItemRenderer, Cloneable, Serializable {
+        implements XYItemRenderer, ItemEntityFactory, Cloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 8019124836026607990L;
@@ -1707,7 +1713,10 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
     }
 
     /**
-     * Adds an entity to the collection.
+     * Adds an entity to the collection.  If the collection is a 
+     * {@link LazyEntityCollection}, only the item's location is recorded and
+     * the entity is created later by 
+     * {@link #createItemEntity(Dataset, int, int, Shape)}.
      *
      * @param entities  the entity collection being populated.
      * @param area  the entity area (if <code>null</code> a default will be
@@ -1740,18 +1749,45 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         	            entityX - this.defaultEntityRadius, w, w);
         	}
         }
-        String tip = null;
-        XYToolTipGenerator generator = getToolTipGenerator(series, item);
-        if (generator != null) {
-            tip = generator.generateToolTip(dataset, series, item);
+        if (entities instanceof LazyEntityCollection) {
+            ((LazyEntityCollection) entities).addItem(this, dataset, series, 
+                    item, hotspot);
+        }
+        else {
+            entities.add(createItemEntity(dataset, series, item, hotspot));
         }
+    }
+
+    /**
+     * Creates an {@link XYItemEntity} for a data item, with the tooltip and
+     * URL text (if any) generated for the item.  If the item no longer 
+     * exists in the dataset, the entity has no tooltip or URL.
+     *
+     * @param dataset  the dataset (an {@link XYDataset}).
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param area  the entity area.
+     *
+     * @return The entity.
+     *
+     * @since 1.0.10
+     */
+    public ChartEntity createItemEntity(Dataset dataset, int series, int item,
+            Shape area) {
+        XYDataset xyDataset = (XYDataset) dataset;
+        String tip = null;
         String url = null;
-        if (getURLGenerator() != null) {
-            url = getURLGenerator().generateURL(dataset, series, item);
+        if (series < xyDataset.getSeriesCount() 
+                && item < xyDataset.getItemCount(series)) {
+            XYToolTipGenerator generator = getToolTipGenerator(series, item);
+            if (generator != null) {
+                tip = generator.generateToolTip(xyDataset, series, item);
+            }
+            if (getURLGenerator() != null) {
+                url = getURLGenerator().generateURL(xyDataset, series, item);
+            }
         }
-        XYItemEntity entity = new XYItemEntity(hotspot, dataset, series, item,
-                tip, url);
-        entities.add(entity);
+        return new XYItemEntity(area, xyDataset, series, item, tip, url);
     }
 
     /**
@@ -40,15 +40,21 @@
  * 03-Aug-2007 : Fix for bug 1766646 (DG);
  * 07-Apr-2008 : Added entity collection code (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
+ * 19-Oct-2026 : Added raster drawing mode for regular grids;
  *
  */
 
 package org.jfree.chart.renderer.xy;
 
 import java.awt.BasicStroke;
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.Serializable;
 
 import org.jfree.chart.axis.ValueAxis;
@@ -60,23 +66,43 @@ import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.renderer.PaintScale;
+import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYZDataset;
 import org.jfree.ui.RectangleAnchor;
+import org.jfree.ui.RectangleEdge;
 import org.jfree.util.PublicCloneable;
 
 /**
  * A renderer that represents data from an {@link XYZDataset} by drawing a
  * color block at each (x, y) point, where the color is a function of the
  * z-value from the dataset.
+ * <P>
+ * For large matrices, the renderer can draw each series as a single image
+ * instead of one rectangle per item (see {@link #setRasterEnabled(boolean)}).
  *
  * @since 1.0.4
  */
 public class XYBlockRenderer extends AbstractXYItemRenderer
         implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
 
+    /** The number of entries in the paint scale lookup table. */
+    private static final int LOOKUP_SIZE = 1024;
+
+    /** The maximum number of cells in a series image. */
+    private static final int MAX_RASTER_CELLS = 1 << 24;
+
+    /** The minimum number of items filled by each thread. */
+    private static final int MIN_ITEMS_PER_THREAD = 250000;
+
+    /**
+     * The tolerance (in blocks) allowed when checking that an item lies on
+     * the grid.
+     */
+    private static final double GRID_TOLERANCE = 1.0E-4;
+
     /**
      * The block width (defaults to 1.0).
      */
@@ -102,6 +128,14 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
     /** The paint scale. */
     private PaintScale paintScale;
 
+    /**
+     * A flag that controls whether series that form a regular grid are
+     * drawn as a single image.
+     *
+     * @since 1.0.10
+     */
+    private boolean rasterEnabled;
+
     /**
      * Creates a new <code>XYBlockRenderer</code> instance with default
      * attributes.
@@ -230,6 +264,48 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether series that form a regular grid
+     * are drawn as a single image.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setRasterEnabled(boolean)
+     * @since 1.0.10
+     */
+    public boolean isRasterEnabled() {
+        return this.rasterEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether series that form a regular grid
+     * are drawn as a single image, and sends a {@link RendererChangeEvent}
+     * to all registered listeners.
+     * <P>
+     * When this flag is set, the renderer checks each series before drawing
+     * it.  If every item's (x, y) location is a whole number of blocks from
+     * the smallest x and y values, and the axes are linear, the block
+     * colours are written straight into an image with one pixel per block
+     * (using a lookup table sampled from the paint scale) and the image is
+     * scaled onto the data area with a single <code>drawImage()</code>
+     * call.  For large grids the image is filled using one thread per
+     * available processor.  Series that do not pass the check are drawn
+     * one block at a time, as usual.
+     * <P>
+     * In this mode, the blocks are not outlined, z-values are mapped to one
+     * of 1024 colours, and no entities are created for the items in series
+     * that are drawn as an image.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see #isRasterEnabled()
+     * @since 1.0.10
+     */
+    public void setRasterEnabled(boolean enabled) {
+        this.rasterEnabled = enabled;
+        fireChangeEvent();
+    }
+
     /**
      * Updates the offsets to take into account the block width, height and
      * anchor.
@@ -327,6 +403,55 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * The state for an {@link XYBlockRenderer}, used when raster drawing is
+     * enabled.
+     *
+     * @since 1.0.10
+     */
+    public static class State extends XYItemRendererState {
+
+        /** The index of the series being drawn (-1 before the first). */
+        int series = -1;
+
+        /** A flag indicating that the current series was drawn as an image. */
+        boolean seriesDrawn;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         */
+        public State(PlotRenderingInfo info) {
+            super(info);
+        }
+
+    }
+
+    /**
+     * Initialises the renderer.  When raster drawing is enabled, all items
+     * are passed to the renderer (not just the visible ones) so that the
+     * first item of each series is seen.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        if (!this.rasterEnabled) {
+            return super.initialise(g2, dataArea, plot, dataset, info);
+        }
+        State state = new State(info);
+        state.setProcessVisibleItemsOnly(false);
+        return state;
+    }
+
     /**
      * Draws the block representing the specified item.
      *
@@ -348,6 +473,18 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
             ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
             int series, int item, CrosshairState crosshairState, int pass) {
 
+        if (this.rasterEnabled && state instanceof State) {
+            State s = (State) state;
+            if (s.series != series) {
+                s.series = series;
+                s.seriesDrawn = drawSeriesImage(g2, dataArea, plot,
+                        domainAxis, rangeAxis, dataset, series);
+            }
+            if (s.seriesDrawn) {
+                return;
+            }
+        }
+
         double x = dataset.getXValue(series, item);
         double y = dataset.getYValue(series, item);
         double z = 0.0;
@@ -387,6 +524,228 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Draws all the items in a series as a single image, if they form a
+     * regular grid (see {@link #setRasterEnabled(boolean)}).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return <code>true</code> if the series was drawn, and
+     *     <code>false</code> if it must be drawn one item at a time.
+     */
+    private boolean drawSeriesImage(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+            final XYDataset dataset, final int series) {
+
+        final int n = dataset.getItemCount(series);
+        double xMin = Double.POSITIVE_INFINITY;
+        double xMax = Double.NEGATIVE_INFINITY;
+        double yMin = Double.POSITIVE_INFINITY;
+        double yMax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double x = dataset.getXValue(series, i);
+            double y = dataset.getYValue(series, i);
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                xMin = Math.min(xMin, x);
+                xMax = Math.max(xMax, x);
+                yMin = Math.min(yMin, y);
+                yMax = Math.max(yMax, y);
+            }
+        }
+        if (xMin > xMax) {
+            return true;  // nothing to draw
+        }
+        double columnCount = Math.rint((xMax - xMin) / this.blockWidth) + 1;
+        double rowCount = Math.rint((yMax - yMin) / this.blockHeight) + 1;
+        double cellCount = columnCount * rowCount;
+        if (cellCount > MAX_RASTER_CELLS || cellCount > 4.0 * n) {
+            return false;  // too sparse to be worth drawing as an image
+        }
+        final int columns = (int) columnCount;
+        final int rows = (int) rowCount;
+
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        double x0 = xMin + this.xOffset;
+        double x1 = x0 + columns * this.blockWidth;
+        double y0 = yMin + this.yOffset;
+        double y1 = y0 + rows * this.blockHeight;
+        if (!isLinear(domainAxis, x0, x1, dataArea, xEdge)
+                || !isLinear(rangeAxis, y0, y1, dataArea, yEdge)) {
+            return false;
+        }
+
+        final int[] lookup = RendererUtilities.createLookupTable(
+                this.paintScale, LOOKUP_SIZE);
+        Paint nanPaint = this.paintScale.getPaint(Double.NaN);
+        final int nanColor = nanPaint instanceof Color
+                ? ((Color) nanPaint).getRGB() : 0xFF000000;
+        BufferedImage image = new BufferedImage(columns, rows,
+                BufferedImage.TYPE_INT_ARGB);
+        final int[] argb = ((DataBufferInt) image.getRaster()
+                .getDataBuffer()).getData();
+        final double xMinF = xMin;
+        final double yMinF = yMin;
+
+        int threads = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors(),
+                n / MIN_ITEMS_PER_THREAD));
+        if (threads == 1) {
+            if (!fillImage(dataset, series, 0, n, xMinF, yMinF, columns, rows,
+                    lookup, nanColor, argb)) {
+                return false;
+            }
+        }
+        else {
+            final boolean[] filled = new boolean[threads];
+            Thread[] workers = new Thread[threads];
+            int chunk = (n + threads - 1) / threads;
+            for (int t = 0; t < threads; t++) {
+                final int index = t;
+                final int start = t * chunk;
+                final int end = Math.min(n, start + chunk);
+                workers[t] = new Thread("XYBlockRenderer-" + t) {
+                    public void run() {
+                        filled[index] = fillImage(dataset, series, start, end,
+                                xMinF, yMinF, columns, rows, lookup,
+                                nanColor, argb);
+                    }
+                };
+                workers[t].start();
+            }
+            boolean ok = true;
+            for (int t = 0; t < threads; t++) {
+                try {
+                    workers[t].join();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while drawing.");
+                }
+                ok = ok && filled[t];
+            }
+            if (!ok) {
+                return false;
+            }
+        }
+
+        // map image pixel (column, row) to the java2D location of the
+        // corresponding block
+        double jx0 = domainAxis.valueToJava2D(x0, dataArea, xEdge);
+        double jx1 = domainAxis.valueToJava2D(x1, dataArea, xEdge);
+        double jy0 = rangeAxis.valueToJava2D(y0, dataArea, yEdge);
+        double jy1 = rangeAxis.valueToJava2D(y1, dataArea, yEdge);
+        double sx = (jx1 - jx0) / columns;
+        double sy = (jy1 - jy0) / rows;
+        AffineTransform transform;
+        if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+            transform = new AffineTransform(0.0, sx, sy, 0.0, jy0, jx0);
+        }
+        else {
+            transform = new AffineTransform(sx, 0.0, 0.0, sy, jx0, jy0);
+        }
+        Object saved = g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(image, transform, null);
+        if (saved != null) {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, saved);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the colours for a range of items into the image raster.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     * @param xMin  the smallest x-value in the series.
+     * @param yMin  the smallest y-value in the series.
+     * @param columns  the number of columns in the image.
+     * @param rows  the number of rows in the image.
+     * @param lookup  the colour lookup table.
+     * @param nanColor  the colour for a <code>NaN</code> z-value.
+     * @param argb  the image raster.
+     *
+     * @return <code>false</code> if an item does not lie on the grid, and
+     *     <code>true</code> otherwise.
+     */
+    private boolean fillImage(XYDataset dataset, int series, int start,
+            int end, double xMin, double yMin, int columns, int rows,
+            int[] lookup, int nanColor, int[] argb) {
+        XYZDataset xyz = dataset instanceof XYZDataset
+                ? (XYZDataset) dataset : null;
+        double lower = this.paintScale.getLowerBound();
+        double range = this.paintScale.getUpperBound() - lower;
+        double scale = range > 0.0 ? (lookup.length - 1) / range : 0.0;
+        int top = lookup.length - 1;
+        for (int i = start; i < end; i++) {
+            double x = dataset.getXValue(series, i);
+            double y = dataset.getYValue(series, i);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            double cx = (x - xMin) / this.blockWidth;
+            double cy = (y - yMin) / this.blockHeight;
+            double column = Math.rint(cx);
+            double row = Math.rint(cy);
+            if (Math.abs(cx - column) > GRID_TOLERANCE
+                    || Math.abs(cy - row) > GRID_TOLERANCE) {
+                return false;
+            }
+            double z = xyz != null ? xyz.getZValue(series, i) : 0.0;
+            int color;
+            if (Double.isNaN(z)) {
+                color = nanColor;
+            }
+            else {
+                int index = (int) Math.round((z - lower) * scale);
+                color = lookup[Math.max(0, Math.min(top, index))];
+            }
+            argb[(int) row * columns + (int) column] = color;
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the axis maps values between
+     * <code>v0</code> and <code>v1</code> linearly to Java2D space (to within
+     * half a pixel), and <code>false</code> otherwise.
+     *
+     * @param axis  the axis.
+     * @param v0  the first value.
+     * @param v1  the second value.
+     * @param area  the data area.
+     * @param edge  the axis edge.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinear(ValueAxis axis, double v0, double v1,
+            Rectangle2D area, RectangleEdge edge) {
+        double j0 = axis.valueToJava2D(v0, area, edge);
+        double j1 = axis.valueToJava2D(v1, area, edge);
+        if (Double.isNaN(j0) || Double.isInfinite(j0) || Double.isNaN(j1)
+                || Double.isInfinite(j1)) {
+            return false;
+        }
+        for (int i = 1; i < 8; i++) {
+            double f = i / 8.0;
+            double j = axis.valueToJava2D(v0 + f * (v1 - v0), area, edge);
+            if (!(Math.abs(j - (j0 + f * (j1 - j0))) <= 0.5)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Tests this <code>XYBlockRenderer</code> for equality with an arbitrary
      * object.  This method returns <code>true</code> if and only if:
@@ -421,6 +780,9 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         if (!this.paintScale.equals(that.paintScale)) {
             return false;
         }
+        if (this.rasterEnabled != that.rasterEnabled) {
+            return false;
+        }
         return super.equals(obj);
     }
 
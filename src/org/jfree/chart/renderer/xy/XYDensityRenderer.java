@@ -0,0 +1,313 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * XYDensityRenderer.java
+ * ----------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.RendererChangeEvent;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.DensityAccumulator;
+import org.jfree.chart.renderer.DensityNormalization;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.PaintScale;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A renderer that draws all the items in an {@link XYDataset} as a density
+ * map: each item increments a per-pixel counter, and once the last item of
+ * the dataset has been processed the counts are mapped through a
+ * {@link PaintScale} and drawn as a single image.  This is intended for
+ * scatter data with far more points than pixels, where drawing each point
+ * individually is slow and the result is a solid blob.
+ * <P>
+ * The renderer does not create entities for individual items and does not
+ * update the crosshair state.
+ *
+ * @since 1.0.10
+ */
+public class XYDensityRenderer extends AbstractXYItemRenderer
+        implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1325263468312837512L;
+
+    /** The paint scale (the counts are normalized to its range). */
+    private PaintScale paintScale;
+
+    /** The normalization applied to the counts. */
+    private DensityNormalization normalization;
+
+    /**
+     * Creates a new renderer with a {@link GrayPaintScale} and
+     * {@link DensityNormalization#LOG} normalization.
+     */
+    public XYDensityRenderer() {
+        this(new GrayPaintScale(), DensityNormalization.LOG);
+    }
+
+    /**
+     * Creates a new renderer.
+     *
+     * @param scale  the paint scale (<code>null</code> not permitted).
+     * @param normalization  the normalization (<code>null</code> not
+     *                       permitted).
+     */
+    public XYDensityRenderer(PaintScale scale,
+            DensityNormalization normalization) {
+        if (scale == null) {
+            throw new IllegalArgumentException("Null 'scale' argument.");
+        }
+        if (normalization == null) {
+            throw new IllegalArgumentException(
+                    "Null 'normalization' argument.");
+        }
+        this.paintScale = scale;
+        this.normalization = normalization;
+    }
+
+    /**
+     * Returns the paint scale used by the renderer.
+     *
+     * @return The paint scale (never <code>null</code>).
+     *
+     * @see #setPaintScale(PaintScale)
+     */
+    public PaintScale getPaintScale() {
+        return this.paintScale;
+    }
+
+    /**
+     * Sets the paint scale used by the renderer and sends a
+     * {@link RendererChangeEvent} to all registered listeners.
+     *
+     * @param scale  the scale (<code>null</code> not permitted).
+     *
+     * @see #getPaintScale()
+     */
+    public void setPaintScale(PaintScale scale) {
+        if (scale == null) {
+            throw new IllegalArgumentException("Null 'scale' argument.");
+        }
+        this.paintScale = scale;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the normalization applied to the per-pixel counts.
+     *
+     * @return The normalization (never <code>null</code>).
+     *
+     * @see #setNormalization(DensityNormalization)
+     */
+    public DensityNormalization getNormalization() {
+        return this.normalization;
+    }
+
+    /**
+     * Sets the normalization applied to the per-pixel counts and sends a
+     * {@link RendererChangeEvent} to all registered listeners.
+     *
+     * @param normalization  the normalization (<code>null</code> not
+     *                       permitted).
+     *
+     * @see #getNormalization()
+     */
+    public void setNormalization(DensityNormalization normalization) {
+        if (normalization == null) {
+            throw new IllegalArgumentException(
+                    "Null 'normalization' argument.");
+        }
+        this.normalization = normalization;
+        fireChangeEvent();
+    }
+
+    /**
+     * The state for an {@link XYDensityRenderer}.
+     */
+    public static class State extends XYItemRendererState {
+
+        /** The accumulator for the current drawing. */
+        DensityAccumulator accumulator;
+
+        /** The number of non-empty series not yet completed. */
+        int seriesRemaining;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         */
+        public State(PlotRenderingInfo info) {
+            super(info);
+        }
+
+    }
+
+    /**
+     * Initialises the renderer, creating a count buffer that covers the data
+     * area.  All items are passed to the renderer (not just the visible
+     * ones) so that the last item in each series marks the point where
+     * the density image can be drawn.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        State state = new State(info);
+        state.setProcessVisibleItemsOnly(false);
+        state.accumulator = new DensityAccumulator(dataArea);
+        if (dataset != null) {
+            int seriesCount = dataset.getSeriesCount();
+            for (int s = 0; s < seriesCount; s++) {
+                if (dataset.getItemCount(s) > 0) {
+                    state.seriesRemaining++;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Adds a data item to the count buffer, and draws the density image after
+     * the last item of the last series.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  collects information about the drawing.
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param crosshairState  crosshair information for the plot
+     *                        (<code>null</code> permitted).
+     * @param pass  the pass index.
+     */
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+
+        State s = (State) state;
+        if (getItemVisible(series, item)) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                RectangleEdge xEdge = plot.getDomainAxisEdge();
+                RectangleEdge yEdge = plot.getRangeAxisEdge();
+                double transX = domainAxis.valueToJava2D(x, dataArea, xEdge);
+                double transY = rangeAxis.valueToJava2D(y, dataArea, yEdge);
+                if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+                    s.accumulator.add(transY, transX);
+                }
+                else {
+                    s.accumulator.add(transX, transY);
+                }
+            }
+        }
+        if (item == dataset.getItemCount(series) - 1) {
+            s.seriesRemaining--;
+            if (s.seriesRemaining == 0) {
+                s.accumulator.draw(g2, this.paintScale, this.normalization);
+            }
+        }
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYDensityRenderer)) {
+            return false;
+        }
+        XYDensityRenderer that = (XYDensityRenderer) obj;
+        if (!ObjectUtilities.equal(this.paintScale, that.paintScale)) {
+            return false;
+        }
+        if (!this.normalization.equals(that.normalization)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a clone of this renderer.
+     *
+     * @return A clone of this renderer.
+     *
+     * @throws CloneNotSupportedException if there is a problem creating the
+     *     clone.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        XYDensityRenderer clone = (XYDensityRenderer) super.clone();
+        if (this.paintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.paintScale;
+            clone.paintScale = (PaintScale) pc.clone();
+        }
+        return clone;
+    }
+
+}
@@ -62,6 +62,8 @@
  *               items that are not displayed (DG);
  * 26-Oct-2007 : Deprecated override attributes (DG);
  * 02-Jun-2008 : Fixed tooltips at lower edges of data area (DG);
+ * 19-Oct-2026 : Added option to stamp item shapes from a sprite cache;
+ * 19-Oct-2026 : Draw shapes with non-Color paints without sprites;
  *
  */
 
@@ -87,6 +89,7 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.ShapeSpriteCache;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.RectangleEdge;
@@ -179,6 +182,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether item shapes are stamped from a cache of
+     * pre-rasterized images (on raster devices only).
+     */
+    private boolean useShapeSprites;
+
+    /** The sprite cache (created on demand). */
+    private transient ShapeSpriteCache spriteCache;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -212,6 +224,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.useShapeSprites = false;
     }
 
     /**
@@ -762,6 +775,67 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns <code>true</code> if item shapes are drawn by stamping cached,
+     * pre-rasterized images rather than filling and outlining each shape.
+     * Sprites are only used for output that is known to be raster (images
+     * and the screen) and for items whose paints are {@link java.awt.Color}
+     * instances, so vector devices (printers, PDF, SVG) and items drawn with
+     * a gradient or texture always receive the shapes themselves.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseShapeSprites(boolean)
+     */
+    public boolean getUseShapeSprites() {
+        return this.useShapeSprites;
+    }
+
+    /**
+     * Sets the flag that controls whether item shapes are stamped from a
+     * sprite cache, and sends a {@link RendererChangeEvent} to all registered
+     * listeners.  Sprites are snapped to the pixel grid, so the output can
+     * differ from vector drawing by up to half a pixel.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getUseShapeSprites()
+     */
+    public void setUseShapeSprites(boolean flag) {
+        if (this.useShapeSprites != flag) {
+            this.useShapeSprites = flag;
+            if (!flag) {
+                this.spriteCache = null;
+            }
+            fireChangeEvent();
+        }
+    }
+
+    /**
+     * Returns the sprite cache used when {@link #getUseShapeSprites()} is
+     * <code>true</code>, creating it if necessary.
+     *
+     * @return The sprite cache (never <code>null</code>).
+     */
+    protected ShapeSpriteCache getSpriteCache() {
+        if (this.spriteCache == null) {
+            this.spriteCache = new ShapeSpriteCache();
+        }
+        return this.spriteCache;
+    }
+
+    /**
+     * Returns <code>true</code> if item shapes should be stamped from the
+     * sprite cache for the given graphics device.
+     *
+     * @param g2  the graphics device.
+     *
+     * @return A boolean.
+     */
+    protected boolean isStampingShapes(Graphics2D g2) {
+        return this.useShapeSprites && ShapeSpriteCache.canStamp(g2);
+    }
+
     /**
      * Records the state for the renderer.  This is used to preserve state
      * information between calls to the drawItem() method for a single chart
@@ -1128,7 +1202,47 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         double transX1 = domainAxis.valueToJava2D(x1, dataArea, xAxisLocation);
         double transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
 
-        if (getItemShapeVisible(series, item)) {
+        double xx = transX1;
+        double yy = transY1;
+        if (orientation == PlotOrientation.HORIZONTAL) {
+            xx = transY1;
+            yy = transX1;
+        }
+
+        boolean stamped = false;
+        if (getItemShapeVisible(series, item) && isStampingShapes(g2)) {
+            Paint fillPaint = null;
+            if (getItemShapeFilled(series, item)) {
+                fillPaint = (this.useFillPaint
+                        ? getItemFillPaint(series, item)
+                        : getItemPaint(series, item));
+            }
+            Paint outlinePaint = null;
+            Stroke outlineStroke = null;
+            if (this.drawOutlines) {
+                outlinePaint = (getUseOutlinePaint()
+                        ? getItemOutlinePaint(series, item)
+                        : getItemPaint(series, item));
+                outlineStroke = getItemOutlineStroke(series, item);
+            }
+            if (ShapeSpriteCache.canStamp(fillPaint)
+                    && ShapeSpriteCache.canStamp(outlinePaint)) {
+                Shape shape = getItemShape(series, item);
+                Rectangle2D bounds = shape.getBounds2D();
+                if (dataArea.intersects(bounds.getX() + xx,
+                        bounds.getY() + yy, bounds.getWidth(),
+                        bounds.getHeight())) {
+                    getSpriteCache().stamp(g2, shape, fillPaint,
+                            outlinePaint, outlineStroke, xx, yy);
+                }
+                if (entities != null && isPointInRect(dataArea, xx, yy)) {
+                    entityArea = ShapeUtilities.createTranslatedShape(shape,
+                            xx, yy);
+                }
+                stamped = true;
+            }
+        }
+        if (!stamped && getItemShapeVisible(series, item)) {
             Shape shape = getItemShape(series, item);
             if (orientation == PlotOrientation.HORIZONTAL) {
                 shape = ShapeUtilities.createTranslatedShape(shape, transY1,
@@ -1162,13 +1276,6 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             }
         }
 
-        double xx = transX1;
-        double yy = transY1;
-        if (orientation == PlotOrientation.HORIZONTAL) {
-            xx = transY1;
-            yy = transX1;
-        }
-
         // draw the item label if there is one...
         if (isItemLabelVisible(series, item)) {
             drawItemLabel(g2, orientation, dataset, series, item, xx, yy,
@@ -1268,6 +1375,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                 = (BooleanList) this.seriesShapesVisible.clone();
         clone.seriesShapesFilled
                 = (BooleanList) this.seriesShapesFilled.clone();
+        clone.spriteCache = null;
         return clone;
     }
 
@@ -1338,6 +1446,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (this.useShapeSprites != that.useShapeSprites) {
+            return false;
+        }
         return true;
 
     }
@@ -60,7 +60,9 @@
 package org.jfree.chart.renderer.xy;
 
 import java.awt.Graphics2D;
+import java.awt.Paint;
 import java.awt.Shape;
+import java.awt.Stroke;
 import java.awt.geom.Rectangle2D;
 
 import org.jfree.chart.axis.ValueAxis;
@@ -69,6 +71,7 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.FastXYPlot.PlotIndexes;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.ShapeSpriteCache;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.util.ShapeUtilities;
@@ -198,9 +201,25 @@ public class XYLineAndShapeRendererFastScatter extends XYLineAndShapeRenderer {
 
         if (getItemShapeVisible(series, item)) {
             Shape shape = getItemShape(series, item);
-            shape = ShapeUtilities.createTranslatedShape(
-                    shape, transX1, transY1
-                    );
+            Paint outlinePaint;
+            if (getUseOutlinePaint()) {
+                outlinePaint = getItemOutlinePaint(series, item);
+            } else {
+                outlinePaint = getItemPaint(series, item);
+            }
+            boolean stamping = isStampingShapes(g2)
+                    && ShapeSpriteCache.canStamp(outlinePaint);
+            Shape markerShape = shape;
+            if (stamping) {
+                Rectangle2D b = shape.getBounds2D();
+                shape = new Rectangle2D.Double(b.getX() + transX1,
+                        b.getY() + transY1, b.getWidth(), b.getHeight());
+            }
+            else {
+                shape = ShapeUtilities.createTranslatedShape(
+                        shape, transX1, transY1
+                        );
+            }
 
             double x0;
             double y0;
@@ -229,13 +248,15 @@ public class XYLineAndShapeRendererFastScatter extends XYLineAndShapeRenderer {
                     || transY1 - transY0 > 2 || transY1 - transY0 < -2) {
 
                     currentIndex.setPreviousDrawnItem(1);
-                    if (getUseOutlinePaint()) {
-                        g2.setPaint(getItemOutlinePaint(series, item));
-                    } else {
-                        g2.setPaint(getItemPaint(series, item));
+                    Stroke outlineStroke = getItemOutlineStroke(series, item);
+                    if (stamping) {
+                        getSpriteCache().stamp(g2, markerShape, null,
+                                outlinePaint, outlineStroke, transX1,
+                                transY1);
                     }
-                    g2.setStroke(getItemOutlineStroke(series, item));
-                    if (shape.intersects(dataArea)) {
+                    else {
+                        g2.setPaint(outlinePaint);
+                        g2.setStroke(outlineStroke);
                         g2.draw(shape);
                     }
                 } else {
@@ -53,6 +53,8 @@
  * 13-Dec-2006 : Added support for GradientPaint in legend items (DG);
  * 16-Mar-2007 : Updated border drawing for changes in AbstractBlock (DG);
  * 18-May-2007 : Pass seriesKey and dataset to legend item block (DG);
+ * 19-Oct-2026 : Reuse legend item blocks and the last arrangement while the
+ *               legend items and constraint are unchanged;
  * 
  */
 
@@ -62,11 +64,14 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.font.FontRenderContext;
 import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -87,6 +92,7 @@ import org.jfree.ui.RectangleAnchor;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.ui.Size2D;
+import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PaintUtilities;
 import org.jfree.util.PublicCloneable;
 
@@ -96,6 +102,13 @@ import org.jfree.util.PublicCloneable;
  * The title can be populated with legend items manually, or you can assign a
  * reference to the plot, in which case the legend items will be automatically
  * created to match the dataset(s).
+ * <P>
+ * The blocks for the legend items are only recreated when the items fetched
+ * from the sources differ from those fetched last time, or when an attribute
+ * of the legend has changed.  Likewise, the item container is only arranged 
+ * again when its blocks, its arrangement, the constraint or the font render 
+ * context differ from the previous call to 
+ * {@link #arrange(Graphics2D, RectangleConstraint)}.
  */
 public class LegendTitle extends Title 
                          implements Cloneable, PublicCloneable, Serializable {
@@ -160,6 +173,33 @@ public class LegendTitle extends Title
      */
     private BlockContainer wrapper;
 
+    /** 
+     * The legend items that the blocks in the item container were created 
+     * from (<code>null</code> if the blocks must be recreated). 
+     */
+    private transient List cachedLegendItems;
+    
+    /** The blocks that were created for the cached legend items. */
+    private transient List cachedItemBlocks;
+    
+    /** The blocks in the item container when it was last arranged. */
+    private transient List arrangedBlocks;
+    
+    /** The arrangement used when the item container was last arranged. */
+    private transient Arrangement arrangedLayout;
+    
+    /** The constraint for the last arrangement of the item container. */
+    private transient RectangleConstraint arrangedConstraint;
+    
+    /** The font render context for the last arrangement. */
+    private transient FontRenderContext arrangedFontRenderContext;
+    
+    /** 
+     * The size of the item container from the last arrangement 
+     * (<code>null</code> if the container must be arranged again).
+     */
+    private transient Size2D arrangedSize;
+
     /**
      * Constructs a new (empty) legend for the specified source.
      * 
@@ -278,6 +318,7 @@ public class LegendTitle extends Title
             throw new IllegalArgumentException("Null 'anchor' point.");
         }
         this.legendItemGraphicAnchor = anchor;
+        clearLayoutCache();
     }
     
     /**
@@ -296,6 +337,7 @@ public class LegendTitle extends Title
      */
     public void setLegendItemGraphicLocation(RectangleAnchor anchor) {
         this.legendItemGraphicLocation = anchor;
+        clearLayoutCache();
     }
     
     /**
@@ -389,27 +431,118 @@ public class LegendTitle extends Title
     }
     
     /**
-     * Fetches the latest legend items.
+     * Fetches the latest legend items.  If the items are the same as those 
+     * fetched last time, and the blocks created for them are still the 
+     * contents of the item container, the existing blocks are kept.
      */
     protected void fetchLegendItems() {
-        this.items.clear();
         RectangleEdge p = getPosition();
-        if (RectangleEdge.isTopOrBottom(p)) {
-            this.items.setArrangement(this.hLayout);   
-        }
-        else {
-            this.items.setArrangement(this.vLayout);   
-        }
+        Arrangement layout = RectangleEdge.isTopOrBottom(p) ? this.hLayout 
+                : this.vLayout;
+        List legendItems = new ArrayList();
         for (int s = 0; s < this.sources.length; s++) {
-            LegendItemCollection legendItems = this.sources[s].getLegendItems();
-            if (legendItems != null) {
-                for (int i = 0; i < legendItems.getItemCount(); i++) {
-                    LegendItem item = legendItems.get(i);
-                    Block block = createLegendItemBlock(item);
-                    this.items.add(block);
+            LegendItemCollection c = this.sources[s].getLegendItems();
+            if (c != null) {
+                for (int i = 0; i < c.getItemCount(); i++) {
+                    legendItems.add(c.get(i));
                 }
             }
         }
+        if (this.items.getArrangement() == layout 
+                && this.cachedLegendItems != null
+                && sameBlocks(this.items.getBlocks(), this.cachedItemBlocks)
+                && sameLegendItems(legendItems, this.cachedLegendItems)) {
+            return;
+        }
+        this.items.clear();
+        this.items.setArrangement(layout);
+        for (int i = 0; i < legendItems.size(); i++) {
+            LegendItem item = (LegendItem) legendItems.get(i);
+            Block block = createLegendItemBlock(item);
+            this.items.add(block);
+        }
+        this.cachedLegendItems = legendItems;
+        this.cachedItemBlocks = new ArrayList(this.items.getBlocks());
+    }
+    
+    /**
+     * Clears the cached legend item blocks and the cached arrangement, so 
+     * that both are recreated the next time the legend is arranged.  This is
+     * called whenever the legend sends a {@link TitleChangeEvent}, but 
+     * subclasses and code that modifies the item container directly (see 
+     * {@link #getItemContainer()}) may need to call it too.
+     */
+    public void clearLayoutCache() {
+        this.cachedLegendItems = null;
+        this.cachedItemBlocks = null;
+        this.arrangedBlocks = null;
+        this.arrangedLayout = null;
+        this.arrangedConstraint = null;
+        this.arrangedFontRenderContext = null;
+        this.arrangedSize = null;
+    }
+    
+    /**
+     * Returns <code>true</code> if the two lists contain the same legend 
+     * items, including the attributes (tool tip, URL, dataset and series key)
+     * that are not checked by {@link LegendItem#equals(Object)}.
+     * 
+     * @param items1  the first list (<code>null</code> not permitted).
+     * @param items2  the second list (<code>null</code> not permitted).
+     * 
+     * @return A boolean.
+     */
+    private static boolean sameLegendItems(List items1, List items2) {
+        if (items1.size() != items2.size()) {
+            return false;
+        }
+        for (int i = 0; i < items1.size(); i++) {
+            LegendItem item1 = (LegendItem) items1.get(i);
+            LegendItem item2 = (LegendItem) items2.get(i);
+            if (item1 == item2) {
+                continue;
+            }
+            if (!item1.equals(item2)) {
+                return false;
+            }
+            if (item1.getDataset() != item2.getDataset()) {
+                return false;
+            }
+            if (!ObjectUtilities.equal(item1.getSeriesKey(), 
+                    item2.getSeriesKey())) {
+                return false;
+            }
+            if (!ObjectUtilities.equal(item1.getToolTipText(), 
+                    item2.getToolTipText())) {
+                return false;
+            }
+            if (!ObjectUtilities.equal(item1.getURLText(), 
+                    item2.getURLText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Returns <code>true</code> if the two lists contain the same block 
+     * instances in the same order.
+     * 
+     * @param blocks1  the first list (<code>null</code> not permitted).
+     * @param blocks2  the second list (<code>null</code> permitted).
+     * 
+     * @return A boolean.
+     */
+    private static boolean sameBlocks(List blocks1, List blocks2) {
+        if (blocks2 == null || blocks1.size() != blocks2.size()) {
+            return false;
+        }
+        for (int i = 0; i < blocks1.size(); i++) {
+            if (blocks1.get(i) != blocks2.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
     
     /**
@@ -483,12 +616,49 @@ public class LegendTitle extends Title
             container = this.items;
         }
         RectangleConstraint c = toContentConstraint(constraint);
-        Size2D size = container.arrange(g2, c);
+        Size2D size = arrangeContainer(container, g2, c);
         result.height = calculateTotalHeight(size.height);
         result.width = calculateTotalWidth(size.width);
         return result;
     }
 
+    /**
+     * Arranges the container that holds the legend contents, reusing the 
+     * previous arrangement of the item container when nothing that it 
+     * depends on has changed.  A wrapper container is always arranged, since
+     * its other contents are not tracked by this legend.
+     * 
+     * @param container  the container (<code>null</code> not permitted).
+     * @param g2  the graphics device.
+     * @param c  the content constraint (<code>null</code> not permitted).
+     * 
+     * @return The container size.
+     */
+    private Size2D arrangeContainer(BlockContainer container, Graphics2D g2, 
+            RectangleConstraint c) {
+        if (container != this.items) {
+            this.arrangedSize = null;
+            return container.arrange(g2, c);
+        }
+        FontRenderContext frc = g2.getFontRenderContext();
+        List blocks = container.getBlocks();
+        if (this.arrangedSize != null 
+                && container.getArrangement() == this.arrangedLayout
+                && c.equals(this.arrangedConstraint)
+                && frc.equals(this.arrangedFontRenderContext)
+                && sameBlocks(blocks, this.arrangedBlocks)) {
+            return new Size2D(this.arrangedSize.width, 
+                    this.arrangedSize.height);
+        }
+        Size2D size = container.arrange(g2, c);
+        this.arrangedBlocks = new ArrayList(blocks);
+        this.arrangedLayout = container.getArrangement();
+        this.arrangedConstraint = c;
+        this.arrangedFontRenderContext = frc;
+        this.arrangedSize = new Size2D(size.width, size.height);
+        return size;
+    }
+
     /**
      * Draws the title on a Java 2D graphics device (such as the screen or a
      * printer).
@@ -535,6 +705,19 @@ public class LegendTitle extends Title
      */
     public void setWrapper(BlockContainer wrapper) {
         this.wrapper = wrapper;
+        clearLayoutCache();
+    }
+    
+    /**
+     * Clears the layout cache and then notifies all registered listeners 
+     * that the legend has changed in some way.
+     * 
+     * @param event  an object that contains information about the change to 
+     *               the title.
+     */
+    protected void notifyListeners(TitleChangeEvent event) {
+        clearLayoutCache();
+        super.notifyListeners(event);
     }
     
     /**
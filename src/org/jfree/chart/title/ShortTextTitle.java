@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 28-Apr-2008 : Version 1 (DG);
+ * 19-Oct-2026 : Measure text through TextMeasurementCache;
  *
  */
 
@@ -46,6 +47,7 @@ import java.awt.geom.Rectangle2D;
 
 import org.jfree.chart.block.LengthConstraintType;
 import org.jfree.chart.block.RectangleConstraint;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.Size2D;
@@ -175,7 +177,8 @@ public class ShortTextTitle extends TextTitle {
     protected Size2D arrangeFN(Graphics2D g2, double w) {
         g2.setFont(getFont());
         FontMetrics fm = g2.getFontMetrics(getFont());
-        Rectangle2D bounds = TextUtilities.getTextBounds(getText(), g2, fm);
+        Rectangle2D bounds 
+                = TextMeasurementCache.getSharedTextBounds(getText(), g2, fm);
         if (bounds.getWidth() <= w) {
             return new Size2D(w, bounds.getHeight());
         }
@@ -198,7 +201,8 @@ public class ShortTextTitle extends TextTitle {
 
         g2.setFont(getFont());
         FontMetrics fm = g2.getFontMetrics(getFont());
-        Rectangle2D bounds = TextUtilities.getTextBounds(getText(), g2, fm);
+        Rectangle2D bounds 
+                = TextMeasurementCache.getSharedTextBounds(getText(), g2, fm);
         if (bounds.getWidth() <= widthRange.getUpperBound()
                 && bounds.getHeight() <= heightRange.getUpperBound()) {
             return new Size2D(bounds.getWidth(), bounds.getHeight());
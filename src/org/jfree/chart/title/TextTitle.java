@@ -76,6 +76,7 @@
  * 19-Dec-2007 : Implemented some of the missing arrangement options (DG);
  * 28-Apr-2008 : Added option for maximum lines, and fixed minor bugs in
  *               equals() method (DG);
+ * 19-Oct-2026 : Measure text through TextMeasurementCache;
  *
  */
 
@@ -99,9 +100,9 @@ import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.event.TitleChangeEvent;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
 import org.jfree.text.TextBlockAnchor;
 import org.jfree.text.TextUtilities;
@@ -553,7 +554,7 @@ public class TextTitle extends Title
             g2.setFont(this.font);
             this.content = TextUtilities.createTextBlock(this.text, this.font,
                     this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+                    TextMeasurementCache.createSharedTextMeasurer(g2));
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
             if (this.expandToFitSpace) {
@@ -569,7 +570,7 @@ public class TextTitle extends Title
             g2.setFont(this.font);
             this.content = TextUtilities.createTextBlock(this.text, this.font,
                     this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+                    TextMeasurementCache.createSharedTextMeasurer(g2));
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
 
@@ -627,7 +628,7 @@ public class TextTitle extends Title
             g2.setFont(this.font);
             this.content = TextUtilities.createTextBlock(this.text, this.font,
                     this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+                    TextMeasurementCache.createSharedTextMeasurer(g2));
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
             if (this.expandToFitSpace) {
@@ -643,7 +644,7 @@ public class TextTitle extends Title
             g2.setFont(this.font);
             this.content = TextUtilities.createTextBlock(this.text, this.font,
                     this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+                    TextMeasurementCache.createSharedTextMeasurer(g2));
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
 
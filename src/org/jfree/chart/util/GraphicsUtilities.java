@@ -0,0 +1,97 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * GraphicsUtilities.java
+ * ----------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.print.PrinterGraphics;
+
+/**
+ * Utility methods for inspecting <code>Graphics2D</code> targets.
+ *
+ * @since 1.0.10
+ */
+public class GraphicsUtilities {
+
+    /** The package of the JDK's own rasterizing graphics implementation. */
+    private static final String RASTER_PACKAGE = "sun.java2d.";
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private GraphicsUtilities() {
+    }
+
+    /**
+     * Returns <code>true</code> if the specified graphics device is known to
+     * draw into pixels (an image or the screen), and <code>false</code>
+     * otherwise.
+     * <P>
+     * The device configuration alone is not enough to decide this:  vector
+     * back ends such as iText's <code>PdfGraphics2D</code> or Batik's
+     * <code>SVGGraphics2D</code> report an image buffer configuration.  So
+     * the graphics must also be the JDK's own rasterizing implementation
+     * (the one returned by <code>BufferedImage.createGraphics()</code> and
+     * used for painting Swing components), and must not be printer
+     * graphics.  Any other implementation is treated as a vector device.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isRasterDevice(Graphics2D g2) {
+        if (g2 instanceof PrinterGraphics) {
+            return false;
+        }
+        if (!g2.getClass().getName().startsWith(RASTER_PACKAGE)) {
+            return false;
+        }
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        if (gc == null) {
+            return false;
+        }
+        int type = gc.getDevice().getType();
+        return type == GraphicsDevice.TYPE_IMAGE_BUFFER
+                || type == GraphicsDevice.TYPE_RASTER_SCREEN;
+    }
+
+}
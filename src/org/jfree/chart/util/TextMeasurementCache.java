@@ -0,0 +1,347 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * TextMeasurementCache.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jfree.text.TextMeasurer;
+import org.jfree.text.TextUtilities;
+
+/**
+ * A bounded cache of text measurements, used by the axes, titles and plots 
+ * so that the same labels are not measured again every time a chart is 
+ * drawn.  Entries are keyed by the text, the font and the font render 
+ * context, and the least recently used entry is discarded when the cache 
+ * is full.  A single shared instance (see {@link #getSharedInstance()}) is
+ * used by all charts, and is safe to use from several threads.
+ * <P>
+ * The measurements are exactly those returned by 
+ * {@link TextUtilities#getTextBounds(String, Graphics2D, FontMetrics)}.
+ *
+ * @since 1.0.10
+ */
+public class TextMeasurementCache {
+
+    /** The default capacity for the shared cache. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The shared instance. */
+    private static TextMeasurementCache sharedInstance 
+            = new TextMeasurementCache(DEFAULT_CAPACITY);
+
+    /** The maximum number of entries. */
+    private int capacity;
+
+    /** The cached bounds, in access order. */
+    private Map bounds;
+
+    /** The number of lookups that found a cached entry. */
+    private long hitCount;
+
+    /** The number of lookups that required the text to be measured. */
+    private long missCount;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity  the maximum number of entries (zero disables the
+     *     cache, negative values are not permitted).
+     */
+    public TextMeasurementCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative 'capacity' argument.");
+        }
+        this.capacity = capacity;
+        this.bounds = new LinkedHashMap(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry eldest) {
+                return size() > TextMeasurementCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache that is shared by all charts.
+     *
+     * @return The shared cache (never <code>null</code>).
+     *
+     * @see #setSharedInstance(TextMeasurementCache)
+     */
+    public static synchronized TextMeasurementCache getSharedInstance() {
+        return sharedInstance;
+    }
+
+    /**
+     * Sets the cache that is shared by all charts.  To disable caching, 
+     * install a cache with a capacity of zero.
+     *
+     * @param cache  the cache (<code>null</code> not permitted).
+     *
+     * @see #getSharedInstance()
+     */
+    public static synchronized void setSharedInstance(
+            TextMeasurementCache cache) {
+        if (cache == null) {
+            throw new IllegalArgumentException("Null 'cache' argument.");
+        }
+        sharedInstance = cache;
+    }
+
+    /**
+     * Returns the bounds of a string, using the shared cache.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param g2  the graphics device.
+     * @param fm  the font metrics.
+     *
+     * @return The text bounds.
+     *
+     * @see #getTextBounds(String, Graphics2D, FontMetrics)
+     */
+    public static Rectangle2D getSharedTextBounds(String text, Graphics2D g2,
+            FontMetrics fm) {
+        return getSharedInstance().getTextBounds(text, g2, fm);
+    }
+
+    /**
+     * Returns a text measurer that uses the shared cache.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return A text measurer.
+     *
+     * @see #createTextMeasurer(Graphics2D)
+     */
+    public static TextMeasurer createSharedTextMeasurer(Graphics2D g2) {
+        return getSharedInstance().createTextMeasurer(g2);
+    }
+
+    /**
+     * Returns the maximum number of entries in the cache.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     *
+     * @return The entry count.
+     */
+    public synchronized int getSize() {
+        return this.bounds.size();
+    }
+
+    /**
+     * Returns the number of lookups that were answered from the cache.
+     *
+     * @return The hit count.
+     *
+     * @see #getMissCount()
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that required the text to be measured.
+     *
+     * @return The miss count.
+     *
+     * @see #getHitCount()
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Resets the hit and miss counts to zero.
+     */
+    public synchronized void resetStatistics() {
+        this.hitCount = 0L;
+        this.missCount = 0L;
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void clear() {
+        this.bounds.clear();
+    }
+
+    /**
+     * Returns the bounds of a string, as calculated by 
+     * {@link TextUtilities#getTextBounds(String, Graphics2D, FontMetrics)}.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param g2  the graphics device.
+     * @param fm  the font metrics.
+     *
+     * @return The text bounds (a new rectangle that the caller may modify).
+     */
+    public Rectangle2D getTextBounds(String text, Graphics2D g2, 
+            FontMetrics fm) {
+        if (text == null) {
+            throw new IllegalArgumentException("Null 'text' argument.");
+        }
+        if (this.capacity == 0) {
+            return TextUtilities.getTextBounds(text, g2, fm);
+        }
+        Key key = new Key(text, fm.getFont(), g2.getFontRenderContext(),
+                TextUtilities.getUseFontMetricsGetStringBounds());
+        Rectangle2D result;
+        synchronized (this) {
+            result = (Rectangle2D) this.bounds.get(key);
+            if (result != null) {
+                this.hitCount++;
+                return (Rectangle2D) result.clone();
+            }
+            this.missCount++;
+        }
+        result = TextUtilities.getTextBounds(text, g2, fm);
+        synchronized (this) {
+            this.bounds.put(key, result.clone());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a text measurer that measures strings in the current font of 
+     * <code>g2</code> through this cache.  It returns the same widths as a
+     * {@link org.jfree.text.G2TextMeasurer}.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return A text measurer.
+     */
+    public TextMeasurer createTextMeasurer(final Graphics2D g2) {
+        if (g2 == null) {
+            throw new IllegalArgumentException("Null 'g2' argument.");
+        }
+        return new TextMeasurer() {
+            public float getStringWidth(String text, int start, int end) {
+                return (float) getTextBounds(text.substring(start, end), g2,
+                        g2.getFontMetrics()).getWidth();
+            }
+        };
+    }
+
+    /**
+     * A cache key.
+     */
+    private static final class Key {
+
+        /** The text. */
+        private String text;
+
+        /** The font. */
+        private Font font;
+
+        /** The font render context. */
+        private FontRenderContext frc;
+
+        /** The TextUtilities measurement mode. */
+        private boolean useStringBounds;
+
+        /** The hash code. */
+        private int hash;
+
+        /**
+         * Creates a key.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param frc  the font render context.
+         * @param useStringBounds  the TextUtilities measurement mode.
+         */
+        Key(String text, Font font, FontRenderContext frc, 
+                boolean useStringBounds) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.useStringBounds = useStringBounds;
+            int h = text.hashCode();
+            h = 37 * h + font.hashCode();
+            h = 37 * h + frc.hashCode();
+            this.hash = 37 * h + (useStringBounds ? 1 : 0);
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash 
+                    && this.useStringBounds == that.useStringBounds
+                    && this.text.equals(that.text) 
+                    && this.font.equals(that.font)
+                    && this.frc.equals(that.frc);
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
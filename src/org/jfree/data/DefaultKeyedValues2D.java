@@ -52,13 +52,17 @@
  * 21-Nov-2007 : Fixed bug (1835955) in removeColumn(Comparable) method (DG);
  * 23-Nov-2007 : Added argument checks to removeRow(Comparable) to make it
  *               consistent with the removeRow(Comparable) method (DG);
+ * 19-Oct-2026 : Added hash indices for the row and column keys;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -89,6 +93,18 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     /** If the row keys should be sorted by their comparable order. */
     private boolean sortRowKeys;
 
+    /** 
+     * Contains (key, Integer) mappings, where the Integer is the index of
+     * the row key in the list (not used when the row keys are sorted).
+     */
+    private transient HashMap rowIndexMap;
+
+    /** 
+     * Contains (key, Integer) mappings, where the Integer is the index of
+     * the column key in the list.
+     */
+    private transient HashMap columnIndexMap;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -106,6 +122,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
         this.sortRowKeys = sortRowKeys;
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
     }
 
     /**
@@ -187,7 +205,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
             return Collections.binarySearch(this.rowKeys, key);
         }
         else {
-            return this.rowKeys.indexOf(key);
+            Integer i = (Integer) this.rowIndexMap.get(key);
+            return (i != null ? i.intValue() : -1);
         }
     }
 
@@ -231,7 +250,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
-        return this.columnKeys.indexOf(key);
+        Integer i = (Integer) this.columnIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
     }
 
     /**
@@ -267,7 +287,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         }
         
         // check that the column key is defined in the 2D structure
-        if (!(this.columnKeys.contains(columnKey))) {
+        if (!(this.columnIndexMap.containsKey(columnKey))) {
             throw new UnknownKeyException("Unrecognised columnKey: " 
                     + columnKey);
         }
@@ -333,13 +353,16 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
             else {
                 this.rowKeys.add(rowKey);
                 this.rows.add(row);
+                this.rowIndexMap.put(rowKey, 
+                        new Integer(this.rowKeys.size() - 1));
             }
         }
         row.setValue(columnKey, value);
         
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             this.columnKeys.add(columnKey);
+            this.columnIndexMap.put(columnKey, 
+                    new Integer(this.columnKeys.size() - 1));
         }
     }
 
@@ -372,6 +395,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (allNull) {
             this.rowKeys.remove(rowIndex);
             this.rows.remove(rowIndex);
+            rebuildRowIndex();
         }
         
         // 2. check whether the column is now empty.
@@ -398,6 +422,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
                 }
             }
             this.columnKeys.remove(columnKey);
+            rebuildColumnIndex();
         }
     }
 
@@ -412,6 +437,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        rebuildRowIndex();
     }
 
     /**
@@ -468,7 +494,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         if (columnKey == null) {
             throw new IllegalArgumentException("Null 'columnKey' argument.");
         }
-        if (!this.columnKeys.contains(columnKey)) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             throw new UnknownKeyException("Unknown key: " + columnKey);
         }
         Iterator iterator = this.rows.iterator();
@@ -480,6 +506,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
             }
         }
         this.columnKeys.remove(columnKey);
+        rebuildColumnIndex();
     }
 
     /**
@@ -489,6 +516,31 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
+    }
+
+    /**
+     * Rebuilds the row key to index mapping after a row has been removed.
+     */
+    private void rebuildRowIndex() {
+        this.rowIndexMap.clear();
+        if (!this.sortRowKeys) {
+            for (int i = 0; i < this.rowKeys.size(); i++) {
+                this.rowIndexMap.put(this.rowKeys.get(i), new Integer(i));
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the column key to index mapping after a column has been 
+     * removed.
+     */
+    private void rebuildColumnIndex() {
+        this.columnIndexMap.clear();
+        for (int i = 0; i < this.columnKeys.size(); i++) {
+            this.columnIndexMap.put(this.columnKeys.get(i), new Integer(i));
+        }
     }
     
     /**
@@ -576,7 +628,28 @@ public class DefaultKeyedValues2D implements KeyedValues2D,
         
         // but the row data requires a deep copy
         clone.rows = (List) ObjectUtilities.deepClone(this.rows);
+        clone.rowIndexMap = new HashMap();
+        clone.columnIndexMap = new HashMap();
+        clone.rebuildRowIndex();
+        clone.rebuildColumnIndex();
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
+        rebuildRowIndex();
+        rebuildColumnIndex();
+    }
+
 }
@@ -38,12 +38,16 @@
  * 11-Jan-2005 : Minor tidy up (DG);
  * 28-Sep-2007 : Clean up equals() method (DG);
  * 03-Oct-2007 : Make method behaviour consistent with DefaultKeyedValues (DG);
+ * 19-Oct-2026 : Added a key to index mapping, as in DefaultKeyedValues;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -60,11 +64,18 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
     /** Storage for the data. */
     private List data;
 
+    /** 
+     * Contains (key, Integer) mappings, where the Integer is the index for
+     * the key in the list. 
+     */
+    private transient HashMap indexMap;
+
     /**
      * Creates a new collection (initially empty).
      */
     public KeyedObjects() {
         this.data = new java.util.ArrayList();
+        this.indexMap = new HashMap();
     }
 
     /**
@@ -127,16 +138,11 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedObject ko = (KeyedObject) iterator.next();
-            if (ko.getKey().equals(key)) {
-                return i;
-            }
-            i++;
+        Integer i = (Integer) this.indexMap.get(key);
+        if (i == null) {
+            return -1;  // key not found
         }
-        return -1;
+        return i.intValue();
     }
 
     /**
@@ -205,6 +211,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         else {
             KeyedObject ko = new KeyedObject(key, object);
             this.data.add(ko);
+            this.indexMap.put(key, new Integer(this.data.size() - 1));
         }
     }
 
@@ -238,6 +245,19 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         else {
             this.data.add(item);
         }
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuilds the key to indexed-position mapping after a positioned insert
+     * or a remove operation.
+     */
+    private void rebuildIndex() {
+        this.indexMap.clear();
+        for (int i = 0; i < this.data.size(); i++) {
+            KeyedObject ko = (KeyedObject) this.data.get(i);
+            this.indexMap.put(ko.getKey(), new Integer(i));
+        }
     }
 
     /**
@@ -249,6 +269,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public void removeValue(int index) {
         this.data.remove(index);
+        rebuildIndex();
     }
 
     /**
@@ -277,6 +298,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public void clear() {
         this.data.clear();
+        this.indexMap.clear();
     }
 
     /**
@@ -296,6 +318,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
             KeyedObject ko = (KeyedObject) iterator.next();
             clone.data.add(ko.clone());
         }
+        clone.indexMap = (HashMap) this.indexMap.clone();
         return clone;      
     }
     
@@ -351,5 +374,20 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
     public int hashCode() {
         return (this.data != null ? this.data.hashCode() : 0);
     }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.indexMap = new HashMap();
+        rebuildIndex();
+    }
   
 }
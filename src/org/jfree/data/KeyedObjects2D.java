@@ -39,13 +39,17 @@
  *               Serializable (DG);
  * 03-Oct-2007 : Updated getObject() to handle modified behaviour in 
  *               KeyedObjects class, added clear() method (DG);
+ * 19-Oct-2026 : Added hash indices for the row and column keys;
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 
@@ -67,6 +71,18 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     /** The row data. */
     private List rows;
 
+    /** 
+     * Contains (key, Integer) mappings, where the Integer is the index of
+     * the row key in the list.
+     */
+    private transient HashMap rowIndexMap;
+
+    /** 
+     * Contains (key, Integer) mappings, where the Integer is the index of
+     * the column key in the list.
+     */
+    private transient HashMap columnIndexMap;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -74,6 +90,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
     }
 
     /**
@@ -150,7 +168,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
-        return this.rowKeys.indexOf(key);
+        Integer i = (Integer) this.rowIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
     }
 
     /**
@@ -191,7 +210,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         if (key == null) {
             throw new IllegalArgumentException("Null 'key' argument.");
         }
-        return this.columnKeys.indexOf(key);
+        Integer i = (Integer) this.columnIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
     }
 
     /**
@@ -225,12 +245,12 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         if (columnKey == null) {
             throw new IllegalArgumentException("Null 'columnKey' argument.");
         }
-        int row = this.rowKeys.indexOf(rowKey);
+        int row = getRowIndex(rowKey);
         if (row < 0) {
             throw new UnknownKeyException("Row key (" + rowKey 
                     + ") not recognised.");
         }
-        int column = this.columnKeys.indexOf(columnKey);
+        int column = getColumnIndex(columnKey);
         if (column < 0) {
             throw new UnknownKeyException("Column key (" + columnKey 
                     + ") not recognised.");
@@ -274,7 +294,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'columnKey' argument.");
         }
         KeyedObjects row;
-        int rowIndex = this.rowKeys.indexOf(rowKey);
+        int rowIndex = getRowIndex(rowKey);
         if (rowIndex >= 0) {
             row = (KeyedObjects) this.rows.get(rowIndex);
         }
@@ -282,11 +302,14 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             this.rowKeys.add(rowKey);
             row = new KeyedObjects();
             this.rows.add(row);
+            this.rowIndexMap.put(rowKey, new Integer(this.rowKeys.size() - 1));
         }
         row.setObject(columnKey, object);
-        int columnIndex = this.columnKeys.indexOf(columnKey);
+        int columnIndex = getColumnIndex(columnKey);
         if (columnIndex < 0) {
             this.columnKeys.add(columnKey);
+            this.columnIndexMap.put(columnKey, 
+                    new Integer(this.columnKeys.size() - 1));
         }
 
     }
@@ -329,6 +352,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         if (allNull) {
             this.rowKeys.remove(rowIndex);
             this.rows.remove(rowIndex);
+            rebuildRowIndex();
         }
         
         // 2. check whether the column is now empty.
@@ -354,6 +378,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                 }
             }
             this.columnKeys.remove(columnKey);
+            rebuildColumnIndex();
         }
     }
 
@@ -367,6 +392,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        rebuildRowIndex();
     }
 
     /**
@@ -423,6 +449,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             }
         }
         this.columnKeys.remove(columnKey);
+        rebuildColumnIndex();
     }
 
     /**
@@ -434,6 +461,29 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
+    }
+
+    /**
+     * Rebuilds the row key to index mapping after a row has been removed.
+     */
+    private void rebuildRowIndex() {
+        this.rowIndexMap.clear();
+        for (int i = 0; i < this.rowKeys.size(); i++) {
+            this.rowIndexMap.put(this.rowKeys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Rebuilds the column key to index mapping after a column has been 
+     * removed.
+     */
+    private void rebuildColumnIndex() {
+        this.columnIndexMap.clear();
+        for (int i = 0; i < this.columnKeys.size(); i++) {
+            this.columnIndexMap.put(this.columnKeys.get(i), new Integer(i));
+        }
     }
     
     /**
@@ -516,7 +566,28 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             KeyedObjects row = (KeyedObjects) iterator.next();
             clone.rows.add(row.clone());
         }
+        clone.rowIndexMap = new HashMap();
+        clone.columnIndexMap = new HashMap();
+        clone.rebuildRowIndex();
+        clone.rebuildColumnIndex();
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream) 
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
+        rebuildRowIndex();
+        rebuildColumnIndex();
+    }
+
 }
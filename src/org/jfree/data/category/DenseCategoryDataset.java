@@ -0,0 +1,651 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} that stores its values in a dense array of
+ * primitive <code>double</code> values, with hash indices for the row and
+ * column keys.  This is intended for large, fully populated tables, where
+ * {@link DefaultCategoryDataset} would create one object per value.  Setting
+ * and looking up a value by key takes constant time (adding a new row or
+ * column is amortised constant time).
+ * <P>
+ * Missing values are stored as <code>Double.NaN</code> and are reported as
+ * <code>null</code> by the {@link #getValue(int, int)} method, so this
+ * dataset cannot hold <code>NaN</code> as a real value.
+ *
+ * @since 1.0.10
+ */
+public class DenseCategoryDataset extends AbstractDataset
+        implements CategoryDataset, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3361467426612297143L;
+
+    /** The row keys. */
+    private ArrayList rowKeys;
+
+    /** The column keys. */
+    private ArrayList columnKeys;
+
+    /**
+     * The values, indexed by [row][column].  The array may be larger than
+     * the number of rows and columns, with unused cells set to NaN.
+     */
+    private double[][] data;
+
+    /** The (key, Integer) mappings for the row keys. */
+    private transient HashMap rowIndexMap;
+
+    /** The (key, Integer) mappings for the column keys. */
+    private transient HashMap columnIndexMap;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DenseCategoryDataset() {
+        this.rowKeys = new ArrayList();
+        this.columnKeys = new ArrayList();
+        this.data = new double[0][0];
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
+    }
+
+    /**
+     * Creates a new dataset populated with a copy of the supplied data.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted, no
+     *     duplicates).
+     * @param columnKeys  the column keys (<code>null</code> not permitted, no
+     *     duplicates).
+     * @param data  the data, indexed by [row][column] (<code>null</code> not
+     *     permitted, use <code>Double.NaN</code> for missing values).
+     */
+    public DenseCategoryDataset(Comparable[] rowKeys, Comparable[] columnKeys,
+            double[][] data) {
+        this();
+        if (rowKeys == null) {
+            throw new IllegalArgumentException("Null 'rowKeys' argument.");
+        }
+        if (columnKeys == null) {
+            throw new IllegalArgumentException("Null 'columnKeys' argument.");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        if (data.length != rowKeys.length) {
+            throw new IllegalArgumentException(
+                    "The number of rows in 'data' does not match the keys.");
+        }
+        for (int c = 0; c < columnKeys.length; c++) {
+            addKey(this.columnKeys, this.columnIndexMap, columnKeys[c]);
+        }
+        this.data = new double[rowKeys.length][];
+        for (int r = 0; r < rowKeys.length; r++) {
+            addKey(this.rowKeys, this.rowIndexMap, rowKeys[r]);
+            if (data[r].length != columnKeys.length) {
+                throw new IllegalArgumentException("The number of columns in "
+                        + "'data' does not match the keys.");
+            }
+            this.data[r] = (double[]) data[r].clone();
+        }
+    }
+
+    /**
+     * Adds a key to a key list and index, checking for <code>null</code>
+     * and duplicate keys.
+     *
+     * @param keys  the key list.
+     * @param indexMap  the index for the keys.
+     * @param key  the key.
+     */
+    private static void addKey(List keys, HashMap indexMap, Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null key.");
+        }
+        if (indexMap.containsKey(key)) {
+            throw new IllegalArgumentException("Duplicate key: " + key);
+        }
+        keys.add(key);
+        indexMap.put(key, new Integer(keys.size() - 1));
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @see #getDoubleValue(int, int)
+     */
+    public Number getValue(int row, int column) {
+        double v = getDoubleValue(row, column);
+        return (Double.isNaN(v) ? null : new Double(v));
+    }
+
+    /**
+     * Returns a value from the table as a primitive, without creating an
+     * object.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> or
+     *     <code>column</code> is out of bounds.
+     */
+    public double getDoubleValue(int row, int column) {
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException("Column index out of bounds: "
+                    + column);
+        }
+        return this.data[row][column];
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or <code>-1</code> if the key is not
+     *     recognised.
+     *
+     * @see #getRowKey(int)
+     */
+    public int getRowIndex(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer i = (Integer) this.rowIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     *
+     * @see #getRowKey(int)
+     */
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or <code>-1</code> if the key is not
+     *     recognised.
+     *
+     * @see #getColumnKey(int)
+     */
+    public int getColumnIndex(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer i = (Integer) this.columnIndexMap.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     *
+     * @see #getColumnKey(int)
+     */
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the
+     *     dataset.
+     */
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Adds a value to the table and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  Performs the same function as
+     * {@link #setValue(double, Comparable, Comparable)}.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds a value to the table and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  Performs the same function as
+     * {@link #setValue(Number, Comparable, Comparable)}.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  New rows and columns are added as required, with missing
+     * values in the other cells.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            addKey(this.rowKeys, this.rowIndexMap, rowKey);
+            row = this.rowKeys.size() - 1;
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            addKey(this.columnKeys, this.columnIndexMap, columnKey);
+            column = this.columnKeys.size() - 1;
+        }
+        ensureCapacity(row + 1, column + 1);
+        this.data[row][column] = value;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Makes sure that the data array has room for the specified number of
+     * rows and columns, growing it geometrically if necessary.
+     *
+     * @param rows  the required number of rows.
+     * @param columns  the required number of columns.
+     */
+    private void ensureCapacity(int rows, int columns) {
+        int rowCapacity = this.data.length;
+        int columnCapacity = (rowCapacity > 0 ? this.data[0].length : 0);
+        if (rows <= rowCapacity && columns <= columnCapacity) {
+            return;
+        }
+        int newColumns = columnCapacity;
+        if (columns > columnCapacity) {
+            newColumns = Math.max(columns, columnCapacity * 2);
+        }
+        int newRows = rowCapacity;
+        if (rows > rowCapacity) {
+            newRows = Math.max(rows, rowCapacity * 2);
+        }
+        double[][] newData = new double[newRows][];
+        for (int r = 0; r < newRows; r++) {
+            double[] rowData = new double[newColumns];
+            int start = 0;
+            if (r < rowCapacity) {
+                start = this.data[r].length;
+                System.arraycopy(this.data[r], 0, rowData, 0, start);
+            }
+            for (int c = start; c < newColumns; c++) {
+                rowData[c] = Double.NaN;
+            }
+            newData[r] = rowData;
+        }
+        this.data = newData;
+    }
+
+    /**
+     * Removes a row from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param rowIndex  the row index.
+     *
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        this.rowKeys.remove(rowIndex);
+        double[] removed = this.data[rowIndex];
+        System.arraycopy(this.data, rowIndex + 1, this.data, rowIndex,
+                this.data.length - rowIndex - 1);
+        // keep the spare row for re-use, but clear it
+        for (int c = 0; c < removed.length; c++) {
+            removed[c] = Double.NaN;
+        }
+        this.data[this.data.length - 1] = removed;
+        rebuildIndex(this.rowKeys, this.rowIndexMap);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>rowKey</code> is not defined in
+     *     the dataset.
+     *
+     * @see #removeColumn(Comparable)
+     */
+    public void removeRow(Comparable rowKey) {
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        removeRow(row);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param columnIndex  the column index.
+     *
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        this.columnKeys.remove(columnIndex);
+        for (int r = 0; r < this.data.length; r++) {
+            double[] rowData = this.data[r];
+            System.arraycopy(rowData, columnIndex + 1, rowData, columnIndex,
+                    rowData.length - columnIndex - 1);
+            rowData[rowData.length - 1] = Double.NaN;
+        }
+        rebuildIndex(this.columnKeys, this.columnIndexMap);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>columnKey</code> is not defined
+     *     in the dataset.
+     *
+     * @see #removeRow(Comparable)
+     */
+    public void removeColumn(Comparable columnKey) {
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(column);
+    }
+
+    /**
+     * Clears all data from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
+        this.data = new double[0][0];
+        fireDatasetChanged();
+    }
+
+    /**
+     * Rebuilds the key to index mapping for a list of keys.
+     *
+     * @param keys  the keys.
+     * @param indexMap  the index.
+     */
+    private static void rebuildIndex(List keys, HashMap indexMap) {
+        indexMap.clear();
+        for (int i = 0; i < keys.size(); i++) {
+            indexMap.put(keys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  As for
+     * {@link DefaultCategoryDataset}, any {@link CategoryDataset} with the
+     * same keys and values is considered equal.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                long bits = Double.doubleToLongBits(this.data[r][c]);
+                result = 29 * result + (int) (bits ^ (bits >>> 32));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DenseCategoryDataset clone = (DenseCategoryDataset) super.clone();
+        clone.rowKeys = (ArrayList) this.rowKeys.clone();
+        clone.columnKeys = (ArrayList) this.columnKeys.clone();
+        clone.data = new double[this.data.length][];
+        for (int r = 0; r < this.data.length; r++) {
+            clone.data[r] = (double[]) this.data[r].clone();
+        }
+        clone.rowIndexMap = (HashMap) this.rowIndexMap.clone();
+        clone.columnIndexMap = (HashMap) this.columnIndexMap.clone();
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
+        rebuildIndex(this.rowKeys, this.rowIndexMap);
+        rebuildIndex(this.columnKeys, this.columnIndexMap);
+    }
+
+}
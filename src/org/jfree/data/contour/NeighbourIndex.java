@@ -0,0 +1,280 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * NeighbourIndex.java
+ * -------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.contour;
+
+/**
+ * A bucket grid over a set of scattered points that supports k-nearest
+ * neighbour queries, used by {@link NonGridContourDataset}.  The points are
+ * sorted into square-ish cells (about two points per cell) and a query
+ * scans rings of cells outwards from the cell containing the query point,
+ * stopping as soon as no unscanned cell can hold a closer point.  For
+ * points that are spread reasonably evenly a query visits a number of
+ * cells proportional to k, independent of the total point count.
+ * <P>
+ * Instances are immutable once built, so queries can run in several
+ * threads at once (each thread supplying its own result buffers).
+ */
+class NeighbourIndex {
+
+    /** The x-values, in cell order. */
+    private double[] x;
+
+    /** The y-values, in cell order. */
+    private double[] y;
+
+    /** The z-values, in cell order. */
+    private double[] z;
+
+    /** The index of the first point in each cell (plus an end marker). */
+    private int[] cellStart;
+
+    /** The number of columns. */
+    private int columns;
+
+    /** The number of rows. */
+    private int rows;
+
+    /** The minimum x-value. */
+    private double xMin;
+
+    /** The minimum y-value. */
+    private double yMin;
+
+    /** The cell width. */
+    private double cellWidth;
+
+    /** The cell height. */
+    private double cellHeight;
+
+    /**
+     * Creates an index for the specified points.
+     *
+     * @param xs  the x-values.
+     * @param ys  the y-values.
+     * @param zs  the z-values.
+     * @param xMin  the minimum x-value.
+     * @param xMax  the maximum x-value.
+     * @param yMin  the minimum y-value.
+     * @param yMax  the maximum y-value.
+     */
+    NeighbourIndex(double[] xs, double[] ys, double[] zs, double xMin,
+            double xMax, double yMin, double yMax) {
+        int n = xs.length;
+        double width = xMax - xMin;
+        double height = yMax - yMin;
+        int cells = Math.max(1, n / 2);
+        if (width > 0.0 && height > 0.0) {
+            double side = Math.sqrt(width * height / cells);
+            this.columns = (int) Math.max(1, Math.min(cells, width / side));
+            this.rows = (int) Math.max(1, Math.min(cells / this.columns,
+                    height / side));
+        }
+        else if (width > 0.0) {
+            this.columns = cells;
+            this.rows = 1;
+        }
+        else {
+            this.columns = 1;
+            this.rows = height > 0.0 ? cells : 1;
+        }
+        this.xMin = xMin;
+        this.yMin = yMin;
+        this.cellWidth = width > 0.0 ? width / this.columns : 1.0;
+        this.cellHeight = height > 0.0 ? height / this.rows : 1.0;
+
+        // counting sort of the points by cell
+        int[] cellOf = new int[n];
+        this.cellStart = new int[this.columns * this.rows + 1];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = row(ys[i]) * this.columns + column(xs[i]);
+            this.cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 1; c < this.cellStart.length; c++) {
+            this.cellStart[c] += this.cellStart[c - 1];
+        }
+        int[] next = new int[this.cellStart.length - 1];
+        System.arraycopy(this.cellStart, 0, next, 0, next.length);
+        this.x = new double[n];
+        this.y = new double[n];
+        this.z = new double[n];
+        for (int i = 0; i < n; i++) {
+            int p = next[cellOf[i]]++;
+            this.x[p] = xs[i];
+            this.y[p] = ys[i];
+            this.z[p] = zs[i];
+        }
+    }
+
+    /**
+     * Returns the column containing the specified x-value.
+     *
+     * @param xx  the x-value.
+     *
+     * @return The column (clamped to the grid).
+     */
+    private int column(double xx) {
+        int c = (int) ((xx - this.xMin) / this.cellWidth);
+        return Math.max(0, Math.min(this.columns - 1, c));
+    }
+
+    /**
+     * Returns the row containing the specified y-value.
+     *
+     * @param yy  the y-value.
+     *
+     * @return The row (clamped to the grid).
+     */
+    private int row(double yy) {
+        int r = (int) ((yy - this.yMin) / this.cellHeight);
+        return Math.max(0, Math.min(this.rows - 1, r));
+    }
+
+    /**
+     * Finds the nearest points to (xx, yy).  On return, the first
+     * <code>n</code> elements of <code>distance2</code> hold the squared
+     * distances to the neighbours (in no particular order) and the same
+     * elements of <code>value</code> hold their z-values, where
+     * <code>n</code> is the return value.
+     *
+     * @param xx  the x-coordinate.
+     * @param yy  the y-coordinate.
+     * @param distance2  a buffer for the squared distances (its length is
+     *     the number of neighbours required).
+     * @param value  a buffer for the z-values (same length).
+     *
+     * @return The number of neighbours found.
+     */
+    int findNearest(double xx, double yy, double[] distance2,
+            double[] value) {
+        int[] state = new int[] {0, -1};
+        int cx = column(xx);
+        int cy = row(yy);
+        int maxRing = Math.max(Math.max(cx, this.columns - 1 - cx),
+                Math.max(cy, this.rows - 1 - cy));
+        double step = Math.min(this.cellWidth, this.cellHeight);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int c0 = Math.max(0, cx - ring);
+            int c1 = Math.min(this.columns - 1, cx + ring);
+            int r0 = Math.max(0, cy - ring);
+            int r1 = Math.min(this.rows - 1, cy + ring);
+            for (int r = r0; r <= r1; r++) {
+                if (r == cy - ring || r == cy + ring) {
+                    for (int c = c0; c <= c1; c++) {
+                        scan(r * this.columns + c, xx, yy, distance2, value,
+                                state);
+                    }
+                }
+                else {
+                    if (cx - ring >= 0) {
+                        scan(r * this.columns + cx - ring, xx, yy, distance2,
+                                value, state);
+                    }
+                    if (ring > 0 && cx + ring < this.columns) {
+                        scan(r * this.columns + cx + ring, xx, yy, distance2,
+                                value, state);
+                    }
+                }
+            }
+            if (state[1] >= 0) {
+                // every unscanned point is at least this far away
+                double reach = ring * step;
+                if (distance2[state[1]] <= reach * reach) {
+                    break;
+                }
+            }
+        }
+        return state[0];
+    }
+
+    /**
+     * Offers the points in one cell to a nearest neighbour query.
+     *
+     * @param cell  the cell index.
+     * @param xx  the query x-coordinate.
+     * @param yy  the query y-coordinate.
+     * @param distance2  the squared distances found so far.
+     * @param value  the z-values found so far.
+     * @param state  the number of neighbours found, and the index of the
+     *     farthest of them (-1 until the buffers are full).
+     */
+    private void scan(int cell, double xx, double yy, double[] distance2,
+            double[] value, int[] state) {
+        int k = distance2.length;
+        for (int p = this.cellStart[cell]; p < this.cellStart[cell + 1];
+                p++) {
+            double dx = this.x[p] - xx;
+            double dy = this.y[p] - yy;
+            double d2 = dx * dx + dy * dy;
+            if (state[0] < k) {
+                distance2[state[0]] = d2;
+                value[state[0]] = this.z[p];
+                state[0]++;
+                if (state[0] == k) {
+                    state[1] = farthest(distance2, k);
+                }
+            }
+            else if (d2 < distance2[state[1]]) {
+                distance2[state[1]] = d2;
+                value[state[1]] = this.z[p];
+                state[1] = farthest(distance2, k);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the largest of the first <code>k</code> values.
+     *
+     * @param d  the values.
+     * @param k  the count.
+     *
+     * @return The index.
+     */
+    private static int farthest(double[] d, int k) {
+        int result = 0;
+        for (int i = 1; i < k; i++) {
+            if (d[i] > d[result]) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+}
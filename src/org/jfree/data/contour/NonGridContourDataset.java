@@ -37,11 +37,16 @@
  * 24-Jul-2003 : Added standard header (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 31-Jan-2007 : Deprecated (DG);
+ * 19-Oct-2026 : Added nearest neighbour interpolation and a multi-threaded
+ *               grid fill;
+ * 19-Oct-2026 : Added getGridThreadCount();
  *
  */
 
 package org.jfree.data.contour;
 
+import java.lang.reflect.Method;
+
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.xy.XYBlockRenderer;
 import org.jfree.data.Range;
@@ -65,6 +70,12 @@ public class NonGridContourDataset extends DefaultContourDataset {
     /** Default power. */
     static final int DEFAULT_POWER = 4;
 
+    /** 
+     * The minimum number of point-to-grid distance calculations for each 
+     * thread used to fill the grid.
+     */
+    private static final int MIN_WORK_PER_THREAD = 1000000;
+
     /**
      * Default constructor.
      */
@@ -107,6 +118,32 @@ public class NonGridContourDataset extends DefaultContourDataset {
         buildGrid(numX, numY, power);
     }
 
+    /**
+     * Constructor for NonGridContourDataset that interpolates each grid 
+     * point from its nearest neighbours only (see 
+     * {@link #buildGrid(int, int, int, int)}).
+     * 
+     * @param seriesName  the series name.
+     * @param xData  the x values.
+     * @param yData  the y values.
+     * @param zData  the z values.
+     * @param numX  number grid cells in along the x-axis
+     * @param numY  number grid cells in along the y-axis
+     * @param power  exponent for inverse distance weighting
+     * @param neighbourCount  the number of nearest points used for each grid
+     *     point (zero or less to use all the points).
+     * 
+     * @since 1.0.10
+     */
+    public NonGridContourDataset(String seriesName, 
+                                 Object[] xData, Object[] yData, 
+                                 Object[] zData,
+                                 int numX, int numY, int power, 
+                                 int neighbourCount) {
+        super(seriesName, xData, yData, zData);
+        buildGrid(numX, numY, power, neighbourCount);
+    }
+
     /**
      * Builds a regular grid.  Maps the non-grid data into the regular grid 
      * using an inverse distance between grid and non-grid points.  Weighting 
@@ -119,6 +156,35 @@ public class NonGridContourDataset extends DefaultContourDataset {
      * @param power  exponent for inverse distance weighting
      */
     protected void buildGrid(int numX, int numY, int power) {
+        buildGrid(numX, numY, power, 0);
+    }
+
+    /**
+     * Builds a regular grid, as for {@link #buildGrid(int, int, int)}, but
+     * optionally using only the nearest <code>neighbourCount</code> data 
+     * points for each grid point.  The neighbours are found with a bucket 
+     * grid over the data points, so the cost is roughly proportional to 
+     * the number of grid points times <code>neighbourCount</code> rather 
+     * than the number of grid points times the number of data points.  
+     * Since distant points are ignored the result is an approximation.  
+     * Note that the weight is <code>1 / distance^(power / 2)</code>, so with 
+     * the default power of 4 it falls off only with the square of the 
+     * distance and the many distant points together still carry a lot of 
+     * weight - a power of 8 or more is needed for the result to stay close 
+     * to the full calculation.
+     * <P>
+     * Large grids are filled using one thread per available processor.
+     * 
+     * @param numX  number grid points in along the x-axis
+     * @param numY  number grid points in along the y-axis
+     * @param power  exponent for inverse distance weighting
+     * @param neighbourCount  the number of nearest points used for each grid
+     *     point (zero or less to use all the points).
+     * 
+     * @since 1.0.10
+     */
+    protected void buildGrid(int numX, int numY, int power, 
+                             int neighbourCount) {
 
         int numValues = numX * numY;
         double[] xGrid = new double[numValues];
@@ -180,6 +246,34 @@ public class NonGridContourDataset extends DefaultContourDataset {
         }
 
         // Map the nongrid data into the new regular grid
+        if (isDistanceOverridden()) {
+            fillGrid(xGrid, yGrid, zGrid, power);
+        }
+        else {
+            fillGrid(xGrid, yGrid, zGrid, power, neighbourCount, xMin, 
+                    xMax, yMin, yMax);
+        }
+
+        //initalize xValues, yValues, and zValues arrays.
+        initialize(
+            formObjectArray(xGrid), formObjectArray(yGrid), 
+            formObjectArray(zGrid)
+        );
+
+    }
+
+    /**
+     * Maps the nongrid data into the regular grid, calling 
+     * {@link #distance(double, double, double, double)} for every pair of 
+     * points (used when a subclass overrides that method).
+     * 
+     * @param xGrid  the grid x-values.
+     * @param yGrid  the grid y-values.
+     * @param zGrid  the grid z-values (filled by this method).
+     * @param power  exponent for inverse distance weighting
+     */
+    private void fillGrid(double[] xGrid, double[] yGrid, double[] zGrid, 
+                          int power) {
         for (int kGrid = 0; kGrid < xGrid.length; kGrid++) {
             double dTotal = 0.0;
             zGrid[kGrid] = 0.0;
@@ -206,13 +300,207 @@ public class NonGridContourDataset extends DefaultContourDataset {
             }
             zGrid[kGrid] = zGrid[kGrid] / dTotal;  //remove distance of the sum
         }
+    }
 
-        //initalize xValues, yValues, and zValues arrays.
-        initialize(
-            formObjectArray(xGrid), formObjectArray(yGrid), 
-            formObjectArray(zGrid)
-        );
+    /**
+     * Maps the nongrid data into the regular grid, splitting the work 
+     * between several threads for large grids.
+     * 
+     * @param xGrid  the grid x-values.
+     * @param yGrid  the grid y-values.
+     * @param zGrid  the grid z-values (filled by this method).
+     * @param power  exponent for inverse distance weighting
+     * @param neighbourCount  the number of nearest points used for each grid
+     *     point (zero or less to use all the points).
+     * @param xMin  the minimum x-value.
+     * @param xMax  the maximum x-value.
+     * @param yMin  the minimum y-value.
+     * @param yMax  the maximum y-value.
+     */
+    private void fillGrid(final double[] xGrid, final double[] yGrid, 
+                          final double[] zGrid, final int power, 
+                          int neighbourCount, double xMin, double xMax, 
+                          double yMin, double yMax) {
+        int n = this.xValues.length;
+        final double[] xs = new double[n];
+        final double[] ys = new double[n];
+        final double[] zs = new double[n];
+        for (int k = 0; k < n; k++) {
+            xs[k] = this.xValues[k].doubleValue();
+            ys[k] = this.yValues[k].doubleValue();
+            // a null z-value adds its weight to the total but nothing to
+            // the sum, exactly like a zero
+            zs[k] = this.zValues[k] != null 
+                    ? this.zValues[k].doubleValue() : 0.0;
+        }
+        final NeighbourIndex index;
+        final int k;
+        if (neighbourCount > 0 && neighbourCount < n) {
+            index = new NeighbourIndex(xs, ys, zs, xMin, xMax, yMin, yMax);
+            k = neighbourCount;
+        }
+        else {
+            index = null;
+            k = n;
+        }
+
+        final int cells = zGrid.length;
+        long work = (long) cells * k;
+        int threads = Math.max(1, Math.min(cells, getGridThreadCount(work)));
+        if (threads == 1) {
+            fillCells(xGrid, yGrid, zGrid, 0, cells, power, xs, ys, zs, 
+                    index, k);
+            return;
+        }
+        final boolean[] done = new boolean[threads];
+        Thread[] workers = new Thread[threads];
+        int chunk = (cells + threads - 1) / threads;
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            final int start = t * chunk;
+            final int end = Math.min(cells, start + chunk);
+            workers[t] = new Thread("NonGridContourDataset-" + t) {
+                public void run() {
+                    fillCells(xGrid, yGrid, zGrid, start, end, power, xs, 
+                            ys, zs, index, k);
+                    done[id] = true;
+                }
+            };
+            workers[t].start();
+        }
+        for (int t = 0; t < threads; t++) {
+            try {
+                workers[t].join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while building grid.");
+            }
+            if (!done[t]) {
+                throw new IllegalStateException("Grid thread failed.");
+            }
+        }
+    }
 
+    /**
+     * Returns the number of threads used to fill the grid.  By default this 
+     * is one per available processor, but no more than one for each million 
+     * point-to-grid distance calculations, so that small grids are filled 
+     * on the calling thread.  It is not used when a subclass overrides 
+     * {@link #distance(double, double, double, double)}.
+     * 
+     * @param work  the number of point-to-grid distance calculations.
+     * 
+     * @return The number of threads (values less than one are treated as 
+     *     one).
+     * 
+     * @since 1.0.10
+     */
+    protected int getGridThreadCount(long work) {
+        return (int) Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors(), 
+                work / MIN_WORK_PER_THREAD));
+    }
+
+    /**
+     * Calculates the z-values for a range of grid points.
+     * 
+     * @param xGrid  the grid x-values.
+     * @param yGrid  the grid y-values.
+     * @param zGrid  the grid z-values (filled by this method).
+     * @param start  the index of the first grid point.
+     * @param end  the index after the last grid point.
+     * @param power  exponent for inverse distance weighting
+     * @param xs  the data x-values.
+     * @param ys  the data y-values.
+     * @param zs  the data z-values.
+     * @param index  the neighbour index (<code>null</code> to use all the
+     *     data points).
+     * @param k  the number of neighbours (ignored if <code>index</code> is
+     *     <code>null</code>).
+     */
+    private static void fillCells(double[] xGrid, double[] yGrid, 
+            double[] zGrid, int start, int end, int power, double[] xs, 
+            double[] ys, double[] zs, NeighbourIndex index, int k) {
+        double[] d2 = index != null ? new double[k] : null;
+        double[] z = index != null ? new double[k] : null;
+        for (int kGrid = start; kGrid < end; kGrid++) {
+            double xg = xGrid[kGrid];
+            double yg = yGrid[kGrid];
+            double sum = 0.0;
+            double dTotal = 0.0;
+            if (index != null) {
+                int found = index.findNearest(xg, yg, d2, z);
+                for (int i = 0; i < found; i++) {
+                    double w = weight(d2[i], power);
+                    sum += z[i] * w;
+                    dTotal += w;
+                }
+            }
+            else {
+                for (int i = 0; i < xs.length; i++) {
+                    double dx = xs[i] - xg;
+                    double dy = ys[i] - yg;
+                    double w = weight(dx * dx + dy * dy, power);
+                    sum += zs[i] * w;
+                    dTotal += w;
+                }
+            }
+            zGrid[kGrid] = sum / dTotal;
+        }
+    }
+
+    /**
+     * Returns the inverse distance weight for a squared distance.  This 
+     * gives the same result as the original calculation in 
+     * {@link #buildGrid(int, int, int)}, that is 
+     * <code>1 / sqrt(distance^power)</code>, but avoids the square roots
+     * and the call to <code>Math.pow()</code> for the common powers.
+     * 
+     * @param d2  the squared distance.
+     * @param power  exponent for inverse distance weighting
+     * 
+     * @return The weight.
+     */
+    private static double weight(double d2, int power) {
+        double d;
+        if (power == 4) {
+            d = d2;
+        }
+        else if (power == 2) {
+            d = Math.sqrt(d2);
+        }
+        else {
+            d = Math.pow(d2, power / 4.0);
+        }
+        // if d is real small set the inverse to a large number to avoid INF
+        return d > 0.0 ? 1.0 / d : 1.e20;
+    }
+
+    /**
+     * Returns <code>true</code> if a subclass overrides 
+     * {@link #distance(double, double, double, double)}, in which case the 
+     * grid must be filled by calling that method.
+     * 
+     * @return A boolean.
+     */
+    private boolean isDistanceOverridden() {
+        Class c = getClass();
+        while (c != NonGridContourDataset.class) {
+            try {
+                Method m = c.getDeclaredMethod("distance", new Class[] {
+                        double.class, double.class, double.class, 
+                        double.class});
+                if (m != null) {
+                    return true;
+                }
+            }
+            catch (NoSuchMethodException e) {
+                // keep looking
+            }
+            c = c.getSuperclass();
+        }
+        return false;
     }
 
     /**
@@ -108,6 +108,7 @@
  * 28-Mar-2008 : Applied a variation of patch 1925366 (from Rafal Skalny) for
  *               slightly more efficient iterateRangeBounds() methods (DG);
  * 08-Apr-2008 : Fixed typo in iterateRangeBounds() (DG);
+ * 19-Oct-2026 : Linear time createConsolidatedPieDataset();
  *
  */
 
@@ -291,43 +292,52 @@ public final class DatasetUtilities {
                                                           int minItems) {
 
         DefaultPieDataset result = new DefaultPieDataset();
-        double total = DatasetUtilities.calculatePieDatasetTotal(source);
 
-        //  Iterate and find all keys below threshold percentThreshold
-        List keys = source.getKeys();
-        ArrayList otherKeys = new ArrayList();
-        Iterator iterator = keys.iterator();
-        while (iterator.hasNext()) {
-            Comparable currentKey = (Comparable) iterator.next();
-            Number dataValue = source.getValue(currentKey);
-            if (dataValue != null) {
-                double value = dataValue.doubleValue();
-                if (value / total < minimumPercent) {
-                    otherKeys.add(currentKey);
+        // read the keys and values once, accumulating the total as we go
+        int itemCount = source.getItemCount();
+        Comparable[] keys = new Comparable[itemCount];
+        Number[] values = new Number[itemCount];
+        double total = 0.0;
+        for (int i = 0; i < itemCount; i++) {
+            keys[i] = source.getKey(i);
+            values[i] = source.getValue(i);
+            if (keys[i] != null && values[i] != null) {
+                double v = values[i].doubleValue();
+                if (v > 0) {
+                    total = total + v;
+                }
+            }
+        }
+
+        //  Find all items below the threshold percent
+        boolean[] other = new boolean[itemCount];
+        int otherCount = 0;
+        for (int i = 0; i < itemCount; i++) {
+            if (values[i] != null) {
+                if (values[i].doubleValue() / total < minimumPercent) {
+                    other[i] = true;
+                    otherCount++;
                 }
             }
         }
 
         //  Create new dataset with keys above threshold percentThreshold
-        iterator = keys.iterator();
         double otherValue = 0;
-        while (iterator.hasNext()) {
-            Comparable currentKey = (Comparable) iterator.next();
-            Number dataValue = source.getValue(currentKey);
-            if (dataValue != null) {
-                if (otherKeys.contains(currentKey)
-                    && otherKeys.size() >= minItems) {
+        boolean aggregate = otherCount >= minItems;
+        for (int i = 0; i < itemCount; i++) {
+            if (values[i] != null) {
+                if (other[i] && aggregate) {
                     //  Do not add key to dataset
-                    otherValue += dataValue.doubleValue();
+                    otherValue += values[i].doubleValue();
                 }
                 else {
                     //  Add key to dataset
-                    result.setValue(currentKey, dataValue);
+                    result.setValue(keys[i], values[i]);
                 }
             }
         }
         //  Add other category if applicable
-        if (otherKeys.size() >= minItems) {
+        if (aggregate) {
             result.setValue(key, otherValue);
         }
         return result;
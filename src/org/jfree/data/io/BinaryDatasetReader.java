@@ -0,0 +1,340 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * BinaryDatasetReader.java
+ * ------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Recreate time periods in the time zone of the writer;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.jfree.data.category.DenseCategoryDataset;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A utility class for reading datasets written by
+ * {@link BinaryDatasetWriter}.  Uncompressed columns are memory-mapped and
+ * read in place, so the time taken to open a file does not depend on its
+ * size.  Keys are read as strings.
+ *
+ * @since 1.0.10
+ */
+public class BinaryDatasetReader {
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private BinaryDatasetReader() {
+    }
+
+    /**
+     * Reads an {@link XYDataset} from a file written by
+     * {@link BinaryDatasetWriter#writeXYDataset(XYDataset,
+     * java.io.OutputStream, boolean)} or
+     * {@link BinaryDatasetWriter#writeTimeSeriesCollection(
+     * TimeSeriesCollection, java.io.OutputStream, boolean)} (in which case
+     * the x-values are the first millisecond of each time period).
+     * Uncompressed columns are memory-mapped rather than loaded onto the
+     * heap.  The returned dataset cannot be modified or serialized.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the file format is
+     *     not recognised.
+     */
+    public static XYDataset readXYDataset(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            DataInputStream header = readPrefix(channel);
+            byte type = header.readByte();
+            if (type != BinaryFormat.XY && type != BinaryFormat.TIME_SERIES) {
+                throw new IOException("The file does not contain XY data.");
+            }
+            long offset = channel.position();
+            if (type == BinaryFormat.TIME_SERIES) {
+                header.readUTF();
+            }
+            int seriesCount = header.readInt();
+            Comparable[] keys = new Comparable[seriesCount];
+            DoubleBuffer[] x = new DoubleBuffer[seriesCount];
+            DoubleBuffer[] y = new DoubleBuffer[seriesCount];
+            for (int s = 0; s < seriesCount; s++) {
+                keys[s] = header.readUTF();
+                if (type == BinaryFormat.TIME_SERIES) {
+                    header.readUTF();
+                }
+                int itemCount = header.readInt();
+                byte encoding = header.readByte();
+                long length = header.readLong();
+                x[s] = readColumn(channel, offset, length, itemCount,
+                        encoding);
+                offset += length;
+                encoding = header.readByte();
+                length = header.readLong();
+                y[s] = readColumn(channel, offset, length, itemCount,
+                        encoding);
+                offset += length;
+            }
+            return new ColumnXYDataset(keys, x, y);
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads a {@link TimeSeriesCollection} from a file written by
+     * {@link BinaryDatasetWriter#writeTimeSeriesCollection(
+     * TimeSeriesCollection, java.io.OutputStream, boolean, TimeZone)}.  The
+     * time periods are recreated in the time zone recorded by the writer,
+     * which is also used for the returned collection.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the file format is
+     *     not recognised.
+     */
+    public static TimeSeriesCollection readTimeSeriesCollection(File file)
+            throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            DataInputStream header = readPrefix(channel);
+            if (header.readByte() != BinaryFormat.TIME_SERIES) {
+                throw new IOException(
+                        "The file does not contain time series data.");
+            }
+            long offset = channel.position();
+            TimeZone zone = TimeZone.getTimeZone(header.readUTF());
+            TimeSeriesCollection dataset = new TimeSeriesCollection(zone);
+            int seriesCount = header.readInt();
+            for (int s = 0; s < seriesCount; s++) {
+                String key = header.readUTF();
+                Class periodClass;
+                try {
+                    periodClass = Class.forName(header.readUTF());
+                }
+                catch (ClassNotFoundException e) {
+                    throw new IOException("Unknown time period class.");
+                }
+                int itemCount = header.readInt();
+                byte encoding = header.readByte();
+                long length = header.readLong();
+                DoubleBuffer t = readColumn(channel, offset, length,
+                        itemCount, encoding);
+                offset += length;
+                encoding = header.readByte();
+                length = header.readLong();
+                DoubleBuffer v = readColumn(channel, offset, length,
+                        itemCount, encoding);
+                offset += length;
+                TimeSeries series = new TimeSeries(key, periodClass);
+                for (int i = 0; i < itemCount; i++) {
+                    RegularTimePeriod period
+                            = RegularTimePeriod.createInstance(periodClass,
+                            new Date((long) t.get(i)), zone);
+                    double value = v.get(i);
+                    series.add(period, Double.isNaN(value) ? null
+                            : new Double(value), false);
+                }
+                dataset.addSeries(series);
+            }
+            return dataset;
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads a {@link DenseCategoryDataset} from a file written by
+     * {@link BinaryDatasetWriter#writeCategoryDataset(
+     * org.jfree.data.category.CategoryDataset, java.io.OutputStream,
+     * boolean)}.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the file format is
+     *     not recognised.
+     */
+    public static DenseCategoryDataset readCategoryDataset(File file)
+            throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            DataInputStream header = readPrefix(channel);
+            if (header.readByte() != BinaryFormat.CATEGORY) {
+                throw new IOException(
+                        "The file does not contain category data.");
+            }
+            long offset = channel.position();
+            Comparable[] rowKeys = new Comparable[header.readInt()];
+            for (int r = 0; r < rowKeys.length; r++) {
+                rowKeys[r] = header.readUTF();
+            }
+            Comparable[] columnKeys = new Comparable[header.readInt()];
+            for (int c = 0; c < columnKeys.length; c++) {
+                columnKeys[c] = header.readUTF();
+            }
+            byte encoding = header.readByte();
+            long length = header.readLong();
+            DoubleBuffer values = readColumn(channel, offset, length,
+                    rowKeys.length * columnKeys.length, encoding);
+            double[][] data = new double[rowKeys.length][columnKeys.length];
+            for (int r = 0; r < rowKeys.length; r++) {
+                values.position(r * columnKeys.length);
+                values.get(data[r]);
+            }
+            return new DenseCategoryDataset(rowKeys, columnKeys, data);
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads and checks the fixed prefix, and returns a stream for reading
+     * the header, starting with the dataset type.  On return, the channel
+     * is positioned at the start of the column data.
+     *
+     * @param channel  the file channel.
+     *
+     * @return A stream for reading the header.
+     *
+     * @throws IOException if there is an I/O problem or the file format is
+     *     not recognised.
+     */
+    private static DataInputStream readPrefix(FileChannel channel)
+            throws IOException {
+        ByteBuffer prefix = ByteBuffer.allocate(BinaryFormat.PREFIX_LENGTH);
+        readFully(channel, prefix);
+        if (prefix.getInt() != BinaryFormat.MAGIC) {
+            throw new IOException("Not a binary dataset file.");
+        }
+        if (prefix.getShort() != BinaryFormat.VERSION) {
+            throw new IOException("Unsupported binary dataset version.");
+        }
+        byte type = prefix.get();
+        int headerLength = prefix.getInt();
+        if (headerLength < 0) {
+            throw new IOException("Corrupt header.");
+        }
+        ByteBuffer header = ByteBuffer.allocate(headerLength + 1);
+        header.put(type);
+        readFully(channel, header);
+        return new DataInputStream(new ByteArrayInputStream(header.array()));
+    }
+
+    /**
+     * Fills a buffer from a channel.
+     *
+     * @param channel  the channel.
+     * @param buffer  the buffer.
+     *
+     * @throws IOException if there is an I/O problem or the end of the file
+     *     is reached.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of file.");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Returns a column, mapping it if it is uncompressed and decoding it
+     * otherwise.
+     *
+     * @param channel  the file channel.
+     * @param offset  the file offset of the column.
+     * @param length  the length of the column in bytes.
+     * @param count  the number of values in the column.
+     * @param encoding  the column encoding.
+     *
+     * @return The column.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static DoubleBuffer readColumn(FileChannel channel, long offset,
+            long length, int count, byte encoding) throws IOException {
+        if (length > Integer.MAX_VALUE || offset + length > channel.size()) {
+            throw new IOException("Column cannot be mapped.");
+        }
+        if (encoding == BinaryFormat.RAW && length != count * 8L) {
+            throw new IOException("Corrupt column.");
+        }
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                length);
+        if (encoding == BinaryFormat.RAW) {
+            return bytes.asDoubleBuffer();
+        }
+        return DoubleBuffer.wrap(BinaryFormat.decode(bytes, count, encoding));
+    }
+
+}
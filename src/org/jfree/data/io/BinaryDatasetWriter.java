@@ -0,0 +1,330 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * BinaryDatasetWriter.java
+ * ------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Record the time zone of time series periods;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.time.TimeSeriesDataItem;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A utility class for writing datasets in a compact binary format that can
+ * be read back by {@link BinaryDatasetReader}.  Each series is stored as
+ * primitive columns.  Uncompressed files can be memory-mapped by the reader,
+ * compressed files are smaller (timestamps and slowly changing values
+ * typically need one or two bytes per value) but are decoded onto the heap
+ * when they are read.
+ * <P>
+ * Series, row and column keys are written as strings (using their
+ * <code>toString()</code> method), and <code>null</code> values are written
+ * as <code>Double.NaN</code>.
+ *
+ * @since 1.0.10
+ */
+public class BinaryDatasetWriter {
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private BinaryDatasetWriter() {
+    }
+
+    /**
+     * Writes an {@link XYDataset} to an output stream.  The stream is
+     * flushed but not closed.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param compress  compress the columns?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeXYDataset(XYDataset dataset, OutputStream out,
+            boolean compress) throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        int seriesCount = dataset.getSeriesCount();
+        Comparable[] keys = new Comparable[seriesCount];
+        double[][][] columns = new double[seriesCount][2][];
+        for (int s = 0; s < seriesCount; s++) {
+            keys[s] = dataset.getSeriesKey(s);
+            int itemCount = dataset.getItemCount(s);
+            double[] x = new double[itemCount];
+            double[] y = new double[itemCount];
+            for (int i = 0; i < itemCount; i++) {
+                x[i] = dataset.getXValue(s, i);
+                y[i] = dataset.getYValue(s, i);
+            }
+            columns[s][0] = x;
+            columns[s][1] = y;
+        }
+        writeSeries(BinaryFormat.XY, null, keys, null, columns, out,
+                compress);
+    }
+
+    /**
+     * Writes a {@link TimeSeriesCollection} to an output stream, using the
+     * default time zone.  The stream is flushed but not closed.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param compress  compress the columns?
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @see #writeTimeSeriesCollection(TimeSeriesCollection, OutputStream,
+     *     boolean, TimeZone)
+     */
+    public static void writeTimeSeriesCollection(TimeSeriesCollection dataset,
+            OutputStream out, boolean compress) throws IOException {
+        writeTimeSeriesCollection(dataset, out, compress,
+                TimeZone.getDefault());
+    }
+
+    /**
+     * Writes a {@link TimeSeriesCollection} to an output stream.  For each
+     * item, the first millisecond of the time period in the specified time
+     * zone is written along with the value.  The time period class is
+     * recorded for each series, and the time zone is recorded so that the
+     * reader recreates the same periods in any default time zone.  The
+     * stream is flushed but not closed.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param compress  compress the columns?
+     * @param zone  the time zone of the time periods (<code>null</code> not
+     *     permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeTimeSeriesCollection(TimeSeriesCollection dataset,
+            OutputStream out, boolean compress, TimeZone zone)
+            throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Null 'zone' argument.");
+        }
+        Calendar calendar = Calendar.getInstance(zone);
+        int seriesCount = dataset.getSeriesCount();
+        Comparable[] keys = new Comparable[seriesCount];
+        String[] periodClasses = new String[seriesCount];
+        double[][][] columns = new double[seriesCount][2][];
+        for (int s = 0; s < seriesCount; s++) {
+            TimeSeries series = dataset.getSeries(s);
+            keys[s] = series.getKey();
+            periodClasses[s] = series.getTimePeriodClass().getName();
+            int itemCount = series.getItemCount();
+            double[] t = new double[itemCount];
+            double[] v = new double[itemCount];
+            for (int i = 0; i < itemCount; i++) {
+                TimeSeriesDataItem item = series.getDataItem(i);
+                t[i] = item.getPeriod().getFirstMillisecond(calendar);
+                Number value = item.getValue();
+                v[i] = (value != null ? value.doubleValue() : Double.NaN);
+            }
+            columns[s][0] = t;
+            columns[s][1] = v;
+        }
+        writeSeries(BinaryFormat.TIME_SERIES, zone.getID(), keys,
+                periodClasses, columns, out, compress);
+    }
+
+    /**
+     * Writes a {@link CategoryDataset} to an output stream.  The stream is
+     * flushed but not closed.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param compress  compress the values?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeCategoryDataset(CategoryDataset dataset,
+            OutputStream out, boolean compress) throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        int rowCount = dataset.getRowCount();
+        int columnCount = dataset.getColumnCount();
+        double[] values = new double[rowCount * columnCount];
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                Number v = dataset.getValue(r, c);
+                values[r * columnCount + c] = (v != null ? v.doubleValue()
+                        : Double.NaN);
+            }
+        }
+        byte encoding = (compress ? BinaryFormat.XOR : BinaryFormat.RAW);
+        byte[] encoded = null;
+        long length = values.length * 8L;
+        if (encoding != BinaryFormat.RAW) {
+            encoded = BinaryFormat.encode(values, encoding);
+            length = encoded.length;
+        }
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            header.writeUTF(dataset.getRowKey(r).toString());
+        }
+        header.writeInt(columnCount);
+        for (int c = 0; c < columnCount; c++) {
+            header.writeUTF(dataset.getColumnKey(c).toString());
+        }
+        header.writeByte(encoding);
+        header.writeLong(length);
+        header.flush();
+
+        DataOutputStream data = writePrefix(out, BinaryFormat.CATEGORY,
+                headerBytes.toByteArray());
+        if (encoded != null) {
+            data.write(encoded);
+        }
+        else {
+            BinaryFormat.writeRaw(data, values);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes a set of series, each with two columns.
+     *
+     * @param type  the dataset type.
+     * @param zoneId  the time zone ID (<code>null</code> except for time
+     *     series).
+     * @param keys  the series keys.
+     * @param periodClasses  the time period class names (<code>null</code>
+     *     except for time series).
+     * @param columns  the columns, indexed by [series][x or y].
+     * @param out  the output stream.
+     * @param compress  compress the columns?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeSeries(byte type, String zoneId,
+            Comparable[] keys, String[] periodClasses, double[][][] columns,
+            OutputStream out, boolean compress) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        byte[][][] encoded = new byte[keys.length][2][];
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        if (zoneId != null) {
+            header.writeUTF(zoneId);
+        }
+        header.writeInt(keys.length);
+        for (int s = 0; s < keys.length; s++) {
+            header.writeUTF(keys[s].toString());
+            if (periodClasses != null) {
+                header.writeUTF(periodClasses[s]);
+            }
+            header.writeInt(columns[s][0].length);
+            for (int c = 0; c < 2; c++) {
+                double[] values = columns[s][c];
+                byte encoding = BinaryFormat.chooseEncoding(values, compress);
+                long length = values.length * 8L;
+                if (encoding != BinaryFormat.RAW) {
+                    encoded[s][c] = BinaryFormat.encode(values, encoding);
+                    length = encoded[s][c].length;
+                }
+                header.writeByte(encoding);
+                header.writeLong(length);
+            }
+        }
+        header.flush();
+
+        DataOutputStream data = writePrefix(out, type,
+                headerBytes.toByteArray());
+        for (int s = 0; s < keys.length; s++) {
+            for (int c = 0; c < 2; c++) {
+                if (encoded[s][c] != null) {
+                    data.write(encoded[s][c]);
+                }
+                else {
+                    BinaryFormat.writeRaw(data, columns[s][c]);
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the fixed prefix and the header.
+     *
+     * @param out  the output stream.
+     * @param type  the dataset type.
+     * @param header  the header.
+     *
+     * @return A data output stream for writing the columns.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static DataOutputStream writePrefix(OutputStream out, byte type,
+            byte[] header) throws IOException {
+        DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(out));
+        data.writeInt(BinaryFormat.MAGIC);
+        data.writeShort(BinaryFormat.VERSION);
+        data.writeByte(type);
+        data.writeInt(header.length);
+        data.write(header);
+        return data;
+    }
+
+}
@@ -0,0 +1,291 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------
+ * BinaryFormat.java
+ * -----------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Version 2 records the time zone of time series;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and column codecs shared by the {@link BinaryDatasetWriter} and
+ * {@link BinaryDatasetReader} classes.
+ * <P>
+ * A file starts with a fixed prefix (magic number, version, dataset type and
+ * header length), followed by a header describing the series or keys and
+ * the encoding and length of each column, followed by the column data.  The
+ * header for a time series collection starts with the ID of the time zone
+ * that the time periods were converted to milliseconds in.  All numbers are
+ * big-endian.  Columns are encoded as follows:
+ * <ul>
+ * <li>{@link #RAW} - eight bytes per value, so the column can be
+ *     memory-mapped and read in place;</li>
+ * <li>{@link #DELTA} - for integer values such as timestamps, the
+ *     difference between successive differences as a zig-zag variable
+ *     length integer (one byte per value for a regular series);</li>
+ * <li>{@link #XOR} - the bits of each value XOR-ed with the bits of the
+ *     previous value, with the leading and trailing zero bytes removed.</li>
+ * </ul>
+ */
+class BinaryFormat {
+
+    /** The magic number at the start of a file ("JFBD"). */
+    static final int MAGIC = 0x4A464244;
+
+    /** The format version. */
+    static final short VERSION = 2;
+
+    /** The length of the fixed prefix at the start of a file. */
+    static final int PREFIX_LENGTH = 11;
+
+    /** The dataset type for an {@link org.jfree.data.xy.XYDataset}. */
+    static final byte XY = 1;
+
+    /** The dataset type for a time series collection. */
+    static final byte TIME_SERIES = 2;
+
+    /** The dataset type for a category dataset. */
+    static final byte CATEGORY = 3;
+
+    /** The encoding for uncompressed columns. */
+    static final byte RAW = 0;
+
+    /** The delta-of-delta encoding for integer columns. */
+    static final byte DELTA = 1;
+
+    /** The XOR encoding for floating point columns. */
+    static final byte XOR = 2;
+
+    /** The control byte for a value that equals the previous value. */
+    private static final int XOR_REPEAT = 0x80;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private BinaryFormat() {
+    }
+
+    /**
+     * Returns the best encoding for a column.
+     *
+     * @param values  the values.
+     * @param compress  a flag that controls whether compression is used.
+     *
+     * @return The encoding.
+     */
+    static byte chooseEncoding(double[] values, boolean compress) {
+        if (!compress) {
+            return RAW;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!isLong(values[i])) {
+                return XOR;
+            }
+        }
+        return DELTA;
+    }
+
+    /**
+     * Returns <code>true</code> if a value can be stored exactly as a long
+     * (excluding -0.0 and values that could overflow a delta).
+     *
+     * @param v  the value.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLong(double v) {
+        if (Math.abs(v) > 9007199254740992.0) {  // 2^53
+            return false;
+        }
+        return Double.doubleToLongBits(v)
+                == Double.doubleToLongBits((double) (long) v);
+    }
+
+    /**
+     * Encodes a column with the {@link #DELTA} or {@link #XOR} encoding.
+     *
+     * @param values  the values.
+     * @param encoding  the encoding.
+     *
+     * @return The encoded bytes.
+     */
+    static byte[] encode(double[] values, byte encoding) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                values.length * 2 + 16);
+        if (encoding == DELTA) {
+            long previous = 0L;
+            long previousDelta = 0L;
+            for (int i = 0; i < values.length; i++) {
+                long v = (long) values[i];
+                long delta = v - previous;
+                long dod = delta - previousDelta;
+                writeVarLong(out, (dod << 1) ^ (dod >> 63));
+                previous = v;
+                previousDelta = delta;
+            }
+        }
+        else if (encoding == XOR) {
+            long previous = 0L;
+            for (int i = 0; i < values.length; i++) {
+                long bits = Double.doubleToLongBits(values[i]);
+                long xor = bits ^ previous;
+                previous = bits;
+                if (xor == 0L) {
+                    out.write(XOR_REPEAT);
+                    continue;
+                }
+                int lead = 0;
+                while ((xor >>> (56 - lead * 8) & 0xFF) == 0) {
+                    lead++;
+                }
+                int trail = 0;
+                while ((xor >>> (trail * 8) & 0xFF) == 0) {
+                    trail++;
+                }
+                out.write((lead << 4) | trail);
+                for (int b = 7 - lead; b >= trail; b--) {
+                    out.write((int) (xor >>> (b * 8)) & 0xFF);
+                }
+            }
+        }
+        else {
+            throw new IllegalArgumentException("Unknown encoding.");
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes a column with the {@link #RAW} encoding.
+     *
+     * @param out  the output stream.
+     * @param values  the values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    static void writeRaw(DataOutputStream out, double[] values)
+            throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            out.writeDouble(values[i]);
+        }
+    }
+
+    /**
+     * Writes an unsigned variable length integer (seven bits per byte).
+     *
+     * @param out  the output stream.
+     * @param v  the value.
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0L) {
+            out.write((int) (v & 0x7F) | 0x80);
+            v = v >>> 7;
+        }
+        out.write((int) v);
+    }
+
+    /**
+     * Decodes a column with the {@link #DELTA} or {@link #XOR} encoding.
+     *
+     * @param buffer  the buffer positioned at the start of the column.
+     * @param count  the number of values.
+     * @param encoding  the encoding.
+     *
+     * @return The values.
+     *
+     * @throws IOException if the encoding is not recognised.
+     */
+    static double[] decode(ByteBuffer buffer, int count, byte encoding)
+            throws IOException {
+        double[] result = new double[count];
+        if (encoding == DELTA) {
+            long previous = 0L;
+            long previousDelta = 0L;
+            for (int i = 0; i < count; i++) {
+                long zz = readVarLong(buffer);
+                long dod = (zz >>> 1) ^ -(zz & 1L);
+                previousDelta = previousDelta + dod;
+                previous = previous + previousDelta;
+                result[i] = previous;
+            }
+        }
+        else if (encoding == XOR) {
+            long previous = 0L;
+            for (int i = 0; i < count; i++) {
+                int control = buffer.get() & 0xFF;
+                if (control != XOR_REPEAT) {
+                    int lead = control >> 4;
+                    int trail = control & 0x0F;
+                    long xor = 0L;
+                    for (int b = 8 - lead - trail; b > 0; b--) {
+                        xor = (xor << 8) | (buffer.get() & 0xFF);
+                    }
+                    previous = previous ^ (xor << (trail * 8));
+                }
+                result[i] = Double.longBitsToDouble(previous);
+            }
+        }
+        else {
+            throw new IOException("Unknown column encoding: " + encoding);
+        }
+        return result;
+    }
+
+    /**
+     * Reads an unsigned variable length integer.
+     *
+     * @param buffer  the buffer.
+     *
+     * @return The value.
+     */
+    private static long readVarLong(ByteBuffer buffer) {
+        long result = 0L;
+        int shift = 0;
+        int b;
+        do {
+            b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+}
@@ -0,0 +1,157 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * ColumnXYDataset.java
+ * --------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.nio.DoubleBuffer;
+
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * An {@link org.jfree.data.xy.XYDataset} that reads its values from
+ * {@link DoubleBuffer} columns, which may be views of a memory-mapped file.
+ * Instances are created by {@link BinaryDatasetReader} and cannot be
+ * serialized.
+ */
+class ColumnXYDataset extends AbstractXYDataset {
+
+    /** The series keys. */
+    private Comparable[] keys;
+
+    /** The x-values for each series. */
+    private DoubleBuffer[] xValues;
+
+    /** The y-values for each series. */
+    private DoubleBuffer[] yValues;
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param keys  the series keys.
+     * @param xValues  the x-values for each series.
+     * @param yValues  the y-values for each series.
+     */
+    ColumnXYDataset(Comparable[] keys, DoubleBuffer[] xValues,
+            DoubleBuffer[] yValues) {
+        this.keys = keys;
+        this.xValues = xValues;
+        this.yValues = yValues;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.keys[series];
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return this.xValues[series].limit();
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return this.xValues[series].get(item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int series, int item) {
+        return this.yValues[series].get(item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+}
@@ -0,0 +1,852 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * MappedCSVReader.java
+ * --------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : readTimeSeries() now reads an unterminated last line;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * A reader for large files of numeric comma-separated values.  The file is
+ * memory-mapped and numbers are parsed directly from the mapped bytes, so no
+ * <code>String</code> is created for a field in the common case, and the
+ * values are collected in primitive <code>double</code> arrays.  Files larger
+ * than the maximum mapping size are processed in windows, and each window
+ * can be split (at line boundaries) between several threads.
+ * <P>
+ * Columns are identified by their (zero-based) position in each line.  The
+ * data must be numeric and single byte encoded (for example ASCII or UTF-8),
+ * text delimiters around a field are removed but field delimiters inside a
+ * text delimited field are not supported.  Empty fields, missing fields and
+ * fields that cannot be parsed as numbers are read as
+ * <code>Double.NaN</code>.  Blank lines are ignored.
+ * <P>
+ * For a file that is still being written (a live log, for example), the
+ * <code>appendRows()</code> methods read only the complete lines after a
+ * given position, so that they can be called repeatedly to follow the file.
+ *
+ * @since 1.0.10
+ */
+public class MappedCSVReader {
+
+    /** The default number of bytes mapped at one time (64MB). */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /** The powers of ten that can be represented exactly as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The largest mantissa that can be represented exactly as a double. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** The field delimiter. */
+    private byte fieldDelimiter;
+
+    /** The text delimiter. */
+    private byte textDelimiter;
+
+    /** The number of header lines to skip at the start of the file. */
+    private int headerLineCount;
+
+    /** The number of threads used to parse each window. */
+    private int threadCount;
+
+    /** The maximum number of bytes mapped at one time. */
+    private int windowSize;
+
+    /**
+     * Creates a new reader where the field delimiter is a comma, the text
+     * delimiter is a double-quote and the first line of the file is a
+     * header.
+     */
+    public MappedCSVReader() {
+        this(',', '"', 1);
+    }
+
+    /**
+     * Creates a new reader.
+     *
+     * @param fieldDelimiter  the field delimiter (usually a comma,
+     *     semi-colon, colon, tab or space).
+     * @param textDelimiter  the text delimiter (usually a single or double
+     *     quote).
+     * @param headerLineCount  the number of lines to skip at the start of the
+     *     file.
+     */
+    public MappedCSVReader(char fieldDelimiter, char textDelimiter,
+            int headerLineCount) {
+        if (headerLineCount < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'headerLineCount' argument.");
+        }
+        this.fieldDelimiter = (byte) fieldDelimiter;
+        this.textDelimiter = (byte) textDelimiter;
+        this.headerLineCount = headerLineCount;
+        this.threadCount = 1;
+        this.windowSize = DEFAULT_WINDOW_SIZE;
+    }
+
+    /**
+     * Returns the number of threads used to parse each window of the file.
+     *
+     * @return The thread count.
+     *
+     * @see #setThreadCount(int)
+     */
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+
+    /**
+     * Sets the number of threads used to parse each window of the file.  The
+     * rows are returned in file order whatever the thread count.
+     *
+     * @param count  the thread count (must be at least 1).
+     *
+     * @see #getThreadCount()
+     */
+    public void setThreadCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Requires 'count' >= 1.");
+        }
+        this.threadCount = count;
+    }
+
+    /**
+     * Returns the maximum number of bytes mapped at one time.
+     *
+     * @return The window size.
+     *
+     * @see #setWindowSize(int)
+     */
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes mapped at one time.  No line in the
+     * file can be longer than this.
+     *
+     * @param size  the window size (must be at least 16).
+     *
+     * @see #getWindowSize()
+     */
+    public void setWindowSize(int size) {
+        if (size < 16) {
+            throw new IllegalArgumentException("Requires 'size' >= 16.");
+        }
+        this.windowSize = size;
+    }
+
+    /**
+     * Reads the specified columns from a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param columns  the (zero-based) column indices (<code>null</code> not
+     *     permitted).
+     *
+     * @return An array containing one array of values for each requested
+     *     column.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public double[][] readColumns(File file, int[] columns)
+            throws IOException {
+        ColumnBuffer buffer = read(file, 0L, columns, false);
+        return buffer.toArrays();
+    }
+
+    /**
+     * Reads an {@link DefaultXYDataset} from a file.  All the series share
+     * the same x-values.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param xColumn  the index of the column containing the x-values.
+     * @param yColumns  the indices of the columns containing the y-values,
+     *     one for each series (<code>null</code> not permitted).
+     * @param seriesKeys  the series keys (<code>null</code> not permitted,
+     *     same length as <code>yColumns</code>).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public DefaultXYDataset readXYDataset(File file, int xColumn,
+            int[] yColumns, Comparable[] seriesKeys) throws IOException {
+        if (yColumns == null) {
+            throw new IllegalArgumentException("Null 'yColumns' argument.");
+        }
+        if (seriesKeys == null) {
+            throw new IllegalArgumentException("Null 'seriesKeys' argument.");
+        }
+        if (seriesKeys.length != yColumns.length) {
+            throw new IllegalArgumentException(
+                    "The 'yColumns' and 'seriesKeys' lengths differ.");
+        }
+        int[] columns = new int[yColumns.length + 1];
+        columns[0] = xColumn;
+        System.arraycopy(yColumns, 0, columns, 1, yColumns.length);
+        double[][] data = readColumns(file, columns);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        for (int s = 0; s < yColumns.length; s++) {
+            dataset.addSeries(seriesKeys[s],
+                    new double[][] {data[0], data[s + 1]});
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a {@link TimeSeries} from a file, where the time column contains
+     * milliseconds since 1-Jan-1970 (UTC).  Rows with a time that cannot be
+     * parsed, or that duplicates an earlier time, are ignored.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param timeColumn  the index of the column containing the times.
+     * @param valueColumn  the index of the column containing the values.
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     *
+     * @return The time series (using {@link FixedMillisecond} periods).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public TimeSeries readTimeSeries(File file, int timeColumn,
+            int valueColumn, Comparable seriesKey) throws IOException {
+        TimeSeries series = new TimeSeries(seriesKey, FixedMillisecond.class);
+        ColumnBuffer buffer = read(file, 0L, new int[] {timeColumn,
+                valueColumn}, false);
+        addRows(buffer, series);
+        return series;
+    }
+
+    /**
+     * Reads the complete lines after <code>position</code> in a file and
+     * adds them to an {@link XYSeries}, sending a single change event to the
+     * series' listeners if any items are added.  The header lines are only
+     * skipped when <code>position</code> is zero.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param position  the file position to start reading from.
+     * @param series  the series (<code>null</code> not permitted).
+     * @param xColumn  the index of the column containing the x-values.
+     * @param yColumn  the index of the column containing the y-values.
+     *
+     * @return The position following the last complete line read, to be
+     *     passed to the next call.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public long appendRows(File file, long position, XYSeries series,
+            int xColumn, int yColumn) throws IOException {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        ColumnBuffer buffer = read(file, position, new int[] {xColumn,
+                yColumn}, true);
+        double[] x = buffer.columns[0];
+        double[] y = buffer.columns[1];
+        for (int i = 0; i < buffer.size; i++) {
+            series.add(x[i], y[i], false);
+        }
+        if (buffer.size > 0) {
+            series.fireSeriesChanged();
+        }
+        return buffer.end;
+    }
+
+    /**
+     * Reads the complete lines after <code>position</code> in a file and
+     * adds them to a {@link TimeSeries}, sending a single change event to the
+     * series' listeners if any items are added.  The time column contains
+     * milliseconds since 1-Jan-1970 (UTC).  Rows with a time that cannot be
+     * parsed, or that duplicates a time already in the series, are ignored.
+     * The header lines are only skipped when <code>position</code> is zero.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param position  the file position to start reading from.
+     * @param series  the series (<code>null</code> not permitted, must use
+     *     {@link FixedMillisecond} periods).
+     * @param timeColumn  the index of the column containing the times.
+     * @param valueColumn  the index of the column containing the values.
+     *
+     * @return The position following the last complete line read, to be
+     *     passed to the next call.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public long appendRows(File file, long position, TimeSeries series,
+            int timeColumn, int valueColumn) throws IOException {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        ColumnBuffer buffer = read(file, position, new int[] {timeColumn,
+                valueColumn}, true);
+        addRows(buffer, series);
+        return buffer.end;
+    }
+
+    /**
+     * Adds the (time, value) rows in a buffer to a {@link TimeSeries},
+     * sending a single change event to the series' listeners if any items
+     * are added.  Rows with a time that cannot be parsed, or that duplicates
+     * a time already in the series, are ignored.
+     *
+     * @param buffer  the buffer (times in the first column, values in the
+     *     second).
+     * @param series  the series.
+     */
+    private static void addRows(ColumnBuffer buffer, TimeSeries series) {
+        double[] t = buffer.columns[0];
+        double[] v = buffer.columns[1];
+        boolean added = false;
+        for (int i = 0; i < buffer.size; i++) {
+            if (Double.isNaN(t[i])) {
+                continue;
+            }
+            RegularTimePeriod period = new FixedMillisecond((long) t[i]);
+            int count = series.getItemCount();
+            if (count > 0 && period.compareTo(series.getTimePeriod(
+                    count - 1)) <= 0 && series.getIndex(period) >= 0) {
+                continue;
+            }
+            series.add(period, v[i], false);
+            added = true;
+        }
+        if (added) {
+            series.fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Reads the requested columns from the lines following
+     * <code>position</code> in a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param position  the start position.
+     * @param columns  the column indices (<code>null</code> not permitted).
+     * @param completeLinesOnly  if <code>true</code>, a final line without a
+     *     line terminator is not read.
+     *
+     * @return The values read.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private ColumnBuffer read(File file, long position, int[] columns,
+            boolean completeLinesOnly) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        if (columns == null) {
+            throw new IllegalArgumentException("Null 'columns' argument.");
+        }
+        if (position < 0L) {
+            throw new IllegalArgumentException(
+                    "Negative 'position' argument.");
+        }
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Empty 'columns' argument.");
+        }
+        int[] fieldMap = createFieldMap(columns);
+        ColumnBuffer result = new ColumnBuffer(columns.length, 1024);
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            long size = channel.size();
+            long pos = position;
+            boolean skipHeader = (position == 0L);
+            while (pos < size) {
+                long length = Math.min(size - pos, this.windowSize);
+                MappedByteBuffer window = channel.map(
+                        FileChannel.MapMode.READ_ONLY, pos, length);
+                int start = 0;
+                int end = (int) length;
+                boolean lastWindow = (pos + length >= size);
+                if (skipHeader) {
+                    for (int i = 0; i < this.headerLineCount && start >= 0;
+                            i++) {
+                        start = nextLine(window, start, end);
+                    }
+                    if (start < 0) {
+                        if (lastWindow) {
+                            // the header is incomplete, so nothing to read
+                            break;
+                        }
+                        throw new IOException(
+                                "Header is longer than the window size.");
+                    }
+                    skipHeader = false;
+                }
+                if (!lastWindow || completeLinesOnly) {
+                    // stop after the last line terminator in the window
+                    int last = end - 1;
+                    while (last >= start && window.get(last) != '\n') {
+                        last--;
+                    }
+                    if (last < start) {
+                        if (lastWindow) {
+                            pos += start;
+                            break;
+                        }
+                        throw new IOException(
+                                "Line is longer than the window size.");
+                    }
+                    end = last + 1;
+                }
+                parseWindow(window, start, end, fieldMap, result);
+                pos += end;
+            }
+            result.end = Math.max(pos, position);
+        }
+        finally {
+            in.close();
+        }
+        return result;
+    }
+
+    /**
+     * Creates an array that maps each field index in a line to the index of
+     * the column in the result (or -1 if the field is not required).
+     *
+     * @param columns  the required column indices.
+     *
+     * @return The field map.
+     */
+    private static int[] createFieldMap(int[] columns) {
+        int max = -1;
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("Negative column index.");
+            }
+            max = Math.max(max, columns[i]);
+        }
+        int[] fieldMap = new int[max + 1];
+        for (int i = 0; i < fieldMap.length; i++) {
+            fieldMap[i] = -1;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (fieldMap[columns[i]] >= 0) {
+                throw new IllegalArgumentException("Duplicate column index.");
+            }
+            fieldMap[columns[i]] = i;
+        }
+        return fieldMap;
+    }
+
+    /**
+     * Returns the index following the next line terminator, or -1 if there
+     * is no line terminator before <code>end</code>.
+     *
+     * @param buffer  the buffer.
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     *
+     * @return The start of the next line, or -1.
+     */
+    private static int nextLine(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the lines in part of a window, splitting the work between
+     * threads if required.
+     *
+     * @param window  the window.
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     * @param fieldMap  the field map.
+     * @param result  the buffer to add the values to.
+     *
+     * @throws IOException if a worker thread is interrupted.
+     */
+    private void parseWindow(final ByteBuffer window, int start, int end,
+            final int[] fieldMap, ColumnBuffer result) throws IOException {
+        int chunks = this.threadCount;
+        if (chunks == 1 || end - start < chunks * 4096) {
+            parseLines(window, start, end, fieldMap, result);
+            return;
+        }
+        // split the range at line boundaries
+        int[] bounds = new int[chunks + 1];
+        bounds[0] = start;
+        bounds[chunks] = end;
+        for (int c = 1; c < chunks; c++) {
+            int b = start + (int) ((long) (end - start) * c / chunks);
+            b = Math.max(b, bounds[c - 1]);
+            int next = nextLine(window, b, end);
+            bounds[c] = (next < 0 ? end : next);
+        }
+        final ColumnBuffer[] parts = new ColumnBuffer[chunks];
+        Thread[] workers = new Thread[chunks - 1];
+        for (int c = 0; c < chunks; c++) {
+            final int from = bounds[c];
+            final int to = bounds[c + 1];
+            final ColumnBuffer part = new ColumnBuffer(result.columns.length,
+                    Math.max(16, Math.min((to - from) / 32, 65536)));
+            parts[c] = part;
+            Runnable task = new Runnable() {
+                public void run() {
+                    parseLines(window.duplicate(), from, to, fieldMap, part);
+                }
+            };
+            if (c < chunks - 1) {
+                workers[c] = new Thread(task, "MappedCSVReader-" + c);
+                workers[c].start();
+            }
+            else {
+                task.run();
+            }
+        }
+        try {
+            for (int c = 0; c < workers.length; c++) {
+                workers[c].join();
+            }
+        }
+        catch (InterruptedException e) {
+            throw new IOException("Interrupted while parsing.");
+        }
+        for (int c = 0; c < chunks; c++) {
+            result.append(parts[c]);
+        }
+    }
+
+    /**
+     * Parses the lines in part of a buffer.
+     *
+     * @param buffer  the buffer.
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     * @param fieldMap  the field map.
+     * @param result  the buffer to add the values to.
+     */
+    private void parseLines(ByteBuffer buffer, int start, int end,
+            int[] fieldMap, ColumnBuffer result) {
+        int columnCount = result.columns.length;
+        int i = start;
+        while (i < end) {
+            int lineEnd = i;
+            while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd;
+            if (contentEnd > i && buffer.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+            if (contentEnd > i) {
+                int row = result.addRow();
+                int found = 0;
+                int field = 0;
+                int fieldStart = i;
+                for (int j = i; j <= contentEnd && found < columnCount; j++) {
+                    if (j == contentEnd
+                            || buffer.get(j) == this.fieldDelimiter) {
+                        if (field < fieldMap.length && fieldMap[field] >= 0) {
+                            result.columns[fieldMap[field]][row]
+                                    = parseDouble(buffer, fieldStart, j,
+                                    this.textDelimiter);
+                            found++;
+                        }
+                        field++;
+                        fieldStart = j + 1;
+                    }
+                }
+            }
+            i = lineEnd + 1;
+        }
+    }
+
+    /**
+     * Parses a number from a range of bytes in a buffer.  Numbers with up to
+     * 18 significant digits and a small exponent are converted exactly
+     * without creating any objects, other forms are passed to
+     * {@link Double#parseDouble(String)}.
+     *
+     * @param buffer  the buffer (<code>null</code> not permitted).
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     * @param textDelimiter  a text delimiter to remove from around the
+     *     number.
+     *
+     * @return The number, or <code>Double.NaN</code> if the field is empty
+     *     or cannot be parsed.
+     */
+    static double parseDouble(ByteBuffer buffer, int start, int end,
+            byte textDelimiter) {
+        // trim white space and text delimiters
+        while (start < end && isPadding(buffer.get(start), textDelimiter)) {
+            start++;
+        }
+        while (end > start && isPadding(buffer.get(end - 1), textDelimiter)) {
+            end--;
+        }
+        if (start == end) {
+            return Double.NaN;
+        }
+        int i = start;
+        boolean negative = false;
+        byte b = buffer.get(i);
+        if (b == '-' || b == '+') {
+            negative = (b == '-');
+            i++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigits = false;
+        boolean exact = true;
+        while (i < end && (b = buffer.get(i)) >= '0' && b <= '9') {
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            }
+            else {
+                exponent++;
+                exact = exact && (b == '0');
+            }
+            anyDigits = true;
+            i++;
+        }
+        if (i < end && buffer.get(i) == '.') {
+            i++;
+            while (i < end && (b = buffer.get(i)) >= '0' && b <= '9') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exponent--;
+                }
+                else {
+                    exact = exact && (b == '0');
+                }
+                anyDigits = true;
+                i++;
+            }
+        }
+        if (anyDigits && i < end && ((b = buffer.get(i)) == 'e' || b == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && ((b = buffer.get(i)) == '-' || b == '+')) {
+                negativeExponent = (b == '-');
+                i++;
+            }
+            int e = 0;
+            boolean anyExponentDigits = false;
+            while (i < end && (b = buffer.get(i)) >= '0' && b <= '9') {
+                if (e < 10000) {
+                    e = e * 10 + (b - '0');
+                }
+                anyExponentDigits = true;
+                i++;
+            }
+            if (!anyExponentDigits) {
+                anyDigits = false;
+            }
+            exponent += (negativeExponent ? -e : e);
+        }
+        if (anyDigits && i == end && exact) {
+            if (mantissa == 0L) {
+                return (negative ? -0.0 : 0.0);
+            }
+            if (mantissa < MAX_EXACT_MANTISSA && exponent >= -22
+                    && exponent <= 22) {
+                double result = mantissa;
+                if (exponent < 0) {
+                    result = result / POWERS_OF_TEN[-exponent];
+                }
+                else {
+                    result = result * POWERS_OF_TEN[exponent];
+                }
+                return (negative ? -result : result);
+            }
+        }
+        return parseSlowly(buffer, start, end);
+    }
+
+    /**
+     * Returns <code>true</code> if a byte is white space or a text delimiter.
+     *
+     * @param b  the byte.
+     * @param textDelimiter  the text delimiter.
+     *
+     * @return A boolean.
+     */
+    private static boolean isPadding(byte b, byte textDelimiter) {
+        return b == ' ' || b == '\t' || b == '\r' || b == textDelimiter;
+    }
+
+    /**
+     * Parses a number by creating a string and calling
+     * {@link Double#parseDouble(String)}.
+     *
+     * @param buffer  the buffer.
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     *
+     * @return The number, or <code>Double.NaN</code>.
+     */
+    private static double parseSlowly(ByteBuffer buffer, int start,
+            int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        try {
+            return Double.parseDouble(new String(bytes, "ISO-8859-1"));
+        }
+        catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+        catch (UnsupportedEncodingException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * A growable set of columns of <code>double</code> values.
+     */
+    private static class ColumnBuffer {
+
+        /** The columns. */
+        double[][] columns;
+
+        /** The number of rows. */
+        int size;
+
+        /** The file position following the data read. */
+        long end;
+
+        /**
+         * Creates a new buffer.
+         *
+         * @param columnCount  the number of columns.
+         * @param capacity  the initial capacity.
+         */
+        ColumnBuffer(int columnCount, int capacity) {
+            this.columns = new double[columnCount][capacity];
+        }
+
+        /**
+         * Adds a row of missing values and returns its index.
+         *
+         * @return The row index.
+         */
+        int addRow() {
+            ensureCapacity(this.size + 1);
+            for (int c = 0; c < this.columns.length; c++) {
+                this.columns[c][this.size] = Double.NaN;
+            }
+            return this.size++;
+        }
+
+        /**
+         * Appends the rows from another buffer.
+         *
+         * @param other  the other buffer.
+         */
+        void append(ColumnBuffer other) {
+            ensureCapacity(this.size + other.size);
+            for (int c = 0; c < this.columns.length; c++) {
+                System.arraycopy(other.columns[c], 0, this.columns[c],
+                        this.size, other.size);
+            }
+            this.size += other.size;
+        }
+
+        /**
+         * Grows the columns if necessary.
+         *
+         * @param capacity  the required capacity.
+         */
+        private void ensureCapacity(int capacity) {
+            int current = (this.columns.length > 0
+                    ? this.columns[0].length : 0);
+            if (capacity <= current) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, current * 2);
+            for (int c = 0; c < this.columns.length; c++) {
+                double[] column = new double[newCapacity];
+                System.arraycopy(this.columns[c], 0, column, 0, this.size);
+                this.columns[c] = column;
+            }
+        }
+
+        /**
+         * Returns the columns trimmed to the number of rows.
+         *
+         * @return The columns.
+         */
+        double[][] toArrays() {
+            double[][] result = new double[this.columns.length][];
+            for (int c = 0; c < this.columns.length; c++) {
+                if (this.columns[c].length == this.size) {
+                    result[c] = this.columns[c];
+                }
+                else {
+                    result[c] = new double[this.size];
+                    System.arraycopy(this.columns[c], 0, result[c], 0,
+                            this.size);
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
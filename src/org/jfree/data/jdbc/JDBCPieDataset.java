@@ -52,6 +52,7 @@
  * 04-Dec-2003 : Added missing Javadocs (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 19-Oct-2026 : Added fetchSize attribute;
  * 
  */
 
@@ -84,6 +85,9 @@ public class JDBCPieDataset extends DefaultPieDataset {
     /** The database connection. */
     private transient Connection connection;
 
+    /** The number of rows to fetch at a time (zero for the driver default). */
+    private int fetchSize = 0;
+
     /**
      * Creates a new JDBCPieDataset and establishes a new database connection.
      *
@@ -120,6 +124,38 @@ public class JDBCPieDataset extends DefaultPieDataset {
         this.connection = con;
     }
 
+    /**
+     * Returns the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time (zero leaves the choice to the driver).
+     *
+     * @return The fetch size.
+     *
+     * @see #setFetchSize(int)
+     *
+     * @since 1.0.10
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time, for queries executed after this call.  A
+     * larger value reduces the number of round trips for large results.
+     *
+     * @param size  the fetch size (zero leaves the choice to the driver).
+     *
+     * @see #getFetchSize()
+     *
+     * @since 1.0.10
+     */
+    public void setFetchSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative 'size' argument.");
+        }
+        this.fetchSize = size;
+    }
+
 
     /**
      * Creates a new JDBCPieDataset using a pre-existing database connection.
@@ -170,6 +206,9 @@ public class JDBCPieDataset extends DefaultPieDataset {
 
         try {
             statement = con.createStatement();
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
+            }
             resultSet = statement.executeQuery(query);
             ResultSetMetaData metaData = resultSet.getMetaData();
 
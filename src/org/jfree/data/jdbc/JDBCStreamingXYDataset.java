@@ -0,0 +1,1122 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * JDBCStreamingXYDataset.java
+ * ---------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Reject an incremental refresh of aggregated data, and
+ *               documented that only refreshes are safe during a draw;
+ * 19-Oct-2026 : Publish asynchronous loads on the event dispatch thread,
+ *               and added executeBucketQueryAsync();
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import javax.swing.SwingUtilities;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.TableXYDataset;
+
+/**
+ * An {@link org.jfree.data.xy.XYDataset} that is populated from a JDBC
+ * query, streaming the rows into primitive arrays rather than caching boxed
+ * values (compare {@link JDBCXYDataset}).  The first column of the query
+ * provides the x-values (a number, or a date, time or timestamp converted to
+ * milliseconds) and each remaining numeric column provides a series.  SQL
+ * <code>NULL</code> values are read as <code>Double.NaN</code>.
+ * <P>
+ * In addition to a full query, the dataset supports:
+ * <ul>
+ * <li>an incremental refresh, where a query with one parameter (for example
+ *     <code>SELECT t, v FROM samples WHERE t &gt; ? ORDER BY t</code>) is
+ *     executed with the last x-value loaded, and only the new rows are
+ *     appended (see {@link #setIncrementalQuery(String)} and
+ *     {@link #refresh()});</li>
+ * <li>asynchronous loading on a background thread, with a single change
+ *     event when the load is complete (see
+ *     {@link #executeQueryAsync(String)}, {@link #refreshAsync()} and
+ *     {@link #executeBucketQueryAsync(String, String, String, double,
+ *     double, int)});</li>
+ * <li>aggregation in the database, where the minimum and maximum y-values
+ *     in each of a number of x-intervals are fetched instead of the raw
+ *     rows (see {@link #executeBucketQuery(String, String, String, double,
+ *     double, int)}).</li>
+ * </ul>
+ * The data is replaced or extended by installing a new snapshot, and each
+ * accessor reads the current snapshot.  Queries are executed without
+ * touching the current data, so the dataset can be read while a query is
+ * running.  The asynchronous methods hand the new snapshot to
+ * {@link #publish(Runnable)}, which by default installs it and sends the
+ * change event on the AWT event dispatch thread.  A Swing chart (which is
+ * drawn on that thread) therefore never sees the data change while it is
+ * being drawn.  The synchronous methods install the new snapshot and send
+ * the change event on the calling thread, so they should be called on the
+ * thread that draws the chart:  a full load
+ * ({@link #executeQuery(String)} or
+ * {@link #executeBucketQuery(String, String, String, double, double, int)})
+ * can reduce the number of items or change the series.
+ *
+ * @since 1.0.10
+ */
+public class JDBCStreamingXYDataset extends AbstractXYDataset
+        implements TableXYDataset, DomainInfo, RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6212925436437126125L;
+
+    /** The database connection. */
+    private transient Connection connection;
+
+    /** The number of rows to fetch at a time (zero for the driver default). */
+    private int fetchSize;
+
+    /** The query used for incremental refreshes (possibly null). */
+    private String incrementalQuery;
+
+    /** The current data. */
+    private volatile Data data;
+
+    /** The exception thrown by the last asynchronous load (or null). */
+    private transient volatile SQLException lastException;
+
+    /**
+     * Creates a new (empty) dataset using the specified database connection.
+     *
+     * @param connection  the connection (<code>null</code> not permitted).
+     */
+    public JDBCStreamingXYDataset(Connection connection) {
+        if (connection == null) {
+            throw new IllegalArgumentException("Null 'connection' argument.");
+        }
+        this.connection = connection;
+        this.data = new Data(new String[0], false, null, false);
+    }
+
+    /**
+     * Returns the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time (zero leaves the choice to the driver).
+     *
+     * @return The fetch size.
+     *
+     * @see #setFetchSize(int)
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time, for queries executed after this call.
+     *
+     * @param size  the fetch size (zero leaves the choice to the driver).
+     *
+     * @see #getFetchSize()
+     */
+    public void setFetchSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative 'size' argument.");
+        }
+        this.fetchSize = size;
+    }
+
+    /**
+     * Returns the query used by {@link #refresh()}.
+     *
+     * @return The query (possibly <code>null</code>).
+     *
+     * @see #setIncrementalQuery(String)
+     */
+    public String getIncrementalQuery() {
+        return this.incrementalQuery;
+    }
+
+    /**
+     * Sets the query used by {@link #refresh()}.  The query must return the
+     * same columns as the full query, in ascending order of x, and have a
+     * single parameter that is set to the last x-value loaded (as a
+     * <code>Timestamp</code> for time series, otherwise as a
+     * <code>double</code>).
+     *
+     * @param query  the query (<code>null</code> permitted).
+     *
+     * @see #getIncrementalQuery()
+     */
+    public void setIncrementalQuery(String query) {
+        this.incrementalQuery = query;
+    }
+
+    /**
+     * Returns <code>true</code> if the x-values were read from a date, time
+     * or timestamp column.
+     *
+     * @return A boolean.
+     */
+    public boolean isTimeSeries() {
+        return this.data.timeSeries;
+    }
+
+    /**
+     * Returns the exception thrown by the most recent asynchronous load, or
+     * <code>null</code> if it completed normally.
+     *
+     * @return The exception (possibly <code>null</code>).
+     */
+    public SQLException getLastException() {
+        return this.lastException;
+    }
+
+    /**
+     * Executes a query and replaces the data in the dataset with the result,
+     * then sends a {@link org.jfree.data.general.DatasetChangeEvent} to all
+     * registered listeners.  The new data is published on the calling
+     * thread.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public void executeQuery(String query) throws SQLException {
+        if (query == null) {
+            throw new IllegalArgumentException("Null 'query' argument.");
+        }
+        loadQuery(query).run();
+    }
+
+    /**
+     * Executes a query and returns an update that installs the result.
+     *
+     * @param query  the query.
+     *
+     * @return The update.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    private Update loadQuery(String query) throws SQLException {
+        synchronized (this.connection) {
+            Statement statement = this.connection.createStatement();
+            try {
+                if (this.fetchSize > 0) {
+                    statement.setFetchSize(this.fetchSize);
+                }
+                ResultSet resultSet = statement.executeQuery(query);
+                try {
+                    return new Update(read(resultSet, null, query), null);
+                }
+                finally {
+                    resultSet.close();
+                }
+            }
+            finally {
+                statement.close();
+            }
+        }
+    }
+
+    /**
+     * Executes the incremental query with the last x-value loaded and
+     * appends the new rows to the dataset.  If any rows are added, a
+     * {@link org.jfree.data.general.DatasetChangeEvent} is sent to all
+     * registered listeners.  If the dataset is empty, the last full query is
+     * executed instead.  The new data is published on the calling thread.
+     *
+     * @return The number of rows added.
+     *
+     * @throws SQLException if there is a problem executing the query, no
+     *     incremental query has been set, or the data was loaded by
+     *     {@link #executeBucketQuery(String, String, String, double,
+     *     double, int)}.
+     */
+    public int refresh() throws SQLException {
+        Update update = loadRefresh();
+        if (update == null || !update.install()) {
+            return 0;
+        }
+        fireDatasetChanged();
+        return update.getAddedCount();
+    }
+
+    /**
+     * Executes the incremental query (or the last full query, if the
+     * dataset is empty) and returns an update that installs the result.
+     *
+     * @return The update, or <code>null</code> if there are no new rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or the
+     *     dataset cannot be refreshed.
+     */
+    private Update loadRefresh() throws SQLException {
+        synchronized (this.connection) {
+            Data current = this.data;
+            if (current.aggregated) {
+                throw new SQLException(
+                        "Aggregated data cannot be refreshed.");
+            }
+            if (current.count == 0) {
+                if (current.query == null) {
+                    throw new SQLException("No query has been executed.");
+                }
+                Update update = loadQuery(current.query);
+                return (update.getAddedCount() > 0 ? update : null);
+            }
+            if (this.incrementalQuery == null) {
+                throw new SQLException("No incremental query is defined.");
+            }
+            PreparedStatement statement = this.connection.prepareStatement(
+                    this.incrementalQuery);
+            try {
+                if (this.fetchSize > 0) {
+                    statement.setFetchSize(this.fetchSize);
+                }
+                double last = current.x[current.count - 1];
+                if (current.timeSeries) {
+                    statement.setTimestamp(1, new Timestamp((long) last));
+                }
+                else {
+                    statement.setDouble(1, last);
+                }
+                ResultSet resultSet = statement.executeQuery();
+                try {
+                    Update update = new Update(read(resultSet, current,
+                            current.query), current);
+                    return (update.getAddedCount() > 0 ? update : null);
+                }
+                finally {
+                    resultSet.close();
+                }
+            }
+            finally {
+                statement.close();
+            }
+        }
+    }
+
+    /**
+     * Executes a query on a new thread (see {@link #executeQuery(String)}).
+     * The result is handed to {@link #publish(Runnable)} once the query is
+     * complete.  Any exception can be retrieved with
+     * {@link #getLastException()} once the thread has finished.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The thread, which has been started.
+     */
+    public Thread executeQueryAsync(final String query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Null 'query' argument.");
+        }
+        return startLoader(new Loader() {
+            public Update load() throws SQLException {
+                return loadQuery(query);
+            }
+        });
+    }
+
+    /**
+     * Refreshes the dataset on a new thread (see {@link #refresh()}).  Any
+     * new rows are handed to {@link #publish(Runnable)} once the query is
+     * complete.  Any exception can be retrieved with
+     * {@link #getLastException()} once the thread has finished.
+     *
+     * @return The thread, which has been started.
+     */
+    public Thread refreshAsync() {
+        return startLoader(new Loader() {
+            public Update load() throws SQLException {
+                return loadRefresh();
+            }
+        });
+    }
+
+    /**
+     * Publishes the result of an asynchronous load.  The task installs the
+     * new data and sends a {@link org.jfree.data.general.DatasetChangeEvent}
+     * to all registered listeners.  This implementation runs the task on
+     * the AWT event dispatch thread, where Swing charts are drawn, so that a
+     * chart never sees the data change while it is being drawn.  Subclasses
+     * can override this method to run the task on another thread (or
+     * directly, for a dataset that is not drawn concurrently).
+     *
+     * @param task  the task (never <code>null</code>).
+     */
+    protected void publish(Runnable task) {
+        SwingUtilities.invokeLater(task);
+    }
+
+    /**
+     * A task that loads data.
+     */
+    private interface Loader {
+
+        /**
+         * Loads the data.
+         *
+         * @return The update to publish (<code>null</code> if there is
+         *     nothing to publish).
+         *
+         * @throws SQLException if there is a problem executing a query.
+         */
+        Update load() throws SQLException;
+
+    }
+
+    /**
+     * Starts a thread to run a loader and publish its result.
+     *
+     * @param loader  the loader.
+     *
+     * @return The thread.
+     */
+    private Thread startLoader(final Loader loader) {
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    Update update = loader.load();
+                    JDBCStreamingXYDataset.this.lastException = null;
+                    if (update != null) {
+                        publish(update);
+                    }
+                }
+                catch (SQLException e) {
+                    JDBCStreamingXYDataset.this.lastException = e;
+                }
+            }
+        }, "JDBCStreamingXYDataset");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Replaces the data in the dataset with the minimum and maximum values
+     * of a numeric column in each of <code>bucketCount</code> equal
+     * intervals of another numeric column, computed by the database, then
+     * sends a {@link org.jfree.data.general.DatasetChangeEvent} to all
+     * registered listeners.  The dataset then contains two series (the
+     * minimum and maximum values, with keys <code>yColumn + " (min)"</code>
+     * and <code>yColumn + " (max)"</code>) with one item at the middle of
+     * each non-empty interval.  This is useful when there are many more rows
+     * in the range than pixels in the chart.  The new data is published on
+     * the calling thread.
+     * <P>
+     * The table and column names are inserted into the SQL unchanged, so
+     * they must not come from an untrusted source.  The incremental refresh
+     * is not available for the aggregated data (until the next call to
+     * {@link #executeQuery(String)}).
+     *
+     * @param table  the table name (<code>null</code> not permitted).
+     * @param xColumn  the name of the x-column (<code>null</code> not
+     *     permitted).
+     * @param yColumn  the name of the y-column (<code>null</code> not
+     *     permitted).
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param bucketCount  the number of intervals (at least 1).
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public void executeBucketQuery(String table, String xColumn,
+            String yColumn, double lower, double upper, int bucketCount)
+            throws SQLException {
+        checkBucketArguments(table, xColumn, yColumn, lower, upper,
+                bucketCount);
+        loadBuckets(table, xColumn, yColumn, lower, upper, bucketCount).run();
+    }
+
+    /**
+     * Executes an aggregated query on a new thread (see
+     * {@link #executeBucketQuery(String, String, String, double, double,
+     * int)}).  The result is handed to {@link #publish(Runnable)} once the
+     * query is complete.  Any exception can be retrieved with
+     * {@link #getLastException()} once the thread has finished.
+     *
+     * @param table  the table name (<code>null</code> not permitted).
+     * @param xColumn  the name of the x-column (<code>null</code> not
+     *     permitted).
+     * @param yColumn  the name of the y-column (<code>null</code> not
+     *     permitted).
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param bucketCount  the number of intervals (at least 1).
+     *
+     * @return The thread, which has been started.
+     */
+    public Thread executeBucketQueryAsync(final String table,
+            final String xColumn, final String yColumn, final double lower,
+            final double upper, final int bucketCount) {
+        checkBucketArguments(table, xColumn, yColumn, lower, upper,
+                bucketCount);
+        return startLoader(new Loader() {
+            public Update load() throws SQLException {
+                return loadBuckets(table, xColumn, yColumn, lower, upper,
+                        bucketCount);
+            }
+        });
+    }
+
+    /**
+     * Checks the arguments for an aggregated query.
+     *
+     * @param table  the table name.
+     * @param xColumn  the name of the x-column.
+     * @param yColumn  the name of the y-column.
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param bucketCount  the number of intervals.
+     */
+    private static void checkBucketArguments(String table, String xColumn,
+            String yColumn, double lower, double upper, int bucketCount) {
+        if (table == null) {
+            throw new IllegalArgumentException("Null 'table' argument.");
+        }
+        if (xColumn == null) {
+            throw new IllegalArgumentException("Null 'xColumn' argument.");
+        }
+        if (yColumn == null) {
+            throw new IllegalArgumentException("Null 'yColumn' argument.");
+        }
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("Requires 'bucketCount' >= 1.");
+        }
+        if (!(upper > lower)) {
+            throw new IllegalArgumentException("Requires 'upper' > 'lower'.");
+        }
+    }
+
+    /**
+     * Executes an aggregated query and returns an update that installs the
+     * result.
+     *
+     * @param table  the table name.
+     * @param xColumn  the name of the x-column.
+     * @param yColumn  the name of the y-column.
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param bucketCount  the number of intervals.
+     *
+     * @return The update.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    private Update loadBuckets(String table, String xColumn,
+            String yColumn, double lower, double upper, int bucketCount)
+            throws SQLException {
+        double width = (upper - lower) / bucketCount;
+        String bucket = "FLOOR((" + xColumn + " - " + lower + ") / " + width
+                + ")";
+        String sql = "SELECT " + bucket + ", MIN(" + yColumn + "), MAX("
+                + yColumn + ") FROM " + table + " WHERE " + xColumn + " >= "
+                + lower + " AND " + xColumn + " <= " + upper + " GROUP BY "
+                + bucket + " ORDER BY 1";
+        synchronized (this.connection) {
+            Statement statement = this.connection.createStatement();
+            try {
+                ResultSet resultSet = statement.executeQuery(sql);
+                try {
+                    Data result = new Data(new String[] {yColumn + " (min)",
+                            yColumn + " (max)"}, false, null, true);
+                    while (resultSet.next()) {
+                        double b = Math.min(resultSet.getDouble(1),
+                                bucketCount - 1);
+                        double[] y = new double[2];
+                        y[0] = getDouble(resultSet, 2);
+                        y[1] = getDouble(resultSet, 3);
+                        result.add(lower + (b + 0.5) * width, y);
+                    }
+                    return new Update(result, null);
+                }
+                finally {
+                    resultSet.close();
+                }
+            }
+            finally {
+                statement.close();
+            }
+        }
+    }
+
+    /**
+     * Reads a result set into a new snapshot.
+     *
+     * @param resultSet  the result set.
+     * @param base  the data to append to (<code>null</code> for a new
+     *     snapshot).
+     * @param query  the full query that the snapshot belongs to.
+     *
+     * @return The new snapshot.
+     *
+     * @throws SQLException if there is a problem reading the result set.
+     */
+    private Data read(ResultSet resultSet, Data base, String query)
+            throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        boolean timeSeries;
+        int xType = metaData.getColumnType(1);
+        if (isTime(xType)) {
+            timeSeries = true;
+        }
+        else if (isNumeric(xType)) {
+            timeSeries = false;
+        }
+        else {
+            throw new SQLException("The first column must be numeric or a "
+                    + "date, time or timestamp.");
+        }
+        int seriesCount = 0;
+        int[] columns = new int[columnCount];
+        String[] keys = new String[columnCount];
+        for (int c = 2; c <= columnCount; c++) {
+            if (isNumeric(metaData.getColumnType(c))) {
+                columns[seriesCount] = c;
+                keys[seriesCount] = metaData.getColumnLabel(c);
+                seriesCount++;
+            }
+        }
+        if (seriesCount == 0) {
+            throw new SQLException("The query returned no numeric y-columns.");
+        }
+        Data result;
+        if (base == null) {
+            String[] seriesKeys = new String[seriesCount];
+            System.arraycopy(keys, 0, seriesKeys, 0, seriesCount);
+            result = new Data(seriesKeys, timeSeries, query, false);
+        }
+        else {
+            if (seriesCount != base.seriesKeys.length
+                    || timeSeries != base.timeSeries) {
+                throw new SQLException("The incremental query returned "
+                        + "different columns to the full query.");
+            }
+            result = base.copy();
+        }
+        double[] y = new double[seriesCount];
+        while (resultSet.next()) {
+            double x;
+            if (timeSeries) {
+                Timestamp t = resultSet.getTimestamp(1);
+                x = (t != null ? t.getTime() : Double.NaN);
+            }
+            else {
+                x = getDouble(resultSet, 1);
+            }
+            for (int s = 0; s < seriesCount; s++) {
+                y[s] = getDouble(resultSet, columns[s]);
+            }
+            result.add(x, y);
+        }
+        return result;
+    }
+
+    /**
+     * Reads a column as a double, returning <code>Double.NaN</code> for a
+     * <code>NULL</code> value.
+     *
+     * @param resultSet  the result set.
+     * @param column  the column index (one-based).
+     *
+     * @return The value.
+     *
+     * @throws SQLException if there is a problem reading the value.
+     */
+    private static double getDouble(ResultSet resultSet, int column)
+            throws SQLException {
+        double v = resultSet.getDouble(column);
+        return (resultSet.wasNull() ? Double.NaN : v);
+    }
+
+    /**
+     * Returns <code>true</code> if the SQL type is numeric.
+     *
+     * @param type  the type (see {@link Types}).
+     *
+     * @return A boolean.
+     */
+    private static boolean isNumeric(int type) {
+        switch (type) {
+            case Types.NUMERIC:
+            case Types.REAL:
+            case Types.INTEGER:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.DECIMAL:
+            case Types.BIGINT:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the SQL type is a date, time or
+     * timestamp.
+     *
+     * @param type  the type (see {@link Types}).
+     *
+     * @return A boolean.
+     */
+    private static boolean isTime(int type) {
+        return type == Types.DATE || type == Types.TIME
+                || type == Types.TIMESTAMP;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.data.seriesKeys.length;
+    }
+
+    /**
+     * Returns the key for a series (the column label).
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.data.seriesKeys[series];
+    }
+
+    /**
+     * Returns the number of items in each series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.data.count;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return this.data.count;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        Data d = this.data;
+        if (item >= d.count) {
+            throw new IndexOutOfBoundsException("Item index out of bounds: "
+                    + item);
+        }
+        return d.x[item];
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>NULL</code>
+     *     value).
+     */
+    public double getYValue(int series, int item) {
+        Data d = this.data;
+        if (item >= d.count) {
+            throw new IndexOutOfBoundsException("Item index out of bounds: "
+                    + item);
+        }
+        return d.y[series][item];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return (Double.isNaN(y) ? null : new Double(y));
+    }
+
+    /**
+     * Returns {@link DomainOrder#ASCENDING} if the x-values are in ascending
+     * order, and {@link DomainOrder#NONE} otherwise.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return (this.data.ascending ? DomainOrder.ASCENDING
+                : DomainOrder.NONE);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Data d = this.data;
+        return (d.minX <= d.maxX ? d.minX : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Data d = this.data;
+        return (d.minX <= d.maxX ? d.maxX : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there is no data).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        Data d = this.data;
+        return (d.minX <= d.maxX ? new Range(d.minX, d.maxX) : null);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Data d = this.data;
+        return (d.minY <= d.maxY ? d.minY : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Data d = this.data;
+        return (d.minY <= d.maxY ? d.maxY : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there is no data).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        Data d = this.data;
+        return (d.minY <= d.maxY ? new Range(d.minY, d.maxY) : null);
+    }
+
+    /**
+     * Closes the database connection.
+     *
+     * @throws SQLException if there is a problem closing the connection.
+     */
+    public void close() throws SQLException {
+        this.connection.close();
+    }
+
+    /**
+     * Replaces the current data with a new snapshot.
+     *
+     * @param result  the new snapshot.
+     * @param base  the snapshot that <code>result</code> extends
+     *     (<code>null</code> if it replaces the data).
+     *
+     * @return <code>false</code> if the data no longer matches
+     *     <code>base</code>, in which case it is not replaced.
+     */
+    private synchronized boolean install(Data result, Data base) {
+        if (base != null && this.data != base) {
+            return false;
+        }
+        this.data = result;
+        return true;
+    }
+
+    /**
+     * A task that installs the result of a load and sends a change event.
+     */
+    private class Update implements Runnable {
+
+        /** The new snapshot. */
+        private Data result;
+
+        /**
+         * The snapshot that the result extends (<code>null</code> if it
+         * replaces the data).
+         */
+        private Data base;
+
+        /**
+         * Creates a new update.
+         *
+         * @param result  the new snapshot.
+         * @param base  the snapshot that <code>result</code> extends
+         *     (<code>null</code> if it replaces the data).
+         */
+        Update(Data result, Data base) {
+            this.result = result;
+            this.base = base;
+        }
+
+        /**
+         * Returns the number of items that the update adds.
+         *
+         * @return The item count.
+         */
+        int getAddedCount() {
+            return this.result.count
+                    - (this.base != null ? this.base.count : 0);
+        }
+
+        /**
+         * Installs the new snapshot.
+         *
+         * @return <code>false</code> if the data has been replaced since the
+         *     load started, in which case the update is discarded.
+         */
+        boolean install() {
+            return JDBCStreamingXYDataset.this.install(this.result,
+                    this.base);
+        }
+
+        /**
+         * Installs the new snapshot and sends a change event.
+         */
+        public void run() {
+            if (install()) {
+                fireDatasetChanged();
+            }
+        }
+
+    }
+
+    /**
+     * A snapshot of the data.  Rows are only ever added beyond
+     * <code>count</code>, so a snapshot can share its arrays with a later
+     * one.
+     */
+    private static class Data implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -4004961207815462364L;
+
+        /** The series keys. */
+        String[] seriesKeys;
+
+        /** A flag that indicates whether the x-values are times. */
+        boolean timeSeries;
+
+        /**
+         * The full query that loaded the data (used by {@link #refresh()}
+         * when the dataset is empty, possibly <code>null</code>).
+         */
+        String query;
+
+        /**
+         * A flag that indicates whether the data was aggregated by
+         * {@link #executeBucketQuery(String, String, String, double, double,
+         * int)}, in which case it cannot be refreshed.
+         */
+        boolean aggregated;
+
+        /** The x-values. */
+        double[] x;
+
+        /** The y-values, indexed by [series][item]. */
+        double[][] y;
+
+        /** The number of items. */
+        int count;
+
+        /** A flag that indicates whether the x-values are ascending. */
+        boolean ascending;
+
+        /** The minimum x-value. */
+        double minX;
+
+        /** The maximum x-value. */
+        double maxX;
+
+        /** The minimum y-value. */
+        double minY;
+
+        /** The maximum y-value. */
+        double maxY;
+
+        /**
+         * Creates an empty snapshot.
+         *
+         * @param seriesKeys  the series keys.
+         * @param timeSeries  a flag indicating time values.
+         * @param query  the full query (<code>null</code> permitted).
+         * @param aggregated  a flag indicating aggregated data.
+         */
+        Data(String[] seriesKeys, boolean timeSeries, String query,
+                boolean aggregated) {
+            this.seriesKeys = seriesKeys;
+            this.timeSeries = timeSeries;
+            this.query = query;
+            this.aggregated = aggregated;
+            this.x = new double[16];
+            this.y = new double[seriesKeys.length][16];
+            this.count = 0;
+            this.ascending = true;
+            this.minX = Double.POSITIVE_INFINITY;
+            this.maxX = Double.NEGATIVE_INFINITY;
+            this.minY = Double.POSITIVE_INFINITY;
+            this.maxY = Double.NEGATIVE_INFINITY;
+        }
+
+        /**
+         * Returns a copy of this snapshot that shares the same arrays.
+         *
+         * @return A copy.
+         */
+        Data copy() {
+            Data copy = new Data(this.seriesKeys, this.timeSeries,
+                    this.query, this.aggregated);
+            copy.x = this.x;
+            copy.y = this.y;
+            copy.count = this.count;
+            copy.ascending = this.ascending;
+            copy.minX = this.minX;
+            copy.maxX = this.maxX;
+            copy.minY = this.minY;
+            copy.maxY = this.maxY;
+            return copy;
+        }
+
+        /**
+         * Adds a row, growing the arrays if necessary.
+         *
+         * @param xValue  the x-value.
+         * @param yValues  the y-values (one per series).
+         */
+        void add(double xValue, double[] yValues) {
+            if (this.count == this.x.length) {
+                int capacity = this.count * 2;
+                double[] newX = new double[capacity];
+                System.arraycopy(this.x, 0, newX, 0, this.count);
+                this.x = newX;
+                double[][] newY = new double[this.y.length][];
+                for (int s = 0; s < this.y.length; s++) {
+                    newY[s] = new double[capacity];
+                    System.arraycopy(this.y[s], 0, newY[s], 0, this.count);
+                }
+                this.y = newY;
+            }
+            if (this.count > 0 && xValue < this.x[this.count - 1]) {
+                this.ascending = false;
+            }
+            this.x[this.count] = xValue;
+            if (xValue < this.minX) {
+                this.minX = xValue;
+            }
+            if (xValue > this.maxX) {
+                this.maxX = xValue;
+            }
+            for (int s = 0; s < yValues.length; s++) {
+                double v = yValues[s];
+                this.y[s][this.count] = v;
+                if (v < this.minY) {
+                    this.minY = v;
+                }
+                if (v > this.maxY) {
+                    this.maxY = v;
+                }
+            }
+            this.count++;
+        }
+
+    }
+
+}
@@ -66,6 +66,7 @@
  *               release (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 17-Oct-2006 : Deprecated unused methods - see bug 1578293 (DG);
+ * 19-Oct-2026 : Added fetchSize attribute;
  * 
  */
 
@@ -121,6 +122,9 @@ public class JDBCXYDataset extends AbstractXYDataset
     /** Is this dataset a timeseries ? */
     private boolean isTimeSeries = false;
 
+    /** The number of rows to fetch at a time (zero for the driver default). */
+    private int fetchSize = 0;
+
     /**
      * Creates a new JDBCXYDataset (initially empty) with no database 
      * connection.
@@ -199,6 +203,38 @@ public class JDBCXYDataset extends AbstractXYDataset
         this.isTimeSeries = timeSeries;
     }
 
+    /**
+     * Returns the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time (zero leaves the choice to the driver).
+     *
+     * @return The fetch size.
+     *
+     * @see #setFetchSize(int)
+     *
+     * @since 1.0.10
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time, for queries executed after this call.  A
+     * larger value reduces the number of round trips for large results.
+     *
+     * @param size  the fetch size (zero leaves the choice to the driver).
+     *
+     * @see #getFetchSize()
+     *
+     * @since 1.0.10
+     */
+    public void setFetchSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative 'size' argument.");
+        }
+        this.fetchSize = size;
+    }
+
     /**
      * ExecuteQuery will attempt execute the query passed to it against the
      * existing database connection.  If no connection exists then no action
@@ -241,6 +277,9 @@ public class JDBCXYDataset extends AbstractXYDataset
         Statement statement = null;
         try {
             statement = con.createStatement();
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
+            }
             resultSet = statement.executeQuery(query);
             ResultSetMetaData metaData = resultSet.getMetaData();
 
@@ -41,12 +41,16 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 15-Nov-2006 : Cleaned up handling of null arguments, and null or NaN items 
  *               in the list (DG);
+ * 19-Oct-2026 : Added calculations for double arrays (by selection) and for 
+ *               quantile sketches, and stopped calculateQ1() and 
+ *               calculateQ3() from re-sorting the (already sorted) list;
  *
  */
 
 package org.jfree.data.statistics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -166,6 +170,191 @@ public abstract class BoxAndWhiskerCalculator {
         
     }
 
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from an array of values, giving the same results as
+     * {@link #calculateBoxAndWhiskerStatistics(List)}.  The median and 
+     * quartiles are found by selection on a copy of the array, which takes 
+     * linear time on average, instead of sorting a list of 
+     * <code>Number</code> objects.  Any <code>Double.NaN</code> values are 
+     * ignored.
+     * 
+     * @param values  the values (<code>null</code> not permitted).
+     * 
+     * @return A box-and-whisker item.
+     * 
+     * @since 1.0.10
+     */
+    public static BoxAndWhiskerItem calculateFromArray(double[] values) {
+        
+        if (values == null) { 
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        double[] a = new double[values.length];
+        int n = 0;
+        double total = 0.0;
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                a[n++] = values[i];
+                total += values[i];
+            }
+        }
+        
+        double mean = total / n;
+        double median = Double.NaN;
+        double q1 = Double.NaN;
+        double q3 = Double.NaN;
+        if (n > 0) {
+            // the ranks needed for the median and the medians of each half
+            // (as defined by calculateQ1() and calculateQ3())
+            int q1End = (n % 2 == 1) ? n / 2 : n / 2 - 1;
+            int[] ranks = new int[6];
+            medianRanks(0, n - 1, ranks, 0);
+            medianRanks(0, q1End, ranks, 2);
+            medianRanks(n / 2, n - 1, ranks, 4);
+            int[] sorted = (int[]) ranks.clone();
+            Arrays.sort(sorted);
+            int from = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    Statistics.select(a, from, n - 1, sorted[i]);
+                    from = sorted[i] + 1;
+                }
+            }
+            median = (a[ranks[0]] + a[ranks[1]]) / 2.0;
+            q1 = (a[ranks[2]] + a[ranks[3]]) / 2.0;
+            q3 = (a[ranks[4]] + a[ranks[5]]) / 2.0;
+        }
+        
+        double interQuartileRange = q3 - q1;
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+        double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+        double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+
+        double minRegularValue = Double.POSITIVE_INFINITY;
+        double maxRegularValue = Double.NEGATIVE_INFINITY;
+        double minOutlier = Double.POSITIVE_INFINITY;
+        double maxOutlier = Double.NEGATIVE_INFINITY;
+        double[] outliers = new double[8];
+        int outlierCount = 0;
+        for (int i = 0; i < n; i++) {
+            double value = a[i];
+            if (value > upperOutlierThreshold 
+                    || value < lowerOutlierThreshold) {
+                if (outlierCount == outliers.length) {
+                    double[] grown = new double[outlierCount * 2];
+                    System.arraycopy(outliers, 0, grown, 0, outlierCount);
+                    outliers = grown;
+                }
+                outliers[outlierCount++] = value;
+                if (value > upperOutlierThreshold) {
+                    if (value <= upperFaroutThreshold) {
+                        maxOutlier = Math.max(maxOutlier, value);
+                    }
+                }
+                else if (value >= lowerFaroutThreshold) {
+                    minOutlier = Math.min(minOutlier, value);
+                }
+            }
+            else {
+                minRegularValue = Math.min(minRegularValue, value);
+                maxRegularValue = Math.max(maxRegularValue, value);
+            }
+        }
+        if (n > 0) {
+            minOutlier = Math.min(minOutlier, minRegularValue);
+            maxOutlier = Math.max(maxOutlier, maxRegularValue);
+        }
+        Arrays.sort(outliers, 0, outlierCount);
+        List outlierList = new ArrayList(outlierCount);
+        for (int i = 0; i < outlierCount; i++) {
+            outlierList.add(new Double(outliers[i]));
+        }
+        
+        return new BoxAndWhiskerItem(new Double(mean), new Double(median),
+                new Double(q1), new Double(q3), new Double(minRegularValue),
+                new Double(maxRegularValue), new Double(minOutlier),
+                new Double(maxOutlier), outlierList);
+        
+    }
+
+    /**
+     * Stores the ranks of the value(s) whose average is the median of the 
+     * sorted elements <code>start</code> to <code>end</code> (inclusive).  
+     * The two ranks are equal when there is an odd number of elements.
+     * 
+     * @param start  the first index.
+     * @param end  the last index.
+     * @param ranks  the array to store the ranks in.
+     * @param index  the index at which to store the two ranks.
+     */
+    private static void medianRanks(int start, int end, int[] ranks, 
+            int index) {
+        int count = end - start + 1;
+        if (count % 2 == 1) {
+            ranks[index] = start + (count - 1) / 2;
+            ranks[index + 1] = ranks[index];
+        }
+        else {
+            ranks[index] = start + count / 2 - 1;
+            ranks[index + 1] = start + count / 2;
+        }
+    }
+
+    /**
+     * Calculates approximate statistics for a {@link BoxAndWhiskerItem} 
+     * from a {@link QuantileSketch}, for data sets that are too large to 
+     * keep in memory.  The mean is exact and the median and quartiles are 
+     * estimates.  The regular and outlier ranges, and the list of outliers, 
+     * are exact as long as the number of outliers at each end does not 
+     * exceed the number of extreme values kept by the sketch (beyond that, 
+     * the ranges are estimated and only the most extreme outliers are 
+     * listed).
+     * 
+     * @param sketch  the sketch (<code>null</code> not permitted).
+     * 
+     * @return A box-and-whisker item.
+     * 
+     * @since 1.0.10
+     */
+    public static BoxAndWhiskerItem calculateFromSketch(
+            QuantileSketch sketch) {
+        
+        if (sketch == null) { 
+            throw new IllegalArgumentException("Null 'sketch' argument.");
+        }
+        double mean = sketch.getMean();
+        double median = sketch.getQuantile(0.5);
+        double q1 = sketch.getQuantile(0.25);
+        double q3 = sketch.getQuantile(0.75);
+        
+        double interQuartileRange = q3 - q1;
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+        double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+        double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+        
+        List outliers = new ArrayList();
+        double[] low = sketch.getLowestBelow(lowerOutlierThreshold);
+        for (int i = 0; i < low.length; i++) {
+            outliers.add(new Double(low[i]));
+        }
+        double[] high = sketch.getHighestAbove(upperOutlierThreshold);
+        for (int i = 0; i < high.length; i++) {
+            outliers.add(new Double(high[i]));
+        }
+        
+        return new BoxAndWhiskerItem(new Double(mean), new Double(median),
+                new Double(q1), new Double(q3), 
+                new Double(sketch.smallestAtLeast(lowerOutlierThreshold)),
+                new Double(sketch.largestAtMost(upperOutlierThreshold)), 
+                new Double(sketch.smallestAtLeast(lowerFaroutThreshold)),
+                new Double(sketch.largestAtMost(upperFaroutThreshold)), 
+                outliers);
+        
+    }
+
     /**
      * Calculates the first quartile for a list of numbers in ascending order.
      * If the items in the list are not in ascending order, the result is
@@ -188,14 +377,16 @@ public abstract class BoxAndWhiskerCalculator {
         if (count > 0) {
             if (count % 2 == 1) {
                 if (count > 1) {
-                    result = Statistics.calculateMedian(values, 0, count / 2);
+                    result = Statistics.calculateMedian(values, 0, count / 2, 
+                            false);
                 }
                 else {
-                    result = Statistics.calculateMedian(values, 0, 0);
+                    result = Statistics.calculateMedian(values, 0, 0, false);
                 }
             }
             else {
-                result = Statistics.calculateMedian(values, 0, count / 2 - 1);
+                result = Statistics.calculateMedian(values, 0, count / 2 - 1, 
+                        false);
             }
             
         }
@@ -223,15 +414,15 @@ public abstract class BoxAndWhiskerCalculator {
             if (count % 2 == 1) {
                 if (count > 1) {
                     result = Statistics.calculateMedian(values, count / 2, 
-                            count - 1);
+                            count - 1, false);
                 }
                 else {
-                    result = Statistics.calculateMedian(values, 0, 0);
+                    result = Statistics.calculateMedian(values, 0, 0, false);
                 }
             }
             else {
                 result = Statistics.calculateMedian(values, count / 2, 
-                        count - 1);
+                        count - 1, false);
             }
         }
         return result;
@@ -0,0 +1,131 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * ExponentialSmoothing.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * An exponentially weighted moving average of the y-values: each new value
+ * <code>y</code> moves the average to <code>average + alpha * (y -
+ * average)</code>.
+ *
+ * @since 1.0.10
+ */
+public class ExponentialSmoothing implements OnlineStatistic, Cloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3287764520367810128L;
+
+    /** The smoothing factor. */
+    private double alpha;
+
+    /** The current average. */
+    private double value;
+
+    /**
+     * Creates a new statistic.
+     *
+     * @param alpha  the smoothing factor (greater than 0.0, and at most 1.0;
+     *     larger values give more weight to recent observations).
+     */
+    public ExponentialSmoothing(double alpha) {
+        if (!(alpha > 0.0 && alpha <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 0.0 < alpha <= 1.0.");
+        }
+        this.alpha = alpha;
+        this.value = Double.NaN;
+    }
+
+    /**
+     * Returns the smoothing factor.
+     *
+     * @return The smoothing factor.
+     */
+    public double getAlpha() {
+        return this.alpha;
+    }
+
+    /**
+     * Adds an observation.
+     *
+     * @param x  the x-value (ignored).
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        if (Double.isNaN(this.value)) {
+            this.value = y;
+        }
+        else {
+            this.value += this.alpha * (y - this.value);
+        }
+    }
+
+    /**
+     * Returns the current average.
+     *
+     * @return The average (<code>Double.NaN</code> if there are no
+     *     observations).
+     */
+    public double getValue() {
+        return this.value;
+    }
+
+    /**
+     * Discards all observations.
+     */
+    public void clear() {
+        this.value = Double.NaN;
+    }
+
+    /**
+     * Returns a clone of the statistic.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+}
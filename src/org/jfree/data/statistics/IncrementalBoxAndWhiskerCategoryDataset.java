@@ -0,0 +1,348 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------------------------
+ * IncrementalBoxAndWhiskerCategoryDataset.java
+ * --------------------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import org.jfree.data.KeyedObjects2D;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * A box-and-whisker dataset that keeps a {@link QuantileSketch} for each
+ * cell and updates the cell's statistics as values arrive, so the raw
+ * values never need to be held in memory.  The statistics are calculated
+ * with {@link BoxAndWhiskerCalculator#calculateFromSketch(QuantileSketch)},
+ * so the median and quartiles are estimates.
+ * <p>
+ * Each call to an <code>add()</code> method for values recalculates the
+ * statistics for one cell and sends one {@link DatasetChangeEvent}, so
+ * values that arrive together are best added as an array.
+ *
+ * @since 1.0.10
+ */
+public class IncrementalBoxAndWhiskerCategoryDataset
+        extends DefaultBoxAndWhiskerCategoryDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4179372961412640383L;
+
+    /** The sketches for each cell that values have been added to. */
+    private KeyedObjects2D sketches;
+
+    /** The compression for new sketches. */
+    private double compression;
+
+    /** The number of extreme values kept by new sketches. */
+    private int extremeCount;
+
+    /**
+     * Creates a new dataset using the default sketch settings.
+     */
+    public IncrementalBoxAndWhiskerCategoryDataset() {
+        this(QuantileSketch.DEFAULT_COMPRESSION,
+                QuantileSketch.DEFAULT_EXTREME_COUNT);
+    }
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param compression  the compression for each sketch (see
+     *     {@link QuantileSketch#QuantileSketch(double, int)}).
+     * @param extremeCount  the number of extreme values kept by each
+     *     sketch (this limits the number of outliers reported at each end).
+     */
+    public IncrementalBoxAndWhiskerCategoryDataset(double compression,
+            int extremeCount) {
+        if (!(compression >= 10.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 'compression' >= 10.");
+        }
+        if (extremeCount < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'extremeCount' argument.");
+        }
+        this.sketches = new KeyedObjects2D();
+        this.compression = compression;
+        this.extremeCount = extremeCount;
+    }
+
+    /**
+     * Adds a value to a cell, updates the statistics for the cell and sends
+     * a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>NaN</code> is ignored).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void add(double value, Comparable rowKey, Comparable columnKey) {
+        QuantileSketch sketch = getOrCreateSketch(rowKey, columnKey);
+        sketch.add(value);
+        update(sketch, rowKey, columnKey);
+    }
+
+    /**
+     * Adds an array of values to a cell, updates the statistics for the
+     * cell and sends a {@link DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param values  the values (<code>null</code> not permitted,
+     *     <code>NaN</code> values are ignored).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void add(double[] values, Comparable rowKey,
+            Comparable columnKey) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        QuantileSketch sketch = getOrCreateSketch(rowKey, columnKey);
+        sketch.add(values);
+        update(sketch, rowKey, columnKey);
+    }
+
+    /**
+     * Merges a sketch (for example, one built by another thread or process)
+     * into a cell, updates the statistics for the cell and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param sketch  the sketch (<code>null</code> not permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void merge(QuantileSketch sketch, Comparable rowKey,
+            Comparable columnKey) {
+        if (sketch == null) {
+            throw new IllegalArgumentException("Null 'sketch' argument.");
+        }
+        QuantileSketch target = getOrCreateSketch(rowKey, columnKey);
+        target.merge(sketch);
+        update(target, rowKey, columnKey);
+    }
+
+    /**
+     * Returns the sketch for a cell.  The sketch should not be modified
+     * directly.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The sketch (<code>null</code> if no values have been added to
+     *     the cell).
+     */
+    public QuantileSketch getSketch(Comparable rowKey,
+            Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        if (this.sketches.getRowIndex(rowKey) < 0
+                || this.sketches.getColumnIndex(columnKey) < 0) {
+            return null;
+        }
+        return (QuantileSketch) this.sketches.getObject(rowKey, columnKey);
+    }
+
+    /**
+     * Returns the sketch for a cell, creating it if necessary.
+     *
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     *
+     * @return The sketch.
+     */
+    private QuantileSketch getOrCreateSketch(Comparable rowKey,
+            Comparable columnKey) {
+        QuantileSketch sketch = getSketch(rowKey, columnKey);
+        if (sketch == null) {
+            sketch = new QuantileSketch(this.compression, this.extremeCount);
+            this.sketches.addObject(sketch, rowKey, columnKey);
+        }
+        return sketch;
+    }
+
+    /**
+     * Recalculates the statistics for a cell from its sketch.
+     *
+     * @param sketch  the sketch.
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     */
+    private void update(QuantileSketch sketch, Comparable rowKey,
+            Comparable columnKey) {
+        super.add(BoxAndWhiskerCalculator.calculateFromSketch(sketch),
+                rowKey, columnKey);
+    }
+
+    /**
+     * Removes the sketch for a cell, if there is one.
+     *
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     */
+    private void removeSketch(Comparable rowKey, Comparable columnKey) {
+        if (getSketch(rowKey, columnKey) != null) {
+            this.sketches.removeObject(rowKey, columnKey);
+        }
+    }
+
+    /**
+     * Adds precalculated statistics to the table, replacing any sketch for
+     * the cell (values added to the cell later will start a new sketch).
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void add(BoxAndWhiskerItem item, Comparable rowKey,
+            Comparable columnKey) {
+        removeSketch(rowKey, columnKey);
+        super.add(item, rowKey, columnKey);
+    }
+
+    /**
+     * Removes an item from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void remove(Comparable rowKey, Comparable columnKey) {
+        removeSketch(rowKey, columnKey);
+        super.remove(rowKey, columnKey);
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowIndex  the row index.
+     */
+    public void removeRow(int rowIndex) {
+        removeRow(getRowKey(rowIndex));
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key.
+     */
+    public void removeRow(Comparable rowKey) {
+        if (this.sketches.getRowIndex(rowKey) >= 0) {
+            this.sketches.removeRow(rowKey);
+        }
+        super.removeRow(rowKey);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnIndex  the column index.
+     */
+    public void removeColumn(int columnIndex) {
+        removeColumn(getColumnKey(columnIndex));
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param columnKey  the column key.
+     */
+    public void removeColumn(Comparable columnKey) {
+        if (this.sketches.getColumnIndex(columnKey) >= 0) {
+            this.sketches.removeColumn(columnKey);
+        }
+        super.removeColumn(columnKey);
+    }
+
+    /**
+     * Clears all data from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        this.sketches.clear();
+        super.clear();
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof IncrementalBoxAndWhiskerCategoryDataset)) {
+            return false;
+        }
+        IncrementalBoxAndWhiskerCategoryDataset that
+                = (IncrementalBoxAndWhiskerCategoryDataset) obj;
+        if (this.compression != that.compression
+                || this.extremeCount != that.extremeCount) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.sketches, that.sketches)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a clone of this dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if cloning is not possible.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        IncrementalBoxAndWhiskerCategoryDataset clone
+                = (IncrementalBoxAndWhiskerCategoryDataset) super.clone();
+        clone.sketches = (KeyedObjects2D) this.sketches.clone();
+        return clone;
+    }
+
+}
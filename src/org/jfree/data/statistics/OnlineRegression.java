@@ -0,0 +1,226 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * OnlineRegression.java
+ * ---------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * An ordinary least squares fit of <code>y = a + bx</code> (as calculated
+ * by {@link Regression#getOLSRegression(double[][])}), over all
+ * observations or over the most recent <code>n</code>, updated in constant
+ * time per observation.  The means and co-moments are updated with
+ * Welford's method, so large x-values (such as times in milliseconds) do
+ * not lose precision.
+ * <p>
+ * As an {@link OnlineStatistic}, the value is the fitted y-value at the
+ * most recent x-value.
+ *
+ * @since 1.0.10
+ */
+public class OnlineRegression implements OnlineStatistic, Cloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2193400217004733468L;
+
+    /** The most recent observations (<code>null</code> for no window). */
+    private RollingWindow window;
+
+    /** The number of observations in the fit. */
+    private long count;
+
+    /** The mean x-value. */
+    private double meanX;
+
+    /** The mean y-value. */
+    private double meanY;
+
+    /** The sum of squared x-deviations. */
+    private double cxx;
+
+    /** The sum of the products of the x- and y-deviations. */
+    private double cxy;
+
+    /** The most recent x-value. */
+    private double lastX;
+
+    /**
+     * Creates a new regression over all observations.
+     */
+    public OnlineRegression() {
+        this.lastX = Double.NaN;
+    }
+
+    /**
+     * Creates a new regression over the most recent observations.
+     *
+     * @param window  the number of observations (at least 2).
+     */
+    public OnlineRegression(int window) {
+        this();
+        if (window < 2) {
+            throw new IllegalArgumentException("Requires 'window' >= 2.");
+        }
+        this.window = new RollingWindow(window);
+    }
+
+    /**
+     * Adds an observation.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        if (this.window != null) {
+            if (this.window.isFull()) {
+                remove(this.window.getX(0), this.window.getY(0));
+            }
+            this.window.add(x, y);
+        }
+        this.count++;
+        double dx = x - this.meanX;
+        this.meanX += dx / this.count;
+        this.meanY += (y - this.meanY) / this.count;
+        this.cxx += dx * (x - this.meanX);
+        this.cxy += dx * (y - this.meanY);
+        this.lastX = x;
+    }
+
+    /**
+     * Removes an observation from the fit (the reverse of the update in
+     * {@link #add(double, double)}).
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void remove(double x, double y) {
+        double previousMeanX = this.meanX;
+        double previousMeanY = this.meanY;
+        this.count--;
+        this.meanX -= (x - this.meanX) / this.count;
+        this.meanY -= (y - this.meanY) / this.count;
+        this.cxx = Math.max(0.0,
+                this.cxx - (x - this.meanX) * (x - previousMeanX));
+        this.cxy -= (x - this.meanX) * (y - previousMeanY);
+    }
+
+    /**
+     * Returns the number of observations in the fit.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the slope ('b') of the fitted line.
+     *
+     * @return The slope (<code>Double.NaN</code> if there are fewer than two
+     *     distinct x-values).
+     */
+    public double getSlope() {
+        if (this.count < 2 || this.cxx == 0.0) {
+            return Double.NaN;
+        }
+        return this.cxy / this.cxx;
+    }
+
+    /**
+     * Returns the intercept ('a') of the fitted line.
+     *
+     * @return The intercept (<code>Double.NaN</code> if there are fewer
+     *     than two distinct x-values).
+     */
+    public double getIntercept() {
+        return this.meanY - getSlope() * this.meanX;
+    }
+
+    /**
+     * Returns the parameters 'a' and 'b' of the fitted line, in the same
+     * form as {@link Regression#getOLSRegression(double[][])}.
+     *
+     * @return The parameters (result[0] is 'a' and result[1] is 'b').
+     */
+    public double[] getCoefficients() {
+        return new double[] {getIntercept(), getSlope()};
+    }
+
+    /**
+     * Returns the fitted y-value at the most recent x-value.
+     *
+     * @return The fitted value.
+     */
+    public double getValue() {
+        return this.meanY + getSlope() * (this.lastX - this.meanX);
+    }
+
+    /**
+     * Discards all observations.
+     */
+    public void clear() {
+        if (this.window != null) {
+            this.window.clear();
+        }
+        this.count = 0L;
+        this.meanX = 0.0;
+        this.meanY = 0.0;
+        this.cxx = 0.0;
+        this.cxy = 0.0;
+        this.lastX = Double.NaN;
+    }
+
+    /**
+     * Returns a clone of the statistic.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        OnlineRegression clone = (OnlineRegression) super.clone();
+        if (this.window != null) {
+            clone.window = (RollingWindow) this.window.clone();
+        }
+        return clone;
+    }
+
+}
@@ -0,0 +1,76 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * OnlineStatistic.java
+ * --------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A statistic that is updated one observation at a time, in constant time
+ * per observation, so that it can follow a series as items are appended
+ * (see {@link org.jfree.data.time.DerivedTimeSeries} and
+ * {@link org.jfree.data.xy.DerivedXYSeries}).
+ *
+ * @since 1.0.10
+ */
+public interface OnlineStatistic extends PublicCloneable {
+
+    /**
+     * Adds an observation.  Most statistics use only the y-value.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void add(double x, double y);
+
+    /**
+     * Returns the current value of the statistic.
+     *
+     * @return The value (<code>Double.NaN</code> if there are not yet enough
+     *     observations).
+     */
+    public double getValue();
+
+    /**
+     * Discards all observations.
+     */
+    public void clear();
+
+}
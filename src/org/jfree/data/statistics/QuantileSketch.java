@@ -0,0 +1,716 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * QuantileSketch.java
+ * -------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A summary of a stream of values that estimates quantiles in bounded
+ * memory, for data sets too large to keep and sort (see
+ * {@link BoxAndWhiskerCalculator#calculateFromSketch(QuantileSketch)}).  Values are grouped into weighted centroids, with
+ * small centroids near the tails and larger ones near the median (the
+ * "merging t-digest" scheme), so the estimates are most accurate for
+ * extreme quantiles.  Sketches built from different parts of a data set can
+ * be combined with {@link #merge(QuantileSketch)}.
+ * <p>
+ * The count, mean, minimum and maximum are exact.  The sketch also keeps
+ * a fixed number of the lowest and highest values seen, so that outliers
+ * can be reported exactly as long as there are not too many of them.
+ *
+ * @since 1.0.10
+ */
+public class QuantileSketch implements Cloneable, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2870262591626564108L;
+
+    /** The default compression. */
+    public static final double DEFAULT_COMPRESSION = 100.0;
+
+    /** The default number of extreme values kept at each end. */
+    public static final int DEFAULT_EXTREME_COUNT = 32;
+
+    /**
+     * The compression (roughly, twice the maximum number of centroids).
+     */
+    private double compression;
+
+    /** The centroid means, in ascending order. */
+    private double[] means;
+
+    /** The centroid weights. */
+    private double[] weights;
+
+    /** The number of centroids. */
+    private int centroidCount;
+
+    /** Values not yet merged into the centroids. */
+    private double[] buffer;
+
+    /** The number of values in the buffer. */
+    private int bufferCount;
+
+    /** The number of values added. */
+    private long count;
+
+    /** The sum of the values added. */
+    private double sum;
+
+    /** The smallest value added. */
+    private double minimum;
+
+    /** The largest value added. */
+    private double maximum;
+
+    /** The lowest values seen, in ascending order. */
+    private double[] lowest;
+
+    /** The number of values in <code>lowest</code>. */
+    private int lowestCount;
+
+    /** The highest values seen, in ascending order. */
+    private double[] highest;
+
+    /** The number of values in <code>highest</code>. */
+    private int highestCount;
+
+    /**
+     * Creates a new sketch with the default settings.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION, DEFAULT_EXTREME_COUNT);
+    }
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param compression  the compression (at least 10; higher values give
+     *     better accuracy with more memory).
+     * @param extremeCount  the number of lowest and highest values to keep
+     *     (zero or more).
+     */
+    public QuantileSketch(double compression, int extremeCount) {
+        if (!(compression >= 10.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 'compression' >= 10.");
+        }
+        if (extremeCount < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'extremeCount' argument.");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) + 8;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.buffer = new double[capacity * 5];
+        this.lowest = new double[extremeCount];
+        this.highest = new double[extremeCount];
+        this.minimum = Double.NaN;
+        this.maximum = Double.NaN;
+    }
+
+    /**
+     * Returns the compression.
+     *
+     * @return The compression.
+     */
+    public double getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * Returns the number of values added to the sketch.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean of the values added to the sketch.
+     *
+     * @return The mean (<code>NaN</code> if the sketch is empty).
+     */
+    public double getMean() {
+        return this.count == 0L ? Double.NaN : this.sum / this.count;
+    }
+
+    /**
+     * Returns the smallest value added to the sketch.
+     *
+     * @return The minimum (<code>NaN</code> if the sketch is empty).
+     */
+    public double getMinimum() {
+        return this.minimum;
+    }
+
+    /**
+     * Returns the largest value added to the sketch.
+     *
+     * @return The maximum (<code>NaN</code> if the sketch is empty).
+     */
+    public double getMaximum() {
+        return this.maximum;
+    }
+
+    /**
+     * Adds a value to the sketch.  <code>NaN</code> values are ignored.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (this.count == 0L) {
+            this.minimum = value;
+            this.maximum = value;
+        }
+        else {
+            this.minimum = Math.min(this.minimum, value);
+            this.maximum = Math.max(this.maximum, value);
+        }
+        this.count++;
+        this.sum += value;
+        addExtreme(value);
+        this.buffer[this.bufferCount++] = value;
+        if (this.bufferCount == this.buffer.length) {
+            compress(null);
+        }
+    }
+
+    /**
+     * Adds an array of values to the sketch.  <code>NaN</code> values are
+     * ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     */
+    public void add(double[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        for (int i = 0; i < values.length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the values summarised by another sketch to this sketch.
+     *
+     * @param other  the other sketch (<code>null</code> not permitted).
+     */
+    public void merge(QuantileSketch other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Null 'other' argument.");
+        }
+        if (other.count == 0L) {
+            return;
+        }
+        other.compress(null);
+        if (this.count == 0L) {
+            this.minimum = other.minimum;
+            this.maximum = other.maximum;
+        }
+        else {
+            this.minimum = Math.min(this.minimum, other.minimum);
+            this.maximum = Math.max(this.maximum, other.maximum);
+        }
+        this.count += other.count;
+        this.sum += other.sum;
+        for (int i = 0; i < other.lowestCount; i++) {
+            addLowest(other.lowest[i]);
+        }
+        for (int i = 0; i < other.highestCount; i++) {
+            addHighest(other.highest[i]);
+        }
+        compress(other);
+    }
+
+    /**
+     * Returns an estimate of a quantile.
+     *
+     * @param q  the quantile (in the range 0.0 to 1.0).
+     *
+     * @return The estimate (<code>NaN</code> if the sketch is empty).
+     */
+    public double getQuantile(double q) {
+        if (q < 0.0 || q > 1.0) {
+            throw new IllegalArgumentException("Requires 0.0 <= q <= 1.0.");
+        }
+        if (this.count == 0L) {
+            return Double.NaN;
+        }
+        compress(null);
+        int n = this.centroidCount;
+        double index = q * this.count;
+        if (index <= this.weights[0] / 2.0) {
+            return interpolate(index, 0.0, this.minimum,
+                    this.weights[0] / 2.0, this.means[0]);
+        }
+        double cumulative = 0.0;
+        for (int i = 0; i < n - 1; i++) {
+            double mid = cumulative + this.weights[i] / 2.0;
+            double nextMid = cumulative + this.weights[i]
+                    + this.weights[i + 1] / 2.0;
+            if (index <= nextMid) {
+                return interpolate(index, mid, this.means[i], nextMid,
+                        this.means[i + 1]);
+            }
+            cumulative += this.weights[i];
+        }
+        return interpolate(index, this.count - this.weights[n - 1] / 2.0,
+                this.means[n - 1], this.count, this.maximum);
+    }
+
+    /**
+     * Returns an estimate of the fraction of values less than or equal to
+     * <code>x</code> (the inverse of {@link #getQuantile(double)}).
+     *
+     * @param x  the value.
+     *
+     * @return The fraction (<code>NaN</code> if the sketch is empty).
+     */
+    public double getCDF(double x) {
+        if (this.count == 0L) {
+            return Double.NaN;
+        }
+        if (x < this.minimum) {
+            return 0.0;
+        }
+        if (x >= this.maximum) {
+            return 1.0;
+        }
+        compress(null);
+        int n = this.centroidCount;
+        if (x <= this.means[0]) {
+            return interpolate(x, this.minimum, 0.0, this.means[0],
+                    this.weights[0] / 2.0) / this.count;
+        }
+        double cumulative = 0.0;
+        for (int i = 0; i < n - 1; i++) {
+            if (x <= this.means[i + 1]) {
+                double mid = cumulative + this.weights[i] / 2.0;
+                double nextMid = cumulative + this.weights[i]
+                        + this.weights[i + 1] / 2.0;
+                return interpolate(x, this.means[i], mid, this.means[i + 1],
+                        nextMid) / this.count;
+            }
+            cumulative += this.weights[i];
+        }
+        return interpolate(x, this.means[n - 1],
+                this.count - this.weights[n - 1] / 2.0, this.maximum,
+                this.count) / this.count;
+    }
+
+    /**
+     * Returns the smallest value added that is greater than or equal to
+     * <code>x</code>.  The result is exact if fewer values than the number
+     * of extremes kept are below <code>x</code>, and estimated otherwise.
+     *
+     * @param x  the value.
+     *
+     * @return The value (<code>NaN</code> if there is none).
+     */
+    double smallestAtLeast(double x) {
+        if (this.count == 0L || x > this.maximum) {
+            return Double.NaN;
+        }
+        if (this.minimum >= x) {
+            return this.minimum;
+        }
+        for (int i = 0; i < this.lowestCount; i++) {
+            if (this.lowest[i] >= x) {
+                return this.lowest[i];
+            }
+        }
+        return Math.max(x, getQuantile(getCDF(x)));
+    }
+
+    /**
+     * Returns the largest value added that is less than or equal to
+     * <code>x</code>.  The result is exact if fewer values than the number
+     * of extremes kept are above <code>x</code>, and estimated otherwise.
+     *
+     * @param x  the value.
+     *
+     * @return The value (<code>NaN</code> if there is none).
+     */
+    double largestAtMost(double x) {
+        if (this.count == 0L || x < this.minimum) {
+            return Double.NaN;
+        }
+        if (this.maximum <= x) {
+            return this.maximum;
+        }
+        for (int i = this.highestCount - 1; i >= 0; i--) {
+            if (this.highest[i] <= x) {
+                return this.highest[i];
+            }
+        }
+        return Math.min(x, getQuantile(getCDF(x)));
+    }
+
+    /**
+     * Returns the kept values that are less than <code>x</code>, in
+     * ascending order.
+     *
+     * @param x  the value.
+     *
+     * @return The values.
+     */
+    double[] getLowestBelow(double x) {
+        int n = 0;
+        while (n < this.lowestCount && this.lowest[n] < x) {
+            n++;
+        }
+        double[] result = new double[n];
+        System.arraycopy(this.lowest, 0, result, 0, n);
+        return result;
+    }
+
+    /**
+     * Returns the kept values that are greater than <code>x</code>, in
+     * ascending order.
+     *
+     * @param x  the value.
+     *
+     * @return The values.
+     */
+    double[] getHighestAbove(double x) {
+        int start = this.highestCount;
+        while (start > 0 && this.highest[start - 1] > x) {
+            start--;
+        }
+        double[] result = new double[this.highestCount - start];
+        System.arraycopy(this.highest, start, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Linear interpolation (or the midpoint when x1 equals x2).
+     *
+     * @param x  the x-value.
+     * @param x1  the first x-value.
+     * @param y1  the first y-value.
+     * @param x2  the second x-value.
+     * @param y2  the second y-value.
+     *
+     * @return The interpolated y-value.
+     */
+    private static double interpolate(double x, double x1, double y1,
+            double x2, double y2) {
+        if (x2 <= x1) {
+            return (y1 + y2) / 2.0;
+        }
+        return y1 + (x - x1) * (y2 - y1) / (x2 - x1);
+    }
+
+    /**
+     * Records a value in the lists of lowest and highest values.
+     *
+     * @param value  the value.
+     */
+    private void addExtreme(double value) {
+        addLowest(value);
+        addHighest(value);
+    }
+
+    /**
+     * Records a value in the list of lowest values, if it is low enough.
+     *
+     * @param value  the value.
+     */
+    private void addLowest(double value) {
+        int n = this.lowestCount;
+        if (n == this.lowest.length) {
+            if (n == 0 || value >= this.lowest[n - 1]) {
+                return;
+            }
+            n--;
+        }
+        else {
+            this.lowestCount++;
+        }
+        int i = n;
+        while (i > 0 && this.lowest[i - 1] > value) {
+            this.lowest[i] = this.lowest[i - 1];
+            i--;
+        }
+        this.lowest[i] = value;
+    }
+
+    /**
+     * Records a value in the list of highest values, if it is high enough.
+     *
+     * @param value  the value.
+     */
+    private void addHighest(double value) {
+        int n = this.highestCount;
+        int i;
+        if (n == this.highest.length) {
+            if (n == 0 || value <= this.highest[0]) {
+                return;
+            }
+            // drop the smallest and shift down
+            i = 0;
+            while (i < n - 1 && this.highest[i + 1] < value) {
+                this.highest[i] = this.highest[i + 1];
+                i++;
+            }
+        }
+        else {
+            i = n;
+            while (i > 0 && this.highest[i - 1] > value) {
+                this.highest[i] = this.highest[i - 1];
+                i--;
+            }
+            this.highestCount++;
+        }
+        this.highest[i] = value;
+    }
+
+    /**
+     * Merges the buffered values (and the centroids of another sketch, if
+     * one is given) into the centroids.
+     *
+     * @param other  another sketch, with an empty buffer
+     *     (<code>null</code> permitted).
+     */
+    private void compress(QuantileSketch other) {
+        if (this.bufferCount == 0 && other == null) {
+            return;
+        }
+        Arrays.sort(this.buffer, 0, this.bufferCount);
+        int otherCount = other == null ? 0 : other.centroidCount;
+        int n = this.centroidCount + this.bufferCount + otherCount;
+        double[] m = new double[n];
+        double[] w = new double[n];
+        // three-way merge of the sorted inputs
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        for (int out = 0; out < n; out++) {
+            double mi = i < this.centroidCount ? this.means[i]
+                    : Double.POSITIVE_INFINITY;
+            double mj = j < this.bufferCount ? this.buffer[j]
+                    : Double.POSITIVE_INFINITY;
+            double mk = k < otherCount ? other.means[k]
+                    : Double.POSITIVE_INFINITY;
+            if (i < this.centroidCount && mi <= mj && mi <= mk) {
+                m[out] = mi;
+                w[out] = this.weights[i++];
+            }
+            else if (j < this.bufferCount && mj <= mk) {
+                m[out] = mj;
+                w[out] = 1.0;
+                j++;
+            }
+            else {
+                m[out] = mk;
+                w[out] = other.weights[k++];
+            }
+        }
+        this.bufferCount = 0;
+
+        // combine neighbours while the combined centroid stays within one
+        // unit of the scale function k(q) = c / (2 pi) * asin(2q - 1)
+        double total = 0.0;
+        for (int t = 0; t < n; t++) {
+            total += w[t];
+        }
+        int result = 0;
+        double weightSoFar = 0.0;
+        double limit = limit(0.0);
+        double mean = m[0];
+        double weight = w[0];
+        for (int t = 1; t < n; t++) {
+            if ((weightSoFar + weight + w[t]) / total <= limit) {
+                weight += w[t];
+                mean += (m[t] - mean) * w[t] / weight;
+            }
+            else {
+                result = store(result, mean, weight);
+                weightSoFar += weight;
+                limit = limit(weightSoFar / total);
+                mean = m[t];
+                weight = w[t];
+            }
+        }
+        result = store(result, mean, weight);
+        this.centroidCount = result;
+    }
+
+    /**
+     * Returns the largest quantile that a centroid starting at quantile
+     * <code>q0</code> may extend to.
+     *
+     * @param q0  the starting quantile.
+     *
+     * @return The limit.
+     */
+    private double limit(double q0) {
+        double k = this.compression / (2.0 * Math.PI)
+                * asin(2.0 * q0 - 1.0) + 1.0;
+        if (k >= this.compression / 4.0) {
+            return 1.0;
+        }
+        return (Math.sin(k * 2.0 * Math.PI / this.compression) + 1.0) / 2.0;
+    }
+
+    /**
+     * Returns the arcsine of a value clamped to the range -1 to 1.
+     *
+     * @param x  the value.
+     *
+     * @return The arcsine.
+     */
+    private static double asin(double x) {
+        return Math.asin(Math.max(-1.0, Math.min(1.0, x)));
+    }
+
+    /**
+     * Stores a centroid, growing the arrays if necessary.
+     *
+     * @param index  the centroid index.
+     * @param mean  the mean.
+     * @param weight  the weight.
+     *
+     * @return The next centroid index.
+     */
+    private int store(int index, double mean, double weight) {
+        if (index == this.means.length) {
+            double[] m = new double[index * 2];
+            double[] w = new double[index * 2];
+            System.arraycopy(this.means, 0, m, 0, index);
+            System.arraycopy(this.weights, 0, w, 0, index);
+            this.means = m;
+            this.weights = w;
+        }
+        this.means[index] = mean;
+        this.weights[index] = weight;
+        return index + 1;
+    }
+
+    /**
+     * Tests this sketch for equality with an arbitrary object.  Buffered
+     * values are merged into the centroids of both sketches first.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof QuantileSketch)) {
+            return false;
+        }
+        QuantileSketch that = (QuantileSketch) obj;
+        if (this.compression != that.compression
+                || this.lowest.length != that.lowest.length
+                || this.count != that.count || this.sum != that.sum) {
+            return false;
+        }
+        compress(null);
+        that.compress(null);
+        return this.centroidCount == that.centroidCount
+                && equal(this.means, that.means, this.centroidCount)
+                && equal(this.weights, that.weights, this.centroidCount)
+                && this.lowestCount == that.lowestCount
+                && equal(this.lowest, that.lowest, this.lowestCount)
+                && this.highestCount == that.highestCount
+                && equal(this.highest, that.highest, this.highestCount);
+    }
+
+    /**
+     * Tests the first <code>n</code> elements of two arrays for equality.
+     *
+     * @param a  the first array.
+     * @param b  the second array.
+     * @param n  the number of elements.
+     *
+     * @return A boolean.
+     */
+    private static boolean equal(double[] a, double[] b, int n) {
+        for (int i = 0; i < n; i++) {
+            if (Double.doubleToLongBits(a[i])
+                    != Double.doubleToLongBits(b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this sketch.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        long bits = Double.doubleToLongBits(this.sum);
+        return 37 * (int) (this.count ^ (this.count >>> 32))
+                + (int) (bits ^ (bits >>> 32));
+    }
+
+    /**
+     * Returns a clone of this sketch.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        QuantileSketch clone = (QuantileSketch) super.clone();
+        clone.means = (double[]) this.means.clone();
+        clone.weights = (double[]) this.weights.clone();
+        clone.buffer = (double[]) this.buffer.clone();
+        clone.lowest = (double[]) this.lowest.clone();
+        clone.highest = (double[]) this.highest.clone();
+        return clone;
+    }
+
+}
@@ -0,0 +1,182 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * RollingExtremum.java
+ * --------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * The minimum or maximum of the most recent <code>n</code> y-values.  The
+ * candidates for the extremum are kept in a monotonic queue, so each
+ * observation is added and removed at most once and the update takes
+ * constant time on average.
+ *
+ * @since 1.0.10
+ */
+public class RollingExtremum implements OnlineStatistic, Cloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6226410322640047856L;
+
+    /** A flag that selects the maximum (<code>true</code>) or minimum. */
+    private boolean maximum;
+
+    /** The window size. */
+    private int window;
+
+    /** The sequence numbers of the queued observations. */
+    private long[] sequence;
+
+    /** The queued y-values (monotonic from head to tail). */
+    private double[] values;
+
+    /** The index of the head of the queue. */
+    private int head;
+
+    /** The number of queued observations. */
+    private int size;
+
+    /** The number of observations added. */
+    private long count;
+
+    /**
+     * Creates a new statistic.
+     *
+     * @param window  the number of observations (at least 1).
+     * @param maximum  <code>true</code> for the maximum, <code>false</code>
+     *     for the minimum.
+     */
+    public RollingExtremum(int window, boolean maximum) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Requires 'window' >= 1.");
+        }
+        this.window = window;
+        this.maximum = maximum;
+        this.sequence = new long[window];
+        this.values = new double[window];
+    }
+
+    /**
+     * Returns <code>true</code> if this statistic is the maximum, and
+     * <code>false</code> if it is the minimum.
+     *
+     * @return A boolean.
+     */
+    public boolean isMaximum() {
+        return this.maximum;
+    }
+
+    /**
+     * Adds an observation.
+     *
+     * @param x  the x-value (ignored).
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        // values that can never be the extremum again leave from the tail
+        while (this.size > 0) {
+            double last = this.values[index(this.size - 1)];
+            if (this.maximum ? last > y : last < y) {
+                break;
+            }
+            this.size--;
+        }
+        // the oldest leaves from the head when it drops out of the window
+        if (this.size > 0
+                && this.sequence[this.head] <= this.count - this.window) {
+            this.head = (this.head + 1) % this.window;
+            this.size--;
+        }
+        int tail = index(this.size);
+        this.sequence[tail] = this.count;
+        this.values[tail] = y;
+        this.size++;
+        this.count++;
+    }
+
+    /**
+     * Returns the position in the arrays of an element of the queue.
+     *
+     * @param i  the element (0 is the head).
+     *
+     * @return The position.
+     */
+    private int index(int i) {
+        return (this.head + i) % this.window;
+    }
+
+    /**
+     * Returns the extremum of the y-values in the window.
+     *
+     * @return The extremum (<code>Double.NaN</code> until the window is
+     *     full).
+     */
+    public double getValue() {
+        if (this.count < this.window) {
+            return Double.NaN;
+        }
+        return this.values[this.head];
+    }
+
+    /**
+     * Discards all observations.
+     */
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+        this.count = 0L;
+    }
+
+    /**
+     * Returns a clone of the statistic.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        RollingExtremum clone = (RollingExtremum) super.clone();
+        clone.sequence = (long[]) this.sequence.clone();
+        clone.values = (double[]) this.values.clone();
+        return clone;
+    }
+
+}
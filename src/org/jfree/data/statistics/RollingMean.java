@@ -0,0 +1,134 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * RollingMean.java
+ * ----------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * The mean of the most recent <code>n</code> y-values (a point-based moving
+ * average, as calculated by
+ * {@link org.jfree.data.time.MovingAverage#createPointMovingAverage(
+ * org.jfree.data.time.TimeSeries, String, int)}), updated in constant time
+ * per observation.
+ *
+ * @since 1.0.10
+ */
+public class RollingMean implements OnlineStatistic, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1581012931578414021L;
+
+    /** The most recent observations. */
+    private RollingWindow window;
+
+    /** The sum of the y-values in the window. */
+    private double sum;
+
+    /** The number of observations since the sum was last recalculated. */
+    private int sinceRecalculation;
+
+    /**
+     * Creates a new statistic.
+     *
+     * @param window  the number of observations to average (at least 1).
+     */
+    public RollingMean(int window) {
+        this.window = new RollingWindow(window);
+    }
+
+    /**
+     * Adds an observation.
+     *
+     * @param x  the x-value (ignored).
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        if (this.window.isFull()) {
+            this.sum -= this.window.getY(0);
+        }
+        this.window.add(x, y);
+        this.sum += y;
+        // recalculate the sum now and then, so that rounding errors from
+        // the subtractions cannot accumulate
+        if (++this.sinceRecalculation == this.window.getCapacity()) {
+            this.sinceRecalculation = 0;
+            this.sum = 0.0;
+            for (int i = 0; i < this.window.getCount(); i++) {
+                this.sum += this.window.getY(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the mean of the y-values in the window.
+     *
+     * @return The mean (<code>Double.NaN</code> until the window is full).
+     */
+    public double getValue() {
+        if (!this.window.isFull()) {
+            return Double.NaN;
+        }
+        return this.sum / this.window.getCount();
+    }
+
+    /**
+     * Discards all observations.
+     */
+    public void clear() {
+        this.window.clear();
+        this.sum = 0.0;
+        this.sinceRecalculation = 0;
+    }
+
+    /**
+     * Returns a clone of the statistic.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        RollingMean clone = (RollingMean) super.clone();
+        clone.window = (RollingWindow) this.window.clone();
+        return clone;
+    }
+
+}
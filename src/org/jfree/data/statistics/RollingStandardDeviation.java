@@ -0,0 +1,138 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * RollingStandardDeviation.java
+ * -----------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * The sample standard deviation of the most recent <code>n</code> y-values
+ * (as calculated by {@link Statistics#getStdDev(Number[])}), updated in
+ * constant time per observation.  The running mean and sum of squared
+ * deviations are updated with Welford's method, which avoids the
+ * cancellation errors of the "sum of squares" formula.
+ *
+ * @since 1.0.10
+ */
+public class RollingStandardDeviation implements OnlineStatistic, Cloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 7850722163290788946L;
+
+    /** The most recent observations. */
+    private RollingWindow window;
+
+    /** The mean of the y-values in the window. */
+    private double mean;
+
+    /** The sum of squared deviations from the mean. */
+    private double m2;
+
+    /**
+     * Creates a new statistic.
+     *
+     * @param window  the number of observations (at least 2).
+     */
+    public RollingStandardDeviation(int window) {
+        if (window < 2) {
+            throw new IllegalArgumentException("Requires 'window' >= 2.");
+        }
+        this.window = new RollingWindow(window);
+    }
+
+    /**
+     * Adds an observation.
+     *
+     * @param x  the x-value (ignored).
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        if (this.window.isFull()) {
+            double old = this.window.getY(0);
+            int n = this.window.getCount() - 1;
+            double previousMean = this.mean;
+            this.mean -= (old - this.mean) / n;
+            this.m2 -= (old - this.mean) * (old - previousMean);
+        }
+        this.window.add(x, y);
+        int n = this.window.getCount();
+        double delta = y - this.mean;
+        this.mean += delta / n;
+        this.m2 = Math.max(0.0, this.m2 + delta * (y - this.mean));
+    }
+
+    /**
+     * Returns the sample standard deviation of the y-values in the window.
+     *
+     * @return The standard deviation (<code>Double.NaN</code> until the
+     *     window is full).
+     */
+    public double getValue() {
+        if (!this.window.isFull()) {
+            return Double.NaN;
+        }
+        return Math.sqrt(this.m2 / (this.window.getCount() - 1));
+    }
+
+    /**
+     * Discards all observations.
+     */
+    public void clear() {
+        this.window.clear();
+        this.mean = 0.0;
+        this.m2 = 0.0;
+    }
+
+    /**
+     * Returns a clone of the statistic.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        RollingStandardDeviation clone
+                = (RollingStandardDeviation) super.clone();
+        clone.window = (RollingWindow) this.window.clone();
+        return clone;
+    }
+
+}
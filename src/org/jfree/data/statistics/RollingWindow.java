@@ -0,0 +1,173 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * RollingWindow.java
+ * ------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * A fixed capacity ring of the most recent (x, y) observations, used by the
+ * rolling {@link OnlineStatistic} implementations.
+ *
+ * @since 1.0.10
+ */
+class RollingWindow implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6602915409412816632L;
+
+    /** The x-values. */
+    private double[] xValues;
+
+    /** The y-values. */
+    private double[] yValues;
+
+    /** The index of the oldest observation. */
+    private int head;
+
+    /** The number of observations held. */
+    private int count;
+
+    /**
+     * Creates a new window.
+     *
+     * @param capacity  the capacity (at least 1).
+     */
+    RollingWindow(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'window' >= 1.");
+        }
+        this.xValues = new double[capacity];
+        this.yValues = new double[capacity];
+    }
+
+    /**
+     * Returns the capacity.
+     *
+     * @return The capacity.
+     */
+    int getCapacity() {
+        return this.xValues.length;
+    }
+
+    /**
+     * Returns the number of observations held.
+     *
+     * @return The count.
+     */
+    int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns <code>true</code> if the window is full, in which case the
+     * next observation added will replace the oldest.
+     *
+     * @return A boolean.
+     */
+    boolean isFull() {
+        return this.count == this.xValues.length;
+    }
+
+    /**
+     * Returns the x-value of an observation.
+     *
+     * @param i  the index (0 is the oldest).
+     *
+     * @return The x-value.
+     */
+    double getX(int i) {
+        return this.xValues[(this.head + i) % this.xValues.length];
+    }
+
+    /**
+     * Returns the y-value of an observation.
+     *
+     * @param i  the index (0 is the oldest).
+     *
+     * @return The y-value.
+     */
+    double getY(int i) {
+        return this.yValues[(this.head + i) % this.yValues.length];
+    }
+
+    /**
+     * Adds an observation, replacing the oldest if the window is full.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    void add(double x, double y) {
+        int capacity = this.xValues.length;
+        int tail = (this.head + this.count) % capacity;
+        this.xValues[tail] = x;
+        this.yValues[tail] = y;
+        if (this.count == capacity) {
+            this.head = (this.head + 1) % capacity;
+        }
+        else {
+            this.count++;
+        }
+    }
+
+    /**
+     * Discards all observations.
+     */
+    void clear() {
+        this.head = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Returns a clone of the window.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        RollingWindow clone = (RollingWindow) super.clone();
+        clone.xValues = (double[]) this.xValues.clone();
+        clone.yValues = (double[]) this.yValues.clone();
+        return clone;
+    }
+
+}
@@ -43,6 +43,8 @@
  * 02-Jun-2004 : Fixed bug in calculateMedian() method (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0 
  *               release (DG);
+ * 19-Oct-2026 : Added calculateMedian(double[]) using selection rather than
+ *               sorting;
  *
  */
 
@@ -298,6 +300,109 @@ public abstract class Statistics {
         
     }
     
+    /**
+     * Calculates the median for an array of values.  The array is copied
+     * (so it is not modified) and the median is found by partial selection,
+     * which takes linear time on average, rather than by sorting.  Any
+     * <code>Double.NaN</code> values in the array are ignored.
+     * 
+     * @param values  the values (<code>null</code> not permitted).
+     * 
+     * @return The median (<code>Double.NaN</code> if there are no values).
+     * 
+     * @since 1.0.10
+     */
+    public static double calculateMedian(double[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        double[] copy = new double[values.length];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                copy[count++] = values[i];
+            }
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        int k = (count - 1) / 2;
+        select(copy, 0, count - 1, k);
+        if (count % 2 == 1) {
+            return copy[k];
+        }
+        select(copy, k + 1, count - 1, k + 1);
+        return (copy[k] + copy[k + 1]) / 2.0;
+    }
+
+    /**
+     * Rearranges the elements <code>from</code> to <code>to</code> 
+     * (inclusive) of an array so that element <code>k</code> holds the 
+     * value it would hold if that part of the array were sorted, with 
+     * smaller or equal values before it and greater or equal values after 
+     * it (Hoare's selection algorithm, with a median-of-three pivot).
+     * 
+     * @param a  the array (must not contain <code>NaN</code> values).
+     * @param from  the index of the first element.
+     * @param to  the index of the last element.
+     * @param k  the index to select (in the range <code>from</code> to 
+     *     <code>to</code>).
+     */
+    static void select(double[] a, int from, int to, int k) {
+        int lo = from;
+        int hi = to;
+        while (hi > lo) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < a[lo]) {
+                swap(a, lo, mid);
+            }
+            if (a[hi] < a[lo]) {
+                swap(a, lo, hi);
+            }
+            if (a[hi] < a[mid]) {
+                swap(a, mid, hi);
+            }
+            double pivot = a[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (a[i] < pivot) {
+                    i++;
+                }
+                while (a[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(a, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            }
+            else if (k >= i) {
+                lo = i;
+            }
+            else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Swaps two elements of an array.
+     * 
+     * @param a  the array.
+     * @param i  the first index.
+     * @param j  the second index.
+     */
+    private static void swap(double[] a, int i, int j) {
+        double t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
     /**
      * Returns the standard deviation of a set of numbers.
      *
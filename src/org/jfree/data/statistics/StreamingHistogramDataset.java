@@ -0,0 +1,879 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * StreamingHistogramDataset.java
+ * ------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A histogram dataset that accumulates observations one at a time (or in
+ * batches), so that a stream of values can be charted without keeping the
+ * raw data.  Unlike {@link HistogramDataset}, the bins for each series are
+ * fixed when the series is added and only the counts are stored.
+ * <p>
+ * Values can be added from several threads at once.  The counts for each
+ * series are split across a number of stripes, each guarded by its own
+ * lock, and a thread always adds to the same stripe, so threads rarely wait
+ * for each other.  Partial histograms (for example, one per worker) can be
+ * combined with {@link #merge(StreamingHistogramDataset)}, and a series can
+ * be re-binned to a coarser or finer resolution with
+ * {@link #rebin(int, int)}.
+ * <p>
+ * Adding values to a busy stream would normally send a
+ * {@link DatasetChangeEvent} for every call.  Use
+ * {@link #setEventInterval(long)} to send at most one event per interval,
+ * and {@link #flushEvents()} to send any event still pending.
+ *
+ * @since 1.0.10
+ */
+public class StreamingHistogramDataset extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, Cloneable, PublicCloneable,
+                   Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2843637426155734961L;
+
+    /** The default number of stripes. */
+    public static final int DEFAULT_STRIPE_COUNT = 8;
+
+    /** The series (instances of {@link Series}). */
+    private List series;
+
+    /** The number of stripes for each series. */
+    private int stripeCount;
+
+    /** The histogram type. */
+    private HistogramType type;
+
+    /** The minimum interval (in milliseconds) between change events. */
+    private volatile long eventInterval;
+
+    /** The time the last change event was sent. */
+    private volatile long lastEventTime;
+
+    /** A flag that records a change not yet reported to listeners. */
+    private volatile boolean eventPending;
+
+    /**
+     * Creates a new (empty) dataset with the default number of stripes.
+     */
+    public StreamingHistogramDataset() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Creates a new (empty) dataset.
+     *
+     * @param stripeCount  the number of stripes per series (at least 1; a
+     *     value close to the number of threads adding values is a good
+     *     choice).
+     */
+    public StreamingHistogramDataset(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'stripeCount' >= 1.");
+        }
+        this.series = new ArrayList();
+        this.stripeCount = stripeCount;
+        this.type = HistogramType.FREQUENCY;
+    }
+
+    /**
+     * Returns the histogram type.
+     *
+     * @return The type (never <code>null</code>).
+     */
+    public HistogramType getType() {
+        return this.type;
+    }
+
+    /**
+     * Sets the histogram type and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param type  the type (<code>null</code> not permitted).
+     */
+    public void setType(HistogramType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Null 'type' argument.");
+        }
+        this.type = type;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum interval between the change events sent when
+     * values are added.
+     *
+     * @return The interval in milliseconds.
+     *
+     * @see #setEventInterval(long)
+     */
+    public long getEventInterval() {
+        return this.eventInterval;
+    }
+
+    /**
+     * Sets the minimum interval between the change events sent when values
+     * are added.  With the default of zero, every call to
+     * <code>add()</code> sends an event.
+     *
+     * @param millis  the interval in milliseconds (not negative).
+     *
+     * @see #flushEvents()
+     */
+    public void setEventInterval(long millis) {
+        if (millis < 0L) {
+            throw new IllegalArgumentException("Negative 'millis' argument.");
+        }
+        this.eventInterval = millis;
+    }
+
+    /**
+     * Sends a {@link DatasetChangeEvent} to all registered listeners if
+     * values have been added since the last event.
+     */
+    public void flushEvents() {
+        if (takeEvent(false)) {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Adds a series with equal width bins and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  Values less
+     * than <code>minimum</code> will be counted in the first bin, and values
+     * greater than <code>maximum</code> will be counted in the last bin (as
+     * for {@link HistogramDataset}).
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param bins  the number of bins (at least 1).
+     * @param minimum  the lower bound of the bin range.
+     * @param maximum  the upper bound of the bin range (greater than
+     *     <code>minimum</code>).
+     *
+     * @return The index of the new series.
+     */
+    public int addSeries(Comparable key, int bins, double minimum,
+            double maximum) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        if (bins < 1) {
+            throw new IllegalArgumentException(
+                    "The 'bins' value must be at least 1.");
+        }
+        if (!(minimum < maximum)) {
+            throw new IllegalArgumentException(
+                    "Requires 'minimum' < 'maximum'.");
+        }
+        if (indexOf(key) >= 0) {
+            throw new IllegalArgumentException("Duplicate series key: "
+                    + key);
+        }
+        Series s = new Series(key, minimum, maximum);
+        s.counts = new long[this.stripeCount][bins + 1];
+        int index;
+        synchronized (this.series) {
+            this.series.add(s);
+            index = this.series.size() - 1;
+        }
+        fireDatasetChanged();
+        return index;
+    }
+
+    /**
+     * Returns the index of the series with the specified key.
+     *
+     * @param key  the key (<code>null</code> permitted).
+     *
+     * @return The series index, or <code>-1</code>.
+     */
+    public int indexOf(Comparable key) {
+        synchronized (this.series) {
+            for (int i = 0; i < this.series.size(); i++) {
+                Series s = (Series) this.series.get(i);
+                if (s.key.equals(key)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a value to a series, and sends a {@link DatasetChangeEvent} to
+     * all registered listeners (subject to the event interval).
+     * <code>NaN</code> values are ignored.
+     *
+     * @param series  the series index.
+     * @param value  the value.
+     */
+    public void add(int series, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        Series s = getSeries(series);
+        while (true) {
+            long[][] counts = s.counts;
+            long[] stripe = counts[stripeIndex()];
+            synchronized (stripe) {
+                if (counts == s.counts) {
+                    stripe[s.binIndex(value, stripe.length - 1)]++;
+                    stripe[stripe.length - 1]++;
+                    break;
+                }
+            }
+        }
+        valuesAdded();
+    }
+
+    /**
+     * Adds an array of values to a series, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners (subject to
+     * the event interval).  The values are counted before any lock is taken,
+     * so this is much cheaper than adding the values one at a time.
+     * <code>NaN</code> values are ignored.
+     *
+     * @param series  the series index.
+     * @param values  the values (<code>null</code> not permitted).
+     */
+    public void add(int series, double[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null 'values' argument.");
+        }
+        Series s = getSeries(series);
+        while (true) {
+            long[][] counts = s.counts;
+            int bins = counts[0].length - 1;
+            long[] tally = new long[bins + 1];
+            for (int i = 0; i < values.length; i++) {
+                if (!Double.isNaN(values[i])) {
+                    tally[s.binIndex(values[i], bins)]++;
+                    tally[bins]++;
+                }
+            }
+            if (addCounts(s, counts, tally)) {
+                break;
+            }
+        }
+        valuesAdded();
+    }
+
+    /**
+     * Adds the counts from another dataset to this dataset, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  Each series
+     * in <code>other</code> is matched by key to a series in this dataset
+     * (which is added if necessary) and must have the same range and number
+     * of bins.
+     *
+     * @param other  the other dataset (<code>null</code> not permitted).
+     */
+    public void merge(StreamingHistogramDataset other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Null 'other' argument.");
+        }
+        int count = other.getSeriesCount();
+        for (int i = 0; i < count; i++) {
+            Series o = other.getSeries(i);
+            long[] tally = o.snapshot();
+            int bins = tally.length - 1;
+            int index = indexOf(o.key);
+            if (index < 0) {
+                index = addSeries(o.key, bins, o.minimum, o.maximum);
+            }
+            Series s = getSeries(index);
+            while (true) {
+                long[][] counts = s.counts;
+                if (s.minimum != o.minimum || s.maximum != o.maximum
+                        || counts[0].length != tally.length) {
+                    throw new IllegalArgumentException(
+                            "The bins for series '" + o.key
+                            + "' do not match.");
+                }
+                if (addCounts(s, counts, tally)) {
+                    break;
+                }
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Changes the number of bins for a series, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  The raw
+     * values are not available, so the observations in each old bin are
+     * assumed to be spread evenly across it and are shared out among the
+     * new bins it overlaps.  The total count is unchanged.
+     *
+     * @param series  the series index.
+     * @param bins  the new number of bins (at least 1).
+     */
+    public void rebin(int series, int bins) {
+        if (bins < 1) {
+            throw new IllegalArgumentException(
+                    "The 'bins' value must be at least 1.");
+        }
+        Series s = getSeries(series);
+        synchronized (s) {
+            long[][] old = s.counts;
+            // switch adders to the new (empty) stripes first, then collect
+            // the old stripes: an add that still holds an old stripe's lock
+            // completes before it is read, and later adds see the switch
+            s.counts = new long[this.stripeCount][bins + 1];
+            long[] total = new long[old[0].length];
+            for (int i = 0; i < old.length; i++) {
+                synchronized (old[i]) {
+                    for (int b = 0; b < total.length; b++) {
+                        total[b] += old[i][b];
+                    }
+                }
+            }
+            long[] tally = redistribute(total, bins);
+            addCounts(s, s.counts, tally);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Shares the counts in <code>oldCounts</code> (with the total in the
+     * last element) among <code>bins</code> equal bins covering the same
+     * range.  The new counts are taken as differences of the rounded
+     * cumulative count at each new bin boundary, so they add up to the same
+     * total.
+     *
+     * @param oldCounts  the old counts.
+     * @param bins  the new number of bins.
+     *
+     * @return The new counts, with the total in the last element.
+     */
+    private static long[] redistribute(long[] oldCounts, int bins) {
+        int oldBins = oldCounts.length - 1;
+        long[] result = new long[bins + 1];
+        double cumulative = 0.0;  // count in old bins below 'oldBin'
+        int oldBin = 0;
+        long previous = 0L;
+        for (int b = 1; b <= bins; b++) {
+            // the boundary, measured in old bin widths
+            double edge = (double) b * oldBins / bins;
+            while (oldBin + 1 <= edge && oldBin < oldBins) {
+                cumulative += oldCounts[oldBin];
+                oldBin++;
+            }
+            double below = cumulative;
+            if (oldBin < oldBins) {
+                below += oldCounts[oldBin] * (edge - oldBin);
+            }
+            long rounded = b == bins ? oldCounts[oldBins]
+                    : Math.round(below);
+            result[b - 1] = rounded - previous;
+            previous = rounded;
+        }
+        result[bins] = oldCounts[oldBins];
+        return result;
+    }
+
+    /**
+     * Adds an array of counts to the current thread's stripe of a series,
+     * provided that the stripes have not been replaced.
+     *
+     * @param s  the series.
+     * @param counts  the stripes that the counts belong to.
+     * @param tally  the counts (with the total in the last element).
+     *
+     * @return A boolean indicating whether the counts were added.
+     */
+    private boolean addCounts(Series s, long[][] counts, long[] tally) {
+        long[] stripe = counts[stripeIndex()];
+        synchronized (stripe) {
+            if (counts != s.counts) {
+                return false;
+            }
+            for (int b = 0; b < tally.length; b++) {
+                stripe[b] += tally[b];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the stripe used by the current thread.
+     *
+     * @return The stripe index.
+     */
+    private int stripeIndex() {
+        int h = System.identityHashCode(Thread.currentThread());
+        return (h & 0x7FFFFFFF) % this.stripeCount;
+    }
+
+    /**
+     * Records that values have been added and sends a
+     * {@link DatasetChangeEvent} unless one was sent within the event
+     * interval.
+     */
+    private void valuesAdded() {
+        // an event is already pending and not yet due, so there is no need
+        // to take the lock
+        if (this.eventPending && this.eventInterval > 0L
+                && System.currentTimeMillis() - this.lastEventTime
+                < this.eventInterval) {
+            return;
+        }
+        if (takeEvent(true)) {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Updates the record of pending changes and decides whether a
+     * {@link DatasetChangeEvent} should be sent now.  The check and the
+     * update are made under a lock, so that a change recorded by one thread
+     * is not cleared by another without an event being sent.
+     *
+     * @param added  a flag that indicates that values have been added (in
+     *     which case the event interval applies).
+     *
+     * @return A boolean indicating whether an event should be sent.
+     */
+    private synchronized boolean takeEvent(boolean added) {
+        long now = System.currentTimeMillis();
+        if (added) {
+            this.eventPending = true;
+            if (this.eventInterval > 0L
+                    && now - this.lastEventTime < this.eventInterval) {
+                return false;
+            }
+        }
+        if (!this.eventPending) {
+            return false;
+        }
+        this.eventPending = false;
+        this.lastEventTime = now;
+        return true;
+    }
+
+    /**
+     * Returns a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The series.
+     */
+    private Series getSeries(int series) {
+        synchronized (this.series) {
+            return (Series) this.series.get(series);
+        }
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        synchronized (this.series) {
+            return this.series.size();
+        }
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The series key.
+     */
+    public Comparable getSeriesKey(int series) {
+        return getSeries(series).key;
+    }
+
+    /**
+     * Returns the number of bins for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return getSeries(series).counts[0].length - 1;
+    }
+
+    /**
+     * Returns the number of observations in a bin.
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The count.
+     */
+    public long getCount(int series, int item) {
+        Series s = getSeries(series);
+        long[][] counts = s.counts;
+        if (item < 0 || item >= counts[0].length - 1) {
+            throw new IndexOutOfBoundsException("Bad 'item' index: " + item);
+        }
+        return s.sum(counts, item);
+    }
+
+    /**
+     * Returns the total number of observations for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The total.
+     */
+    public long getTotal(int series) {
+        Series s = getSeries(series);
+        long[][] counts = s.counts;
+        return s.sum(counts, counts[0].length - 1);
+    }
+
+    /**
+     * Returns the width of the bins for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The bin width.
+     */
+    public double getBinWidth(int series) {
+        Series s = getSeries(series);
+        return (s.maximum - s.minimum) / (s.counts[0].length - 1);
+    }
+
+    /**
+     * Returns the x-value (the middle) of a bin.
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double((getStartXValue(series, item)
+                + getEndXValue(series, item)) / 2.0);
+    }
+
+    /**
+     * Returns the y-value for a bin (calculated to take into account the
+     * histogram type).
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The y-value.
+     */
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for a bin (calculated to take into account the
+     * histogram type).
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int series, int item) {
+        double count = getCount(series, item);
+        if (this.type == HistogramType.FREQUENCY) {
+            return count;
+        }
+        double total = getTotal(series);
+        if (this.type == HistogramType.RELATIVE_FREQUENCY) {
+            return count / total;
+        }
+        return count / (getBinWidth(series) * total);
+    }
+
+    /**
+     * Returns the start value for a bin.
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The start value.
+     */
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the start value for a bin.
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The start value.
+     */
+    public double getStartXValue(int series, int item) {
+        Series s = getSeries(series);
+        int bins = s.counts[0].length - 1;
+        if (item == 0) {
+            return s.minimum;
+        }
+        return s.minimum + item * (s.maximum - s.minimum) / bins;
+    }
+
+    /**
+     * Returns the end value for a bin.
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The end value.
+     */
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the end value for a bin.
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The end value.
+     */
+    public double getEndXValue(int series, int item) {
+        Series s = getSeries(series);
+        int bins = s.counts[0].length - 1;
+        if (item == bins - 1) {
+            return s.maximum;
+        }
+        return s.minimum + (item + 1) * (s.maximum - s.minimum) / bins;
+    }
+
+    /**
+     * Returns the start y-value for a bin (which is the same as the
+     * y-value).
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The y-value.
+     */
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the end y-value for a bin (which is the same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the bin index.
+     *
+     * @return The y-value.
+     */
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  The number
+     * of stripes and the event settings are not considered.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingHistogramDataset)) {
+            return false;
+        }
+        StreamingHistogramDataset that = (StreamingHistogramDataset) obj;
+        if (!ObjectUtilities.equal(this.type, that.type)) {
+            return false;
+        }
+        int count = getSeriesCount();
+        if (count != that.getSeriesCount()) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            Series s1 = getSeries(i);
+            Series s2 = that.getSeries(i);
+            if (!s1.key.equals(s2.key) || s1.minimum != s2.minimum
+                    || s1.maximum != s2.maximum) {
+                return false;
+            }
+            if (!Arrays.equals(s1.snapshot(), s2.snapshot())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone of the dataset.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        StreamingHistogramDataset clone
+                = (StreamingHistogramDataset) super.clone();
+        int count = getSeriesCount();
+        clone.series = new ArrayList(count);
+        for (int i = 0; i < count; i++) {
+            Series s = getSeries(i);
+            Series copy = new Series(s.key, s.minimum, s.maximum);
+            long[] snapshot = s.snapshot();
+            copy.counts = new long[this.stripeCount][];
+            copy.counts[0] = snapshot;
+            for (int j = 1; j < this.stripeCount; j++) {
+                copy.counts[j] = new long[snapshot.length];
+            }
+            clone.series.add(copy);
+        }
+        return clone;
+    }
+
+    /**
+     * The bin range and striped counts for one series.  Each stripe holds
+     * the count for every bin followed by the stripe's total, and is used
+     * as the lock for its own counts.
+     */
+    private static class Series implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -4580815281342457474L;
+
+        /** The series key. */
+        Comparable key;
+
+        /** The lower bound of the bin range. */
+        double minimum;
+
+        /** The upper bound of the bin range. */
+        double maximum;
+
+        /** The stripes (replaced, not modified, when re-binning). */
+        volatile long[][] counts;
+
+        /**
+         * Creates a new series.
+         *
+         * @param key  the key.
+         * @param minimum  the lower bound.
+         * @param maximum  the upper bound.
+         */
+        Series(Comparable key, double minimum, double maximum) {
+            this.key = key;
+            this.minimum = minimum;
+            this.maximum = maximum;
+        }
+
+        /**
+         * Returns the bin for a value, with the same treatment of
+         * out-of-range and boundary values as {@link HistogramDataset}.
+         *
+         * @param value  the value.
+         * @param bins  the number of bins.
+         *
+         * @return The bin index.
+         */
+        int binIndex(double value, int bins) {
+            if (!(value < this.maximum)) {
+                return bins - 1;
+            }
+            double fraction = (value - this.minimum)
+                    / (this.maximum - this.minimum);
+            if (fraction < 0.0) {
+                return 0;
+            }
+            int index = (int) (fraction * bins);
+            return index >= bins ? bins - 1 : index;
+        }
+
+        /**
+         * Returns the sum of one element across a set of stripes.
+         *
+         * @param counts  the stripes.
+         * @param index  the element index.
+         *
+         * @return The sum.
+         */
+        long sum(long[][] counts, int index) {
+            long result = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                synchronized (counts[i]) {
+                    result += counts[i][index];
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the counts summed across the stripes.
+         *
+         * @return The counts (with the total in the last element).
+         */
+        long[] snapshot() {
+            long[][] c = this.counts;
+            long[] result = new long[c[0].length];
+            for (int i = 0; i < c.length; i++) {
+                synchronized (c[i]) {
+                    for (int b = 0; b < result.length; b++) {
+                        result[b] += c[i][b];
+                    }
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * BucketAggregation.java
+ * ----------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes:
+ * --------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Used to indicate how the values that fall in one time period are combined
+ * into a single value by a {@link TimeBucketedXYDataset}.
+ *
+ * @since 1.0.10
+ */
+public final class BucketAggregation implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -7284605612961737203L;
+
+    /** The smallest value. */
+    public static final BucketAggregation MIN
+        = new BucketAggregation("BucketAggregation.MIN");
+
+    /** The largest value. */
+    public static final BucketAggregation MAX
+        = new BucketAggregation("BucketAggregation.MAX");
+
+    /** The mean of the values. */
+    public static final BucketAggregation MEAN
+        = new BucketAggregation("BucketAggregation.MEAN");
+
+    /** The sum of the values. */
+    public static final BucketAggregation SUM
+        = new BucketAggregation("BucketAggregation.SUM");
+
+    /** The value with the earliest x-value. */
+    public static final BucketAggregation FIRST
+        = new BucketAggregation("BucketAggregation.FIRST");
+
+    /** The value with the latest x-value. */
+    public static final BucketAggregation LAST
+        = new BucketAggregation("BucketAggregation.LAST");
+
+    /** The number of values. */
+    public static final BucketAggregation COUNT
+        = new BucketAggregation("BucketAggregation.COUNT");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private BucketAggregation(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string.
+     */
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the other object.
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BucketAggregation)) {
+            return false;
+        }
+        BucketAggregation that = (BucketAggregation) obj;
+        return this.name.equals(that.name);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return The hashcode
+     */
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (this.equals(BucketAggregation.MIN)) {
+            return BucketAggregation.MIN;
+        }
+        else if (this.equals(BucketAggregation.MAX)) {
+            return BucketAggregation.MAX;
+        }
+        else if (this.equals(BucketAggregation.MEAN)) {
+            return BucketAggregation.MEAN;
+        }
+        else if (this.equals(BucketAggregation.SUM)) {
+            return BucketAggregation.SUM;
+        }
+        else if (this.equals(BucketAggregation.FIRST)) {
+            return BucketAggregation.FIRST;
+        }
+        else if (this.equals(BucketAggregation.LAST)) {
+            return BucketAggregation.LAST;
+        }
+        else if (this.equals(BucketAggregation.COUNT)) {
+            return BucketAggregation.COUNT;
+        }
+        return null;
+    }
+
+}
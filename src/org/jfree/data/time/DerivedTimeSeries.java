@@ -0,0 +1,260 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * DerivedTimeSeries.java
+ * ----------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.statistics.OnlineStatistic;
+
+/**
+ * A time series that holds the running value of an {@link OnlineStatistic}
+ * calculated from a source series (for example, a moving average).  The
+ * series listens to the source and, when items are appended, updates the
+ * statistic with the new items only, so the cost per update is proportional
+ * to the number of new items rather than the length of the source series.
+ * Removing the oldest items from the source (as it does to stay within a
+ * maximum item count or age) leaves the current items unchanged.  Any
+ * other change to the source (inserting or removing items before the last
+ * item processed, or changing the value of that item) causes the series to
+ * be recalculated from scratch.  Changes to the values of
+ * earlier items are not detected, call {@link #rebuild()} after making
+ * them.
+ * <P>
+ * The x-value passed to the statistic is the middle millisecond of each
+ * time period.  Items with a <code>null</code> value are skipped, and no
+ * item is added while the statistic returns <code>Double.NaN</code>.
+ *
+ * @since 1.0.10
+ */
+public class DerivedTimeSeries extends TimeSeries
+        implements SeriesChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4407745009718316549L;
+
+    /** The source series (<code>null</code> once disposed). */
+    private TimeSeries source;
+
+    /** The statistic. */
+    private OnlineStatistic statistic;
+
+    /** The number of source items processed so far. */
+    private int processedCount;
+
+    /**
+     * The period of the first item in the source after the last update
+     * (<code>null</code> if none).
+     */
+    private RegularTimePeriod firstPeriod;
+
+    /** The last source period processed (<code>null</code> if none). */
+    private RegularTimePeriod lastPeriod;
+
+    /** The value of the last source item processed. */
+    private Number lastValue;
+
+    /**
+     * Creates a new series that follows the specified source series.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param statistic  the statistic (<code>null</code> not permitted).
+     */
+    public DerivedTimeSeries(Comparable name, TimeSeries source,
+            OnlineStatistic statistic) {
+        super(name, checkSource(source).getTimePeriodClass());
+        if (statistic == null) {
+            throw new IllegalArgumentException("Null 'statistic' argument.");
+        }
+        this.source = source;
+        this.statistic = statistic;
+        source.addChangeListener(this);
+        rebuild();
+    }
+
+    /**
+     * Checks the source argument (called before the super-class constructor
+     * runs).
+     *
+     * @param source  the source.
+     *
+     * @return The source.
+     */
+    private static TimeSeries checkSource(TimeSeries source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        return source;
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (<code>null</code> if the series has been
+     *     disposed, or is a clone).
+     */
+    public TimeSeries getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the statistic.
+     *
+     * @return The statistic (never <code>null</code>).
+     */
+    public OnlineStatistic getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * Discards the current items and recalculates the series from all the
+     * items in the source series, then sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     */
+    public void rebuild() {
+        this.statistic.clear();
+        this.data.clear();
+        this.processedCount = 0;
+        this.firstPeriod = null;
+        this.lastPeriod = null;
+        this.lastValue = null;
+        if (this.source != null) {
+            process(0);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Stops following the source series.  The current items are retained.
+     */
+    public void dispose() {
+        if (this.source != null) {
+            this.source.removeChangeListener(this);
+            this.source = null;
+        }
+    }
+
+    /**
+     * Receives notification of a change to the source series.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (this.source == null || event.getSource() != this.source) {
+            return;
+        }
+        int start = 0;
+        if (this.lastPeriod != null) {
+            int index = this.source.getIndex(this.lastPeriod);
+            // items removed before the last item processed are allowed only
+            // if they were the oldest items (the source trims these to stay
+            // within its maximum item count or age), which does not affect
+            // the items that remain
+            int removed = this.processedCount - 1 - index;
+            boolean trimmed = index >= 0 && removed > 0
+                    && !this.source.getTimePeriod(0).equals(this.firstPeriod);
+            if (removed != 0 && !trimmed) {
+                rebuild();
+                return;
+            }
+            Number value = this.source.getValue(index);
+            if (value == null ? this.lastValue != null
+                    : !value.equals(this.lastValue)) {
+                rebuild();
+                return;
+            }
+            start = index + 1;
+        }
+        if (start < this.source.getItemCount()) {
+            process(start);
+            fireSeriesChanged();
+        }
+        else {
+            this.processedCount = start;
+            this.firstPeriod = start > 0 ? this.source.getTimePeriod(0)
+                    : null;
+        }
+    }
+
+    /**
+     * Passes the source items from <code>start</code> onwards to the
+     * statistic, adding an item to this series for each one (without
+     * sending change events).
+     *
+     * @param start  the index of the first source item.
+     */
+    private void process(int start) {
+        int count = this.source.getItemCount();
+        for (int i = start; i < count; i++) {
+            TimeSeriesDataItem item = this.source.getDataItem(i);
+            Number value = item.getValue();
+            if (value != null) {
+                this.statistic.add(
+                        item.getPeriod().getMiddleMillisecond(),
+                        value.doubleValue());
+                double result = this.statistic.getValue();
+                if (!Double.isNaN(result)) {
+                    add(item.getPeriod(), result, false);
+                }
+            }
+            this.lastPeriod = item.getPeriod();
+            this.lastValue = value;
+        }
+        this.processedCount = count;
+        this.firstPeriod = count > 0 ? this.source.getTimePeriod(0) : null;
+    }
+
+    /**
+     * Returns a clone of the series.  The clone holds a copy of the current
+     * items and of the statistic, but does not follow the source series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DerivedTimeSeries clone = (DerivedTimeSeries) super.clone();
+        clone.source = null;
+        clone.statistic = (OnlineStatistic) this.statistic.clone();
+        return clone;
+    }
+
+}
@@ -0,0 +1,896 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * TimeBucketedXYDataset.java
+ * --------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.TreeMap;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A view of an {@link XYDataset}, with x-values in milliseconds, that
+ * groups the items of each series into time periods (for example, one
+ * {@link Minute} or one {@link Day}) and presents one item per non-empty
+ * period.  The y-value of each item is the {@link BucketAggregation} of the
+ * source y-values in the period, and the dataset also implements
+ * {@link OHLCDataset}, with the first, largest, smallest and last values in
+ * each period as the open, high, low and close values and the number of
+ * values as the volume, so it can be used with a candlestick renderer.
+ * <P>
+ * The periods are calculated lazily, the first time a series is accessed
+ * after a change to the source dataset.  If the source series has only
+ * grown, and the items already processed are unchanged at the end of the
+ * processed range, only the new items are added to the periods, so the
+ * cost of an update is proportional to the number of appended items.  Any
+ * other change causes the series to be recalculated.  Source items with a
+ * y-value of <code>Double.NaN</code> are ignored.
+ *
+ * @since 1.0.10
+ */
+public class TimeBucketedXYDataset extends AbstractXYDataset
+        implements OHLCDataset, DatasetChangeListener, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2317264920648502171L;
+
+    /** The source dataset. */
+    private XYDataset source;
+
+    /** The time period class. */
+    private Class periodClass;
+
+    /** The time zone used to calculate the periods. */
+    private TimeZone timeZone;
+
+    /** The aggregation used for the y-values. */
+    private BucketAggregation aggregation;
+
+    /** The position of the x-value within each period. */
+    private TimePeriodAnchor xPosition;
+
+    /** The periods for each series (<code>null</code> until needed). */
+    private transient List seriesBuckets;
+
+    /** A calendar used to calculate the period bounds. */
+    private transient Calendar workingCalendar;
+
+    /**
+     * Creates a new dataset that aggregates the values in a time series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param periodClass  the time period class (<code>null</code> not
+     *     permitted).
+     */
+    public TimeBucketedXYDataset(TimeSeries series, Class periodClass) {
+        this(new TimeSeriesCollection(series), periodClass);
+    }
+
+    /**
+     * Creates a new dataset that aggregates the values in the source
+     * dataset, using periods in the default time zone.
+     *
+     * @param source  the source dataset (<code>null</code> not permitted).
+     * @param periodClass  the time period class (<code>null</code> not
+     *     permitted).
+     */
+    public TimeBucketedXYDataset(XYDataset source, Class periodClass) {
+        this(source, periodClass, TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a new dataset that aggregates the values in the source
+     * dataset.
+     *
+     * @param source  the source dataset (<code>null</code> not permitted).
+     * @param periodClass  the time period class, a subclass of
+     *     {@link RegularTimePeriod} (<code>null</code> not permitted).
+     * @param zone  the time zone used to calculate the periods
+     *     (<code>null</code> not permitted).
+     */
+    public TimeBucketedXYDataset(XYDataset source, Class periodClass,
+            TimeZone zone) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        if (periodClass == null
+                || !RegularTimePeriod.class.isAssignableFrom(periodClass)) {
+            throw new IllegalArgumentException(
+                    "The 'periodClass' must be a RegularTimePeriod class.");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Null 'zone' argument.");
+        }
+        this.source = source;
+        this.periodClass = periodClass;
+        this.timeZone = zone;
+        this.aggregation = BucketAggregation.MEAN;
+        this.xPosition = TimePeriodAnchor.START;
+        this.source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source dataset.
+     *
+     * @return The source dataset (never <code>null</code>).
+     */
+    public XYDataset getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the time period class.
+     *
+     * @return The time period class (never <code>null</code>).
+     */
+    public Class getPeriodClass() {
+        return this.periodClass;
+    }
+
+    /**
+     * Returns the time zone used to calculate the periods.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Returns the aggregation used for the y-values.  The default is
+     * {@link BucketAggregation#MEAN}.
+     *
+     * @return The aggregation (never <code>null</code>).
+     *
+     * @see #setAggregation(BucketAggregation)
+     */
+    public BucketAggregation getAggregation() {
+        return this.aggregation;
+    }
+
+    /**
+     * Sets the aggregation used for the y-values and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param aggregation  the aggregation (<code>null</code> not permitted).
+     *
+     * @see #getAggregation()
+     */
+    public void setAggregation(BucketAggregation aggregation) {
+        if (aggregation == null) {
+            throw new IllegalArgumentException("Null 'aggregation' argument.");
+        }
+        this.aggregation = aggregation;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the position of the x-value within each time period.  The
+     * default is {@link TimePeriodAnchor#START}.
+     *
+     * @return The position (never <code>null</code>).
+     *
+     * @see #setXPosition(TimePeriodAnchor)
+     */
+    public TimePeriodAnchor getXPosition() {
+        return this.xPosition;
+    }
+
+    /**
+     * Sets the position of the x-value within each time period and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param anchor  the position (<code>null</code> not permitted).
+     *
+     * @see #getXPosition()
+     */
+    public void setXPosition(TimePeriodAnchor anchor) {
+        if (anchor == null) {
+            throw new IllegalArgumentException("Null 'anchor' argument.");
+        }
+        this.xPosition = anchor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Receives notification of a change to the source dataset.  The cached
+     * periods are brought up to date the next time they are accessed.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        if (this.seriesBuckets != null) {
+            for (int i = 0; i < this.seriesBuckets.size(); i++) {
+                ((SeriesBuckets) this.seriesBuckets.get(i)).stale = true;
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain values in the dataset.
+     *
+     * @return <code>DomainOrder.ASCENDING</code>.
+     */
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items (non-empty time periods) in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return getBuckets(series).buckets.size();
+    }
+
+    /**
+     * Returns the time period for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The time period (never <code>null</code>).
+     */
+    public RegularTimePeriod getPeriod(int series, int item) {
+        return getBucket(series, item).period;
+    }
+
+    /**
+     * Returns the x-value for an item, which is the start, middle or end of
+     * the time period, depending on the x-position setting.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value (in milliseconds).
+     *
+     * @see #getXPosition()
+     */
+    public double getXValue(int series, int item) {
+        Bucket bucket = getBucket(series, item);
+        if (this.xPosition == TimePeriodAnchor.START) {
+            return bucket.start;
+        }
+        else if (this.xPosition == TimePeriodAnchor.END) {
+            return bucket.end;
+        }
+        return bucket.start + (bucket.end - bucket.start) / 2L;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value (in milliseconds).
+     */
+    public Number getX(int series, int item) {
+        return new Long((long) getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item, calculated with the current
+     * aggregation.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     *
+     * @see #getAggregation()
+     */
+    public double getYValue(int series, int item) {
+        return getValue(series, item, this.aggregation);
+    }
+
+    /**
+     * Returns the y-value for an item, calculated with the current
+     * aggregation.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the aggregated value of the source items in the time period
+     * for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param aggregation  the aggregation (<code>null</code> not permitted).
+     *
+     * @return The value.
+     */
+    public double getValue(int series, int item,
+            BucketAggregation aggregation) {
+        if (aggregation == null) {
+            throw new IllegalArgumentException("Null 'aggregation' argument.");
+        }
+        Bucket bucket = getBucket(series, item);
+        if (aggregation == BucketAggregation.MIN) {
+            return bucket.low;
+        }
+        else if (aggregation == BucketAggregation.MAX) {
+            return bucket.high;
+        }
+        else if (aggregation == BucketAggregation.SUM) {
+            return bucket.sum;
+        }
+        else if (aggregation == BucketAggregation.FIRST) {
+            return bucket.open;
+        }
+        else if (aggregation == BucketAggregation.LAST) {
+            return bucket.close;
+        }
+        else if (aggregation == BucketAggregation.COUNT) {
+            return bucket.count;
+        }
+        return bucket.sum / bucket.count;
+    }
+
+    /**
+     * Returns the high-value (the largest source value in the period) for
+     * an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The high-value.
+     */
+    public double getHighValue(int series, int item) {
+        return getValue(series, item, BucketAggregation.MAX);
+    }
+
+    /**
+     * Returns the high-value (the largest source value in the period) for
+     * an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The high-value.
+     */
+    public Number getHigh(int series, int item) {
+        return new Double(getHighValue(series, item));
+    }
+
+    /**
+     * Returns the low-value (the smallest source value in the period) for
+     * an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The low-value.
+     */
+    public double getLowValue(int series, int item) {
+        return getValue(series, item, BucketAggregation.MIN);
+    }
+
+    /**
+     * Returns the low-value (the smallest source value in the period) for
+     * an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The low-value.
+     */
+    public Number getLow(int series, int item) {
+        return new Double(getLowValue(series, item));
+    }
+
+    /**
+     * Returns the open-value (the source value with the earliest x-value in
+     * the period) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The open-value.
+     */
+    public double getOpenValue(int series, int item) {
+        return getValue(series, item, BucketAggregation.FIRST);
+    }
+
+    /**
+     * Returns the open-value (the source value with the earliest x-value in
+     * the period) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The open-value.
+     */
+    public Number getOpen(int series, int item) {
+        return new Double(getOpenValue(series, item));
+    }
+
+    /**
+     * Returns the close-value (the source value with the latest x-value in
+     * the period) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The close-value.
+     */
+    public double getCloseValue(int series, int item) {
+        return getValue(series, item, BucketAggregation.LAST);
+    }
+
+    /**
+     * Returns the close-value (the source value with the latest x-value in
+     * the period) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The close-value.
+     */
+    public Number getClose(int series, int item) {
+        return new Double(getCloseValue(series, item));
+    }
+
+    /**
+     * Returns the volume-value (the number of source values in the period)
+     * for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The volume-value.
+     */
+    public double getVolumeValue(int series, int item) {
+        return getValue(series, item, BucketAggregation.COUNT);
+    }
+
+    /**
+     * Returns the volume-value (the number of source values in the period)
+     * for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The volume-value.
+     */
+    public Number getVolume(int series, int item) {
+        return new Double(getVolumeValue(series, item));
+    }
+
+    /**
+     * Returns the period record for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The period record.
+     */
+    private Bucket getBucket(int series, int item) {
+        return (Bucket) getBuckets(series).buckets.get(item);
+    }
+
+    /**
+     * Returns the periods for a series, bringing them up to date with the
+     * source dataset first if necessary.
+     *
+     * @param series  the series index.
+     *
+     * @return The periods for the series.
+     */
+    private SeriesBuckets getBuckets(int series) {
+        int seriesCount = this.source.getSeriesCount();
+        if (this.seriesBuckets == null
+                || this.seriesBuckets.size() != seriesCount) {
+            this.seriesBuckets = new ArrayList(seriesCount);
+            for (int i = 0; i < seriesCount; i++) {
+                this.seriesBuckets.add(new SeriesBuckets());
+            }
+        }
+        SeriesBuckets sb = (SeriesBuckets) this.seriesBuckets.get(series);
+        if (sb.stale) {
+            update(series, sb);
+            sb.stale = false;
+        }
+        return sb;
+    }
+
+    /**
+     * Brings the periods for a series up to date with the source dataset,
+     * processing only the appended items where possible.
+     *
+     * @param series  the series index.
+     * @param sb  the periods for the series.
+     */
+    private void update(int series, SeriesBuckets sb) {
+        int count = this.source.getItemCount(series);
+        int start = sb.processedCount;
+        boolean appended = start <= count;
+        if (appended && start > 0) {
+            double x = this.source.getXValue(series, start - 1);
+            double y = this.source.getYValue(series, start - 1);
+            appended = Double.doubleToLongBits(x)
+                    == Double.doubleToLongBits(sb.lastX)
+                    && Double.doubleToLongBits(y)
+                    == Double.doubleToLongBits(sb.lastY);
+        }
+        if (!appended) {
+            sb.buckets.clear();
+            start = 0;
+        }
+        for (int i = start; i < count; i++) {
+            double x = this.source.getXValue(series, i);
+            double y = this.source.getYValue(series, i);
+            if (!Double.isNaN(y) && !append(sb.buckets, x, y)) {
+                // the items are not in ascending order of x
+                rebuildUnordered(series, sb, count);
+                return;
+            }
+        }
+        sb.processedCount = count;
+        if (count > 0) {
+            sb.lastX = this.source.getXValue(series, count - 1);
+            sb.lastY = this.source.getYValue(series, count - 1);
+        }
+    }
+
+    /**
+     * Adds a value to the last period in the list, or to a new period
+     * after it.
+     *
+     * @param buckets  the periods.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return <code>false</code> if the x-value lies before the last period,
+     *     in which case the value is not added.
+     */
+    private boolean append(List buckets, double x, double y) {
+        long millisecond = (long) Math.floor(x);
+        Bucket last = null;
+        if (!buckets.isEmpty()) {
+            last = (Bucket) buckets.get(buckets.size() - 1);
+            if (millisecond < last.start) {
+                return false;
+            }
+            if (millisecond <= last.end) {
+                last.add(x, y);
+                return true;
+            }
+        }
+        Bucket bucket = createBucket(millisecond);
+        bucket.add(x, y);
+        buckets.add(bucket);
+        return true;
+    }
+
+    /**
+     * Recalculates the periods for a series whose items are not in
+     * ascending order of x.
+     *
+     * @param series  the series index.
+     * @param sb  the periods for the series.
+     * @param count  the number of items in the source series.
+     */
+    private void rebuildUnordered(int series, SeriesBuckets sb, int count) {
+        TreeMap map = new TreeMap();
+        Bucket bucket = null;
+        for (int i = 0; i < count; i++) {
+            double x = this.source.getXValue(series, i);
+            double y = this.source.getYValue(series, i);
+            if (Double.isNaN(y)) {
+                continue;
+            }
+            long millisecond = (long) Math.floor(x);
+            if (bucket == null || millisecond < bucket.start
+                    || millisecond > bucket.end) {
+                RegularTimePeriod period = RegularTimePeriod.createInstance(
+                        this.periodClass, new Date(millisecond),
+                        this.timeZone);
+                bucket = (Bucket) map.get(period);
+                if (bucket == null) {
+                    bucket = createBucket(period);
+                    map.put(period, bucket);
+                }
+            }
+            bucket.add(x, y);
+        }
+        sb.buckets.clear();
+        sb.buckets.addAll(map.values());
+        sb.processedCount = count;
+        sb.lastX = this.source.getXValue(series, count - 1);
+        sb.lastY = this.source.getYValue(series, count - 1);
+    }
+
+    /**
+     * Creates an empty period record for the period containing the
+     * specified millisecond.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return The period record.
+     */
+    private Bucket createBucket(long millisecond) {
+        return createBucket(RegularTimePeriod.createInstance(this.periodClass,
+                new Date(millisecond), this.timeZone));
+    }
+
+    /**
+     * Creates an empty period record.
+     *
+     * @param period  the period.
+     *
+     * @return The period record.
+     */
+    private Bucket createBucket(RegularTimePeriod period) {
+        if (this.workingCalendar == null) {
+            this.workingCalendar = Calendar.getInstance(this.timeZone);
+        }
+        return new Bucket(period,
+                period.getFirstMillisecond(this.workingCalendar),
+                period.getLastMillisecond(this.workingCalendar));
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TimeBucketedXYDataset)) {
+            return false;
+        }
+        TimeBucketedXYDataset that = (TimeBucketedXYDataset) obj;
+        if (!this.source.equals(that.source)) {
+            return false;
+        }
+        if (!this.periodClass.equals(that.periodClass)) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.timeZone, that.timeZone)) {
+            return false;
+        }
+        if (!this.aggregation.equals(that.aggregation)) {
+            return false;
+        }
+        if (!this.xPosition.equals(that.xPosition)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.source.hashCode();
+        result = 29 * result + this.periodClass.hashCode();
+        result = 29 * result + this.aggregation.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a clone of this dataset.  The clone shares (and listens to)
+     * the same source dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        TimeBucketedXYDataset clone = (TimeBucketedXYDataset) super.clone();
+        clone.timeZone = (TimeZone) this.timeZone.clone();
+        clone.seriesBuckets = null;
+        clone.workingCalendar = null;
+        clone.source.addChangeListener(clone);
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.source.addChangeListener(this);
+    }
+
+    /**
+     * The periods calculated for one series.
+     */
+    private static class SeriesBuckets {
+
+        /** The period records, in ascending order. */
+        List buckets = new ArrayList();
+
+        /** The number of source items processed. */
+        int processedCount;
+
+        /** The x-value of the last source item processed. */
+        double lastX;
+
+        /** The y-value of the last source item processed. */
+        double lastY;
+
+        /** A flag that indicates that the source may have changed. */
+        boolean stale = true;
+
+    }
+
+    /**
+     * The aggregated values for one period.
+     */
+    private static class Bucket {
+
+        /** The period. */
+        RegularTimePeriod period;
+
+        /** The first millisecond in the period. */
+        long start;
+
+        /** The last millisecond in the period. */
+        long end;
+
+        /** The number of values. */
+        int count;
+
+        /** The sum of the values. */
+        double sum;
+
+        /** The smallest value. */
+        double low;
+
+        /** The largest value. */
+        double high;
+
+        /** The value with the smallest x-value. */
+        double open;
+
+        /** The smallest x-value. */
+        double openX;
+
+        /** The value with the largest x-value. */
+        double close;
+
+        /** The largest x-value. */
+        double closeX;
+
+        /**
+         * Creates an empty record.
+         *
+         * @param period  the period.
+         * @param start  the first millisecond in the period.
+         * @param end  the last millisecond in the period.
+         */
+        Bucket(RegularTimePeriod period, long start, long end) {
+            this.period = period;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Adds a value to the record.
+         *
+         * @param x  the x-value.
+         * @param y  the y-value.
+         */
+        void add(double x, double y) {
+            if (this.count == 0) {
+                this.low = y;
+                this.high = y;
+                this.open = y;
+                this.openX = x;
+                this.close = y;
+                this.closeX = x;
+            }
+            else {
+                this.low = Math.min(this.low, y);
+                this.high = Math.max(this.high, y);
+                if (x < this.openX) {
+                    this.open = y;
+                    this.openX = x;
+                }
+                if (x >= this.closeX) {
+                    this.close = y;
+                    this.closeX = x;
+                }
+            }
+            this.sum += y;
+            this.count++;
+        }
+
+    }
+
+}
@@ -1,66 +1,128 @@
-/* ===========================================================
- * JFreeChart : a free chart library for the Java(tm) platform
- * ===========================================================
- *
- * (C) Copyright 2000-2007, by Object Refinery Limited and Contributors.
- *
- * Project Info:  http://www.jfree.org/jfreechart/index.html
- *
- * This library is free software; you can redistribute it and/or modify it 
- * under the terms of the GNU Lesser General Public License as published by 
- * the Free Software Foundation; either version 2.1 of the License, or 
- * (at your option) any later version.
- *
- * This library is distributed in the hope that it will be useful, but 
- * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
- * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
- * License for more details.
- *
- * You should have received a copy of the GNU Lesser General Public
- * License along with this library; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, 
- * USA.  
- *
- * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
- * in the United States and other countries.]
- *
- * ----------------
- * DatasetTags.java
- * ----------------
- * (C) Copyright 2003-2007, by Object Refinery Limited and Contributors.
- *
- * Original Author:  David Gilbert (for Object Refinery Limited);
- * Contributor(s):   -;
- *
- * Changes
- * -------
- * 23-Jan-2003 : Version 1 (DG);
- *
- */
-
-package org.jfree.data.xml;
-
-/**
- * Constants for the tags that identify the elements in the XML files.
- */
-public interface DatasetTags {
-
-    /** The 'PieDataset' element name. */
-    public static final String PIEDATASET_TAG = "PieDataset";
-
-    /** The 'CategoryDataset' element name. */
-    public static final String CATEGORYDATASET_TAG = "CategoryDataset";
-
-    /** The 'Series' element name. */
-    public static final String SERIES_TAG = "Series";
-
-    /** The 'Item' element name. */
-    public static final String ITEM_TAG = "Item";
-
-    /** The 'Key' element name. */
-    public static final String KEY_TAG = "Key";
-
-    /** The 'Value' element name. */
-    public static final String VALUE_TAG = "Value";
-
-}
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2007, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by 
+ * the Free Software Foundation; either version 2.1 of the License, or 
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY 
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public 
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, 
+ * USA.  
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc. 
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * DatasetTags.java
+ * ----------------
+ * (C) Copyright 2003-2007, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 23-Jan-2003 : Version 1 (DG);
+ * 19-Oct-2026 : Added tags for XY and time series documents;
+ * 19-Oct-2026 : Added TIME_ZONE_ATTRIBUTE;
+ *
+ */
+
+package org.jfree.data.xml;
+
+/**
+ * Constants for the tags that identify the elements in the XML files.
+ */
+public interface DatasetTags {
+
+    /** The 'PieDataset' element name. */
+    public static final String PIEDATASET_TAG = "PieDataset";
+
+    /** The 'CategoryDataset' element name. */
+    public static final String CATEGORYDATASET_TAG = "CategoryDataset";
+
+    /** The 'Series' element name. */
+    public static final String SERIES_TAG = "Series";
+
+    /** The 'Item' element name. */
+    public static final String ITEM_TAG = "Item";
+
+    /** The 'Key' element name. */
+    public static final String KEY_TAG = "Key";
+
+    /** The 'Value' element name. */
+    public static final String VALUE_TAG = "Value";
+
+    /**
+     * The 'XYDataset' element name.
+     *
+     * @since 1.0.10
+     */
+    public static final String XYDATASET_TAG = "XYDataset";
+
+    /**
+     * The 'TimeSeriesCollection' element name.
+     *
+     * @since 1.0.10
+     */
+    public static final String TIMESERIESCOLLECTION_TAG
+            = "TimeSeriesCollection";
+
+    /**
+     * The 'X' element name.
+     *
+     * @since 1.0.10
+     */
+    public static final String X_TAG = "X";
+
+    /**
+     * The 'Y' element name.
+     *
+     * @since 1.0.10
+     */
+    public static final String Y_TAG = "Y";
+
+    /**
+     * The 'Time' element name (the first millisecond of a time period).
+     *
+     * @since 1.0.10
+     */
+    public static final String TIME_TAG = "Time";
+
+    /**
+     * The 'name' attribute of a 'Series' element.
+     *
+     * @since 1.0.10
+     */
+    public static final String NAME_ATTRIBUTE = "name";
+
+    /**
+     * The 'timePeriod' attribute of a 'Series' element in a
+     * 'TimeSeriesCollection' (the time period class name).
+     *
+     * @since 1.0.10
+     */
+    public static final String TIME_PERIOD_ATTRIBUTE = "timePeriod";
+
+    /**
+     * The 'timeZone' attribute of a 'TimeSeriesCollection' element (the ID
+     * of the time zone that the time periods were converted to milliseconds
+     * in).
+     *
+     * @since 1.0.10
+     */
+    public static final String TIME_ZONE_ATTRIBUTE = "timeZone";
+
+}
@@ -0,0 +1,338 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * DatasetWriter.java
+ * ------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Record the time zone of time series periods;
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.time.TimeSeriesDataItem;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Writes datasets as XML, one element at a time, directly to a
+ * <code>Writer</code> (no document tree is built).  The pie and category
+ * documents can be read by either {@link DatasetReader} or
+ * {@link StreamingDatasetReader}, the XY and time series documents by
+ * {@link StreamingDatasetReader}.  Missing values are written as empty
+ * 'Value' elements and numbers are written with
+ * <code>Double.toString()</code> so that they are read back exactly.
+ * <p>
+ * The methods do not write an XML declaration, so the reader will assume
+ * UTF-8 unless the caller writes a declaration first.
+ *
+ * @since 1.0.10
+ */
+public class DatasetWriter implements DatasetTags {
+
+    /** The package containing the standard time period classes. */
+    private static final String TIME_PACKAGE = "org.jfree.data.time.";
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private DatasetWriter() {
+        // no requirements
+    }
+
+    /**
+     * Writes a pie dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the writer (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writePieDataset(PieDataset dataset, Writer out)
+            throws IOException {
+        checkArguments(dataset, out);
+        out.write("<" + PIEDATASET_TAG + ">\n");
+        int count = dataset.getItemCount();
+        for (int i = 0; i < count; i++) {
+            writeItem(dataset.getKey(i), dataset.getValue(i), "  ", out);
+        }
+        out.write("</" + PIEDATASET_TAG + ">\n");
+        out.flush();
+    }
+
+    /**
+     * Writes a category dataset.  Each row is written as a series.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the writer (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writeCategoryDataset(CategoryDataset dataset,
+            Writer out) throws IOException {
+        checkArguments(dataset, out);
+        out.write("<" + CATEGORYDATASET_TAG + ">\n");
+        int rowCount = dataset.getRowCount();
+        int columnCount = dataset.getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            writeSeriesStart(dataset.getRowKey(r), null, out);
+            for (int c = 0; c < columnCount; c++) {
+                writeItem(dataset.getColumnKey(c), dataset.getValue(r, c),
+                        "    ", out);
+            }
+            out.write("  </" + SERIES_TAG + ">\n");
+        }
+        out.write("</" + CATEGORYDATASET_TAG + ">\n");
+        out.flush();
+    }
+
+    /**
+     * Writes an XY dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the writer (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writeXYDataset(XYDataset dataset, Writer out)
+            throws IOException {
+        checkArguments(dataset, out);
+        out.write("<" + XYDATASET_TAG + ">\n");
+        int seriesCount = dataset.getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            writeSeriesStart(dataset.getSeriesKey(s), null, out);
+            int itemCount = dataset.getItemCount(s);
+            for (int i = 0; i < itemCount; i++) {
+                out.write("    <" + ITEM_TAG + "><" + X_TAG + ">");
+                out.write(Double.toString(dataset.getXValue(s, i)));
+                out.write("</" + X_TAG + "><" + Y_TAG + ">");
+                double y = dataset.getYValue(s, i);
+                if (!Double.isNaN(y)) {
+                    out.write(Double.toString(y));
+                }
+                out.write("</" + Y_TAG + "></" + ITEM_TAG + ">\n");
+            }
+            out.write("  </" + SERIES_TAG + ">\n");
+        }
+        out.write("</" + XYDATASET_TAG + ">\n");
+        out.flush();
+    }
+
+    /**
+     * Writes a collection of time series, using the default time zone.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the writer (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     *
+     * @see #writeTimeSeriesCollection(TimeSeriesCollection, Writer,
+     *     TimeZone)
+     */
+    public static void writeTimeSeriesCollection(TimeSeriesCollection dataset,
+            Writer out) throws IOException {
+        writeTimeSeriesCollection(dataset, out, TimeZone.getDefault());
+    }
+
+    /**
+     * Writes a collection of time series.  Each time period is written as
+     * its first millisecond in the specified time zone, the time zone ID is
+     * recorded in the 'timeZone' attribute of the document element and the
+     * time period class is recorded in the 'timePeriod' attribute of each
+     * series.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param out  the writer (<code>null</code> not permitted).
+     * @param zone  the time zone (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    public static void writeTimeSeriesCollection(TimeSeriesCollection dataset,
+            Writer out, TimeZone zone) throws IOException {
+        checkArguments(dataset, out);
+        if (zone == null) {
+            throw new IllegalArgumentException("Null 'zone' argument.");
+        }
+        Calendar calendar = Calendar.getInstance(zone);
+        out.write("<" + TIMESERIESCOLLECTION_TAG + " " + TIME_ZONE_ATTRIBUTE
+                + "=\"");
+        writeEscaped(zone.getID(), out);
+        out.write("\">\n");
+        int seriesCount = dataset.getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            TimeSeries series = dataset.getSeries(s);
+            String periodClass = series.getTimePeriodClass().getName();
+            if (periodClass.startsWith(TIME_PACKAGE)) {
+                periodClass = periodClass.substring(TIME_PACKAGE.length());
+            }
+            writeSeriesStart(series.getKey(), periodClass, out);
+            int itemCount = series.getItemCount();
+            for (int i = 0; i < itemCount; i++) {
+                TimeSeriesDataItem item = series.getDataItem(i);
+                out.write("    <" + ITEM_TAG + "><" + TIME_TAG + ">");
+                out.write(Long.toString(
+                        item.getPeriod().getFirstMillisecond(calendar)));
+                out.write("</" + TIME_TAG + "><" + VALUE_TAG + ">");
+                writeNumber(item.getValue(), out);
+                out.write("</" + VALUE_TAG + "></" + ITEM_TAG + ">\n");
+            }
+            out.write("  </" + SERIES_TAG + ">\n");
+        }
+        out.write("</" + TIMESERIESCOLLECTION_TAG + ">\n");
+        out.flush();
+    }
+
+    /**
+     * Checks that the arguments are not <code>null</code>.
+     *
+     * @param dataset  the dataset.
+     * @param out  the writer.
+     */
+    private static void checkArguments(Object dataset, Writer out) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+    }
+
+    /**
+     * Writes the start tag for a series.
+     *
+     * @param key  the series key.
+     * @param timePeriod  the time period class name (<code>null</code>
+     *     permitted).
+     * @param out  the writer.
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    private static void writeSeriesStart(Comparable key, String timePeriod,
+            Writer out) throws IOException {
+        out.write("  <" + SERIES_TAG + " " + NAME_ATTRIBUTE + "=\"");
+        writeEscaped(key.toString(), out);
+        out.write('"');
+        if (timePeriod != null) {
+            out.write(" " + TIME_PERIOD_ATTRIBUTE + "=\"");
+            writeEscaped(timePeriod, out);
+            out.write('"');
+        }
+        out.write(">\n");
+    }
+
+    /**
+     * Writes an 'Item' element with a key and value.
+     *
+     * @param key  the key.
+     * @param value  the value (<code>null</code> permitted).
+     * @param indent  the indentation.
+     * @param out  the writer.
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    private static void writeItem(Comparable key, Number value,
+            String indent, Writer out) throws IOException {
+        out.write(indent);
+        out.write("<" + ITEM_TAG + "><" + KEY_TAG + ">");
+        writeEscaped(key.toString(), out);
+        out.write("</" + KEY_TAG + "><" + VALUE_TAG + ">");
+        writeNumber(value, out);
+        out.write("</" + VALUE_TAG + "></" + ITEM_TAG + ">\n");
+    }
+
+    /**
+     * Writes a number, or nothing if the number is <code>null</code> or
+     * <code>NaN</code>.
+     *
+     * @param n  the number (<code>null</code> permitted).
+     * @param out  the writer.
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    private static void writeNumber(Number n, Writer out) throws IOException {
+        if (n != null) {
+            double v = n.doubleValue();
+            if (!Double.isNaN(v)) {
+                out.write(Double.toString(v));
+            }
+        }
+    }
+
+    /**
+     * Writes a string, escaping the characters that are special in element
+     * text and attribute values.  Strings that need no escaping (the usual
+     * case) are written in a single call.
+     *
+     * @param s  the string.
+     * @param out  the writer.
+     *
+     * @throws IOException if there is an I/O error.
+     */
+    static void writeEscaped(String s, Writer out) throws IOException {
+        int length = s.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            String entity;
+            switch (s.charAt(i)) {
+                case '&':
+                    entity = "&amp;";
+                    break;
+                case '<':
+                    entity = "&lt;";
+                    break;
+                case '>':
+                    entity = "&gt;";
+                    break;
+                case '"':
+                    entity = "&quot;";
+                    break;
+                default:
+                    continue;
+            }
+            out.write(s, start, i - start);
+            out.write(entity);
+            start = i + 1;
+        }
+        out.write(s, start, length - start);
+    }
+
+}
@@ -0,0 +1,561 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * StreamingDatasetHandler.java
+ * ----------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Read the time zone of time series documents, and reject
+ *               values that are not numbers;
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.lang.reflect.Constructor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.jfree.data.category.DenseCategoryDataset;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * A single SAX handler that builds a dataset in one pass.  Unlike the
+ * {@link RootHandler} family it does not push and pop a sub-handler for
+ * every element, it simply tracks the current position in the document
+ * with a few fields and reuses one text buffer throughout.
+ *
+ * @since 1.0.10
+ */
+class StreamingDatasetHandler extends DefaultHandler implements DatasetTags {
+
+    /** Nesting level: outside the document element. */
+    private static final int DOCUMENT = 0;
+
+    /** Nesting level: inside the document element. */
+    private static final int ROOT = 1;
+
+    /** Nesting level: inside a 'Series' element. */
+    private static final int SERIES = 2;
+
+    /** Nesting level: inside an 'Item' element. */
+    private static final int ITEM = 3;
+
+    /** Nesting level: inside a 'Key', 'Value', 'X', 'Y' or 'Time' element. */
+    private static final int FIELD = 4;
+
+    /** The expected document element name. */
+    private String rootTag;
+
+    /** The current nesting level. */
+    private int level;
+
+    /** Storage for the text of the current field element. */
+    private StringBuffer text;
+
+    /** The dataset under construction (type depends on the root tag). */
+    private Object dataset;
+
+    /** The key of the current series. */
+    private Comparable seriesKey;
+
+    /** The current time series (time series documents only). */
+    private TimeSeries timeSeries;
+
+    /** The time period class for the current time series. */
+    private Class periodClass;
+
+    /**
+     * The (Date, TimeZone) constructor for the time period class, or
+     * <code>null</code> for {@link FixedMillisecond}.
+     */
+    private Constructor periodConstructor;
+
+    /**
+     * The time zone of the time periods (time series documents only).
+     */
+    private TimeZone zone;
+
+    /**
+     * A calendar for the time zone of the time periods (time series
+     * documents only).
+     */
+    private Calendar calendar;
+
+    /** The most recent time period in the current time series. */
+    private RegularTimePeriod lastPeriod;
+
+    /** The x-values for the current series (XY documents only). */
+    private double[] xValues;
+
+    /** The y-values for the current series (XY documents only). */
+    private double[] yValues;
+
+    /** The number of items in the current series (XY documents only). */
+    private int count;
+
+    /** The key for the current item. */
+    private String key;
+
+    /** The value for the current item (<code>NaN</code> if missing). */
+    private double value;
+
+    /** The x-value for the current item. */
+    private double x;
+
+    /** The time for the current item. */
+    private long time;
+
+    /**
+     * Creates a new handler.
+     *
+     * @param rootTag  the expected document element name (one of the
+     *     <code>*_TAG</code> constants for a dataset type).
+     */
+    StreamingDatasetHandler(String rootTag) {
+        this.rootTag = rootTag;
+        this.text = new StringBuffer();
+    }
+
+    /**
+     * Returns the dataset that was read.
+     *
+     * @return The dataset (possibly <code>null</code>).
+     */
+    Object getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * The start of an element.
+     *
+     * @param namespaceURI  the namespace.
+     * @param localName  the element name.
+     * @param qName  the element name.
+     * @param atts  the attributes.
+     *
+     * @throws SAXException for errors.
+     */
+    public void startElement(String namespaceURI, String localName,
+            String qName, Attributes atts) throws SAXException {
+
+        switch (this.level) {
+            case DOCUMENT:
+                if (!qName.equals(this.rootTag)) {
+                    throw new SAXException("Expecting <" + this.rootTag
+                            + "> but found <" + qName + ">");
+                }
+                this.dataset = createDataset(atts);
+                // a pie dataset has its items directly under the root, so
+                // treat the root as if it were also a series
+                this.level = this.rootTag == PIEDATASET_TAG ? SERIES : ROOT;
+                return;
+            case ROOT:
+                if (!qName.equals(SERIES_TAG)) {
+                    throw unexpected(qName);
+                }
+                startSeries(atts);
+                break;
+            case SERIES:
+                if (!qName.equals(ITEM_TAG)) {
+                    throw unexpected(qName);
+                }
+                startItem();
+                break;
+            case ITEM:
+                this.text.setLength(0);
+                break;
+            default:
+                throw unexpected(qName);
+        }
+        this.level++;
+
+    }
+
+    /**
+     * The end of an element.
+     *
+     * @param namespaceURI  the namespace.
+     * @param localName  the element name.
+     * @param qName  the element name.
+     *
+     * @throws SAXException for errors.
+     */
+    public void endElement(String namespaceURI, String localName,
+            String qName) throws SAXException {
+
+        this.level--;
+        switch (this.level) {
+            case ITEM:
+                endField(qName);
+                break;
+            case SERIES:
+                endItem();
+                break;
+            case ROOT:
+                if (this.rootTag != PIEDATASET_TAG) {
+                    endSeries();
+                }
+                break;
+            default:
+                break;
+        }
+
+    }
+
+    /**
+     * Receives some (or all) of the text in the current element.
+     *
+     * @param ch  character buffer.
+     * @param start  the start index.
+     * @param length  the length of the valid character data.
+     */
+    public void characters(char[] ch, int start, int length) {
+        if (this.level == FIELD) {
+            this.text.append(ch, start, length);
+        }
+    }
+
+    /**
+     * Creates an empty dataset for the root tag.  For a time series
+     * collection, the time zone is read from the 'timeZone' attribute (the
+     * default time zone is used if there is none).
+     *
+     * @param atts  the attributes of the document element.
+     *
+     * @return A new dataset.
+     *
+     * @throws SAXException if the time zone is not recognised.
+     */
+    private Object createDataset(Attributes atts) throws SAXException {
+        if (this.rootTag == PIEDATASET_TAG) {
+            return new DefaultPieDataset();
+        }
+        else if (this.rootTag == CATEGORYDATASET_TAG) {
+            return new DenseCategoryDataset();
+        }
+        else if (this.rootTag == XYDATASET_TAG) {
+            return new DefaultXYDataset();
+        }
+        String id = atts.getValue(TIME_ZONE_ATTRIBUTE);
+        if (id == null) {
+            this.zone = TimeZone.getDefault();
+        }
+        else {
+            this.zone = TimeZone.getTimeZone(id);
+            if (!this.zone.getID().equals(id)) {
+                throw new SAXException("Unknown time zone: " + id);
+            }
+        }
+        this.calendar = Calendar.getInstance(this.zone);
+        return new TimeSeriesCollection(this.zone);
+    }
+
+    /**
+     * Starts a new series.
+     *
+     * @param atts  the attributes of the 'Series' element.
+     *
+     * @throws SAXException if the time period class cannot be found.
+     */
+    private void startSeries(Attributes atts) throws SAXException {
+        this.seriesKey = atts.getValue(NAME_ATTRIBUTE);
+        if (this.rootTag == XYDATASET_TAG) {
+            this.xValues = new double[64];
+            this.yValues = new double[64];
+            this.count = 0;
+        }
+        else if (this.rootTag == TIMESERIESCOLLECTION_TAG) {
+            this.periodClass = periodClass(
+                    atts.getValue(TIME_PERIOD_ATTRIBUTE));
+            this.periodConstructor = null;
+            if (this.periodClass != FixedMillisecond.class) {
+                try {
+                    this.periodConstructor = this.periodClass
+                            .getDeclaredConstructor(new Class[] {Date.class,
+                            TimeZone.class});
+                }
+                catch (NoSuchMethodException e) {
+                    throw new SAXException("Unsupported time period class: "
+                            + this.periodClass.getName());
+                }
+            }
+            this.lastPeriod = null;
+            this.timeSeries = new TimeSeries(this.seriesKey,
+                    this.periodClass);
+        }
+    }
+
+    /**
+     * Ends the current series and adds it to the dataset.
+     */
+    private void endSeries() {
+        if (this.rootTag == XYDATASET_TAG) {
+            double[][] data = new double[2][this.count];
+            System.arraycopy(this.xValues, 0, data[0], 0, this.count);
+            System.arraycopy(this.yValues, 0, data[1], 0, this.count);
+            ((DefaultXYDataset) this.dataset).addSeries(this.seriesKey, data);
+            this.xValues = null;
+            this.yValues = null;
+        }
+        else if (this.rootTag == TIMESERIESCOLLECTION_TAG) {
+            ((TimeSeriesCollection) this.dataset).addSeries(this.timeSeries);
+            this.timeSeries = null;
+        }
+    }
+
+    /**
+     * Resets the fields for a new item.
+     */
+    private void startItem() {
+        this.key = null;
+        this.value = Double.NaN;
+        this.x = Double.NaN;
+        this.time = Long.MIN_VALUE;
+    }
+
+    /**
+     * Records the text of a field element in the current item.
+     *
+     * @param qName  the element name.
+     *
+     * @throws SAXException if the element is not expected here.
+     */
+    private void endField(String qName) throws SAXException {
+        if (qName.equals(VALUE_TAG) || qName.equals(Y_TAG)) {
+            this.value = parseValue(this.text.toString());
+        }
+        else if (qName.equals(KEY_TAG)) {
+            this.key = this.text.toString();
+        }
+        else if (qName.equals(X_TAG)) {
+            this.x = parseValue(this.text.toString());
+        }
+        else if (qName.equals(TIME_TAG)) {
+            try {
+                this.time = Long.parseLong(this.text.toString().trim());
+            }
+            catch (NumberFormatException e) {
+                throw new SAXException("Invalid time: " + this.text);
+            }
+        }
+        else {
+            throw unexpected(qName);
+        }
+    }
+
+    /**
+     * Adds the current item to the dataset.
+     *
+     * @throws SAXException if a required field is missing.
+     */
+    private void endItem() throws SAXException {
+        if (this.rootTag == PIEDATASET_TAG) {
+            ((DefaultPieDataset) this.dataset).setValue(requireKey(),
+                    toNumber(this.value));
+        }
+        else if (this.rootTag == CATEGORYDATASET_TAG) {
+            ((DenseCategoryDataset) this.dataset).setValue(this.value,
+                    this.seriesKey, requireKey());
+        }
+        else if (this.rootTag == XYDATASET_TAG) {
+            if (this.count == this.xValues.length) {
+                int capacity = this.count * 2;
+                double[] xs = new double[capacity];
+                double[] ys = new double[capacity];
+                System.arraycopy(this.xValues, 0, xs, 0, this.count);
+                System.arraycopy(this.yValues, 0, ys, 0, this.count);
+                this.xValues = xs;
+                this.yValues = ys;
+            }
+            this.xValues[this.count] = this.x;
+            this.yValues[this.count] = this.value;
+            this.count++;
+        }
+        else {
+            if (this.time == Long.MIN_VALUE) {
+                throw new SAXException("Missing <" + TIME_TAG + "> element.");
+            }
+            RegularTimePeriod period = createPeriod(this.time);
+            try {
+                this.timeSeries.add(period, toNumber(this.value), false);
+            }
+            catch (SeriesException e) {
+                throw new SAXException(e.getMessage());
+            }
+            this.lastPeriod = period;
+        }
+    }
+
+    /**
+     * Returns the time period containing the given millisecond in the time
+     * zone of the document.  For a regular series this is usually the
+     * period after the previous one, so that is tried before falling back
+     * to the reflective constructor.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return The time period.
+     *
+     * @throws SAXException if the time period cannot be created.
+     */
+    private RegularTimePeriod createPeriod(long millisecond)
+            throws SAXException {
+        if (this.periodConstructor == null) {
+            return new FixedMillisecond(millisecond);
+        }
+        if (this.lastPeriod != null) {
+            RegularTimePeriod next = this.lastPeriod.next();
+            if (next != null
+                    && next.getFirstMillisecond(this.calendar) <= millisecond
+                    && millisecond <= next.getLastMillisecond(
+                    this.calendar)) {
+                return next;
+            }
+        }
+        try {
+            return (RegularTimePeriod) this.periodConstructor.newInstance(
+                    new Object[] {new Date(millisecond), this.zone});
+        }
+        catch (Exception e) {
+            throw new SAXException("Cannot create time period: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the key of the current item, or throws an exception if there
+     * is none.
+     *
+     * @return The key.
+     *
+     * @throws SAXException if the item has no key.
+     */
+    private String requireKey() throws SAXException {
+        if (this.key == null) {
+            throw new SAXException("Missing <" + KEY_TAG + "> element.");
+        }
+        return this.key;
+    }
+
+    /**
+     * Creates an exception for an element that is not expected at the
+     * current position.
+     *
+     * @param qName  the element name.
+     *
+     * @return An exception.
+     */
+    private SAXException unexpected(String qName) {
+        return new SAXException("Unexpected element <" + qName + "> in <"
+                + this.rootTag + ">");
+    }
+
+    /**
+     * Parses a value, returning <code>NaN</code> for empty text (a missing
+     * value).
+     *
+     * @param s  the text.
+     *
+     * @return The value.
+     *
+     * @throws SAXException if the text is not empty and is not a number.
+     */
+    static double parseValue(String s) throws SAXException {
+        String trimmed = s.trim();
+        if (trimmed.length() == 0) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(trimmed);
+        }
+        catch (NumberFormatException e) {
+            throw new SAXException("Invalid number: " + s);
+        }
+    }
+
+    /**
+     * Converts a value to a <code>Number</code>, with <code>NaN</code>
+     * mapped to <code>null</code>.
+     *
+     * @param v  the value.
+     *
+     * @return A number or <code>null</code>.
+     */
+    private static Number toNumber(double v) {
+        return Double.isNaN(v) ? null : new Double(v);
+    }
+
+    /**
+     * Returns the time period class for a 'timePeriod' attribute, which may
+     * be a fully qualified class name or the short name of a class in the
+     * <code>org.jfree.data.time</code> package.
+     *
+     * @param name  the class name (<code>null</code> permitted, which gives
+     *     {@link FixedMillisecond}).
+     *
+     * @return The time period class.
+     *
+     * @throws SAXException if the class cannot be found.
+     */
+    private static Class periodClass(String name) throws SAXException {
+        if (name == null) {
+            return FixedMillisecond.class;
+        }
+        String className = name;
+        if (name.indexOf('.') < 0) {
+            className = "org.jfree.data.time." + name;
+        }
+        try {
+            Class c = Class.forName(className);
+            if (!RegularTimePeriod.class.isAssignableFrom(c)) {
+                throw new SAXException("Not a time period class: " + name);
+            }
+            return c;
+        }
+        catch (ClassNotFoundException e) {
+            throw new SAXException("Unknown time period class: " + name);
+        }
+    }
+
+}
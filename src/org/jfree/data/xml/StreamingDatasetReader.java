@@ -0,0 +1,256 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * StreamingDatasetReader.java
+ * ---------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Documented the handling of values and time zones;
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.jfree.data.category.DenseCategoryDataset;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads datasets from XML in a single streaming pass.  This reader accepts
+ * the same pie and category documents as {@link DatasetReader}, plus XY and
+ * time series documents in the format written by {@link DatasetWriter}.
+ * <p>
+ * Each document is handled by one handler that keeps its state in a few
+ * fields, rather than a stack of handlers with one object per element, and
+ * category data is collected in a {@link DenseCategoryDataset} so that key
+ * lookups are hashed.  Unlike {@link DatasetReader}, a malformed document
+ * causes an <code>IOException</code> rather than a <code>null</code> result,
+ * and so does a value that is not a number (an empty value is read as a
+ * missing value).  Time periods are recreated in the time zone recorded in
+ * a time series document, or the default time zone if there is none.
+ *
+ * @since 1.0.10
+ */
+public class StreamingDatasetReader {
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private StreamingDatasetReader() {
+        // no requirements
+    }
+
+    /**
+     * Reads a pie dataset from a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    public static DefaultPieDataset readPieDataset(File file)
+            throws IOException {
+        return (DefaultPieDataset) read(file, DatasetTags.PIEDATASET_TAG);
+    }
+
+    /**
+     * Reads a pie dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the stream.
+     */
+    public static DefaultPieDataset readPieDataset(InputStream in)
+            throws IOException {
+        return (DefaultPieDataset) read(in, DatasetTags.PIEDATASET_TAG);
+    }
+
+    /**
+     * Reads a category dataset from a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    public static DenseCategoryDataset readCategoryDataset(File file)
+            throws IOException {
+        return (DenseCategoryDataset) read(file,
+                DatasetTags.CATEGORYDATASET_TAG);
+    }
+
+    /**
+     * Reads a category dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the stream.
+     */
+    public static DenseCategoryDataset readCategoryDataset(InputStream in)
+            throws IOException {
+        return (DenseCategoryDataset) read(in,
+                DatasetTags.CATEGORYDATASET_TAG);
+    }
+
+    /**
+     * Reads an XY dataset from a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    public static DefaultXYDataset readXYDataset(File file)
+            throws IOException {
+        return (DefaultXYDataset) read(file, DatasetTags.XYDATASET_TAG);
+    }
+
+    /**
+     * Reads an XY dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the stream.
+     */
+    public static DefaultXYDataset readXYDataset(InputStream in)
+            throws IOException {
+        return (DefaultXYDataset) read(in, DatasetTags.XYDATASET_TAG);
+    }
+
+    /**
+     * Reads a collection of time series from a file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    public static TimeSeriesCollection readTimeSeriesCollection(File file)
+            throws IOException {
+        return (TimeSeriesCollection) read(file,
+                DatasetTags.TIMESERIESCOLLECTION_TAG);
+    }
+
+    /**
+     * Reads a collection of time series from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the stream.
+     */
+    public static TimeSeriesCollection readTimeSeriesCollection(
+            InputStream in) throws IOException {
+        return (TimeSeriesCollection) read(in,
+                DatasetTags.TIMESERIESCOLLECTION_TAG);
+    }
+
+    /**
+     * Reads a dataset from a file, closing the file afterwards.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param rootTag  the document element name.
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    private static Object read(File file, String rootTag) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        InputStream in = new BufferedInputStream(new FileInputStream(file));
+        try {
+            return read(in, rootTag);
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads a dataset from a stream.
+     *
+     * @param in  the input stream (<code>null</code> not permitted).
+     * @param rootTag  the document element name.
+     *
+     * @return A dataset.
+     *
+     * @throws IOException if there is a problem reading the stream.
+     */
+    private static Object read(InputStream in, String rootTag)
+            throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Null 'in' argument.");
+        }
+        StreamingDatasetHandler handler = new StreamingDatasetHandler(rootTag);
+        try {
+            SAXParser parser = SAXParserFactory.newInstance().newSAXParser();
+            parser.parse(in, handler);
+        }
+        catch (SAXException e) {
+            throw new IOException(e.getMessage());
+        }
+        catch (ParserConfigurationException e) {
+            throw new IOException(e.getMessage());
+        }
+        if (handler.getDataset() == null) {
+            throw new IOException("No <" + rootTag + "> element found.");
+        }
+        return handler.getDataset();
+    }
+
+}
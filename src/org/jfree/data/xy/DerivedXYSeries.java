@@ -0,0 +1,268 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * DerivedXYSeries.java
+ * --------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.statistics.OnlineStatistic;
+
+/**
+ * An <code>XYSeries</code> that holds the running value of an
+ * {@link OnlineStatistic} calculated from a source series (for example, a
+ * rolling standard deviation or a least squares fit).  The series listens
+ * to the source and, when items are appended, updates the statistic with
+ * the new items only, so the cost per update is proportional to the number
+ * of new items rather than the length of the source series.  Any other
+ * change to the source (inserting or removing items before the last item
+ * processed, or changing the value of that item) causes the series to be
+ * recalculated from scratch.  Changes to the values of earlier items are
+ * not detected, call {@link #rebuild()} after making them.
+ * <P>
+ * Items with a <code>null</code> y-value are skipped, and no item is added
+ * while the statistic returns <code>Double.NaN</code>.
+ *
+ * @since 1.0.10
+ */
+public class DerivedXYSeries extends XYSeries implements SeriesChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2926352373092585123L;
+
+    /** The source series (<code>null</code> once disposed). */
+    private XYSeries source;
+
+    /** The statistic. */
+    private OnlineStatistic statistic;
+
+    /** The number of source items processed so far. */
+    private int processedCount;
+
+    /** The x-value of the last source item processed. */
+    private Number lastX;
+
+    /** The y-value of the last source item processed. */
+    private Number lastY;
+
+    /**
+     * Creates a new series that follows the specified source series.  The
+     * new series uses the same sorting and duplicate x-value settings as
+     * the source.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param statistic  the statistic (<code>null</code> not permitted).
+     */
+    public DerivedXYSeries(Comparable key, XYSeries source,
+            OnlineStatistic statistic) {
+        super(key, checkSource(source).getAutoSort(),
+                source.getAllowDuplicateXValues());
+        if (statistic == null) {
+            throw new IllegalArgumentException("Null 'statistic' argument.");
+        }
+        this.source = source;
+        this.statistic = statistic;
+        source.addChangeListener(this);
+        rebuild();
+    }
+
+    /**
+     * Checks the source argument (called before the super-class constructor
+     * runs).
+     *
+     * @param source  the source.
+     *
+     * @return The source.
+     */
+    private static XYSeries checkSource(XYSeries source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        return source;
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (<code>null</code> if the series has been
+     *     disposed, or is a clone).
+     */
+    public XYSeries getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the statistic.
+     *
+     * @return The statistic (never <code>null</code>).
+     */
+    public OnlineStatistic getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * Discards the current items and recalculates the series from all the
+     * items in the source series, then sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     */
+    public void rebuild() {
+        this.statistic.clear();
+        this.data.clear();
+        this.processedCount = 0;
+        this.lastX = null;
+        this.lastY = null;
+        if (this.source != null) {
+            process(0);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Stops following the source series.  The current items are retained.
+     */
+    public void dispose() {
+        if (this.source != null) {
+            this.source.removeChangeListener(this);
+            this.source = null;
+        }
+    }
+
+    /**
+     * Receives notification of a change to the source series.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (this.source == null || event.getSource() != this.source) {
+            return;
+        }
+        int start = 0;
+        if (this.lastX != null) {
+            int count = this.source.getItemCount();
+            int index = this.processedCount - 1;
+            if (index >= count || !isLastProcessed(index)) {
+                index = -1;
+                // the last item processed can only have moved towards the
+                // start if the source has discarded its oldest items to stay
+                // within its maximum item count
+                if (count >= this.source.getMaximumItemCount()) {
+                    for (int i = Math.min(this.processedCount, count) - 1;
+                            i >= 0; i--) {
+                        if (isLastProcessed(i)) {
+                            index = i;
+                            break;
+                        }
+                    }
+                }
+                if (index < 0) {
+                    rebuild();
+                    return;
+                }
+            }
+            start = index + 1;
+        }
+        if (start < this.source.getItemCount()) {
+            process(start);
+            fireSeriesChanged();
+        }
+        else {
+            this.processedCount = start;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the source item at the specified index
+     * matches the last item processed, and <code>false</code> otherwise.
+     *
+     * @param index  the item index.
+     *
+     * @return A boolean.
+     */
+    private boolean isLastProcessed(int index) {
+        XYDataItem item = this.source.getDataItem(index);
+        if (!item.getX().equals(this.lastX)) {
+            return false;
+        }
+        Number y = item.getY();
+        return y == null ? this.lastY == null : y.equals(this.lastY);
+    }
+
+    /**
+     * Passes the source items from <code>start</code> onwards to the
+     * statistic, adding an item to this series for each one (without
+     * sending change events).
+     *
+     * @param start  the index of the first source item.
+     */
+    private void process(int start) {
+        int count = this.source.getItemCount();
+        for (int i = start; i < count; i++) {
+            XYDataItem item = this.source.getDataItem(i);
+            Number y = item.getY();
+            if (y != null) {
+                double x = item.getX().doubleValue();
+                this.statistic.add(x, y.doubleValue());
+                double result = this.statistic.getValue();
+                if (!Double.isNaN(result)) {
+                    add(x, result, false);
+                }
+            }
+            this.lastX = item.getX();
+            this.lastY = y;
+        }
+        this.processedCount = count;
+    }
+
+    /**
+     * Returns a clone of the series.  The clone holds a copy of the current
+     * items and of the statistic, but does not follow the source series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DerivedXYSeries clone = (DerivedXYSeries) super.clone();
+        clone.source = null;
+        clone.statistic = (OnlineStatistic) this.statistic.clone();
+        return clone;
+    }
+
+}
@@ -0,0 +1,723 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+
+/**
+ * An {@link IntervalXYDataset} that reads its data from memory-mapped series
+ * files written by {@link MappedXYSeriesWriter}, so that series much larger
+ * than the heap can be charted.  Each file is mapped in segments, and the
+ * values are read from the mapped segments on demand.
+ * <P>
+ * The bounds of each series are stored in the file header, so the dataset
+ * implements {@link DomainInfo} and {@link RangeInfo} without reading the
+ * data, and if the x-values in every series are ascending, the dataset
+ * reports {@link DomainOrder#ASCENDING} so that renderers only read the
+ * items in the visible range.
+ * <P>
+ * A series file starts with a header of {@link #HEADER_LENGTH} bytes
+ * (magic number, version, flags, item count and bounds), followed by one
+ * record per item containing the x and y values (and the start and end x
+ * and y values if the file has intervals), as big-endian doubles.  When the
+ * dataset is serialized, only the keys and file names are written.
+ *
+ * @since 1.0.10
+ */
+public class MappedXYDataset extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, DomainInfo, RangeInfo, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1866193254718327102L;
+
+    /** The magic number at the start of a series file ("JFMX"). */
+    static final int MAGIC = 0x4A464D58;
+
+    /** The file format version. */
+    static final int VERSION = 1;
+
+    /** The length of the series file header. */
+    static final int HEADER_LENGTH = 128;
+
+    /** The flag for a file that contains intervals. */
+    static final int FLAG_INTERVALS = 1;
+
+    /** The flag for a file with ascending x-values. */
+    static final int FLAG_ASCENDING = 2;
+
+    /** The default maximum segment size (1GB). */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    /** The maximum number of bytes in one mapped segment. */
+    private int segmentSize;
+
+    /** The series (instances of {@link MappedSeries}). */
+    private List seriesList;
+
+    /**
+     * Creates a new (empty) dataset with the default segment size.
+     */
+    public MappedXYDataset() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new (empty) dataset.
+     *
+     * @param segmentSize  the maximum number of bytes mapped in a single
+     *     segment (at least 48).
+     */
+    public MappedXYDataset(int segmentSize) {
+        if (segmentSize < 48) {
+            throw new IllegalArgumentException("Requires 'segmentSize' >= 48.");
+        }
+        this.segmentSize = segmentSize;
+        this.seriesList = new ArrayList();
+    }
+
+    /**
+     * Adds a series to the dataset and sends a {@link DatasetChangeEvent} to
+     * all registered listeners.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param file  the series file (<code>null</code> not permitted).
+     *
+     * @throws IOException if the file cannot be mapped or is not a series
+     *     file.
+     */
+    public void addSeries(Comparable key, File file) throws IOException {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        MappedSeries series = new MappedSeries(key, file);
+        series.map(this.segmentSize);
+        this.seriesList.add(series);
+        notifyListeners(new DatasetChangeEvent(this, this));
+    }
+
+    /**
+     * Removes a series from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  The mapped
+     * segments are released when they are garbage collected.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        this.seriesList.remove(series);
+        notifyListeners(new DatasetChangeEvent(this, this));
+    }
+
+    /**
+     * Returns the file for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The file.
+     */
+    public File getSeriesFile(int series) {
+        return getMappedSeries(series).file;
+    }
+
+    /**
+     * Returns the series with the given index.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     */
+    private MappedSeries getMappedSeries(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+        return (MappedSeries) this.seriesList.get(series);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.seriesList.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return getMappedSeries(series).key;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return getMappedSeries(series).itemCount;
+    }
+
+    /**
+     * Returns the order of the domain (x-) values.  This is
+     * {@link DomainOrder#ASCENDING} if the x-values in every series are
+     * in ascending order.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        for (int s = 0; s < this.seriesList.size(); s++) {
+            if (!((MappedSeries) this.seriesList.get(s)).ascending) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return getMappedSeries(series).get(item, 0);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int series, int item) {
+        return getMappedSeries(series).get(item, 1);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.  If the series
+     * file has no intervals, this is the x-value.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    public double getStartXValue(int series, int item) {
+        return getMappedSeries(series).get(item, 2);
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.  If the series
+     * file has no intervals, this is the x-value.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    public double getEndXValue(int series, int item) {
+        return getMappedSeries(series).get(item, 3);
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.  If the series
+     * file has no intervals, this is the y-value.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start y-value.
+     */
+    public double getStartYValue(int series, int item) {
+        return getMappedSeries(series).get(item, 4);
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start y-value.
+     */
+    public Number getStartY(int series, int item) {
+        return new Double(getStartYValue(series, item));
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.  If the series
+     * file has no intervals, this is the y-value.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end y-value.
+     */
+    public double getEndYValue(int series, int item) {
+        return getMappedSeries(series).get(item, 5);
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end y-value.
+     */
+    public Number getEndY(int series, int item) {
+        return new Double(getEndYValue(series, item));
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset, from the bounds stored in
+     * the series files.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset, from the bounds stored in
+     * the series files.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset, from the bounds
+     * stored in the series files.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there is no data).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        return findBounds(0, includeInterval);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset, from the bounds stored in
+     * the series files.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset, from the bounds stored in
+     * the series files.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there is no
+     *     data).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset, from the bounds
+     * stored in the series files.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there is no data).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        return findBounds(1, includeInterval);
+    }
+
+    /**
+     * Combines the stored bounds for all series.
+     *
+     * @param dimension  0 for x, 1 for y.
+     * @param includeInterval  include the intervals?
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    private Range findBounds(int dimension, boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < this.seriesList.size(); s++) {
+            MappedSeries series = (MappedSeries) this.seriesList.get(s);
+            int index = dimension * 2;
+            if (includeInterval && series.intervals) {
+                index += 4;
+            }
+            double min = series.bounds[index];
+            double max = series.bounds[index + 1];
+            if (!Double.isNaN(min)) {
+                lower = Math.min(lower, min);
+                upper = Math.max(upper, max);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two
+     * datasets are equal if they have the same series keys and files.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedXYDataset)) {
+            return false;
+        }
+        MappedXYDataset that = (MappedXYDataset) obj;
+        if (this.segmentSize != that.segmentSize) {
+            return false;
+        }
+        return this.seriesList.equals(that.seriesList);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return this.seriesList.hashCode();
+    }
+
+    /**
+     * Returns a clone of the dataset.  The clone shares the mapped segments
+     * with this dataset (they are read-only).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *     dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        MappedXYDataset clone = (MappedXYDataset) super.clone();
+        clone.seriesList = new ArrayList(this.seriesList);
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        for (int s = 0; s < this.seriesList.size(); s++) {
+            ((MappedSeries) this.seriesList.get(s)).map(this.segmentSize);
+        }
+    }
+
+    /**
+     * A series backed by a mapped file.  Instances are immutable once
+     * mapped.
+     */
+    private static class MappedSeries implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 2398137422530951027L;
+
+        /** The series key. */
+        Comparable key;
+
+        /** The series file. */
+        File file;
+
+        /** The number of items. */
+        transient int itemCount;
+
+        /** A flag that indicates whether the file contains intervals. */
+        transient boolean intervals;
+
+        /** A flag that indicates whether the x-values are ascending. */
+        transient boolean ascending;
+
+        /** The bounds from the file header. */
+        transient double[] bounds;
+
+        /** The number of doubles in each record. */
+        transient int recordLength;
+
+        /** The number of records in each segment. */
+        transient int recordsPerSegment;
+
+        /** The mapped segments. */
+        transient ByteBuffer[] segments;
+
+        /**
+         * Creates a new series (call {@link #map(int)} before use).
+         *
+         * @param key  the key.
+         * @param file  the file.
+         */
+        MappedSeries(Comparable key, File file) {
+            this.key = key;
+            this.file = file;
+        }
+
+        /**
+         * Reads the header and maps the file.
+         *
+         * @param segmentSize  the maximum segment size in bytes.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        void map(int segmentSize) throws IOException {
+            RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+            try {
+                FileChannel channel = raf.getChannel();
+                if (channel.size() < HEADER_LENGTH) {
+                    throw new IOException("Not a series file: " + this.file);
+                }
+                MappedByteBuffer header = channel.map(
+                        FileChannel.MapMode.READ_ONLY, 0L, HEADER_LENGTH);
+                if (header.getInt() != MAGIC) {
+                    throw new IOException("Not a series file: " + this.file);
+                }
+                if (header.getInt() != VERSION) {
+                    throw new IOException("Unsupported series file version.");
+                }
+                int flags = header.getInt();
+                header.getInt();
+                long count = header.getLong();
+                this.intervals = (flags & FLAG_INTERVALS) != 0;
+                this.ascending = (flags & FLAG_ASCENDING) != 0;
+                this.bounds = new double[8];
+                for (int i = 0; i < 8; i++) {
+                    this.bounds[i] = header.getDouble();
+                }
+                this.recordLength = (this.intervals ? 6 : 2);
+                int recordBytes = this.recordLength * 8;
+                if (count > Integer.MAX_VALUE || HEADER_LENGTH + count
+                        * recordBytes > channel.size()) {
+                    throw new IOException("Corrupt series file: "
+                            + this.file);
+                }
+                this.itemCount = (int) count;
+                this.recordsPerSegment = segmentSize / recordBytes;
+                int segmentCount = (this.itemCount + this.recordsPerSegment
+                        - 1) / this.recordsPerSegment;
+                this.segments = new ByteBuffer[segmentCount];
+                long position = HEADER_LENGTH;
+                for (int i = 0; i < segmentCount; i++) {
+                    int records = Math.min(this.recordsPerSegment,
+                            this.itemCount - i * this.recordsPerSegment);
+                    long length = (long) records * recordBytes;
+                    this.segments[i] = channel.map(
+                            FileChannel.MapMode.READ_ONLY, position, length);
+                    position += length;
+                }
+            }
+            finally {
+                raf.close();
+            }
+        }
+
+        /**
+         * Returns a value from a record.
+         *
+         * @param item  the item index.
+         * @param field  the field (0 = x, 1 = y, 2 = start x, 3 = end x,
+         *     4 = start y, 5 = end y).
+         *
+         * @return The value.
+         */
+        double get(int item, int field) {
+            if (item < 0 || item >= this.itemCount) {
+                throw new IndexOutOfBoundsException("Item index out of "
+                        + "bounds: " + item);
+            }
+            if (!this.intervals) {
+                // without intervals, the start and end values are x or y
+                field = (field < 2 ? field : (field < 4 ? 0 : 1));
+            }
+            int segment = item / this.recordsPerSegment;
+            int record = item - segment * this.recordsPerSegment;
+            return this.segments[segment].getDouble(
+                    (record * this.recordLength + field) * 8);
+        }
+
+        /**
+         * Tests this series for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof MappedSeries)) {
+                return false;
+            }
+            MappedSeries that = (MappedSeries) obj;
+            return this.key.equals(that.key) && this.file.equals(that.file);
+        }
+
+        /**
+         * Returns a hash code for this instance.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.key.hashCode() * 37
+                    + this.file.hashCode();
+        }
+
+    }
+
+}
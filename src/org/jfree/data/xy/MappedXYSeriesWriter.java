@@ -0,0 +1,256 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * MappedXYSeriesWriter.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writes a series file that can be added to a {@link MappedXYDataset}.
+ * Items are appended one at a time through a small buffer, so a series of
+ * any length can be written with a fixed amount of heap.  The bounds of the
+ * data, and whether or not the x-values are in ascending order, are
+ * recorded in the file header when the writer is closed.
+ *
+ * @since 1.0.10
+ */
+public class MappedXYSeriesWriter {
+
+    /** The size of the write buffer. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The file. */
+    private RandomAccessFile file;
+
+    /** The file channel. */
+    private FileChannel channel;
+
+    /** The write buffer. */
+    private ByteBuffer buffer;
+
+    /** A flag that indicates whether the file includes x and y intervals. */
+    private boolean intervals;
+
+    /** The number of items written. */
+    private long itemCount;
+
+    /** A flag that indicates whether the x-values are ascending. */
+    private boolean ascending;
+
+    /** The previous x-value. */
+    private double previousX;
+
+    /**
+     * The bounds, in the order used by the file header (see
+     * {@link MappedXYDataset}).
+     */
+    private double[] bounds;
+
+    /**
+     * Creates a writer for a new series file.  Any existing file is
+     * replaced.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param intervals  a flag that controls whether the file stores start
+     *     and end values for x and y.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public MappedXYSeriesWriter(File file, boolean intervals)
+            throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.file = new RandomAccessFile(file, "rw");
+        this.file.setLength(0L);
+        this.channel = this.file.getChannel();
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.intervals = intervals;
+        this.itemCount = 0L;
+        this.ascending = true;
+        this.previousX = Double.NEGATIVE_INFINITY;
+        this.bounds = new double[8];
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            this.bounds[i] = Double.POSITIVE_INFINITY;
+            this.bounds[i + 1] = Double.NEGATIVE_INFINITY;
+        }
+        this.channel.position(MappedXYDataset.HEADER_LENGTH);
+    }
+
+    /**
+     * Returns the number of items written so far.
+     *
+     * @return The item count.
+     */
+    public long getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Appends an item.  If the file stores intervals, the start and end
+     * values are the same as the x and y values.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void add(double x, double y) throws IOException {
+        add(x, x, x, y, y, y);
+    }
+
+    /**
+     * Appends an item.  If the file does not store intervals, the start and
+     * end values are ignored.
+     *
+     * @param x  the x-value.
+     * @param startX  the start x-value.
+     * @param endX  the end x-value.
+     * @param y  the y-value.
+     * @param startY  the start y-value.
+     * @param endY  the end y-value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void add(double x, double startX, double endX, double y,
+            double startY, double endY) throws IOException {
+        if (this.channel == null) {
+            throw new IllegalStateException("The writer is closed.");
+        }
+        if (this.itemCount == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Series is full.");
+        }
+        if (this.buffer.remaining() < 48) {
+            flush();
+        }
+        this.buffer.putDouble(x);
+        this.buffer.putDouble(y);
+        include(0, x);
+        include(2, y);
+        if (this.intervals) {
+            this.buffer.putDouble(startX);
+            this.buffer.putDouble(endX);
+            this.buffer.putDouble(startY);
+            this.buffer.putDouble(endY);
+            include(4, startX);
+            include(4, endX);
+            include(6, startY);
+            include(6, endY);
+        }
+        if (x < this.previousX) {
+            this.ascending = false;
+        }
+        if (!Double.isNaN(x)) {
+            this.previousX = x;
+        }
+        this.itemCount++;
+    }
+
+    /**
+     * Updates a pair of bounds.
+     *
+     * @param index  the index of the lower bound.
+     * @param value  the value (<code>NaN</code> is ignored).
+     */
+    private void include(int index, double value) {
+        if (value < this.bounds[index]) {
+            this.bounds[index] = value;
+        }
+        if (value > this.bounds[index + 1]) {
+            this.bounds[index + 1] = value;
+        }
+    }
+
+    /**
+     * Writes the contents of the buffer to the file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Writes any buffered items and the file header, and closes the file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        if (this.channel == null) {
+            return;
+        }
+        flush();
+        ByteBuffer header = ByteBuffer.allocate(
+                MappedXYDataset.HEADER_LENGTH);
+        header.putInt(MappedXYDataset.MAGIC);
+        header.putInt(MappedXYDataset.VERSION);
+        int flags = 0;
+        if (this.intervals) {
+            flags |= MappedXYDataset.FLAG_INTERVALS;
+        }
+        if (this.ascending) {
+            flags |= MappedXYDataset.FLAG_ASCENDING;
+        }
+        header.putInt(flags);
+        header.putInt(0);
+        header.putLong(this.itemCount);
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            boolean empty = this.bounds[i] > this.bounds[i + 1];
+            header.putDouble(empty ? Double.NaN : this.bounds[i]);
+            header.putDouble(empty ? Double.NaN : this.bounds[i + 1]);
+        }
+        header.flip();
+        this.channel.position(0L);
+        while (header.hasRemaining()) {
+            this.channel.write(header);
+        }
+        this.channel = null;
+        this.file.close();
+    }
+
+}
@@ -0,0 +1,911 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * SharedXTableXYDataset.java
+ * --------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Implemented RangeInfo with incrementally updated bounds;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link TableXYDataset} that stores a single column of x-values, shared
+ * by all series, plus one column of y-values per series, all in arrays of
+ * primitives.  Rows are appended with the <code>addRow()</code> methods, and
+ * the arrays grow by doubling, so appending takes amortized constant time.
+ * <P>
+ * The x-values can be stored as <code>long</code> values (for example,
+ * timestamps in milliseconds) and the y-values can be stored in
+ * <code>float</code> precision to halve the memory they use.  Missing
+ * y-values are represented by <code>Double.NaN</code>.
+ * <P>
+ * The bounds of the x-values and y-values are updated as rows are
+ * appended, so that finding the axis ranges for a chart does not require a
+ * pass through the data.
+ *
+ * @since 1.0.10
+ */
+public class SharedXTableXYDataset extends AbstractXYDataset
+        implements TableXYDataset, DomainInfo, RangeInfo, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4389202743527811834L;
+
+    /** The initial capacity of the columns. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** A flag that indicates that x-values are stored as longs. */
+    private boolean longX;
+
+    /** A flag that indicates that y-values are stored as floats. */
+    private boolean floatY;
+
+    /** The series keys. */
+    private List seriesKeys;
+
+    /** The x-values (<code>null</code> if <code>longX</code> is set). */
+    private double[] xDoubles;
+
+    /** The x-values (<code>null</code> unless <code>longX</code> is set). */
+    private long[] xLongs;
+
+    /** The y-values, one column per series (unless floatY is set). */
+    private double[][] yDoubles;
+
+    /** The y-values, one column per series (if floatY is set). */
+    private float[][] yFloats;
+
+    /** The number of rows. */
+    private int rowCount;
+
+    /** The smallest x-value. */
+    private double minX;
+
+    /** The largest x-value. */
+    private double maxX;
+
+    /** The smallest y-value. */
+    private double minY;
+
+    /** The largest y-value. */
+    private double maxY;
+
+    /** A flag that records whether the x-values are in ascending order. */
+    private boolean ascending;
+
+    /**
+     * Creates a new empty dataset that stores x-values and y-values in
+     * double precision.
+     */
+    public SharedXTableXYDataset() {
+        this(false, false);
+    }
+
+    /**
+     * Creates a new empty dataset.
+     *
+     * @param longX  store the x-values as <code>long</code> values?
+     * @param floatY  store the y-values in <code>float</code> precision?
+     */
+    public SharedXTableXYDataset(boolean longX, boolean floatY) {
+        this.longX = longX;
+        this.floatY = floatY;
+        this.seriesKeys = new ArrayList();
+        if (longX) {
+            this.xLongs = new long[INITIAL_CAPACITY];
+        }
+        else {
+            this.xDoubles = new double[INITIAL_CAPACITY];
+        }
+        if (floatY) {
+            this.yFloats = new float[0][];
+        }
+        else {
+            this.yDoubles = new double[0][];
+        }
+        this.rowCount = 0;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        this.ascending = true;
+    }
+
+    /**
+     * Returns <code>true</code> if the x-values are stored as
+     * <code>long</code> values.
+     *
+     * @return A boolean.
+     */
+    public boolean isLongX() {
+        return this.longX;
+    }
+
+    /**
+     * Returns <code>true</code> if the y-values are stored in
+     * <code>float</code> precision.
+     *
+     * @return A boolean.
+     */
+    public boolean isFloatY() {
+        return this.floatY;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     *
+     * @throws IllegalArgumentException if <code>series</code> is not in the
+     *     specified range.
+     */
+    public Comparable getSeriesKey(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+        return (Comparable) this.seriesKeys.get(series);
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1 if there
+     * is no such series in the dataset.
+     *
+     * @param seriesKey  the series key (<code>null</code> permitted).
+     *
+     * @return The index, or -1.
+     */
+    public int indexOf(Comparable seriesKey) {
+        return this.seriesKeys.indexOf(seriesKey);
+    }
+
+    /**
+     * Adds a series to the dataset, then sends a {@link DatasetChangeEvent}
+     * to all registered listeners.  The new series has a
+     * <code>Double.NaN</code> y-value for every existing row.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     *
+     * @throws IllegalArgumentException if the dataset already contains a
+     *     series with the same key.
+     */
+    public void addSeries(Comparable seriesKey) {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException(
+                    "The 'seriesKey' cannot be null.");
+        }
+        if (indexOf(seriesKey) >= 0) {
+            throw new IllegalArgumentException(
+                    "The dataset already contains a series with the key "
+                    + seriesKey);
+        }
+        int capacity = getCapacity();
+        int n = this.seriesKeys.size();
+        if (this.floatY) {
+            float[][] columns = new float[n + 1][];
+            System.arraycopy(this.yFloats, 0, columns, 0, n);
+            columns[n] = new float[capacity];
+            Arrays.fill(columns[n], 0, this.rowCount, Float.NaN);
+            this.yFloats = columns;
+        }
+        else {
+            double[][] columns = new double[n + 1][];
+            System.arraycopy(this.yDoubles, 0, columns, 0, n);
+            columns[n] = new double[capacity];
+            Arrays.fill(columns[n], 0, this.rowCount, Double.NaN);
+            this.yDoubles = columns;
+        }
+        this.seriesKeys.add(seriesKey);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset, then sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     */
+    public void removeSeries(Comparable seriesKey) {
+        int series = indexOf(seriesKey);
+        if (series < 0) {
+            return;
+        }
+        int n = this.seriesKeys.size();
+        if (this.floatY) {
+            float[][] columns = new float[n - 1][];
+            System.arraycopy(this.yFloats, 0, columns, 0, series);
+            System.arraycopy(this.yFloats, series + 1, columns, series,
+                    n - series - 1);
+            this.yFloats = columns;
+        }
+        else {
+            double[][] columns = new double[n - 1][];
+            System.arraycopy(this.yDoubles, 0, columns, 0, series);
+            System.arraycopy(this.yDoubles, series + 1, columns, series,
+                    n - series - 1);
+            this.yDoubles = columns;
+        }
+        this.seriesKeys.remove(series);
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        for (int s = 0; s < getSeriesCount(); s++) {
+            for (int i = 0; i < this.rowCount; i++) {
+                updateRange(getYValue(s, i));
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Appends a row to the dataset, then sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param x  the x-value (cast to <code>long</code> if the x-values are
+     *     stored as longs).
+     * @param y  the y-values, one per series (<code>null</code> not
+     *     permitted).
+     */
+    public void addRow(double x, double[] y) {
+        checkRow(y);
+        ensureCapacity(this.rowCount + 1);
+        if (this.longX) {
+            this.xLongs[this.rowCount] = (long) x;
+        }
+        else {
+            this.xDoubles[this.rowCount] = x;
+        }
+        appendY(y);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Appends a row to the dataset, then sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-values, one per series (<code>null</code> not
+     *     permitted).
+     */
+    public void addRow(long x, double[] y) {
+        checkRow(y);
+        ensureCapacity(this.rowCount + 1);
+        if (this.longX) {
+            this.xLongs[this.rowCount] = x;
+        }
+        else {
+            this.xDoubles[this.rowCount] = x;
+        }
+        appendY(y);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Appends several rows to the dataset, then sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values, as one array per series, each having the same
+     *     length as <code>x</code> (<code>null</code> not permitted).
+     */
+    public void addRows(double[] x, double[][] y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        checkColumns(y, x.length);
+        ensureCapacity(this.rowCount + x.length);
+        for (int i = 0; i < x.length; i++) {
+            if (this.longX) {
+                this.xLongs[this.rowCount + i] = (long) x[i];
+            }
+            else {
+                this.xDoubles[this.rowCount + i] = x[i];
+            }
+        }
+        appendColumns(y, x.length);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Appends several rows to the dataset, then sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values, as one array per series, each having the same
+     *     length as <code>x</code> (<code>null</code> not permitted).
+     */
+    public void addRows(long[] x, double[][] y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        checkColumns(y, x.length);
+        ensureCapacity(this.rowCount + x.length);
+        for (int i = 0; i < x.length; i++) {
+            if (this.longX) {
+                this.xLongs[this.rowCount + i] = x[i];
+            }
+            else {
+                this.xDoubles[this.rowCount + i] = x[i];
+            }
+        }
+        appendColumns(y, x.length);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes all rows from the dataset (the series are kept), then sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        this.rowCount = 0;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        this.ascending = true;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Checks the y-values for a single row.
+     *
+     * @param y  the y-values.
+     */
+    private void checkRow(double[] y) {
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (y.length != getSeriesCount()) {
+            throw new IllegalArgumentException(
+                    "The 'y' array must have one value per series.");
+        }
+    }
+
+    /**
+     * Checks the y-value columns for several rows.
+     *
+     * @param y  the y-values.
+     * @param count  the number of rows.
+     */
+    private void checkColumns(double[][] y, int count) {
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (y.length != getSeriesCount()) {
+            throw new IllegalArgumentException(
+                    "The 'y' array must have one column per series.");
+        }
+        for (int s = 0; s < y.length; s++) {
+            if (y[s] == null || y[s].length != count) {
+                throw new IllegalArgumentException(
+                        "Each 'y' column must have one value per x-value.");
+            }
+        }
+    }
+
+    /**
+     * Stores the y-values for the row at index <code>rowCount</code>, then
+     * increments the row count (the x-value must already be stored).
+     *
+     * @param y  the y-values.
+     */
+    private void appendY(double[] y) {
+        for (int s = 0; s < y.length; s++) {
+            if (this.floatY) {
+                this.yFloats[s][this.rowCount] = (float) y[s];
+                updateRange(this.yFloats[s][this.rowCount]);
+            }
+            else {
+                this.yDoubles[s][this.rowCount] = y[s];
+                updateRange(y[s]);
+            }
+        }
+        updateDomain(this.rowCount, 1);
+        this.rowCount++;
+    }
+
+    /**
+     * Stores the y-values for the rows starting at index
+     * <code>rowCount</code>, then updates the row count (the x-values must
+     * already be stored).
+     *
+     * @param y  the y-values.
+     * @param count  the number of rows.
+     */
+    private void appendColumns(double[][] y, int count) {
+        for (int s = 0; s < y.length; s++) {
+            if (this.floatY) {
+                float[] column = this.yFloats[s];
+                for (int i = 0; i < count; i++) {
+                    column[this.rowCount + i] = (float) y[s][i];
+                    updateRange(column[this.rowCount + i]);
+                }
+            }
+            else {
+                System.arraycopy(y[s], 0, this.yDoubles[s], this.rowCount,
+                        count);
+                for (int i = 0; i < count; i++) {
+                    updateRange(y[s][i]);
+                }
+            }
+        }
+        updateDomain(this.rowCount, count);
+        this.rowCount += count;
+    }
+
+    /**
+     * Updates the domain bounds and order for newly stored x-values.
+     *
+     * @param start  the index of the first new row.
+     * @param count  the number of new rows.
+     */
+    private void updateDomain(int start, int count) {
+        for (int i = start; i < start + count; i++) {
+            double x = getXValue(i);
+            if (i > 0 && x < getXValue(i - 1)) {
+                this.ascending = false;
+            }
+            if (i == 0 || x < this.minX) {
+                this.minX = x;
+            }
+            if (i == 0 || x > this.maxX) {
+                this.maxX = x;
+            }
+        }
+    }
+
+    /**
+     * Updates the bounds of the y-values for a new y-value.
+     *
+     * @param y  the y-value (<code>Double.NaN</code> is ignored).
+     */
+    private void updateRange(double y) {
+        if (Double.isNaN(y)) {
+            return;
+        }
+        if (Double.isNaN(this.minY) || y < this.minY) {
+            this.minY = y;
+        }
+        if (Double.isNaN(this.maxY) || y > this.maxY) {
+            this.maxY = y;
+        }
+    }
+
+    /**
+     * Returns the current capacity of the columns.
+     *
+     * @return The capacity.
+     */
+    private int getCapacity() {
+        return this.longX ? this.xLongs.length : this.xDoubles.length;
+    }
+
+    /**
+     * Grows the columns, if necessary, so that they can hold at least
+     * <code>required</code> rows.
+     *
+     * @param required  the required number of rows.
+     */
+    private void ensureCapacity(int required) {
+        int capacity = getCapacity();
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(required, capacity * 2);
+        if (this.longX) {
+            long[] x = new long[newCapacity];
+            System.arraycopy(this.xLongs, 0, x, 0, this.rowCount);
+            this.xLongs = x;
+        }
+        else {
+            double[] x = new double[newCapacity];
+            System.arraycopy(this.xDoubles, 0, x, 0, this.rowCount);
+            this.xDoubles = x;
+        }
+        for (int s = 0; s < getSeriesCount(); s++) {
+            if (this.floatY) {
+                float[] y = new float[newCapacity];
+                System.arraycopy(this.yFloats[s], 0, y, 0, this.rowCount);
+                this.yFloats[s] = y;
+            }
+            else {
+                double[] y = new double[newCapacity];
+                System.arraycopy(this.yDoubles[s], 0, y, 0, this.rowCount);
+                this.yDoubles[s] = y;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items in every series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the number of items in the specified series.  This is the
+     * same for all series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The item count.
+     *
+     * @throws IllegalArgumentException if <code>series</code> is not in the
+     *     specified range.
+     */
+    public int getItemCount(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset.  This is
+     * <code>DomainOrder.ASCENDING</code> if the rows were appended in
+     * ascending order of x, and <code>DomainOrder.NONE</code> otherwise.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return this.ascending ? DomainOrder.ASCENDING : DomainOrder.NONE;
+    }
+
+    /**
+     * Returns the x-value for a row.
+     *
+     * @param item  the item (row) index.
+     *
+     * @return The x-value.
+     */
+    private double getXValue(int item) {
+        return this.longX ? this.xLongs[item] : this.xDoubles[item];
+    }
+
+    /**
+     * Returns the x-value for an item as a <code>long</code>.  This is
+     * exact if the x-values are stored as longs.
+     *
+     * @param item  the item (row) index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>).
+     *
+     * @return The x-value.
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is not within
+     *     the specified range.
+     */
+    public long getXLongValue(int item) {
+        checkItem(item);
+        return this.longX ? this.xLongs[item] : (long) this.xDoubles[item];
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (ignored, since the x-values are
+     *     shared).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>).
+     *
+     * @return The x-value.
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is not within
+     *     the specified range.
+     */
+    public double getXValue(int series, int item) {
+        checkItem(item);
+        return getXValue(item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (ignored, since the x-values are
+     *     shared).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>).
+     *
+     * @return The x-value.
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is not within
+     *     the specified range.
+     */
+    public Number getX(int series, int item) {
+        checkItem(item);
+        if (this.longX) {
+            return new Long(this.xLongs[item]);
+        }
+        return new Double(this.xDoubles[item]);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     *
+     * @throws ArrayIndexOutOfBoundsException if <code>series</code> is not
+     *     within the specified range.
+     * @throws IndexOutOfBoundsException if <code>item</code> is not within
+     *     the specified range.
+     */
+    public double getYValue(int series, int item) {
+        checkItem(item);
+        if (this.floatY) {
+            return this.yFloats[series][item];
+        }
+        return this.yDoubles[series][item];
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount() - 1</code>).
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     *
+     * @throws ArrayIndexOutOfBoundsException if <code>series</code> is not
+     *     within the specified range.
+     * @throws IndexOutOfBoundsException if <code>item</code> is not within
+     *     the specified range.
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        if (Double.isNaN(y)) {
+            return null;
+        }
+        return new Double(y);
+    }
+
+    /**
+     * Checks that an item index is within the range of rows.  This is
+     * needed because the arrays are usually larger than the row count.
+     *
+     * @param item  the item index.
+     */
+    private void checkItem(int item) {
+        if (item < 0 || item >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Item index out of bounds: "
+                    + item);
+        }
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no x-intervals.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset has
+     *     no rows).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        return this.minX;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no x-intervals.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset has
+     *     no rows).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no x-intervals.
+     *
+     * @return The range (<code>null</code> if the dataset has no rows).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        if (this.rowCount == 0) {
+            return null;
+        }
+        return new Range(this.minX, this.maxX);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no y-intervals.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset has
+     *     no y-values).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        return this.minY;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no y-intervals.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset has
+     *     no y-values).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored, this dataset has no y-intervals.
+     *
+     * @return The range (<code>null</code> if the dataset has no y-values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        if (Double.isNaN(this.minY)) {
+            return null;
+        }
+        return new Range(this.minY, this.maxY);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two
+     * datasets are equal if they have the same storage types, the same
+     * series keys and the same values.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SharedXTableXYDataset)) {
+            return false;
+        }
+        SharedXTableXYDataset that = (SharedXTableXYDataset) obj;
+        if (this.longX != that.longX || this.floatY != that.floatY) {
+            return false;
+        }
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        if (this.rowCount != that.rowCount) {
+            return false;
+        }
+        for (int i = 0; i < this.rowCount; i++) {
+            if (this.longX) {
+                if (this.xLongs[i] != that.xLongs[i]) {
+                    return false;
+                }
+            }
+            else if (Double.doubleToLongBits(this.xDoubles[i])
+                    != Double.doubleToLongBits(that.xDoubles[i])) {
+                return false;
+            }
+        }
+        for (int s = 0; s < getSeriesCount(); s++) {
+            for (int i = 0; i < this.rowCount; i++) {
+                if (Double.doubleToLongBits(getYValue(s, i))
+                        != Double.doubleToLongBits(that.getYValue(s, i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.seriesKeys.hashCode();
+        result = 29 * result + this.rowCount;
+        if (this.rowCount > 0) {
+            long temp = Double.doubleToLongBits(this.minX);
+            result = 29 * result + (int) (temp ^ (temp >>> 32));
+            temp = Double.doubleToLongBits(this.maxX);
+            result = 29 * result + (int) (temp ^ (temp >>> 32));
+        }
+        return result;
+    }
+
+    /**
+     * Creates an independent copy of this dataset.
+     *
+     * @return The cloned dataset.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *     dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        SharedXTableXYDataset clone = (SharedXTableXYDataset) super.clone();
+        clone.seriesKeys = new ArrayList(this.seriesKeys);
+        if (this.longX) {
+            clone.xLongs = (long[]) this.xLongs.clone();
+        }
+        else {
+            clone.xDoubles = (double[]) this.xDoubles.clone();
+        }
+        if (this.floatY) {
+            clone.yFloats = new float[this.yFloats.length][];
+            for (int s = 0; s < this.yFloats.length; s++) {
+                clone.yFloats[s] = (float[]) this.yFloats[s].clone();
+            }
+        }
+        else {
+            clone.yDoubles = new double[this.yDoubles.length][];
+            for (int s = 0; s < this.yDoubles.length; s++) {
+                clone.yDoubles[s] = (double[]) this.yDoubles[s].clone();
+            }
+        }
+        return clone;
+    }
+
+}
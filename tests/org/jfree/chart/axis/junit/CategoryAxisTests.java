@@ -37,6 +37,9 @@
  * 18-Mar-2003 : Version 1 (DG);
  * 13-Aug-2003 : Added clone() test (DG);
  * 07-Jan-2005 : Added hashCode() test (DG);
+ * 19-Oct-2026 : Added categoryLabelThinning to testEquals() and added
+ *               testCategoryLabelThinning();
+ * 19-Oct-2026 : Added testCategoryLabelThinningLongLabels();
  *
  */
 
@@ -45,19 +48,36 @@ package org.jfree.chart.axis.junit;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.List;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.CategoryLabelPositions;
+import org.jfree.chart.axis.CategoryTick;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.CategoryLabelEntity;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.text.TextBlock;
+import org.jfree.text.TextLine;
+import org.jfree.ui.RectangleEdge;
 
 /**
  * Tests for the {@link CategoryAxis} class.
@@ -153,6 +173,117 @@ public class CategoryAxisTests extends TestCase {
                 3.0f, 4.0f, Color.yellow));
         assertTrue(a1.equals(a2));
     
+        // categoryLabelThinning
+        a1.setCategoryLabelThinning(true);
+        assertFalse(a1.equals(a2));
+        a2.setCategoryLabelThinning(true);
+        assertTrue(a1.equals(a2));
+
+    }
+
+    /**
+     * With label thinning, only a subset of the labels is created when the
+     * categories are too narrow, and all labels are created otherwise.
+     */
+    public void testCategoryLabelThinning() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 0; i < 1000; i++) {
+            dataset.addValue(i, "R", new Integer(i));
+        }
+        CategoryAxis axis = new CategoryAxis("Category");
+        axis.setCategoryLabelThinning(true);
+        CategoryPlot plot = new CategoryPlot(dataset, axis,
+                new NumberAxis("Value"), new BarRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        int count = countLabelEntities(chart);
+        assertTrue(count > 0);
+        assertTrue(count < 100);
+
+        // with few categories, every label is created
+        for (int i = 10; i < 1000; i++) {
+            dataset.removeColumn(new Integer(i));
+        }
+        assertEquals(10, countLabelEntities(chart));
+    }
+
+    /**
+     * With label thinning, the step between labels depends on the longest
+     * label in its own font, and the labels that are kept are wide enough
+     * to be shown in full.
+     */
+    public void testCategoryLabelThinningLongLabels() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 10; i < 50; i++) {
+            dataset.addValue(i, "R", "Category " + i);
+        }
+        CategoryAxis axis = new CategoryAxis("Category");
+        axis.setCategoryLabelThinning(true);
+        new CategoryPlot(dataset, axis, new NumberAxis("Value"),
+                new BarRenderer());
+        BufferedImage image = new BufferedImage(400, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        // reserveSpace() sets the tick label font before refreshing ticks
+        g2.setFont(axis.getTickLabelFont());
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, 400, 100);
+
+        List ticks = axis.refreshTicks(g2, new AxisState(), dataArea,
+                RectangleEdge.BOTTOM);
+        assertEquals(40, ticks.size());
+        int kept = 0;
+        for (int i = 0; i < ticks.size(); i++) {
+            CategoryTick tick = (CategoryTick) ticks.get(i);
+            TextBlock label = tick.getLabel();
+            if (label.getLines().isEmpty()) {
+                continue;
+            }
+            kept++;
+            assertEquals(1, label.getLines().size());
+            TextLine line = (TextLine) label.getLines().get(0);
+            assertEquals(tick.getCategory(),
+                    line.getFirstTextFragment().getText());
+        }
+        assertTrue(kept > 1);
+        assertTrue(kept < 40);
+
+        // a larger font for one category thins the labels further
+        axis.setTickLabelFont("Category 20", new Font("SansSerif",
+                Font.PLAIN, 30));
+        ticks = axis.refreshTicks(g2, new AxisState(), dataArea,
+                RectangleEdge.BOTTOM);
+        int kept2 = 0;
+        for (int i = 0; i < ticks.size(); i++) {
+            CategoryTick tick = (CategoryTick) ticks.get(i);
+            if (!tick.getLabel().getLines().isEmpty()) {
+                kept2++;
+            }
+        }
+        g2.dispose();
+        assertTrue(kept2 < kept);
+    }
+
+    /**
+     * Draws a chart and returns the number of category label entities.
+     *
+     * @param chart  the chart.
+     *
+     * @return The entity count.
+     */
+    private int countLabelEntities(JFreeChart chart) {
+        BufferedImage image = new BufferedImage(400, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 200), null, info);
+        g2.dispose();
+        int count = 0;
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof CategoryLabelEntity) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
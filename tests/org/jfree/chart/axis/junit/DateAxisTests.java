@@ -42,6 +42,7 @@
  * 03-May-2007 : Replaced the tests for the previousStandardDate() method with
  *               new tests that check that the previousStandardDate and the
  *               next standard date do in fact span the reference date (DG);
+ * 19-Oct-2026 : Added testAutoRangeHeadroom();
  *
  */
 
@@ -57,6 +58,7 @@ import java.io.ObjectOutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -65,7 +67,11 @@ import junit.framework.TestSuite;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.DateTickMarkPosition;
 import org.jfree.chart.axis.DateTickUnit;
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.SegmentedTimeline;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.data.time.DateRange;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.Hour;
@@ -1135,4 +1141,49 @@ public class DateAxisTests extends TestCase {
         assertTrue(nsd.getTime() >= d0.getTime());
     }
 
+    /**
+     * With auto range headroom, the bounds are rounded to tick dates in the
+     * time zone of the axis (midnight local time for days, and the first of
+     * the month for months) rather than to multiples of the tick size.
+     */
+    public void testAutoRangeHeadroom() {
+        TimeZone zone = TimeZone.getTimeZone("GMT+05:30");
+        Calendar calendar = Calendar.getInstance(zone);
+        calendar.clear();
+        calendar.set(2008, Calendar.MARCH, 3, 6, 0, 0);
+        long first = calendar.getTimeInMillis();
+        calendar.set(2008, Calendar.MARCH, 6, 18, 0, 0);
+        long last = calendar.getTimeInMillis();
+        XYSeries series = new XYSeries("S");
+        series.add(first, 1.0);
+        series.add(last, 2.0);
+
+        DateAxis axis = new DateAxis("X");
+        axis.setTimeZone(zone);
+        axis.setTickUnit(new DateTickUnit(DateTickUnit.DAY, 1));
+        axis.setAutoRangeHeadroom(0.1);
+        new XYPlot(new XYSeriesCollection(series), axis, new NumberAxis("Y"),
+                null);
+        assertTrue(axis.getLowerBound() <= first);
+        assertTrue(axis.getUpperBound() >= last);
+        calendar.setTimeInMillis((long) axis.getLowerBound());
+        assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+        assertEquals(0, calendar.get(Calendar.MINUTE));
+        assertEquals(0, calendar.get(Calendar.MILLISECOND));
+        calendar.setTimeInMillis((long) axis.getUpperBound());
+        assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+        assertEquals(0, calendar.get(Calendar.MINUTE));
+        assertEquals(0, calendar.get(Calendar.MILLISECOND));
+
+        // months have different lengths, but the bounds fall on the first
+        axis.setTickUnit(new DateTickUnit(DateTickUnit.MONTH, 1));
+        calendar.set(2008, Calendar.JUNE, 20, 12, 0, 0);
+        series.add(calendar.getTimeInMillis(), 3.0);
+        assertTrue(axis.getUpperBound() >= calendar.getTimeInMillis());
+        calendar.setTimeInMillis((long) axis.getUpperBound());
+        assertEquals(1, calendar.get(Calendar.DATE));
+        assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+        assertEquals(0, calendar.get(Calendar.MINUTE));
+    }
+
 }
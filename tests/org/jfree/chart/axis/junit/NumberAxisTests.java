@@ -42,6 +42,7 @@
  * 11-Jan-2006 : Fixed testAutoRange2() and testAutoRange3() following changes 
  *               to BarRenderer (DG);
  * 20-Feb-2006 : Added rangeType field to equals() test (DG);
+ * 19-Oct-2026 : Added testAutoRangeHeadroom();
  *
  */
 
@@ -395,6 +396,53 @@ public class NumberAxisTests extends TestCase {
         assertEquals(3.1, axis.getUpperBound(), EPSILON);    
     }
     
+    /**
+     * Checks that an axis with auto range headroom keeps its range while
+     * appended data stays within it, and grows in rounded steps.
+     */
+    public void testAutoRangeHeadroom() {
+        XYSeries series = new XYSeries("Series 1");
+        for (int i = 1; i <= 10; i++) {
+            series.add(i, i);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(series);
+        JFreeChart chart = ChartFactory.createScatterPlot("Test", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, false, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        NumberAxis axis = (NumberAxis) plot.getRangeAxis();
+        axis.setAutoRangeIncludesZero(false);
+        axis.setAutoRangeHeadroom(0.1);
+        assertEquals(0.55, axis.getLowerBound(), EPSILON);
+        assertEquals(10.45, axis.getUpperBound(), EPSILON);
+
+        // growing the range adds the headroom on the side that grew, and
+        // rounds to the tick size without taking the lower bound below zero
+        series.add(11.0, 10.5);
+        assertEquals(0.0, axis.getLowerBound(), EPSILON);
+        assertEquals(13.0, axis.getUpperBound(), EPSILON);
+
+        // ...after which small changes leave the range alone
+        series.add(12.0, 11.0);
+        series.add(13.0, 12.0);
+        assertEquals(0.0, axis.getLowerBound(), EPSILON);
+        assertEquals(13.0, axis.getUpperBound(), EPSILON);
+
+        series.add(14.0, 20.0);
+        assertEquals(0.0, axis.getLowerBound(), EPSILON);
+        assertEquals(24.0, axis.getUpperBound(), EPSILON);
+
+        // data growing downwards gets the headroom below
+        series.add(15.0, -10.0);
+        assertTrue(axis.getLowerBound() < -11.5);
+        assertEquals(24.0, axis.getUpperBound(), EPSILON);
+
+        // without headroom the range follows the data exactly
+        axis.setAutoRangeHeadroom(0.0);
+        assertEquals(-11.5, axis.getLowerBound(), EPSILON);
+        assertEquals(21.5, axis.getUpperBound(), EPSILON);
+    }
+
 //    /**
 //     * Some checks for the setRangeType() method.
 //     */
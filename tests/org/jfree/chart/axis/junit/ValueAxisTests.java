@@ -36,6 +36,7 @@
  * -------
  * 13-Aug-2003 : Version 1 (DG);
  * 22-Mar-2007 : Extended testEquals() for new field (DG);
+ * 19-Oct-2026 : Extended testEquals() for autoRangeHeadroom;
  *
  */
 
@@ -196,6 +197,12 @@ public class ValueAxisTests extends TestCase {
         a2.setFixedAutoRange(50.0);
         assertTrue(a1.equals(a2));
 
+        //private double autoRangeHeadroom;
+        a1.setAutoRangeHeadroom(0.2);
+        assertFalse(a1.equals(a2));
+        a2.setAutoRangeHeadroom(0.2);
+        assertTrue(a1.equals(a2));
+
         //private boolean autoTickUnitSelection;
         a1.setAutoTickUnitSelection(false);
         assertFalse(a1.equals(a2));
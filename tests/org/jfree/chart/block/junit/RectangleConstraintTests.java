@@ -156,4 +156,48 @@ public class RectangleConstraintTests extends TestCase {
         assertEquals(s.height, 9.9, EPSILON);
        
     }
+    
+    /**
+     * Some checks for the equals() and hashCode() methods.
+     */
+    public void testEquals() {
+        RectangleConstraint c1 = new RectangleConstraint(1.0, 
+                new Range(0.0, 2.0), LengthConstraintType.RANGE, 3.0, null, 
+                LengthConstraintType.FIXED);
+        RectangleConstraint c2 = new RectangleConstraint(1.0, 
+                new Range(0.0, 2.0), LengthConstraintType.RANGE, 3.0, null, 
+                LengthConstraintType.FIXED);
+        assertTrue(c1.equals(c2));
+        assertTrue(c2.equals(c1));
+        assertEquals(c1.hashCode(), c2.hashCode());
+        
+        c1 = new RectangleConstraint(1.0, new Range(0.0, 2.5), 
+                LengthConstraintType.RANGE, 3.0, null, 
+                LengthConstraintType.FIXED);
+        assertFalse(c1.equals(c2));
+        c2 = new RectangleConstraint(1.0, new Range(0.0, 2.5), 
+                LengthConstraintType.RANGE, 3.0, null, 
+                LengthConstraintType.FIXED);
+        assertTrue(c1.equals(c2));
+        
+        c1 = new RectangleConstraint(1.0, new Range(0.0, 2.5), 
+                LengthConstraintType.RANGE, 4.0, null, 
+                LengthConstraintType.FIXED);
+        assertFalse(c1.equals(c2));
+        c2 = new RectangleConstraint(1.0, new Range(0.0, 2.5), 
+                LengthConstraintType.RANGE, 4.0, null, 
+                LengthConstraintType.FIXED);
+        assertTrue(c1.equals(c2));
+        
+        c1 = new RectangleConstraint(1.0, new Range(0.0, 2.5), 
+                LengthConstraintType.RANGE, 4.0, null, 
+                LengthConstraintType.NONE);
+        assertFalse(c1.equals(c2));
+        c2 = new RectangleConstraint(1.0, new Range(0.0, 2.5), 
+                LengthConstraintType.RANGE, 4.0, null, 
+                LengthConstraintType.NONE);
+        assertTrue(c1.equals(c2));
+        
+        assertFalse(c1.equals(RectangleConstraint.NONE));
+    }
 }
@@ -37,6 +37,7 @@
  * 19-May-2004 : Version 1 (DG);
  * 19-Jan-2005 : Added main() method to run JUnit in text mode (DG);
  * 13-Nov-2007 : Added CategoryLabelEntityTests (DG);
+ * 19-Oct-2026 : Added LazyEntityCollectionTests;
  *
  */
 
@@ -63,6 +64,7 @@ public class EntityPackageTests extends TestCase {
         suite.addTestSuite(CategoryItemEntityTests.class);
         suite.addTestSuite(CategoryLabelEntityTests.class);
         suite.addTestSuite(ContourEntityTests.class);
+        suite.addTestSuite(LazyEntityCollectionTests.class);
         suite.addTestSuite(LegendItemEntityTests.class);
         suite.addTestSuite(PieSectionEntityTests.class);
         suite.addTestSuite(StandardEntityCollectionTests.class);
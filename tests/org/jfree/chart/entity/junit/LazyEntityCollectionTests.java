@@ -0,0 +1,304 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * LazyEntityCollectionTests.java
+ * ------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.entity.junit;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyEntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link LazyEntityCollection} class.
+ */
+public class LazyEntityCollectionTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(LazyEntityCollectionTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public LazyEntityCollectionTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a small dataset.
+     *
+     * @return A dataset.
+     */
+    private XYSeriesCollection createDataset() {
+        XYSeries s = new XYSeries("S1");
+        s.add(1.0, 2.0);
+        s.add(2.0, 4.0);
+        s.add(3.0, 3.0);
+        return new XYSeriesCollection(s);
+    }
+
+    /**
+     * Items are created on demand with the renderer's tooltips, and are 
+     * found by location in the same order as other entities.
+     */
+    public void testGetEntity() {
+        XYSeriesCollection dataset = createDataset();
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+        r.setBaseToolTipGenerator(new StandardXYToolTipGenerator());
+        LazyEntityCollection c = new LazyEntityCollection();
+        ChartEntity background = new ChartEntity(new Rectangle2D.Double(0.0,
+                0.0, 100.0, 100.0), "Background");
+        c.add(background);
+        c.addItem(r, dataset, 0, 1, new Rectangle2D.Double(10.0, 10.0, 5.0, 
+                5.0));
+        c.addItem(r, dataset, 0, 2, new Ellipse2D.Double(20.0, 20.0, 10.0, 
+                10.0));
+        assertEquals(3, c.getEntityCount());
+        assertSame(background, c.getEntity(0));
+
+        XYItemEntity e = (XYItemEntity) c.getEntity(12.0, 12.0);
+        assertEquals(0, e.getSeriesIndex());
+        assertEquals(1, e.getItem());
+        assertEquals(new StandardXYToolTipGenerator().generateToolTip(
+                dataset, 0, 1), e.getToolTipText());
+        assertEquals(new Rectangle2D.Float(10.0f, 10.0f, 5.0f, 5.0f), 
+                e.getArea());
+
+        e = (XYItemEntity) c.getEntity(25.0, 25.0);
+        assertEquals(2, e.getItem());
+        // outside the ellipse, but inside its bounds
+        assertSame(background, c.getEntity(21.0, 21.0));
+        assertNull(c.getEntity(200.0, 200.0));
+
+        c.clear();
+        assertEquals(0, c.getEntityCount());
+        assertNull(c.getEntity(12.0, 12.0));
+    }
+
+    /**
+     * Drawing a chart into a lazy collection should give the same item 
+     * entities as drawing it into a standard collection.
+     */
+    public void testXYChart() {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y", 
+                createDataset(), PlotOrientation.VERTICAL, false, true, false);
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+        r.setBaseToolTipGenerator(new StandardXYToolTipGenerator());
+        chart.getXYPlot().setRenderer(r);
+        EntityCollection c1 = draw(chart, new StandardEntityCollection());
+        EntityCollection c2 = draw(chart, new LazyEntityCollection());
+        assertEquals(c1.getEntityCount(), c2.getEntityCount());
+        int found = 0;
+        for (int i = 0; i < c1.getEntityCount(); i++) {
+            ChartEntity e1 = c1.getEntity(i);
+            if (e1 instanceof XYItemEntity) {
+                Rectangle2D b = e1.getArea().getBounds2D();
+                XYItemEntity e2 = (XYItemEntity) c2.getEntity(b.getCenterX(),
+                        b.getCenterY());
+                assertEquals(((XYItemEntity) e1).getItem(), e2.getItem());
+                assertEquals(e1.getToolTipText(), e2.getToolTipText());
+                assertEquals(e1.getToolTipText(), 
+                        c2.getEntity(i).getToolTipText());
+                found++;
+            }
+        }
+        assertEquals(3, found);
+    }
+
+    /**
+     * Drawing a bar chart into a lazy collection.
+     */
+    public void testCategoryChart() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(2.0, "R1", "C2");
+        JFreeChart chart = ChartFactory.createBarChart("Title", "X", "Y", 
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        EntityCollection c1 = draw(chart, new StandardEntityCollection());
+        EntityCollection c2 = draw(chart, new LazyEntityCollection());
+        assertEquals(c1.getEntityCount(), c2.getEntityCount());
+        for (int i = 0; i < c1.getEntityCount(); i++) {
+            ChartEntity e1 = c1.getEntity(i);
+            if (e1 instanceof CategoryItemEntity) {
+                CategoryItemEntity e2 = (CategoryItemEntity) c2.getEntity(i);
+                assertEquals(((CategoryItemEntity) e1).getRowKey(), 
+                        e2.getRowKey());
+                assertEquals(((CategoryItemEntity) e1).getColumnKey(), 
+                        e2.getColumnKey());
+                assertEquals(e1.getToolTipText(), e2.getToolTipText());
+                assertEquals(e1.getArea().getBounds(), 
+                        e2.getArea().getBounds());
+            }
+        }
+    }
+
+    /**
+     * Draws a chart and returns the entities.
+     *
+     * @param chart  the chart.
+     * @param entities  the entity collection to populate.
+     *
+     * @return The entities.
+     */
+    private EntityCollection draw(JFreeChart chart, 
+            EntityCollection entities) {
+        BufferedImage image = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo(entities);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), info);
+        g2.dispose();
+        return info.getEntityCollection();
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        XYSeriesCollection dataset = createDataset();
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        LazyEntityCollection c2 = new LazyEntityCollection();
+        assertTrue(c1.equals(c2));
+
+        c1.addItem(r, dataset, 0, 1, new Rectangle2D.Double(1, 2, 3, 4));
+        assertFalse(c1.equals(c2));
+        c2.addItem(r, dataset, 0, 1, new Rectangle2D.Double(1, 2, 3, 4));
+        assertTrue(c1.equals(c2));
+
+        c1.addItem(r, dataset, 0, 2, new Rectangle2D.Double(1, 2, 3, 4));
+        c2.addItem(r, dataset, 0, 2, new Ellipse2D.Double(1, 2, 3, 4));
+        assertFalse(c1.equals(c2));
+        c1.clear();
+        c2.clear();
+
+        c1.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), "A"));
+        assertFalse(c1.equals(c2));
+        c2.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), "A"));
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), "A"));
+        c1.addItem(new XYLineAndShapeRenderer(), createDataset(), 0, 1, 
+                new Rectangle2D.Double(1, 2, 3, 4));
+        LazyEntityCollection c2 = null;
+        try {
+            c2 = (LazyEntityCollection) c1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        c1.clear();
+        assertFalse(c1.equals(c2));
+        c2.clear();
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), "A"));
+        c1.addItem(new XYLineAndShapeRenderer(), createDataset(), 0, 1, 
+                new Rectangle2D.Double(1, 2, 3, 4));
+        LazyEntityCollection c2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(c1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                    buffer.toByteArray()));
+            c2 = (LazyEntityCollection) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(c1, c2);
+        assertEquals(1, ((XYItemEntity) c2.getEntity(1)).getItem());
+    }
+
+}
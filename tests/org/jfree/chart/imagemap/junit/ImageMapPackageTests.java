@@ -35,6 +35,7 @@
  * Changes:
  * --------
  * 05-Dec-2007 : Version 1 (DG);
+ * 19-Oct-2026 : Added ImageMapUtilitiesTests;
  *
  */
 
@@ -58,6 +59,7 @@ public class ImageMapPackageTests extends TestCase {
      */
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.chart.imagemap");
+        suite.addTestSuite(ImageMapUtilitiesTests.class);
         suite.addTestSuite(StandardToolTipTagFragmentGeneratorTests.class);
         suite.addTestSuite(StandardURLTagFragmentGeneratorTests.class);
         return suite;
@@ -0,0 +1,190 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * ImageMapUtilitiesTests.java
+ * ---------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.imagemap.junit;
+
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.imagemap.ImageMapUtilities;
+import org.jfree.chart.imagemap.StandardToolTipTagFragmentGenerator;
+import org.jfree.chart.imagemap.StandardURLTagFragmentGenerator;
+import org.jfree.util.StringUtils;
+
+/**
+ * Tests for the {@link ImageMapUtilities} class.
+ */
+public class ImageMapUtilitiesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ImageMapUtilitiesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ImageMapUtilitiesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the htmlEscape() method.
+     */
+    public void testHTMLEscape() {
+        String s = "abc 123";
+        assertSame(s, ImageMapUtilities.htmlEscape(s));
+        assertEquals("", ImageMapUtilities.htmlEscape(""));
+        assertEquals("a&amp;b&quot;c&lt;d&gt;e&#39;f&#092;", 
+                ImageMapUtilities.htmlEscape("a&b\"c<d>e'f\\"));
+        assertEquals("&lt;x", ImageMapUtilities.htmlEscape("<x"));
+    }
+
+    /**
+     * Writes the map for the given info in streaming mode.
+     *
+     * @param info  the info.
+     * @param compact  the compact flag.
+     *
+     * @return The map.
+     */
+    private String writeMap(ChartRenderingInfo info, boolean compact) {
+        StringWriter out = new StringWriter();
+        try {
+            ImageMapUtilities.writeImageMap(out, "chart", info, 
+                    new StandardToolTipTagFragmentGenerator(), 
+                    new StandardURLTagFragmentGenerator(), compact);
+        }
+        catch (IOException e) {
+            fail(e.toString());
+        }
+        return out.toString();
+    }
+
+    /**
+     * Without compaction, the streamed map matches getImageMap().
+     */
+    public void testStreamingMatchesGetImageMap() {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), 
+                "tip <1>", null));
+        entities.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4), 
+                null, "a.html?x=1&y=2"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(5, 5, 1, 1)));
+        GeneralPath path = new GeneralPath();
+        path.moveTo(0f, 0f);
+        path.lineTo(10f, 0f);
+        path.lineTo(10f, 10f);
+        path.closePath();
+        entities.add(new ChartEntity(path, "tri", "tri.html"));
+        assertEquals(ImageMapUtilities.getImageMap("chart", info), 
+                writeMap(info, false));
+    }
+
+    /**
+     * In compact mode, areas that repeat the pixel region of an area already
+     * written are dropped.
+     */
+    public void testCompactDropsDuplicates() {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(1.2, 2.0, 3.0, 
+                4.0), "A", null));
+        entities.add(new ChartEntity(new Rectangle2D.Double(1.7, 2.3, 3.0, 
+                4.0), "B", null));
+        entities.add(new ChartEntity(new Rectangle2D.Double(8.0, 2.0, 3.0, 
+                4.0), "C", null));
+        String sep = StringUtils.getLineSeparator();
+        String expected = "<map id=\"chart\" name=\"chart\">" + sep
+                + "<area shape=\"rect\" coords=\"8,2,11,6\" title=\"C\" "
+                + "alt=\"\" nohref=\"nohref\"/>" + sep
+                + "<area shape=\"rect\" coords=\"1,2,4,6\" title=\"B\" "
+                + "alt=\"\" nohref=\"nohref\"/>" + sep + "</map>";
+        assertEquals(expected, writeMap(info, true));
+    }
+
+    /**
+     * In compact mode, repeated and collinear polygon points are removed, and
+     * degenerate polygons are written as rectangles.
+     */
+    public void testCompactPolygons() {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        EntityCollection entities = info.getEntityCollection();
+        GeneralPath path = new GeneralPath();
+        path.moveTo(0f, 0f);
+        path.lineTo(5f, 0f);
+        path.lineTo(5.5f, 0.5f);
+        path.lineTo(10f, 0f);
+        path.lineTo(10f, 10f);
+        path.lineTo(0f, 10f);
+        path.lineTo(0f, 5f);
+        path.closePath();
+        entities.add(new ChartEntity(path, null, "p.html"));
+        GeneralPath line = new GeneralPath();
+        line.moveTo(2f, 3f);
+        line.lineTo(12f, 3f);
+        line.closePath();
+        entities.add(new ChartEntity(line, null, "l.html"));
+        String sep = StringUtils.getLineSeparator();
+        String expected = "<map id=\"chart\" name=\"chart\">" + sep
+                + "<area shape=\"rect\" coords=\"2,3,12,4\" href=\"l.html\" "
+                + "alt=\"\"/>" + sep
+                + "<area shape=\"poly\" coords=\"0,0,10,0,10,10,0,10\" "
+                + "href=\"p.html\" alt=\"\"/>" + sep + "</map>";
+        assertEquals(expected, writeMap(info, true));
+    }
+
+}
@@ -46,6 +46,10 @@
  * 08-Jun-2005 : Added tests for org.jfree.chart.needle package (DG);
  * 26-Jan-2007 : Added tests for org.jfree.data.time.ohlc package (DG);
  * 24-Oct-2007 : Added tests for org.jfree.chart.plot.dial package (DG);
+ * 19-Oct-2026 : Added tests for org.jfree.data.io package;
+ * 19-Oct-2026 : Added tests for org.jfree.data.xml package;
+ * 19-Oct-2026 : Added tests for org.jfree.data.jdbc package;
+ * 19-Oct-2026 : Added tests for org.jfree.data.contour package;
  *
  */
 
@@ -69,11 +73,15 @@ import org.jfree.chart.renderer.xy.junit.RendererXYPackageTests;
 import org.jfree.chart.title.junit.TitlePackageTests;
 import org.jfree.chart.urls.junit.UrlsPackageTests;
 import org.jfree.data.category.junit.DataCategoryPackageTests;
+import org.jfree.data.contour.junit.DataContourPackageTests;
 import org.jfree.data.gantt.junit.DataGanttPackageTests;
+import org.jfree.data.io.junit.DataIOPackageTests;
+import org.jfree.data.jdbc.junit.DataJDBCPackageTests;
 import org.jfree.data.junit.DataPackageTests;
 import org.jfree.data.statistics.junit.DataStatisticsPackageTests;
 import org.jfree.data.time.junit.DataTimePackageTests;
 import org.jfree.data.time.ohlc.junit.OHLCPackageTests;
+import org.jfree.data.xml.junit.DataXMLPackageTests;
 import org.jfree.data.xy.junit.DataXYPackageTests;
 
 /**
@@ -105,11 +113,15 @@ public class JFreeChartTestSuite extends TestCase {
         suite.addTest(UrlsPackageTests.suite());
         suite.addTest(DataPackageTests.suite());
         suite.addTest(DataCategoryPackageTests.suite());
+        suite.addTest(DataContourPackageTests.suite());
         suite.addTest(DataStatisticsPackageTests.suite());
         suite.addTest(DataTimePackageTests.suite());
         suite.addTest(OHLCPackageTests.suite());
         suite.addTest(DataXYPackageTests.suite());
         suite.addTest(DataGanttPackageTests.suite());
+        suite.addTest(DataIOPackageTests.suite());
+        suite.addTest(DataJDBCPackageTests.suite());
+        suite.addTest(DataXMLPackageTests.suite());
         return suite;
     }
     
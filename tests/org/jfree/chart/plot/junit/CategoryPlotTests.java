@@ -43,6 +43,10 @@
  *               testRemoveRangeMarker() (DG);
  * 23-Apr-2008 : Extended testEquals() and testCloning(), and added
  *               testCloning2() and testCloning3() (DG);
+ * 19-Oct-2026 : Added parallelRendering to testEquals() and added
+ *               testDrawParallel();
+ * 19-Oct-2026 : Added processVisibleCategoriesOnly to testEquals() and
+ *               added testProcessVisibleCategoriesOnly();
  *
  */
 
@@ -70,6 +74,7 @@ import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -80,7 +85,9 @@ import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.CategoryAnchor;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.MarkerChangeListener;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
 import org.jfree.chart.plot.CategoryMarker;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.DatasetRenderingOrder;
@@ -414,6 +421,18 @@ public class CategoryPlotTests extends TestCase {
         assertFalse(plot1.equals(plot2));
         plot2.setFixedLegendItems(new LegendItemCollection());
         assertTrue(plot1.equals(plot2));
+
+        // parallel rendering
+        plot1.setParallelRendering(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setParallelRendering(true);
+        assertTrue(plot1.equals(plot2));
+
+        // process visible categories only
+        plot1.setProcessVisibleCategoriesOnly(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setProcessVisibleCategoriesOnly(true);
+        assertTrue(plot1.equals(plot2));
     }
 
     /**
@@ -873,6 +892,109 @@ public class CategoryPlotTests extends TestCase {
         assertTrue(pass);
     }
 
+    /**
+     * Draws a chart with several datasets, serially and in parallel, and
+     * checks that the output and the entities are the same.
+     */
+    public void testDrawParallel() {
+        CategoryPlot plot = new CategoryPlot();
+        plot.setDomainAxis(new CategoryAxis("Category"));
+        plot.setRangeAxis(new NumberAxis("Value"));
+        for (int d = 0; d < 3; d++) {
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+            for (int c = 0; c < 6; c++) {
+                dataset.addValue((c * (d + 2)) % 7, "R" + d, "C" + c);
+            }
+            plot.setDataset(d, dataset);
+            CategoryItemRenderer r = (d == 0 ? (CategoryItemRenderer)
+                    new BarRenderer() : new LineAndShapeRenderer());
+            r.setBaseToolTipGenerator(
+                    new StandardCategoryToolTipGenerator());
+            plot.setRenderer(d, r);
+        }
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = drawChart(chart, info1);
+        plot.setParallelRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image2 = drawChart(chart, info2);
+
+        for (int x = 0; x < image1.getWidth(); x++) {
+            for (int y = 0; y < image1.getHeight(); y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+        EntityCollection e1 = info1.getEntityCollection();
+        EntityCollection e2 = info2.getEntityCollection();
+        assertEquals(e1.getEntityCount(), e2.getEntityCount());
+        for (int i = 0; i < e1.getEntityCount(); i++) {
+            assertEquals(e1.getEntity(i).getToolTipText(),
+                    e2.getEntity(i).getToolTipText());
+        }
+    }
+
+    /**
+     * When only visible categories are processed, items outside the clip
+     * region are skipped (and create no entities).
+     */
+    public void testProcessVisibleCategoriesOnly() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int c = 0; c < 100; c++) {
+            dataset.addValue(c, "R", "C" + c);
+        }
+        LineAndShapeRenderer r = new LineAndShapeRenderer();
+        r.setBaseToolTipGenerator(new StandardCategoryToolTipGenerator());
+        CategoryPlot plot = new CategoryPlot(dataset, new CategoryAxis("X"),
+                new NumberAxis("Y"), r);
+        plot.getDomainAxis().setTickLabelsVisible(false);
+        plot.setProcessVisibleCategoriesOnly(true);
+        JFreeChart chart = new JFreeChart(null, JFreeChart.DEFAULT_TITLE_FONT,
+                plot, false);
+
+        // without a clip, all items are processed
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        drawChart(chart, info);
+        assertEquals(100, info.getEntityCollection().getEntityCount());
+
+        // with a clip, only the visible items (plus one on each side)
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        CategoryAxis axis = plot.getDomainAxis();
+        double x0 = axis.getCategoryMiddle(10, 100, dataArea,
+                plot.getDomainAxisEdge());
+        double x1 = axis.getCategoryMiddle(20, 100, dataArea,
+                plot.getDomainAxisEdge());
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.clip(new Rectangle2D.Double(x0, 0.0, x1 - x0, 200.0));
+        info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        g2.dispose();
+        int count = info.getEntityCollection().getEntityCount();
+        assertTrue(count >= 11);
+        assertTrue(count <= 15);
+    }
+
+    /**
+     * Draws a chart to an image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info.
+     *
+     * @return The image.
+     */
+    private BufferedImage drawChart(JFreeChart chart,
+            ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        g2.dispose();
+        return image;
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns
      * false.
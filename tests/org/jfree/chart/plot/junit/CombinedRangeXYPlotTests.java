@@ -36,6 +36,8 @@
  * -------
  * 21-Aug-2003 : Version 1 (DG);
  * 03-Jan-2008 : Added testNotification (DG);
+ * 19-Oct-2026 : Added testParallelRendering();
+ * 19-Oct-2026 : Added testParallelRenderingToVectorDevice();
  *
  */
 
@@ -57,6 +59,7 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
@@ -65,9 +68,11 @@ import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.plot.CombinedRangeXYPlot;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.util.junit.VectorGraphics2D;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -272,6 +277,85 @@ public class CombinedRangeXYPlotTests extends TestCase
 
     }
 
+    /**
+     * Draws a chart into an image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info.
+     *
+     * @return The image.
+     */
+    private BufferedImage draw(JFreeChart chart, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, info);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Drawing the subplots concurrently should give the same output, subplot
+     * infos and entities as drawing them one after the other.
+     */
+    public void testParallelRendering() {
+        JFreeChart chart = new JFreeChart(createPlot());
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = draw(chart, info1);
+
+        CombinedRangeXYPlot plot = (CombinedRangeXYPlot) chart.getPlot();
+        plot.setParallelRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image2 = draw(chart, info2);
+
+        // antialiased pixels where two subplots overlap can differ by one
+        // level, since they are blended through the layers
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                int rgb1 = image1.getRGB(x, y);
+                int rgb2 = image2.getRGB(x, y);
+                for (int shift = 0; shift < 24; shift += 8) {
+                    assertTrue(Math.abs(((rgb1 >> shift) & 0xFF)
+                            - ((rgb2 >> shift) & 0xFF)) <= 1);
+                }
+            }
+        }
+        PlotRenderingInfo p1 = info1.getPlotInfo();
+        PlotRenderingInfo p2 = info2.getPlotInfo();
+        assertEquals(2, p2.getSubplotCount());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(p1.getSubplotInfo(i).getDataArea(),
+                    p2.getSubplotInfo(i).getDataArea());
+            assertSame(info2, p2.getSubplotInfo(i).getOwner());
+        }
+        assertEquals(info1.getEntityCollection().getEntityCount(),
+                info2.getEntityCollection().getEntityCount());
+        for (int i = 0; i < info1.getEntityCollection().getEntityCount();
+                i++) {
+            assertEquals(info1.getEntityCollection().getEntity(i).getArea()
+                    .getBounds2D(), info2.getEntityCollection().getEntity(i)
+                    .getArea().getBounds2D());
+        }
+    }
+
+    /**
+     * With parallel rendering enabled, a vector device still receives the
+     * subplots as vector drawing rather than composited layer images.
+     */
+    public void testParallelRenderingToVectorDevice() {
+        JFreeChart chart = new JFreeChart(createPlot());
+        CombinedRangeXYPlot plot = (CombinedRangeXYPlot) chart.getPlot();
+        plot.setParallelRendering(true);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        VectorGraphics2D g2 = new VectorGraphics2D(image);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, info);
+        g2.dispose();
+        assertEquals(0, g2.getImageCount());
+        assertEquals(2, info.getPlotInfo().getSubplotCount());
+    }
+
     /**
      * Creates a sample plot.
      * 
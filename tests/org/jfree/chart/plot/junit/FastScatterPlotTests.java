@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 18-Mar-2003 : Version 1 (DG);
+ * 19-Oct-2026 : Added checks for density mode;
  *
  */
 
@@ -44,6 +45,7 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Stroke;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
@@ -59,6 +61,8 @@ import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.plot.FastScatterPlot;
+import org.jfree.chart.renderer.DensityNormalization;
+import org.jfree.chart.renderer.GrayPaintScale;
 
 /**
  * Tests for the {@link FastScatterPlot} class.
@@ -135,6 +139,16 @@ public class FastScatterPlotTests extends TestCase {
         assertFalse(plot1.equals(plot2));
         plot2.setRangeGridlineStroke(s2);
         assertTrue(plot1.equals(plot2));
+
+        plot1.setDensityPaintScale(new GrayPaintScale(0.0, 1.0));
+        assertFalse(plot1.equals(plot2));
+        plot2.setDensityPaintScale(new GrayPaintScale(0.0, 1.0));
+        assertTrue(plot1.equals(plot2));
+
+        plot1.setDensityNormalization(DensityNormalization.LINEAR);
+        assertFalse(plot1.equals(plot2));
+        plot2.setDensityNormalization(DensityNormalization.LINEAR);
+        assertTrue(plot1.equals(plot2));
         
     }
 
@@ -212,6 +226,25 @@ public class FastScatterPlotTests extends TestCase {
         assertTrue(success);
     }
 
+    /**
+     * Draws the chart in density mode, using several threads to bin the
+     * points.
+     */
+    public void testDrawDensity() {
+        float[][] data = new float[2][250000];
+        for (int i = 0; i < data[0].length; i++) {
+            data[0][i] = i % 500;
+            data[1][i] = i % 377;
+        }
+        FastScatterPlot plot = new FastScatterPlot(data, new NumberAxis("X"),
+                new NumberAxis("Y"));
+        plot.setDensityPaintScale(new GrayPaintScale());
+        plot.setDensityThreadCount(4);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = chart.createBufferedImage(300, 200, null);
+        assertNotNull(image);
+    }
+
     /**
      * Populates the data array with random values.
      *
@@ -40,6 +40,7 @@
  * 23-Nov-2006 : Additional equals() and clone() tests (DG);
  * 17-Apr-2007 : Added check for label generator that returns a null label (DG);
  * 31-Mar-2008 : Updated testEquals();
+ * 19-Oct-2026 : Added tests for aggregation of small sections;
  * 
  */
 
@@ -61,14 +62,17 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.text.AttributedString;
+import java.util.Iterator;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItemCollection;
+import org.jfree.chart.entity.PieSectionEntity;
 import org.jfree.chart.labels.PieSectionLabelGenerator;
 import org.jfree.chart.labels.StandardPieSectionLabelGenerator;
 import org.jfree.chart.labels.StandardPieToolTipGenerator;
@@ -85,6 +89,8 @@ import org.jfree.util.Rotation;
  */
 public class PiePlotTests extends TestCase {
 
+    private static final double EPSILON = 0.0000001;
+
     /**
      * Returns the tests as a test suite.
      *
@@ -418,6 +424,24 @@ public class PiePlotTests extends TestCase {
                 "index.html"));
         assertTrue(plot1.equals(plot2));
         
+        // limit
+        plot1.setLimit(0.05);
+        assertFalse(plot1.equals(plot2));
+        plot2.setLimit(0.05);
+        assertTrue(plot1.equals(plot2));
+        
+        // aggregatedItemsKey
+        plot1.setAggregatedItemsKey("Rest");
+        assertFalse(plot1.equals(plot2));
+        plot2.setAggregatedItemsKey("Rest");
+        assertTrue(plot1.equals(plot2));
+        
+        // aggregatedItemsPaint
+        plot1.setAggregatedItemsPaint(Color.cyan);
+        assertFalse(plot1.equals(plot2));
+        plot2.setAggregatedItemsPaint(Color.cyan);
+        assertTrue(plot1.equals(plot2));
+        
     }
 
     /**
@@ -662,4 +686,88 @@ public class PiePlotTests extends TestCase {
         assertTrue(success);
     }
     
+    /**
+     * Some checks for the aggregation of small sections.
+     */
+    public void testAggregatedDataset() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 50.0);
+        dataset.setValue("B", 47.0);
+        dataset.setValue("C", 2.0);
+        dataset.setValue("D", 1.0);
+        PiePlot plot = new PiePlot(dataset);
+        assertSame(dataset, plot.getAggregatedDataset());
+        assertEquals(4, plot.getLegendItems().getItemCount());
+        
+        plot.setLimit(0.05);
+        PieDataset d = plot.getAggregatedDataset();
+        assertEquals(3, d.getItemCount());
+        assertEquals("Other", d.getKey(2));
+        assertEquals(3.0, d.getValue(2).doubleValue(), EPSILON);
+        assertSame(d, plot.getAggregatedDataset());
+        LegendItemCollection items = plot.getLegendItems();
+        assertEquals(3, items.getItemCount());
+        assertEquals(Color.lightGray, items.get(2).getFillPaint());
+        
+        // a change to the dataset recreates the aggregated dataset
+        dataset.setValue("B", 48.0);
+        assertNotSame(d, plot.getAggregatedDataset());
+        assertEquals(3, plot.getAggregatedDataset().getItemCount());
+        
+        // an explicit section paint overrides the aggregated items paint
+        plot.setSectionPaint("Other", Color.red);
+        items = plot.getLegendItems();
+        assertEquals(Color.red, items.get(2).getFillPaint());
+        
+        plot.setLimit(0.0);
+        assertSame(dataset, plot.getAggregatedDataset());
+    }
+    
+    /**
+     * Drawing a pie with many small sections and an aggregation limit should
+     * only create entities for the sections that are drawn.
+     */
+    public void testDrawWithAggregation() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("Big", 1000.0);
+        for (int i = 0; i < 300; i++) {
+            dataset.setValue("S" + i, 0.1);
+        }
+        JFreeChart chart = ChartFactory.createPieChart("Test", dataset, false, 
+                true, false);
+        PiePlot plot = (PiePlot) chart.getPlot();
+        plot.setLimit(0.01);
+        BufferedImage image = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        assertEquals(2, countSectionEntities(info));
+        
+        // redraw after a paint change, which reuses the section arcs
+        plot.setSectionPaint("Big", Color.blue);
+        info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        g2.dispose();
+        assertEquals(2, countSectionEntities(info));
+    }
+    
+    /**
+     * Returns the number of pie section entities in the rendering info.
+     * 
+     * @param info  the rendering info.
+     * 
+     * @return The entity count.
+     */
+    private int countSectionEntities(ChartRenderingInfo info) {
+        int sections = 0;
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof PieSectionEntity) {
+                sections++;
+            }
+        }
+        return sections;
+    }
+    
 }
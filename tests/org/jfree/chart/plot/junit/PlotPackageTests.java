@@ -42,6 +42,8 @@
  * 19-Aug-2005 : Added CategoryMarkerTests (DG);
  * 05-Sep-2006 : Added MarkerTests (DG);
  * 21-Nov-2007 : Added PieLabelRecordTests (DG);
+ * 19-Oct-2026 : Added RenderingLayersTests;
+ * 19-Oct-2026 : Added SweepPieLabelDistributorTests;
  *
  */
 
@@ -88,8 +90,10 @@ public class PlotPackageTests extends TestCase {
         suite.addTestSuite(PlotRenderingInfoTests.class);
         suite.addTestSuite(PlotTests.class);
         suite.addTestSuite(PolarPlotTests.class);
+        suite.addTestSuite(RenderingLayersTests.class);
         suite.addTestSuite(RingPlotTests.class);
         suite.addTestSuite(SpiderWebPlotTests.class);
+        suite.addTestSuite(SweepPieLabelDistributorTests.class);
         suite.addTestSuite(ThermometerPlotTests.class);
         suite.addTestSuite(ValueMarkerTests.class);
         suite.addTestSuite(XYPlotTests.class);
@@ -0,0 +1,213 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * RenderingLayersTests.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added a vector device to testIsSupported();
+ * 19-Oct-2026 : Added testDrawPlotsToVectorDevice();
+ *
+ */
+
+package org.jfree.chart.plot.junit;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.RenderingLayers;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.util.junit.VectorGraphics2D;
+import org.jfree.data.xy.DefaultXYDataset;
+
+/**
+ * Tests for the {@link RenderingLayers} class.
+ */
+public class RenderingLayersTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RenderingLayersTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RenderingLayersTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Rotated transforms and vector devices are not supported.
+     */
+    public void testIsSupported() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        assertTrue(RenderingLayers.isSupported(g2));
+        g2.translate(1.0, 2.0);
+        g2.scale(2.0, 3.0);
+        assertTrue(RenderingLayers.isSupported(g2));
+        g2.rotate(0.3);
+        assertFalse(RenderingLayers.isSupported(g2));
+        g2.dispose();
+
+        // a vector back end that reports an image buffer device
+        g2 = new VectorGraphics2D(image);
+        assertFalse(RenderingLayers.isSupported(g2));
+        g2.dispose();
+    }
+
+    /**
+     * Layers are composited in index order, regardless of the order they
+     * were drawn in, and are clipped to the layer area.
+     */
+    public void testDrawLayers() {
+        BufferedImage image = new BufferedImage(20, 20,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.translate(2.0, 2.0);
+        RenderingLayers layers = new RenderingLayers(g2,
+                new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0), 2);
+        Graphics2D g1 = layers.getGraphics(1);
+        g1.setPaint(Color.red);
+        g1.fill(new Rectangle2D.Double(0.0, 0.0, 20.0, 20.0));
+        Graphics2D g0 = layers.getGraphics(0);
+        g0.setPaint(Color.blue);
+        g0.fill(new Rectangle2D.Double(0.0, 0.0, 5.0, 5.0));
+        layers.drawLayers();
+        g2.dispose();
+        assertEquals(Color.red.getRGB(), image.getRGB(3, 3));
+        assertEquals(Color.red.getRGB(), image.getRGB(11, 11));
+        assertEquals(Color.black.getRGB(), image.getRGB(12, 12));
+        assertEquals(Color.black.getRGB(), image.getRGB(1, 1));
+    }
+
+    /**
+     * All tasks run, and the first failure is rethrown.
+     */
+    public void testRunTasks() {
+        final int[] counts = new int[10];
+        Runnable[] tasks = new Runnable[10];
+        for (int i = 0; i < tasks.length; i++) {
+            final int index = i;
+            tasks[i] = new Runnable() {
+                public void run() {
+                    counts[index]++;
+                }
+            };
+        }
+        RenderingLayers.runTasks(tasks, 3);
+        for (int i = 0; i < counts.length; i++) {
+            assertEquals(1, counts[i]);
+        }
+
+        tasks[4] = new Runnable() {
+            public void run() {
+                throw new IllegalStateException("Failed.");
+            }
+        };
+        boolean pass = false;
+        try {
+            RenderingLayers.runTasks(tasks, 2);
+        }
+        catch (IllegalStateException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Layer info has its own entity collection only when entities are
+     * collected.
+     */
+    public void testCreateLayerInfo() {
+        assertNull(RenderingLayers.createLayerInfo(null));
+        ChartRenderingInfo owner = new ChartRenderingInfo();
+        PlotRenderingInfo info = owner.getPlotInfo();
+        info.setDataArea(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0));
+        PlotRenderingInfo layer = RenderingLayers.createLayerInfo(info);
+        assertNotSame(owner.getEntityCollection(),
+                layer.getOwner().getEntityCollection());
+        assertNotNull(layer.getOwner().getEntityCollection());
+        assertEquals(info.getDataArea(), layer.getDataArea());
+
+        owner = new ChartRenderingInfo(null);
+        layer = RenderingLayers.createLayerInfo(owner.getPlotInfo());
+        assertNull(layer.getOwner());
+    }
+
+    /**
+     * Plots are drawn directly onto a device that does not support layers,
+     * and a subplot info is still added for each plot.
+     */
+    public void testDrawPlotsToVectorDevice() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        Plot[] plots = new Plot[2];
+        Rectangle2D[] areas = new Rectangle2D[2];
+        for (int i = 0; i < 2; i++) {
+            plots[i] = new XYPlot(dataset, new NumberAxis("X"),
+                    new NumberAxis("Y"), new XYLineAndShapeRenderer());
+            areas[i] = new Rectangle2D.Double(0.0, i * 50.0, 100.0, 50.0);
+        }
+        BufferedImage image = new BufferedImage(100, 100,
+                BufferedImage.TYPE_INT_RGB);
+        VectorGraphics2D g2 = new VectorGraphics2D(image);
+        ChartRenderingInfo owner = new ChartRenderingInfo();
+        RenderingLayers.drawPlots(g2, plots, areas, null, null,
+                owner.getPlotInfo());
+        g2.dispose();
+        assertEquals(0, g2.getImageCount());
+        assertEquals(2, owner.getPlotInfo().getSubplotCount());
+        assertTrue(owner.getEntityCollection().getEntityCount() > 0);
+    }
+
+}
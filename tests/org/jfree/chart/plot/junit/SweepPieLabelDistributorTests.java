@@ -0,0 +1,218 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------------
+ * SweepPieLabelDistributorTests.java
+ * ----------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.plot.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.plot.PieLabelRecord;
+import org.jfree.chart.plot.SweepPieLabelDistributor;
+
+/**
+ * Tests for the {@link SweepPieLabelDistributor} class.
+ */
+public class SweepPieLabelDistributorTests extends TestCase {
+
+    private static final double EPSILON = 0.0000001;
+    
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SweepPieLabelDistributorTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public SweepPieLabelDistributorTests(String name) {
+        super(name);
+    }
+    
+    /**
+     * Creates a label record with the given base y-coordinate and height.
+     * 
+     * @param key  the key.
+     * @param baseY  the base y-coordinate.
+     * @param height  the label height.
+     * 
+     * @return The record.
+     */
+    private PieLabelRecord record(String key, double baseY, double height) {
+        return new PieLabelRecord(key, 0.0, baseY, null, height, 0.0, 0.0);
+    }
+
+    /**
+     * Labels that don't overlap are left where they are.
+     */
+    public void testNoOverlap() {
+        SweepPieLabelDistributor d = new SweepPieLabelDistributor(4.0);
+        PieLabelRecord r1 = record("A", 50.0, 10.0);
+        PieLabelRecord r2 = record("B", 10.0, 10.0);
+        d.addPieLabelRecord(r1);
+        d.addPieLabelRecord(r2);
+        d.distributeLabels(0.0, 100.0);
+        assertEquals(50.0, r1.getAllocatedY(), EPSILON);
+        assertEquals(10.0, r2.getAllocatedY(), EPSILON);
+        assertSame(r2, d.getPieLabelRecord(0));
+    }
+    
+    /**
+     * Two overlapping labels are moved apart symmetrically about their
+     * preferred positions.
+     */
+    public void testOverlapPair() {
+        SweepPieLabelDistributor d = new SweepPieLabelDistributor(4.0);
+        PieLabelRecord r1 = record("A", 50.0, 10.0);
+        PieLabelRecord r2 = record("B", 52.0, 10.0);
+        d.addPieLabelRecord(r1);
+        d.addPieLabelRecord(r2);
+        d.distributeLabels(0.0, 100.0);
+        assertEquals(44.0, r1.getAllocatedY(), EPSILON);
+        assertEquals(58.0, r2.getAllocatedY(), EPSILON);
+    }
+    
+    /**
+     * A cluster that would extend past the top of the label area is pushed
+     * down, and merges with the label below it.
+     */
+    public void testClampAndMerge() {
+        SweepPieLabelDistributor d = new SweepPieLabelDistributor(0.0);
+        PieLabelRecord r1 = record("A", 0.0, 10.0);
+        PieLabelRecord r2 = record("B", 1.0, 10.0);
+        PieLabelRecord r3 = record("C", 22.0, 10.0);
+        d.addPieLabelRecord(r1);
+        d.addPieLabelRecord(r2);
+        d.addPieLabelRecord(r3);
+        d.distributeLabels(0.0, 100.0);
+        assertEquals(5.0, r1.getAllocatedY(), EPSILON);
+        assertEquals(15.0, r2.getAllocatedY(), EPSILON);
+        assertEquals(25.0, r3.getAllocatedY(), EPSILON);
+    }
+    
+    /**
+     * Many labels at the same position are stacked without overlaps and 
+     * stay within the label area.
+     */
+    public void testManyLabels() {
+        SweepPieLabelDistributor d = new SweepPieLabelDistributor(2.0);
+        for (int i = 0; i < 500; i++) {
+            d.addPieLabelRecord(record("K" + i, 400.0 + (i % 7), 8.0));
+        }
+        d.distributeLabels(0.0, 5000.0);
+        double previousUpper = 0.0;
+        for (int i = 0; i < d.getItemCount(); i++) {
+            PieLabelRecord r = d.getPieLabelRecord(i);
+            assertTrue(r.getLowerY() >= previousUpper + 2.0 - EPSILON 
+                    || i == 0);
+            assertTrue(r.getLowerY() >= -EPSILON);
+            assertTrue(r.getUpperY() <= 5000.0 + EPSILON);
+            previousUpper = r.getUpperY();
+        }
+    }
+    
+    /**
+     * If the labels don't fit, they are spread evenly.
+     */
+    public void testNotEnoughSpace() {
+        SweepPieLabelDistributor d = new SweepPieLabelDistributor(4.0);
+        PieLabelRecord r1 = record("A", 10.0, 10.0);
+        PieLabelRecord r2 = record("B", 10.0, 10.0);
+        PieLabelRecord r3 = record("C", 10.0, 10.0);
+        d.addPieLabelRecord(r1);
+        d.addPieLabelRecord(r2);
+        d.addPieLabelRecord(r3);
+        d.distributeLabels(0.0, 30.0);
+        assertEquals(5.0, d.getPieLabelRecord(0).getAllocatedY(), EPSILON);
+        assertEquals(15.0, d.getPieLabelRecord(1).getAllocatedY(), EPSILON);
+        assertEquals(25.0, d.getPieLabelRecord(2).getAllocatedY(), EPSILON);
+    }
+    
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        SweepPieLabelDistributor d1 = new SweepPieLabelDistributor(4.0);
+        SweepPieLabelDistributor d2 = new SweepPieLabelDistributor(4.0);
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1 = new SweepPieLabelDistributor(5.0);
+        assertFalse(d1.equals(d2));
+        d2 = new SweepPieLabelDistributor(5.0);
+        assertTrue(d1.equals(d2));
+    }
+    
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        SweepPieLabelDistributor d1 = new SweepPieLabelDistributor(3.0);
+        SweepPieLabelDistributor d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                    buffer.toByteArray()));
+            d2 = (SweepPieLabelDistributor) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+    }
+
+}
@@ -44,6 +44,11 @@
  * 24-May-2007 : Added testDrawSeriesWithZeroItems() (DG);
  * 07-Apr-2008 : Added testRemoveDomainMarker() and 
  *               testRemoveRangeMarker() (DG);
+ * 19-Oct-2026 : Added parallelRendering to testEquals() and added
+ *               testDrawParallel();
+ * 19-Oct-2026 : Added crosshairLookupEnabled to testEquals() and added
+ *               testCrosshairLookup();
+ * 19-Oct-2026 : Added testDrawParallelToVectorDevice();
  * 
  */
 
@@ -71,14 +76,18 @@ import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.DatasetRenderingOrder;
 import org.jfree.chart.plot.IntervalMarker;
 import org.jfree.chart.plot.Marker;
 import org.jfree.chart.plot.PlotOrientation;
@@ -89,6 +98,7 @@ import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.util.junit.VectorGraphics2D;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
@@ -386,6 +396,16 @@ public class XYPlotTests extends TestCase {
         plot2.setRangeTickBandPaint(Color.blue);
         assertTrue(plot1.equals(plot2));
         
+        plot1.setParallelRendering(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setParallelRendering(true);
+        assertTrue(plot1.equals(plot2));
+
+        plot1.setCrosshairLookupEnabled(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setCrosshairLookupEnabled(true);
+        assertTrue(plot1.equals(plot2));
+
     }
 
     /**
@@ -1020,6 +1040,193 @@ public class XYPlotTests extends TestCase {
         assertTrue(success);
     }
     
+    /**
+     * Draws a chart with several datasets, serially and in parallel, and
+     * checks that the output and the entities are the same.
+     */
+    public void testDrawParallel() {
+        JFreeChart chart = createMultiDatasetChart();
+        XYPlot plot = (XYPlot) chart.getPlot();
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = drawChart(chart, info1);
+        plot.setParallelRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image2 = drawChart(chart, info2);
+        checkSameOutput(image1, info1, image2, info2);
+
+        plot.setDatasetRenderingOrder(DatasetRenderingOrder.FORWARD);
+        plot.setParallelRendering(false);
+        info1 = new ChartRenderingInfo();
+        image1 = drawChart(chart, info1);
+        plot.setParallelRendering(true);
+        info2 = new ChartRenderingInfo();
+        image2 = drawChart(chart, info2);
+        checkSameOutput(image1, info1, image2, info2);
+    }
+
+    /**
+     * A vector device is drawn on directly, even when parallel rendering is
+     * enabled, so no layer images end up in the output.
+     */
+    public void testDrawParallelToVectorDevice() {
+        JFreeChart chart = createMultiDatasetChart();
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setParallelRendering(true);
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        VectorGraphics2D g2 = new VectorGraphics2D(image);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        g2.dispose();
+        assertEquals(0, g2.getImageCount());
+        assertTrue(info.getEntityCollection().getEntityCount() > 0);
+    }
+
+    /**
+     * Resolving the crosshair by searching the datasets should give the same
+     * crosshair values as the renderers do.
+     */
+    public void testCrosshairLookup() {
+        JFreeChart chart = createMultiDatasetChart();
+        XYPlot plot = (XYPlot) chart.getPlot();
+        // add a dataset that is not sorted by x-value
+        XYSeries unsorted = new XYSeries("U", false);
+        for (int i = 0; i < 20; i++) {
+            unsorted.add((i * 7) % 20 + 0.5, (i * 5) % 13);
+        }
+        plot.setDataset(4, new XYSeriesCollection(unsorted));
+        plot.setRenderer(4, new XYLineAndShapeRenderer());
+        checkCrosshairLookup(chart);
+        plot.setOrientation(PlotOrientation.HORIZONTAL);
+        checkCrosshairLookup(chart);
+        plot.setRangeCrosshairLockedOnData(false);
+        checkCrosshairLookup(chart);
+        plot.setDomainCrosshairLockedOnData(false);
+        plot.setRangeCrosshairLockedOnData(true);
+        checkCrosshairLookup(chart);
+    }
+
+    /**
+     * Draws a chart with a range of anchor points, with and without the 
+     * crosshair lookup, and checks that the crosshair values match.
+     *
+     * @param chart  the chart.
+     */
+    private void checkCrosshairLookup(JFreeChart chart) {
+        XYPlot plot = (XYPlot) chart.getPlot();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        drawChart(chart, info);
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        for (int i = 0; i < 25; i++) {
+            Point2D anchor = new Point2D.Double(dataArea.getX() 
+                    + dataArea.getWidth() * ((i * 0.37) % 1.0), 
+                    dataArea.getY() + dataArea.getHeight() 
+                    * ((i * 0.61) % 1.0));
+            plot.setCrosshairLookupEnabled(false);
+            drawChart(chart, anchor);
+            double x = plot.getDomainCrosshairValue();
+            double y = plot.getRangeCrosshairValue();
+            plot.setCrosshairLookupEnabled(true);
+            plot.setDomainCrosshairValue(-1.0);
+            plot.setRangeCrosshairValue(-1.0);
+            drawChart(chart, anchor);
+            assertEquals(x, plot.getDomainCrosshairValue(), 0.0);
+            assertEquals(y, plot.getRangeCrosshairValue(), 0.0);
+        }
+    }
+
+    /**
+     * Draws a chart to an image with the given anchor point.
+     *
+     * @param chart  the chart.
+     * @param anchor  the anchor.
+     */
+    private void drawChart(JFreeChart chart, Point2D anchor) {
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), anchor, null);
+        g2.dispose();
+    }
+
+    /**
+     * Creates a chart with four datasets, two of which share a renderer.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createMultiDatasetChart() {
+        XYPlot plot = new XYPlot();
+        plot.setDomainAxis(new NumberAxis("X"));
+        plot.setRangeAxis(new NumberAxis("Y"));
+        XYLineAndShapeRenderer shared = new XYLineAndShapeRenderer();
+        shared.setBaseToolTipGenerator(new StandardXYToolTipGenerator());
+        for (int d = 0; d < 4; d++) {
+            XYSeries series = new XYSeries("S" + d);
+            for (int i = 0; i < 20; i++) {
+                series.add(i, (i * (d + 3)) % 17);
+            }
+            plot.setDataset(d, new XYSeriesCollection(series));
+            if (d < 2) {
+                XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+                r.setBaseToolTipGenerator(new StandardXYToolTipGenerator());
+                plot.setRenderer(d, r);
+            }
+            else {
+                plot.setRenderer(d, shared);
+            }
+        }
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        return chart;
+    }
+
+    /**
+     * Draws a chart to an image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info.
+     *
+     * @return The image.
+     */
+    private BufferedImage drawChart(JFreeChart chart,
+            ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that two drawings have the same pixels and entities.
+     *
+     * @param image1  the first image.
+     * @param info1  the first rendering info.
+     * @param image2  the second image.
+     * @param info2  the second rendering info.
+     */
+    private void checkSameOutput(BufferedImage image1,
+            ChartRenderingInfo info1, BufferedImage image2,
+            ChartRenderingInfo info2) {
+        for (int x = 0; x < image1.getWidth(); x++) {
+            for (int y = 0; y < image1.getHeight(); y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+        EntityCollection e1 = info1.getEntityCollection();
+        EntityCollection e2 = info2.getEntityCollection();
+        assertEquals(e1.getEntityCount(), e2.getEntityCount());
+        for (int i = 0; i < e1.getEntityCount(); i++) {
+            ChartEntity c1 = e1.getEntity(i);
+            ChartEntity c2 = e2.getEntity(i);
+            assertEquals(c1.getClass(), c2.getClass());
+            assertEquals(c1.getToolTipText(), c2.getToolTipText());
+            assertEquals(c1.getArea().getBounds2D(),
+                    c2.getArea().getBounds2D());
+        }
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns 
      * false.
@@ -41,12 +41,17 @@
  * 22-Sep-2005 : Renamed getMaxBarWidth() --> getMaximumBarWidth() (DG);
  * 11-May-2007 : Added testGetLegendItem() (DG);
  * 23-Apr-2008 : Added testPublicCloneable() (DG);
+ * 19-Oct-2026 : Added collapseSubPixelBars to testEquals() and added
+ *               testCollapseSubPixelBars();
  *
  */
 
 package org.jfree.chart.renderer.category.junit;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
@@ -58,6 +63,7 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.axis.CategoryAxis;
@@ -65,11 +71,13 @@ import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.labels.ItemLabelAnchor;
 import org.jfree.chart.labels.ItemLabelPosition;
 import org.jfree.chart.labels.StandardCategoryItemLabelGenerator;
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.renderer.category.BarRenderer;
 import org.jfree.chart.renderer.junit.RendererChangeDetector;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.ui.GradientPaintTransformType;
+import org.jfree.ui.RectangleInsets;
 import org.jfree.ui.StandardGradientPaintTransformer;
 import org.jfree.ui.TextAnchor;
 import org.jfree.util.PublicCloneable;
@@ -160,6 +168,12 @@ public class BarRendererTests extends TestCase {
                 ItemLabelAnchor.INSIDE1, TextAnchor.CENTER));
         assertTrue(r1.equals(r2));
 
+        // collapseSubPixelBars
+        r1.setCollapseSubPixelBars(true);
+        assertFalse(r1.equals(r2));
+        r2.setCollapseSubPixelBars(true);
+        assertTrue(r1.equals(r2));
+
     }
 
     /**
@@ -281,4 +295,67 @@ public class BarRendererTests extends TestCase {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * Bars narrower than one unit are collapsed into one bar (and one entity)
+     * per unit, and the longest bar in each unit is drawn in full.
+     */
+    public void testCollapseSubPixelBars() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 0; i < 2000; i++) {
+            dataset.addValue(i % 100, "R", new Integer(i));
+        }
+        BarRenderer r = new BarRenderer();
+        r.setBaseToolTipGenerator(new StandardCategoryToolTipGenerator());
+        CategoryAxis axis = new CategoryAxis("Category");
+        axis.setTickLabelsVisible(false);
+        CategoryPlot plot = new CategoryPlot(dataset, axis,
+                new NumberAxis("Value"), r);
+        plot.setInsets(RectangleInsets.ZERO_INSETS);
+        plot.setOutlinePaint(null);
+        JFreeChart chart = new JFreeChart(null, JFreeChart.DEFAULT_TITLE_FONT,
+                plot, false);
+        chart.setAntiAlias(false);
+        chart.setBackgroundPaint(Color.white);
+        plot.setBackgroundPaint(Color.white);
+
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        drawChart(chart, info);
+        assertEquals(2000, info.getEntityCollection().getEntityCount());
+
+        r.setCollapseSubPixelBars(true);
+        info = new ChartRenderingInfo();
+        BufferedImage image = drawChart(chart, info);
+        int count = info.getEntityCollection().getEntityCount();
+        int width = (int) Math.ceil(info.getPlotInfo().getDataArea()
+                .getWidth());
+        assertTrue(count > 0);
+        assertTrue(count <= width + 1);
+
+        // the bar for the largest value in a unit reaches the top of the
+        // data area (less the axis margin)
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        int x = (int) dataArea.getCenterX();
+        int y = (int) Math.ceil(plot.getRangeAxis().valueToJava2D(99.0,
+                dataArea, plot.getRangeAxisEdge())) + 1;
+        assertTrue(image.getRGB(x, y) != Color.white.getRGB());
+    }
+
+    /**
+     * Draws a chart to an image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info.
+     *
+     * @return The image.
+     */
+    private BufferedImage drawChart(JFreeChart chart,
+            ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        g2.dispose();
+        return image;
+    }
+
 }
@@ -0,0 +1,216 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------------
+ * DensityAccumulatorTests.java
+ * ----------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.junit;
+
+import java.awt.Color;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.renderer.DensityAccumulator;
+import org.jfree.chart.renderer.DensityNormalization;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.RendererUtilities;
+import org.jfree.ui.RectangleEdge;
+
+/**
+ * Tests for the {@link DensityAccumulator} class.
+ */
+public class DensityAccumulatorTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DensityAccumulatorTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DensityAccumulatorTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Points are counted in the pixel that contains them, and points outside
+     * the data area are ignored.
+     */
+    public void testAdd() {
+        DensityAccumulator a = new DensityAccumulator(
+                new Rectangle2D.Double(10.0, 20.0, 5.0, 4.0));
+        assertEquals(5, a.getWidth());
+        assertEquals(4, a.getHeight());
+        a.add(10.2, 20.7);
+        a.add(10.9, 20.1);
+        a.add(14.5, 23.5);
+        a.add(9.9, 21.0);
+        a.add(15.1, 21.0);
+        a.add(12.0, 24.5);
+        assertEquals(2, a.getCount(0, 0));
+        assertEquals(1, a.getCount(4, 3));
+
+        // points on the right/bottom edges are included
+        a.add(15.0, 24.0);
+        assertEquals(2, a.getCount(4, 3));
+        int total = 0;
+        for (int x = 0; x < a.getWidth(); x++) {
+            for (int y = 0; y < a.getHeight(); y++) {
+                total += a.getCount(x, y);
+            }
+        }
+        assertEquals(4, total);
+        assertEquals(2, a.getMaximumCount());
+        a.clear();
+        assertEquals(0, a.getMaximumCount());
+    }
+
+    /**
+     * Binning with several threads gives the same counts as one thread.
+     */
+    public void testAddPointsParallel() {
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 80.0);
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 1.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 1.0);
+        float[][] data = new float[2][450000];
+        for (int i = 0; i < data[0].length; i++) {
+            data[0][i] = (i % 997) / 997.0f;
+            data[1][i] = (i % 613) / 613.0f;
+        }
+        DensityAccumulator a1 = new DensityAccumulator(area);
+        a1.addPoints(data, xAxis, yAxis, RectangleEdge.BOTTOM,
+                RectangleEdge.LEFT, 1);
+        DensityAccumulator a2 = new DensityAccumulator(area);
+        a2.addPoints(data, xAxis, yAxis, RectangleEdge.BOTTOM,
+                RectangleEdge.LEFT, 4);
+        int total = 0;
+        for (int x = 0; x < a1.getWidth(); x++) {
+            for (int y = 0; y < a1.getHeight(); y++) {
+                assertEquals(a1.getCount(x, y), a2.getCount(x, y));
+                total += a1.getCount(x, y);
+            }
+        }
+        assertEquals(data[0].length, total);
+    }
+
+    /**
+     * Checks the colours produced by each normalization.
+     */
+    public void testCreateImage() {
+        DensityAccumulator a = new DensityAccumulator(
+                new Rectangle2D.Double(0.0, 0.0, 3.0, 1.0));
+        a.add(0.5, 0.5);
+        for (int i = 0; i < 100; i++) {
+            a.add(1.5, 0.5);
+        }
+        GrayPaintScale scale = new GrayPaintScale();
+
+        BufferedImage image = a.createImage(scale,
+                DensityNormalization.LINEAR);
+        assertEquals(0, image.getRGB(2, 0));
+        assertEquals(Color.white.getRGB(), image.getRGB(1, 0));
+        assertEquals(new Color(2, 2, 2).getRGB(), image.getRGB(0, 0));
+
+        image = a.createImage(scale, DensityNormalization.LOG);
+        assertEquals(Color.white.getRGB(), image.getRGB(1, 0));
+        // log(2) / log(101) * 255 = 38.3
+        assertEquals(new Color(38, 38, 38).getRGB(), image.getRGB(0, 0));
+
+        image = a.createImage(scale, DensityNormalization.HISTOGRAM_EQUALIZED);
+        assertEquals(Color.white.getRGB(), image.getRGB(1, 0));
+        assertEquals(new Color(127, 127, 127).getRGB(), image.getRGB(0, 0));
+    }
+
+    /**
+     * Some checks for the createLookupTable() method in
+     * {@link RendererUtilities}.
+     */
+    public void testCreateLookupTable() {
+        LookupPaintScale scale = new LookupPaintScale(0.0, 1.0, Color.black);
+        scale.add(0.5, Color.red);
+        int[] table = RendererUtilities.createLookupTable(scale, 3);
+        assertEquals(Color.black.getRGB(), table[0]);
+        assertEquals(Color.red.getRGB(), table[1]);
+        assertEquals(Color.red.getRGB(), table[2]);
+    }
+
+    /**
+     * Serialize a normalization instance and check that the unique instance
+     * is restored.
+     */
+    public void testNormalizationSerialization() {
+        DensityNormalization n1 = DensityNormalization.HISTOGRAM_EQUALIZED;
+        DensityNormalization n2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(n1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            n2 = (DensityNormalization) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertSame(n1, n2);
+    }
+
+}
@@ -39,6 +39,7 @@
  * 04-Aug-2006 : Added DefaultPolarItemRendererTests (DG);
  * 31-Jan-2007 : Added GrayPaintScaleTests and LookupPaintScaleTests (DG);
  * 21-Nov-2007 : Added OutlierTests and missing RendererUtilitiesTests (DG);
+ * 19-Oct-2026 : Added ShapeSpriteCacheTests and DensityAccumulatorTests;
  *
  */
 
@@ -64,11 +65,13 @@ public class RendererPackageTests extends TestCase {
         TestSuite suite = new TestSuite("org.jfree.chart.renderer");
         suite.addTestSuite(AbstractRendererTests.class);
         suite.addTestSuite(AreaRendererEndTypeTests.class);
+        suite.addTestSuite(DensityAccumulatorTests.class);
         suite.addTestSuite(DefaultPolarItemRendererTests.class);
         suite.addTestSuite(GrayPaintScaleTests.class);
         suite.addTestSuite(LookupPaintScaleTests.class);
         suite.addTestSuite(OutlierTests.class);
         suite.addTestSuite(RendererUtilitiesTests.class);
+        suite.addTestSuite(ShapeSpriteCacheTests.class);
         return suite;
     }
 
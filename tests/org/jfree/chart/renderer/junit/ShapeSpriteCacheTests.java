@@ -0,0 +1,197 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * ShapeSpriteCacheTests.java
+ * --------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added vector device and paint checks to testCanStamp();
+ *
+ */
+
+package org.jfree.chart.renderer.junit;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.renderer.ShapeSpriteCache;
+import org.jfree.chart.util.junit.VectorGraphics2D;
+import org.jfree.util.ShapeUtilities;
+
+/**
+ * Tests for the {@link ShapeSpriteCache} class.
+ */
+public class ShapeSpriteCacheTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ShapeSpriteCacheTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ShapeSpriteCacheTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Check the argument checks in the constructor.
+     */
+    public void testConstructor() {
+        boolean pass = false;
+        try {
+            new ShapeSpriteCache(0, 10);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            new ShapeSpriteCache(1, 0);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Only translations and uniform scaling on a raster device, and only
+     * Color paints, permit stamping.
+     */
+    public void testCanStamp() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        assertTrue(ShapeSpriteCache.canStamp(g2));
+        g2.translate(2.0, 3.0);
+        assertTrue(ShapeSpriteCache.canStamp(g2));
+        g2.scale(2.0, 2.0);
+        assertTrue(ShapeSpriteCache.canStamp(g2));
+        g2.scale(1.0, 2.0);
+        assertFalse(ShapeSpriteCache.canStamp(g2));
+        g2.dispose();
+
+        g2 = image.createGraphics();
+        g2.rotate(0.5);
+        assertFalse(ShapeSpriteCache.canStamp(g2));
+        g2.dispose();
+
+        // a vector back end that reports an image buffer device
+        g2 = new VectorGraphics2D(image);
+        assertFalse(ShapeSpriteCache.canStamp(g2));
+        g2.dispose();
+
+        assertTrue(ShapeSpriteCache.canStamp((Paint) null));
+        assertTrue(ShapeSpriteCache.canStamp(Color.red));
+        assertFalse(ShapeSpriteCache.canStamp(new GradientPaint(0.0f, 0.0f,
+                Color.red, 1.0f, 1.0f, Color.blue)));
+    }
+
+    /**
+     * A stamped shape at an integer position should produce exactly the same
+     * pixels as filling and outlining the translated shape (with
+     * antialiasing off).
+     */
+    public void testStampMatchesVectorDrawing() {
+        Shape shape = new Rectangle2D.Double(-3.0, -3.0, 6.0, 6.0);
+        Stroke stroke = new BasicStroke(1.0f);
+        ShapeSpriteCache cache = new ShapeSpriteCache();
+
+        BufferedImage i1 = new BufferedImage(20, 20,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g1 = i1.createGraphics();
+        g1.translate(1.0, 2.0);
+        cache.stamp(g1, shape, Color.red, Color.blue, stroke, 8.0, 7.0);
+        g1.dispose();
+
+        BufferedImage i2 = new BufferedImage(20, 20,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = i2.createGraphics();
+        g2.translate(1.0, 2.0);
+        Shape s = ShapeUtilities.createTranslatedShape(shape, 8.0, 7.0);
+        g2.setPaint(Color.red);
+        g2.fill(s);
+        g2.setPaint(Color.blue);
+        g2.setStroke(stroke);
+        g2.draw(s);
+        g2.dispose();
+
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 20; y++) {
+                assertEquals(i2.getRGB(x, y), i1.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Repeated stamps with the same attributes share one sprite.
+     */
+    public void testSpriteReuse() {
+        Shape shape = new Rectangle2D.Double(-2.0, -2.0, 4.0, 4.0);
+        ShapeSpriteCache cache = new ShapeSpriteCache(4, 10);
+        BufferedImage image = new BufferedImage(50, 50,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        for (int i = 0; i < 40; i++) {
+            cache.stamp(g2, shape, Color.red, null, null, i + i / 7.0, 10.0);
+        }
+        assertEquals(1, cache.getSpriteCount());
+        cache.stamp(g2, shape, Color.green, null, null, 10.0, 10.0);
+        assertEquals(2, cache.getSpriteCount());
+        cache.clear();
+        assertEquals(0, cache.getSpriteCount());
+        g2.dispose();
+    }
+
+}
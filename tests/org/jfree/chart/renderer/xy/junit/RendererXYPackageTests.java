@@ -44,6 +44,8 @@
  * 30-Apr-2007 : Added XYLine3DRendererTests (DG);
  * 25-May-2007 : Added VectorRendererTests (DG);
  * 25-Jul-2007 : Added XYSplineAndRendererTests (DG);
+ * 19-Oct-2026 : Added XYDensityRendererTests;
+ * 19-Oct-2026 : Added XYLineAndShapeRendererFastScatterTests;
  *
  */
 
@@ -89,10 +91,12 @@ public class RendererXYPackageTests extends TestCase {
         suite.addTestSuite(XYBlockRendererTests.class);
         suite.addTestSuite(XYBoxAndWhiskerRendererTests.class);
         suite.addTestSuite(XYBubbleRendererTests.class);
+        suite.addTestSuite(XYDensityRendererTests.class);
         suite.addTestSuite(XYDifferenceRendererTests.class);
         suite.addTestSuite(XYDotRendererTests.class);
         suite.addTestSuite(XYErrorRendererTests.class);
         suite.addTestSuite(XYLineAndShapeRendererTests.class);
+        suite.addTestSuite(XYLineAndShapeRendererFastScatterTests.class);
         suite.addTestSuite(XYLine3DRendererTests.class);
         suite.addTestSuite(XYSplineRendererTests.class);
         suite.addTestSuite(XYStepRendererTests.class);
@@ -37,12 +37,16 @@
  * 05-Jul-2006 : Version 1 (DG);
  * 09-Mar-2007 : Added independence check to testCloning (DG);
  * 22-Apr-2008 : Added testPublicCloneable (DG);
+ * 19-Oct-2026 : Added tests for the raster drawing mode;
  *
  */
 
 package org.jfree.chart.renderer.xy.junit;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
@@ -54,11 +58,15 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.GrayPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.renderer.xy.XYBlockRenderer;
 import org.jfree.data.Range;
 import org.jfree.data.xy.DefaultXYZDataset;
+import org.jfree.ui.RectangleInsets;
 import org.jfree.util.PublicCloneable;
 
 /**
@@ -113,6 +121,12 @@ public class XYBlockRendererTests extends TestCase {
         r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
         assertTrue(r1.equals(r2));
 
+        // rasterEnabled
+        r1.setRasterEnabled(true);
+        assertFalse(r1.equals(r2));
+        r2.setRasterEnabled(true);
+        assertTrue(r1.equals(r2));
+
     }
 
     /**
@@ -208,4 +222,125 @@ public class XYBlockRendererTests extends TestCase {
         assertTrue(range == null);
     }
 
+    /**
+     * Creates a dataset with one series on a regular 20 x 10 grid.
+     *
+     * @param xStep  the spacing of the x-values.
+     *
+     * @return The dataset.
+     */
+    private DefaultXYZDataset createGridDataset(double xStep) {
+        int n = 200;
+        double[][] data = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            data[0][i] = (i % 20) * xStep;
+            data[1][i] = i / 20;
+            data[2][i] = i / 2.0;
+        }
+        DefaultXYZDataset dataset = new DefaultXYZDataset();
+        dataset.addSeries("S1", data);
+        return dataset;
+    }
+
+    /**
+     * Draws a plot with the renderer and dataset into an image.
+     *
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     * @param orientation  the plot orientation.
+     *
+     * @return The image.
+     */
+    private BufferedImage draw(XYBlockRenderer renderer,
+            DefaultXYZDataset dataset, PlotOrientation orientation) {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(-0.5, 19.5);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(-0.5, 9.5);
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
+        plot.setOrientation(orientation);
+        plot.setInsets(new RectangleInsets());
+        plot.setAxisOffset(new RectangleInsets());
+        xAxis.setVisible(false);
+        yAxis.setVisible(false);
+        BufferedImage image = new BufferedImage(400, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        plot.draw(g2, new Rectangle2D.Double(0, 0, 400, 200), null, null,
+                null);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that the centre of every block has (almost) the same colour in
+     * two images.
+     *
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     * @param orientation  the plot orientation.
+     */
+    private void assertSameBlocks(BufferedImage expected,
+            BufferedImage actual, PlotOrientation orientation) {
+        for (int c = 0; c < 20; c++) {
+            for (int r = 0; r < 10; r++) {
+                int px;
+                int py;
+                if (orientation == PlotOrientation.VERTICAL) {
+                    px = c * 20 + 10;
+                    py = 200 - (r * 20 + 10);
+                }
+                else {
+                    px = r * 40 + 20;
+                    py = 200 - (c * 10 + 5);
+                }
+                Color e = new Color(expected.getRGB(px, py), true);
+                Color a = new Color(actual.getRGB(px, py), true);
+                assertTrue(Math.abs(e.getRed() - a.getRed()) <= 1);
+                assertTrue(Math.abs(e.getGreen() - a.getGreen()) <= 1);
+                assertTrue(Math.abs(e.getBlue() - a.getBlue()) <= 1);
+                assertEquals(e.getAlpha(), a.getAlpha());
+            }
+        }
+    }
+
+    /**
+     * Drawing a regular grid as an image should give the same colours as
+     * drawing each block.
+     */
+    public void testRasterDrawing() {
+        DefaultXYZDataset dataset = createGridDataset(1.0);
+        PlotOrientation[] orientations = new PlotOrientation[] {
+                PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL};
+        for (int i = 0; i < orientations.length; i++) {
+            XYBlockRenderer r1 = new XYBlockRenderer();
+            r1.setPaintScale(new GrayPaintScale(0.0, 100.0));
+            XYBlockRenderer r2 = new XYBlockRenderer();
+            r2.setPaintScale(new GrayPaintScale(0.0, 100.0));
+            r2.setRasterEnabled(true);
+            assertSameBlocks(draw(r1, dataset, orientations[i]),
+                    draw(r2, dataset, orientations[i]), orientations[i]);
+        }
+    }
+
+    /**
+     * Items that are not on a grid of block-sized cells are drawn one block
+     * at a time, so the result is the same.
+     */
+    public void testRasterFallback() {
+        DefaultXYZDataset dataset = createGridDataset(1.5);
+        XYBlockRenderer r1 = new XYBlockRenderer();
+        r1.setPaintScale(new GrayPaintScale(0.0, 100.0));
+        XYBlockRenderer r2 = new XYBlockRenderer();
+        r2.setPaintScale(new GrayPaintScale(0.0, 100.0));
+        r2.setRasterEnabled(true);
+        BufferedImage i1 = draw(r1, dataset, PlotOrientation.VERTICAL);
+        BufferedImage i2 = draw(r2, dataset, PlotOrientation.VERTICAL);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(i1.getRGB(x, y), i2.getRGB(x, y));
+            }
+        }
+    }
+
 }
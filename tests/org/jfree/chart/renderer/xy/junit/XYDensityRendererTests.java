@@ -0,0 +1,197 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * XYDensityRendererTests.java
+ * ---------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy.junit;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.DensityNormalization;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.xy.XYDensityRenderer;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * Tests for the {@link XYDensityRenderer} class.
+ */
+public class XYDensityRendererTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYDensityRendererTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYDensityRendererTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Test that the equals() method distinguishes all fields.
+     */
+    public void testEquals() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        XYDensityRenderer r2 = new XYDensityRenderer();
+        assertTrue(r1.equals(r2));
+        assertTrue(r2.equals(r1));
+
+        r1.setPaintScale(new GrayPaintScale(0.0, 2.0));
+        assertFalse(r1.equals(r2));
+        r2.setPaintScale(new GrayPaintScale(0.0, 2.0));
+        assertTrue(r1.equals(r2));
+
+        r1.setNormalization(DensityNormalization.HISTOGRAM_EQUALIZED);
+        assertFalse(r1.equals(r2));
+        r2.setNormalization(DensityNormalization.HISTOGRAM_EQUALIZED);
+        assertTrue(r1.equals(r2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        XYDensityRenderer r1 = new XYDensityRenderer(new LookupPaintScale(),
+                DensityNormalization.LINEAR);
+        XYDensityRenderer r2 = null;
+        try {
+            r2 = (XYDensityRenderer) r1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(r1 != r2);
+        assertTrue(r1.getClass() == r2.getClass());
+        assertTrue(r1.equals(r2));
+        assertTrue(r1.getPaintScale() != r2.getPaintScale());
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    public void testPublicCloneable() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        assertTrue(r1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        XYDensityRenderer r2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(r1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            r2 = (XYDensityRenderer) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(r1, r2);
+    }
+
+    /**
+     * Draws a chart with two series (one of them empty) and checks that the
+     * density image is drawn.
+     */
+    public void testDraw() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        double[][] data = new double[2][1000];
+        for (int i = 0; i < 1000; i++) {
+            data[0][i] = 5.0;
+            data[1][i] = 5.0;
+        }
+        dataset.addSeries("S1", data);
+        dataset.addSeries("S2", new double[][] {{}, {}});
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 10.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 10.0);
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis,
+                new XYDensityRenderer(new GrayPaintScale(),
+                DensityNormalization.LINEAR));
+        plot.setBackgroundPaint(Color.black);
+        plot.setInsets(new org.jfree.ui.RectangleInsets());
+        plot.setRangeGridlinesVisible(false);
+        plot.setDomainGridlinesVisible(false);
+        JFreeChart chart = new JFreeChart(null, JFreeChart.DEFAULT_TITLE_FONT,
+                plot, false);
+        BufferedImage image = chart.createBufferedImage(200, 200);
+        int white = 0;
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 200; y++) {
+                if (image.getRGB(x, y) == Color.white.getRGB()) {
+                    white++;
+                }
+            }
+        }
+        assertEquals(1, white);
+    }
+
+}
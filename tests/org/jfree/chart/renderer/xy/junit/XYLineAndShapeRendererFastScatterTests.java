@@ -0,0 +1,144 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------------------
+ * XYLineAndShapeRendererFastScatterTests.java
+ * -------------------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.renderer.xy.junit;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.FastXYPlot;
+import org.jfree.chart.renderer.ShapeSpriteCache;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRendererFastScatter;
+import org.jfree.data.xy.DefaultXYDataset;
+
+/**
+ * Tests for the {@link XYLineAndShapeRendererFastScatter} class.
+ */
+public class XYLineAndShapeRendererFastScatterTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(XYLineAndShapeRendererFastScatterTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public XYLineAndShapeRendererFastScatterTests(String name) {
+        super(name);
+    }
+
+    /**
+     * A renderer that exposes its sprite cache.
+     */
+    static class SpriteRenderer extends XYLineAndShapeRendererFastScatter {
+
+        /**
+         * Creates a renderer that stamps shapes from the sprite cache.
+         */
+        SpriteRenderer() {
+            super();
+            setUseShapeSprites(true);
+        }
+
+        /**
+         * Returns the sprite cache.
+         *
+         * @return The sprite cache.
+         */
+        public ShapeSpriteCache getSpriteCache() {
+            return super.getSpriteCache();
+        }
+
+    }
+
+    /**
+     * Creates a chart with a fast plot that uses the given renderer.
+     *
+     * @param r  the renderer.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createChart(XYLineAndShapeRendererFastScatter r) {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0, 4.0},
+                {4.0, 1.0, 3.0, 2.0}});
+        FastXYPlot plot = new FastXYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), r);
+        return new JFreeChart(plot);
+    }
+
+    /**
+     * A gradient outline depends on the item position, so it must not be
+     * frozen into a sprite, even on a raster image.
+     */
+    public void testShapeSpritesWithGradientOutline() {
+        SpriteRenderer r = new SpriteRenderer();
+        r.setSeriesPaint(0, new GradientPaint(0.0f, 0.0f, Color.red, 200.0f,
+                0.0f, Color.blue));
+        JFreeChart chart = createChart(r);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        assertEquals(0, r.getSpriteCache().getSpriteCount());
+
+        r.setSeriesPaint(0, Color.green);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        g2.dispose();
+        assertEquals(1, r.getSpriteCache().getSpriteCount());
+    }
+
+}
@@ -39,32 +39,44 @@
  * 21-Feb-2007 : Check independence in testCloning() (DG);
  * 17-May-2007 : Added testGetLegendItemSeriesIndex() (DG);
  * 22-Apr-2008 : Added testPublicCloneable() (DG);
+ * 19-Oct-2026 : Added testDrawWithShapeSprites();
+ * 19-Oct-2026 : Added testShapeSpritesForVectorOutput() and
+ *               testShapeSpritesWithGradientPaint();
  *
  */
 
 package org.jfree.chart.renderer.xy.junit;
 
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.Iterator;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.ShapeSpriteCache;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.urls.TimeSeriesURLGenerator;
+import org.jfree.chart.util.junit.VectorGraphics2D;
 import org.jfree.data.Range;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYSeries;
@@ -173,6 +185,11 @@ public class XYLineAndShapeRendererTests extends TestCase {
         assertFalse(r1.equals(r2));
         r2.setDrawSeriesLineAsPath(true);
         assertTrue(r1.equals(r2));
+
+        r1.setUseShapeSprites(true);
+        assertFalse(r1.equals(r2));
+        r2.setUseShapeSprites(true);
+        assertTrue(r1.equals(r2));
     }
 
     /**
@@ -348,4 +365,121 @@ public class XYLineAndShapeRendererTests extends TestCase {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * Draws a chart with shape sprites enabled, and checks that the entities
+     * are still created.
+     */
+    public void testDrawWithShapeSprites() {
+        XYSeriesCollection dataset
+                = RendererXYPackageTests.createTestXYSeriesCollection();
+        JFreeChart chart = ChartFactory.createXYLineChart(
+                "Test Chart", "X", "Y", dataset, PlotOrientation.VERTICAL,
+                false, true, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, true);
+        r.setUseShapeSprites(true);
+        plot.setRenderer(r);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, info);
+        g2.dispose();
+        int itemEntities = 0;
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof XYItemEntity) {
+                itemEntities++;
+            }
+        }
+        assertEquals(dataset.getItemCount(0) + dataset.getItemCount(1),
+                itemEntities);
+    }
+
+    /**
+     * A renderer that gives the tests access to its sprite cache.
+     */
+    static class SpriteRenderer extends XYLineAndShapeRenderer {
+
+        /**
+         * Creates a renderer that stamps shapes from the sprite cache.
+         */
+        SpriteRenderer() {
+            super(true, true);
+            setUseShapeSprites(true);
+        }
+
+        /**
+         * Returns the sprite cache.
+         *
+         * @return The sprite cache.
+         */
+        public ShapeSpriteCache getSpriteCache() {
+            return super.getSpriteCache();
+        }
+
+    }
+
+    /**
+     * Creates a chart that uses the specified renderer.
+     *
+     * @param r  the renderer.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createSpriteChart(XYLineAndShapeRenderer r) {
+        XYSeriesCollection dataset
+                = RendererXYPackageTests.createTestXYSeriesCollection();
+        JFreeChart chart = ChartFactory.createXYLineChart(
+                "Test Chart", "X", "Y", dataset, PlotOrientation.VERTICAL,
+                false, false, false);
+        ((XYPlot) chart.getPlot()).setRenderer(r);
+        return chart;
+    }
+
+    /**
+     * A vector device (one that is not the JDK's raster graphics, even though
+     * it reports an image buffer as its device) always receives the shapes,
+     * not sprite images.
+     */
+    public void testShapeSpritesForVectorOutput() {
+        SpriteRenderer r = new SpriteRenderer();
+        JFreeChart chart = createSpriteChart(r);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        VectorGraphics2D g2 = new VectorGraphics2D(image);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        g2.dispose();
+        assertEquals(0, g2.getImageCount());
+        assertEquals(0, r.getSpriteCache().getSpriteCount());
+
+        Graphics2D g = image.createGraphics();
+        chart.draw(g, new Rectangle2D.Double(0, 0, 200, 100));
+        g.dispose();
+        assertTrue(r.getSpriteCache().getSpriteCount() > 0);
+    }
+
+    /**
+     * Items drawn with a gradient are not stamped, since the gradient
+     * depends on the position of the shape.
+     */
+    public void testShapeSpritesWithGradientPaint() {
+        SpriteRenderer r = new SpriteRenderer();
+        r.setSeriesPaint(0, new GradientPaint(0.0f, 0.0f, Color.red, 200.0f,
+                0.0f, Color.blue));
+        r.setSeriesPaint(1, new GradientPaint(0.0f, 0.0f, Color.red, 200.0f,
+                0.0f, Color.blue));
+        JFreeChart chart = createSpriteChart(r);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        assertEquals(0, r.getSpriteCache().getSpriteCount());
+
+        r.setSeriesPaint(1, Color.green);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        g2.dispose();
+        assertEquals(1, r.getSpriteCache().getSpriteCount());
+    }
+
 }
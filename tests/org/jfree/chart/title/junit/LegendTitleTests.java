@@ -44,7 +44,9 @@ package org.jfree.chart.title.junit;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
@@ -56,10 +58,15 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.LegendItem;
+import org.jfree.chart.LegendItemCollection;
+import org.jfree.chart.LegendItemSource;
+import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.ui.RectangleAnchor;
 import org.jfree.ui.RectangleEdge;
+import org.jfree.ui.Size2D;
 
 /**
  * Some tests for the {@link LegendTitle} class.
@@ -192,4 +199,46 @@ public class LegendTitleTests extends TestCase {
         assertTrue(t2.getSources()[0].equals(plot));
     }
 
+    
+    /**
+     * The item blocks should be reused while the legend items are unchanged, 
+     * and recreated when the items or the legend attributes change.
+     */
+    public void testItemBlockReuse() {
+        final LegendItemCollection items = new LegendItemCollection();
+        items.add(new LegendItem("A"));
+        items.add(new LegendItem("B"));
+        LegendItemSource source = new LegendItemSource() {
+            public LegendItemCollection getLegendItems() {
+                return items;
+            }
+        };
+        LegendTitle t = new LegendTitle(source);
+        BufferedImage image = new BufferedImage(200, 100, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        RectangleConstraint c = new RectangleConstraint(200.0, 100.0);
+        Size2D s1 = t.arrange(g2, c);
+        Object block = t.getItemContainer().getBlocks().get(0);
+        
+        // same items, same constraint => same blocks and size
+        Size2D s2 = t.arrange(g2, c);
+        assertSame(block, t.getItemContainer().getBlocks().get(0));
+        assertEquals(s1, s2);
+        
+        // an equal item fetched again does not recreate the blocks
+        items.add(new LegendItem("C"));
+        t.arrange(g2, c);
+        assertEquals(3, t.getItemContainer().getBlocks().size());
+        block = t.getItemContainer().getBlocks().get(0);
+        t.arrange(g2, c);
+        assertSame(block, t.getItemContainer().getBlocks().get(0));
+        
+        // changing an attribute recreates the blocks
+        t.setItemFont(new Font("Dialog", Font.BOLD, 24));
+        Size2D s3 = t.arrange(g2, c);
+        assertNotSame(block, t.getItemContainer().getBlocks().get(0));
+        assertTrue(s3.height > s2.height);
+        g2.dispose();
+    }
 }
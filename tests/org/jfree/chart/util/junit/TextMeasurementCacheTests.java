@@ -0,0 +1,188 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * TextMeasurementCacheTests.java
+ * ------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util.junit;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.util.TextMeasurementCache;
+import org.jfree.text.G2TextMeasurer;
+import org.jfree.text.TextMeasurer;
+import org.jfree.text.TextUtilities;
+
+/**
+ * Tests for the {@link TextMeasurementCache} class.
+ */
+public class TextMeasurementCacheTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TextMeasurementCacheTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TextMeasurementCacheTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a graphics device for measuring.
+     *
+     * @return A graphics device.
+     */
+    private Graphics2D createGraphics() {
+        BufferedImage image = new BufferedImage(10, 10, 
+                BufferedImage.TYPE_INT_RGB);
+        return image.createGraphics();
+    }
+
+    /**
+     * The cached bounds match those calculated by TextUtilities, and the
+     * hit and miss counts are maintained.
+     */
+    public void testGetTextBounds() {
+        Graphics2D g2 = createGraphics();
+        FontMetrics fm = g2.getFontMetrics(new Font("Dialog", Font.PLAIN, 
+                12));
+        TextMeasurementCache cache = new TextMeasurementCache(10);
+        Rectangle2D expected = TextUtilities.getTextBounds("ABC", g2, fm);
+        assertEquals(expected, cache.getTextBounds("ABC", g2, fm));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        Rectangle2D r = cache.getTextBounds("ABC", g2, fm);
+        assertEquals(expected, r);
+        assertEquals(1, cache.getHitCount());
+
+        // the returned rectangle can be modified safely
+        r.setRect(0.0, 0.0, 1.0, 1.0);
+        assertEquals(expected, cache.getTextBounds("ABC", g2, fm));
+
+        // a different font is a different entry
+        FontMetrics fm2 = g2.getFontMetrics(new Font("Dialog", Font.BOLD, 
+                12));
+        assertEquals(TextUtilities.getTextBounds("ABC", g2, fm2), 
+                cache.getTextBounds("ABC", g2, fm2));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getSize());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        g2.dispose();
+    }
+
+    /**
+     * The least recently used entry is discarded when the cache is full.
+     */
+    public void testEviction() {
+        Graphics2D g2 = createGraphics();
+        FontMetrics fm = g2.getFontMetrics();
+        TextMeasurementCache cache = new TextMeasurementCache(2);
+        cache.getTextBounds("A", g2, fm);
+        cache.getTextBounds("B", g2, fm);
+        cache.getTextBounds("A", g2, fm);
+        cache.getTextBounds("C", g2, fm);
+        assertEquals(2, cache.getSize());
+        cache.resetStatistics();
+        cache.getTextBounds("A", g2, fm);
+        assertEquals(1, cache.getHitCount());
+        cache.getTextBounds("B", g2, fm);
+        assertEquals(1, cache.getMissCount());
+
+        cache = new TextMeasurementCache(0);
+        cache.getTextBounds("A", g2, fm);
+        cache.getTextBounds("A", g2, fm);
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHitCount());
+        g2.dispose();
+    }
+
+    /**
+     * The text measurer returns the same widths as a G2TextMeasurer.
+     */
+    public void testCreateTextMeasurer() {
+        Graphics2D g2 = createGraphics();
+        g2.setFont(new Font("Serif", Font.ITALIC, 14));
+        TextMeasurer m1 = new G2TextMeasurer(g2);
+        TextMeasurer m2 = new TextMeasurementCache(10).createTextMeasurer(g2);
+        String s = "The quick brown fox";
+        for (int i = 1; i < s.length(); i++) {
+            assertEquals(m1.getStringWidth(s, 0, i), 
+                    m2.getStringWidth(s, 0, i), 0.0f);
+        }
+        g2.dispose();
+    }
+
+    /**
+     * Some checks for the shared instance.
+     */
+    public void testSharedInstance() {
+        TextMeasurementCache shared = TextMeasurementCache.getSharedInstance();
+        assertNotNull(shared);
+        boolean pass = false;
+        try {
+            TextMeasurementCache.setSharedInstance(null);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        assertSame(shared, TextMeasurementCache.getSharedInstance());
+    }
+
+}
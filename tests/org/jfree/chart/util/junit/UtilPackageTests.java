@@ -36,6 +36,8 @@
  * --------
  * 23-Nov-2006 : Version 1 (DG);
  * 08-Apr-2008 : Added LogFormatTests (DG);
+ * 19-Oct-2026 : Added TextMeasurementCacheTests;
+ * 19-Oct-2026 : Added GraphicsUtilitiesTests;
  *
  */
 
@@ -59,8 +61,10 @@ public class UtilPackageTests extends TestCase {
      */
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.chart.util");
+        suite.addTestSuite(GraphicsUtilitiesTests.class);
         suite.addTestSuite(LogFormatTests.class);
         suite.addTestSuite(RelativeDateFormatTests.class);
+        suite.addTestSuite(TextMeasurementCacheTests.class);
         return suite;
     }
 
@@ -0,0 +1,479 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * VectorGraphics2D.java
+ * ---------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.util.junit;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+/**
+ * A <code>Graphics2D</code> that forwards everything to another instance,
+ * used in the tests to stand in for a vector back end (such as a PDF or SVG
+ * graphics) that reports an image buffer as its device.  The number of
+ * images drawn is recorded, so that tests can check that nothing was
+ * rasterized into the output.
+ */
+public class VectorGraphics2D extends Graphics2D {
+
+    /** The underlying graphics. */
+    private Graphics2D g2;
+
+    /** The number of images drawn (shared with derived graphics). */
+    private int[] images;
+
+    /**
+     * Creates a new instance that draws into the specified image.
+     *
+     * @param image  the image.
+     */
+    public VectorGraphics2D(BufferedImage image) {
+        this(image.createGraphics(), new int[1]);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param g2  the underlying graphics.
+     * @param images  the image counter.
+     */
+    private VectorGraphics2D(Graphics2D g2, int[] images) {
+        this.g2 = g2;
+        this.images = images;
+    }
+
+    /**
+     * Returns the number of images drawn so far, including those drawn via
+     * graphics obtained from {@link #create()}.
+     *
+     * @return The image count.
+     */
+    public int getImageCount() {
+        return this.images[0];
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void addRenderingHints(Map a0) {
+        this.g2.addRenderingHints(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void clearRect(int a0, int a1, int a2, int a3) {
+        this.g2.clearRect(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void clip(Shape a0) {
+        this.g2.clip(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void clipRect(int a0, int a1, int a2, int a3) {
+        this.g2.clipRect(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void copyArea(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.copyArea(a0, a1, a2, a3, a4, a5);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Graphics create() {
+        return new VectorGraphics2D((Graphics2D) this.g2.create(),
+                this.images);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void dispose() {
+        this.g2.dispose();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void draw(Shape a0) {
+        this.g2.draw(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawArc(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.drawArc(a0, a1, a2, a3, a4, a5);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawGlyphVector(GlyphVector a0, float a1, float a2) {
+        this.g2.drawGlyphVector(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4, int a5,
+            int a6, int a7, int a8, Color a9, ImageObserver a10) {
+        this.images[0]++;
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4, int a5,
+            int a6, int a7, int a8, ImageObserver a9) {
+        this.images[0]++;
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4, Color a5,
+            ImageObserver a6) {
+        this.images[0]++;
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean drawImage(Image a0, int a1, int a2, int a3, int a4,
+            ImageObserver a5) {
+        this.images[0]++;
+        return this.g2.drawImage(a0, a1, a2, a3, a4, a5);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean drawImage(Image a0, int a1, int a2, Color a3,
+            ImageObserver a4) {
+        this.images[0]++;
+        return this.g2.drawImage(a0, a1, a2, a3, a4);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean drawImage(Image a0, int a1, int a2, ImageObserver a3) {
+        this.images[0]++;
+        return this.g2.drawImage(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean drawImage(Image a0, AffineTransform a1, ImageObserver a2) {
+        this.images[0]++;
+        return this.g2.drawImage(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawImage(BufferedImage a0, BufferedImageOp a1, int a2,
+            int a3) {
+        this.images[0]++;
+        this.g2.drawImage(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawLine(int a0, int a1, int a2, int a3) {
+        this.g2.drawLine(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawOval(int a0, int a1, int a2, int a3) {
+        this.g2.drawOval(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawPolygon(int[] a0, int[] a1, int a2) {
+        this.g2.drawPolygon(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawPolyline(int[] a0, int[] a1, int a2) {
+        this.g2.drawPolyline(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawRenderableImage(RenderableImage a0, AffineTransform a1) {
+        this.images[0]++;
+        this.g2.drawRenderableImage(a0, a1);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawRenderedImage(RenderedImage a0, AffineTransform a1) {
+        this.images[0]++;
+        this.g2.drawRenderedImage(a0, a1);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawRoundRect(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.drawRoundRect(a0, a1, a2, a3, a4, a5);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawString(String a0, float a1, float a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawString(String a0, int a1, int a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawString(AttributedCharacterIterator a0, float a1, float a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void drawString(AttributedCharacterIterator a0, int a1, int a2) {
+        this.g2.drawString(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void fill(Shape a0) {
+        this.g2.fill(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void fillArc(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.fillArc(a0, a1, a2, a3, a4, a5);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void fillOval(int a0, int a1, int a2, int a3) {
+        this.g2.fillOval(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void fillPolygon(int[] a0, int[] a1, int a2) {
+        this.g2.fillPolygon(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void fillRect(int a0, int a1, int a2, int a3) {
+        this.g2.fillRect(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void fillRoundRect(int a0, int a1, int a2, int a3, int a4, int a5) {
+        this.g2.fillRoundRect(a0, a1, a2, a3, a4, a5);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Color getBackground() {
+        return this.g2.getBackground();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Shape getClip() {
+        return this.g2.getClip();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Rectangle getClipBounds() {
+        return this.g2.getClipBounds();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Color getColor() {
+        return this.g2.getColor();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Composite getComposite() {
+        return this.g2.getComposite();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return this.g2.getDeviceConfiguration();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Font getFont() {
+        return this.g2.getFont();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public FontMetrics getFontMetrics(Font a0) {
+        return this.g2.getFontMetrics(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public FontRenderContext getFontRenderContext() {
+        return this.g2.getFontRenderContext();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Paint getPaint() {
+        return this.g2.getPaint();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Object getRenderingHint(RenderingHints.Key a0) {
+        return this.g2.getRenderingHint(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public RenderingHints getRenderingHints() {
+        return this.g2.getRenderingHints();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public Stroke getStroke() {
+        return this.g2.getStroke();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public AffineTransform getTransform() {
+        return this.g2.getTransform();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public boolean hit(Rectangle a0, Shape a1, boolean a2) {
+        return this.g2.hit(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void rotate(double a0) {
+        this.g2.rotate(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void rotate(double a0, double a1, double a2) {
+        this.g2.rotate(a0, a1, a2);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void scale(double a0, double a1) {
+        this.g2.scale(a0, a1);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setBackground(Color a0) {
+        this.g2.setBackground(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setClip(int a0, int a1, int a2, int a3) {
+        this.g2.setClip(a0, a1, a2, a3);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setClip(Shape a0) {
+        this.g2.setClip(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setColor(Color a0) {
+        this.g2.setColor(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setComposite(Composite a0) {
+        this.g2.setComposite(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setFont(Font a0) {
+        this.g2.setFont(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setPaint(Paint a0) {
+        this.g2.setPaint(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setPaintMode() {
+        this.g2.setPaintMode();
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setRenderingHint(RenderingHints.Key a0, Object a1) {
+        this.g2.setRenderingHint(a0, a1);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setRenderingHints(Map a0) {
+        this.g2.setRenderingHints(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setStroke(Stroke a0) {
+        this.g2.setStroke(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setTransform(AffineTransform a0) {
+        this.g2.setTransform(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void setXORMode(Color a0) {
+        this.g2.setXORMode(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void shear(double a0, double a1) {
+        this.g2.shear(a0, a1);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void transform(AffineTransform a0) {
+        this.g2.transform(a0);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void translate(double a0, double a1) {
+        this.g2.translate(a0, a1);
+    }
+
+    /** Forwards to the underlying graphics. */
+    public void translate(int a0, int a1) {
+        this.g2.translate(a0, a1);
+    }
+
+}
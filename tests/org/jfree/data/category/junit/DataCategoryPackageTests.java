@@ -40,6 +40,7 @@
  * 26-Jul-2006 : Added CategoryToPieDatasetTests (DG);
  * 08-Mar-2007 : Added DefaultIntervalCategoryDatasetTests (DG);
  * 09-May-2008 : Added SlidingCategoryDatasetTests (DG);
+ * 19-Oct-2026 : Added DenseCategoryDatasetTests;
  *
  */
 
@@ -66,6 +67,7 @@ public class DataCategoryPackageTests extends TestCase {
         suite.addTestSuite(CategoryToPieDatasetTests.class);
         suite.addTestSuite(DefaultCategoryDatasetTests.class);
         suite.addTestSuite(DefaultIntervalCategoryDatasetTests.class);
+        suite.addTestSuite(DenseCategoryDatasetTests.class);
         suite.addTestSuite(SlidingCategoryDatasetTests.class);
         return suite;
     }
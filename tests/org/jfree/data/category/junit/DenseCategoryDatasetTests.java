@@ -0,0 +1,296 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * DenseCategoryDatasetTests.java
+ * ------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.category.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.category.DenseCategoryDataset;
+
+/**
+ * Tests for the {@link DenseCategoryDataset} class.
+ */
+public class DenseCategoryDatasetTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DenseCategoryDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DenseCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the getValue() method.
+     */
+    public void testGetValue() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        d.addValue(new Double(3.0), "R2", "C2");
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertEquals(new Double(3.0), d.getValue(1, 1));
+        assertNull(d.getValue("R2", "C1"));
+        assertTrue(Double.isNaN(d.getDoubleValue(1, 0)));
+        assertEquals(2.0, d.getDoubleValue(0, 1), 0.0);
+
+        boolean pass = false;
+        try {
+            d.getValue("XX", "C1");
+        }
+        catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            d.getValue("R1", "XX");
+        }
+        catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Setting a <code>null</code> value records a missing value.
+     */
+    public void testSetNullValue() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.setValue(1.0, "R1", "C1");
+        d.setValue(null, "R1", "C1");
+        assertNull(d.getValue(0, 0));
+        assertEquals(1, d.getRowCount());
+        assertEquals(1, d.getColumnCount());
+    }
+
+    /**
+     * Adding many rows and columns forces the array to grow several times.
+     */
+    public void testGrowth() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        for (int r = 0; r < 50; r++) {
+            for (int c = 0; c < 40; c++) {
+                d.addValue(r * 100 + c, "R" + r, "C" + c);
+            }
+        }
+        assertEquals(50, d.getRowCount());
+        assertEquals(40, d.getColumnCount());
+        assertEquals(4939.0, d.getDoubleValue(49, 39), 0.0);
+        assertEquals(1207.0, d.getValue("R12", "C7").doubleValue(), 0.0);
+        assertEquals(12, d.getRowIndex("R12"));
+        assertEquals(7, d.getColumnIndex("C7"));
+    }
+
+    /**
+     * Some checks for the array constructor.
+     */
+    public void testArrayConstructor() {
+        DenseCategoryDataset d = new DenseCategoryDataset(
+                new Comparable[] {"R1", "R2"}, new Comparable[] {"C1"},
+                new double[][] {{1.0}, {Double.NaN}});
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertNull(d.getValue("R2", "C1"));
+
+        boolean pass = false;
+        try {
+            new DenseCategoryDataset(new Comparable[] {"R1", "R1"},
+                    new Comparable[] {"C1"}, new double[][] {{1.0}, {2.0}});
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            new DenseCategoryDataset(new Comparable[] {"R1"},
+                    new Comparable[] {"C1", "C2"}, new double[][] {{1.0}});
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Removing rows and columns should keep the keys, indices and values
+     * consistent.
+     */
+    public void testRemoveRowAndColumn() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R2", "C2");
+        d.addValue(3.0, "R3", "C3");
+        d.removeRow("R2");
+        assertEquals(2, d.getRowCount());
+        assertEquals(-1, d.getRowIndex("R2"));
+        assertEquals(1, d.getRowIndex("R3"));
+        assertEquals(new Double(3.0), d.getValue("R3", "C3"));
+        d.removeColumn(0);
+        assertEquals(2, d.getColumnCount());
+        assertEquals(0, d.getColumnIndex("C2"));
+        assertEquals(new Double(3.0), d.getValue("R3", "C3"));
+        assertNull(d.getValue("R1", "C3"));
+
+        // re-use of the spare row and column must not expose stale values
+        d.addValue(4.0, "R4", "C4");
+        assertNull(d.getValue("R4", "C2"));
+        assertNull(d.getValue("R4", "C3"));
+        assertNull(d.getValue("R1", "C4"));
+
+        boolean pass = false;
+        try {
+            d.removeRow("XX");
+        }
+        catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+        assertEquals(-1, d.getRowIndex("R1"));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields,
+     * and that the dataset is equal to a {@link DefaultCategoryDataset}
+     * with the same data.
+     */
+    public void testEquals() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        DenseCategoryDataset d2 = new DenseCategoryDataset();
+        assertTrue(d1.equals(d2));
+
+        d1.addValue(1.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.addValue(1.0, "R1", "C1");
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+
+        d1.addValue(null, "R2", "C1");
+        assertFalse(d1.equals(d2));
+        d2.addValue(null, "R2", "C1");
+        assertTrue(d1.equals(d2));
+
+        DefaultCategoryDataset d3 = new DefaultCategoryDataset();
+        d3.addValue(1.0, "R1", "C1");
+        d3.addValue(null, "R2", "C1");
+        assertTrue(d1.equals(d3));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(2.0, "R2", "C2");
+        DenseCategoryDataset d2 = null;
+        try {
+            d2 = (DenseCategoryDataset) d1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.addValue(3.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.addValue(4.0, "R3", "C1");
+        assertEquals(-1, d1.getRowIndex("R3"));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(2.0, "R2", "C2");
+        DenseCategoryDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (DenseCategoryDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+        assertEquals(1, d2.getRowIndex("R2"));
+        d2.addValue(3.0, "R3", "C2");
+        assertEquals(new Double(3.0), d2.getValue("R3", "C2"));
+    }
+
+}
@@ -0,0 +1,372 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------
+ * NonGridContourDatasetTests.java
+ * -------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.contour.junit;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.contour.NonGridContourDataset;
+
+/**
+ * Tests for the {@link NonGridContourDataset} class.  The grid values are
+ * compared with a reference implementation of the original inverse distance
+ * calculation, which calls <code>distance()</code> for every pair of points.
+ */
+public class NonGridContourDatasetTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(NonGridContourDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public NonGridContourDatasetTests(String name) {
+        super(name);
+    }
+
+    /** The relative tolerance for the interpolated values. */
+    private static final double TOLERANCE = 0.000000001;
+
+    /**
+     * A dataset that fills the grid with a fixed number of threads.
+     */
+    static class ThreadedDataset extends NonGridContourDataset {
+
+        /** The number of threads. */
+        private static int threadCount;
+
+        /**
+         * Creates a dataset.
+         *
+         * @param threads  the number of threads.
+         * @param data  the x, y and z values.
+         * @param numX  the number of grid points along the x-axis.
+         * @param numY  the number of grid points along the y-axis.
+         * @param power  the exponent for inverse distance weighting.
+         * @param neighbourCount  the number of nearest points used.
+         */
+        ThreadedDataset(int threads, Object[][] data, int numX, int numY,
+                int power, int neighbourCount) {
+            super("Test", setThreads(threads, data[0]), data[1], data[2],
+                    numX, numY, power, neighbourCount);
+        }
+
+        /**
+         * Records the thread count before the superclass constructor runs.
+         *
+         * @param threads  the thread count.
+         * @param x  the x values.
+         *
+         * @return The x values.
+         */
+        private static Object[] setThreads(int threads, Object[] x) {
+            threadCount = threads;
+            return x;
+        }
+
+        /**
+         * Returns the fixed thread count.
+         *
+         * @param work  ignored.
+         *
+         * @return The thread count.
+         */
+        protected int getGridThreadCount(long work) {
+            return threadCount;
+        }
+
+    }
+
+    /**
+     * A dataset that measures distance along the axes rather than in a
+     * straight line.
+     */
+    static class ManhattanDataset extends NonGridContourDataset {
+
+        /**
+         * Creates a dataset.
+         *
+         * @param data  the x, y and z values.
+         * @param numX  the number of grid points along the x-axis.
+         * @param numY  the number of grid points along the y-axis.
+         * @param power  the exponent for inverse distance weighting.
+         * @param neighbourCount  the number of nearest points used.
+         */
+        ManhattanDataset(Object[][] data, int numX, int numY, int power,
+                int neighbourCount) {
+            super("Test", data[0], data[1], data[2], numX, numY, power,
+                    neighbourCount);
+        }
+
+        /**
+         * Returns the distance along the axes between two points.
+         *
+         * @param x1  the x coordinate.
+         * @param y1  the y coordinate.
+         * @param x2  the x grid coordinate.
+         * @param y2  the y grid coordinate.
+         *
+         * @return The distance.
+         */
+        protected double distance(double x1, double y1, double x2,
+                double y2) {
+            return Math.abs(x1 - x2) + Math.abs(y1 - y2);
+        }
+
+    }
+
+    /**
+     * Creates random data points.
+     *
+     * @param seed  the random seed.
+     * @param count  the number of points.
+     * @param width  the width of the area covered by the points.
+     * @param height  the height of the area covered by the points.
+     *
+     * @return The x, y and z values (with a <code>null</code> z-value).
+     */
+    private static Object[][] createData(long seed, int count, double width,
+            double height) {
+        Random random = new Random(seed);
+        Object[][] data = new Object[3][count];
+        for (int i = 0; i < count; i++) {
+            data[0][i] = new Double(10.0 + random.nextDouble() * width);
+            data[1][i] = new Double(-5.0 + random.nextDouble() * height);
+            data[2][i] = new Double(random.nextGaussian() * 100.0);
+        }
+        data[2][count / 2] = null;
+        return data;
+    }
+
+    /**
+     * Interpolates the grid values in the same way as the original
+     * implementation of <code>buildGrid()</code>, optionally using only the
+     * nearest points to each grid point.
+     *
+     * @param dataset  the dataset (the grid points are read from here).
+     * @param data  the x, y and z values.
+     * @param power  the exponent for inverse distance weighting.
+     * @param neighbourCount  the number of nearest points (zero for all).
+     * @param manhattan  use the distance along the axes?
+     *
+     * @return The z-values.
+     */
+    private static double[] interpolate(NonGridContourDataset dataset,
+            Object[][] data, int power, int neighbourCount,
+            boolean manhattan) {
+        Number[] xGrid = dataset.getXValues();
+        Number[] yGrid = dataset.getYValues();
+        int n = data[0].length;
+        int k = (neighbourCount > 0 ? Math.min(n, neighbourCount) : n);
+        double[] result = new double[xGrid.length];
+        double[] distance = new double[n];
+        for (int g = 0; g < xGrid.length; g++) {
+            double xg = xGrid[g].doubleValue();
+            double yg = yGrid[g].doubleValue();
+            for (int i = 0; i < n; i++) {
+                double dx = ((Number) data[0][i]).doubleValue() - xg;
+                double dy = ((Number) data[1][i]).doubleValue() - yg;
+                distance[i] = (manhattan ? Math.abs(dx) + Math.abs(dy)
+                        : Math.sqrt(dx * dx + dy * dy));
+            }
+            double limit = Double.POSITIVE_INFINITY;
+            if (k < n) {
+                double[] sorted = (double[]) distance.clone();
+                Arrays.sort(sorted);
+                limit = sorted[k - 1];
+            }
+            double sum = 0.0;
+            double total = 0.0;
+            for (int i = 0; i < n; i++) {
+                if (distance[i] > limit) {
+                    continue;
+                }
+                double d = distance[i];
+                if (power != 1) {
+                    d = Math.pow(d, power);
+                }
+                d = Math.sqrt(d);
+                d = (d > 0.0 ? 1.0 / d : 1.e20);
+                if (data[2][i] != null) {
+                    sum += ((Number) data[2][i]).doubleValue() * d;
+                }
+                total += d;
+            }
+            result[g] = sum / total;
+        }
+        return result;
+    }
+
+    /**
+     * Checks the z-values of a dataset against the expected values.
+     *
+     * @param expected  the expected values.
+     * @param dataset  the dataset.
+     */
+    private static void assertGrid(double[] expected,
+            NonGridContourDataset dataset) {
+        Number[] z = dataset.getZValues();
+        assertEquals(expected.length, z.length);
+        for (int i = 0; i < expected.length; i++) {
+            double e = expected[i];
+            assertEquals(e, z[i].doubleValue(),
+                    TOLERANCE * Math.max(1.0, Math.abs(e)));
+        }
+    }
+
+    /**
+     * The grid matches the original calculation, for the powers with
+     * special cases in the weight calculation and for others.
+     */
+    public void testFullGrid() {
+        Object[][] data = createData(1L, 300, 100.0, 50.0);
+        int[] powers = new int[] {1, 2, 3, 4, 6};
+        for (int p = 0; p < powers.length; p++) {
+            NonGridContourDataset d = new NonGridContourDataset("Test",
+                    data[0], data[1], data[2], 20, 15, powers[p]);
+            assertEquals(300, d.getItemCount(0));
+            assertGrid(interpolate(d, data, powers[p], 0, false), d);
+        }
+    }
+
+    /**
+     * The grid filled by several threads matches the original calculation
+     * and the grid filled by a single thread.
+     */
+    public void testThreadedGrid() {
+        Object[][] data = createData(2L, 500, 100.0, 100.0);
+        NonGridContourDataset d1 = new ThreadedDataset(1, data, 25, 25, 4, 0);
+        double[] expected = interpolate(d1, data, 4, 0, false);
+        assertGrid(expected, d1);
+        int[] threads = new int[] {2, 3, 4, 7};
+        for (int t = 0; t < threads.length; t++) {
+            NonGridContourDataset d2 = new ThreadedDataset(threads[t], data,
+                    25, 25, 4, 0);
+            assertGrid(expected, d2);
+        }
+
+        // more threads than grid points
+        NonGridContourDataset d3 = new ThreadedDataset(8, data, 2, 2, 4, 0);
+        assertGrid(interpolate(d3, data, 4, 0, false), d3);
+
+        NonGridContourDataset d4 = new ThreadedDataset(3, data, 25, 25, 8,
+                10);
+        assertGrid(interpolate(d4, data, 8, 10, false), d4);
+    }
+
+    /**
+     * Each grid point is interpolated from exactly its nearest points,
+     * compared with a brute force search.
+     */
+    public void testNearestNeighbours() {
+        Object[][] data = createData(3L, 400, 100.0, 40.0);
+        int[] counts = new int[] {1, 4, 12, 50};
+        for (int i = 0; i < counts.length; i++) {
+            NonGridContourDataset d = new NonGridContourDataset("Test",
+                    data[0], data[1], data[2], 30, 20, 4, counts[i]);
+            assertGrid(interpolate(d, data, 4, counts[i], false), d);
+        }
+
+        // clustered points leave most of the index cells empty
+        Object[][] clustered = createData(4L, 200, 1.0, 1.0);
+        clustered[0][0] = new Double(500.0);
+        clustered[1][0] = new Double(300.0);
+        NonGridContourDataset d = new NonGridContourDataset("Test",
+                clustered[0], clustered[1], clustered[2], 20, 20, 4, 6);
+        assertGrid(interpolate(d, clustered, 4, 6, false), d);
+
+        // a neighbour count of at least the point count uses every point
+        d = new NonGridContourDataset("Test", data[0], data[1], data[2], 10,
+                10, 4, 400);
+        assertGrid(interpolate(d, data, 4, 0, false), d);
+    }
+
+    /**
+     * The nearest neighbour search works when all the points have the same
+     * x-value or the same y-value.
+     */
+    public void testNearestNeighboursZeroExtent() {
+        Object[][] data = createData(5L, 150, 100.0, 100.0);
+        Object[][] column = new Object[][] {new Object[150], data[1],
+                data[2]};
+        Object[][] row = new Object[][] {data[0], new Object[150], data[2]};
+        for (int i = 0; i < 150; i++) {
+            column[0][i] = new Double(7.0);
+            row[1][i] = new Double(-3.0);
+        }
+        NonGridContourDataset d = new NonGridContourDataset("Test",
+                column[0], column[1], column[2], 5, 40, 4, 5);
+        assertGrid(interpolate(d, column, 4, 5, false), d);
+        d = new NonGridContourDataset("Test", row[0], row[1], row[2], 40, 5,
+                4, 5);
+        assertGrid(interpolate(d, row, 4, 5, false), d);
+    }
+
+    /**
+     * A subclass that overrides <code>distance()</code> gets the original
+     * calculation with its own distance, even when a neighbour count is
+     * given.
+     */
+    public void testDistanceOverride() {
+        Object[][] data = createData(6L, 200, 50.0, 50.0);
+        NonGridContourDataset d = new ManhattanDataset(data, 15, 15, 4, 0);
+        double[] expected = interpolate(d, data, 4, 0, true);
+        assertGrid(expected, d);
+        assertFalse(Math.abs(expected[17] - interpolate(d, data, 4, 0,
+                false)[17]) < 0.001);
+
+        d = new ManhattanDataset(data, 15, 15, 4, 5);
+        assertGrid(expected, d);
+    }
+
+}
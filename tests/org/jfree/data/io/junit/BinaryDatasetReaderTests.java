@@ -0,0 +1,337 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * BinaryDatasetReaderTests.java
+ * -----------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added testTimeSeriesTimeZone();
+ *
+ */
+
+package org.jfree.data.io.junit;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.TimeZone;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.category.DenseCategoryDataset;
+import org.jfree.data.io.BinaryDatasetReader;
+import org.jfree.data.io.BinaryDatasetWriter;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Hour;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Tests for the {@link BinaryDatasetReader} and {@link BinaryDatasetWriter}
+ * classes.
+ */
+public class BinaryDatasetReaderTests extends TestCase {
+
+    /** A temporary file. */
+    private File file;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(BinaryDatasetReaderTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public BinaryDatasetReaderTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the temporary file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.file = File.createTempFile("jfreechart", ".bin");
+    }
+
+    /**
+     * Deletes the temporary file.
+     */
+    protected void tearDown() {
+        this.file.delete();
+    }
+
+    /**
+     * Creates a dataset with some awkward values.
+     *
+     * @return A dataset.
+     */
+    private DefaultXYDataset createXYDataset() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        int n = 1000;
+        double[][] s1 = new double[2][n];
+        for (int i = 0; i < n; i++) {
+            s1[0][i] = 1200000000000.0 + i * 1000.0;
+            s1[1][i] = Math.sin(i / 10.0);
+        }
+        s1[1][5] = Double.NaN;
+        s1[1][6] = -0.0;
+        s1[1][7] = Double.POSITIVE_INFINITY;
+        s1[1][8] = Double.MIN_VALUE;
+        s1[1][9] = s1[1][8];
+        dataset.addSeries("S1", s1);
+        dataset.addSeries("S2", new double[][] {{0.5, -1.25, 3.0},
+                {1.0, 1.0, Double.NaN}});
+        dataset.addSeries("S3", new double[][] {{}, {}});
+        return dataset;
+    }
+
+    /**
+     * Checks that two XY datasets have the same keys and values.
+     *
+     * @param d1  the first dataset.
+     * @param d2  the second dataset.
+     */
+    private void assertSameData(XYDataset d1, XYDataset d2) {
+        assertEquals(d1.getSeriesCount(), d2.getSeriesCount());
+        for (int s = 0; s < d1.getSeriesCount(); s++) {
+            assertEquals(d1.getSeriesKey(s), d2.getSeriesKey(s));
+            assertEquals(d1.getItemCount(s), d2.getItemCount(s));
+            for (int i = 0; i < d1.getItemCount(s); i++) {
+                assertEquals(Double.doubleToLongBits(d1.getXValue(s, i)),
+                        Double.doubleToLongBits(d2.getXValue(s, i)));
+                assertEquals(Double.doubleToLongBits(d1.getYValue(s, i)),
+                        Double.doubleToLongBits(d2.getYValue(s, i)));
+            }
+        }
+    }
+
+    /**
+     * Writes an XY dataset to the temporary file.
+     *
+     * @param dataset  the dataset.
+     * @param compress  compress the columns?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void write(XYDataset dataset, boolean compress)
+            throws IOException {
+        OutputStream out = new FileOutputStream(this.file);
+        BinaryDatasetWriter.writeXYDataset(dataset, out, compress);
+        out.close();
+    }
+
+    /**
+     * Write and read an uncompressed (memory-mapped) XY dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testXYDataset() throws IOException {
+        DefaultXYDataset d1 = createXYDataset();
+        write(d1, false);
+        assertSameData(d1, BinaryDatasetReader.readXYDataset(this.file));
+    }
+
+    /**
+     * Write and read a compressed XY dataset, and check that the timestamps
+     * are compressed well.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testCompressedXYDataset() throws IOException {
+        DefaultXYDataset d1 = createXYDataset();
+        write(d1, false);
+        long rawLength = this.file.length();
+        write(d1, true);
+        assertTrue(this.file.length() < rawLength * 3 / 4);
+        assertSameData(d1, BinaryDatasetReader.readXYDataset(this.file));
+
+        DefaultXYDataset d2 = new DefaultXYDataset();
+        double[][] data = new double[2][5000];
+        for (int i = 0; i < 5000; i++) {
+            data[0][i] = i * 60000L;
+            data[1][i] = 42.0;
+        }
+        d2.addSeries("Flat", data);
+        write(d2, true);
+        assertTrue(this.file.length() < 12000);
+        assertSameData(d2, BinaryDatasetReader.readXYDataset(this.file));
+    }
+
+    /**
+     * Write and read a time series collection.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testTimeSeriesCollection() throws IOException {
+        TimeSeries s1 = new TimeSeries("S1", Day.class);
+        s1.add(new Day(1, 1, 2008), 1.5);
+        s1.add(new Day(2, 1, 2008), null);
+        s1.add(new Day(5, 1, 2008), 3.5);
+        TimeSeries s2 = new TimeSeries("S2", Millisecond.class);
+        s2.add(new Millisecond(1, 2, 3, 4, 5, 6, 2008), 7.0);
+        TimeSeriesCollection d1 = new TimeSeriesCollection();
+        d1.addSeries(s1);
+        d1.addSeries(s2);
+        for (int i = 0; i < 2; i++) {
+            OutputStream out = new FileOutputStream(this.file);
+            BinaryDatasetWriter.writeTimeSeriesCollection(d1, out, i == 1);
+            out.close();
+            TimeSeriesCollection d2
+                    = BinaryDatasetReader.readTimeSeriesCollection(this.file);
+            assertEquals(d1, d2);
+
+            XYDataset d3 = BinaryDatasetReader.readXYDataset(this.file);
+            assertEquals(3, d3.getItemCount(0));
+            assertEquals(new Day(5, 1, 2008).getFirstMillisecond(),
+                    d3.getXValue(0, 2), 0.0);
+            assertTrue(Double.isNaN(d3.getYValue(0, 1)));
+        }
+    }
+
+    /**
+     * Time periods are read back unchanged when the default time zone of
+     * the reader differs from that of the writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testTimeSeriesTimeZone() throws IOException {
+        TimeZone saved = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            TimeSeries s1 = new TimeSeries("S1", Day.class);
+            s1.add(new Day(1, 1, 2008), 1.0);
+            s1.add(new Day(2, 1, 2008), 2.0);
+            TimeSeries s2 = new TimeSeries("S2", Hour.class);
+            s2.add(new Hour(23, 1, 1, 2008), 3.0);
+            TimeSeriesCollection d1 = new TimeSeriesCollection();
+            d1.addSeries(s1);
+            d1.addSeries(s2);
+            OutputStream out = new FileOutputStream(this.file);
+            BinaryDatasetWriter.writeTimeSeriesCollection(d1, out, true);
+            out.close();
+
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            TimeSeriesCollection d2
+                    = BinaryDatasetReader.readTimeSeriesCollection(this.file);
+            assertEquals(d1, d2);
+            assertEquals(new Day(2, 1, 2008),
+                    d2.getSeries(0).getTimePeriod(1));
+            assertEquals(new Hour(23, 1, 1, 2008),
+                    d2.getSeries(1).getTimePeriod(0));
+
+            // an explicit zone for periods pegged elsewhere
+            TimeSeries s3 = new TimeSeries("S3", Day.class);
+            s3.add(new Day(3, 1, 2008), 4.0);
+            d1 = new TimeSeriesCollection(s3);
+            out = new FileOutputStream(this.file);
+            BinaryDatasetWriter.writeTimeSeriesCollection(d1, out, false,
+                    TimeZone.getTimeZone("Asia/Tokyo"));
+            out.close();
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            d2 = BinaryDatasetReader.readTimeSeriesCollection(this.file);
+            assertEquals(new Day(3, 1, 2008),
+                    d2.getSeries(0).getTimePeriod(0));
+        }
+        finally {
+            TimeZone.setDefault(saved);
+        }
+    }
+
+    /**
+     * Write and read a category dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testCategoryDataset() throws IOException {
+        DefaultCategoryDataset d1 = new DefaultCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(null, "R1", "C2");
+        d1.addValue(3.0, "R2", "C1");
+        d1.addValue(-4.5, "R2", "C2");
+        for (int i = 0; i < 2; i++) {
+            OutputStream out = new FileOutputStream(this.file);
+            BinaryDatasetWriter.writeCategoryDataset(d1, out, i == 1);
+            out.close();
+            DenseCategoryDataset d2
+                    = BinaryDatasetReader.readCategoryDataset(this.file);
+            assertEquals(d2, d1);
+        }
+    }
+
+    /**
+     * Reading the wrong type of data, or a file in another format, is an
+     * error.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWrongFormat() throws IOException {
+        write(createXYDataset(), false);
+        boolean pass = false;
+        try {
+            BinaryDatasetReader.readCategoryDataset(this.file);
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        OutputStream out = new FileOutputStream(this.file);
+        out.write("x,y\n1,2\n".getBytes("ISO-8859-1"));
+        out.close();
+        pass = false;
+        try {
+            BinaryDatasetReader.readXYDataset(this.file);
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+}
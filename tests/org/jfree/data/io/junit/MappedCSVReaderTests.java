@@ -0,0 +1,288 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * MappedCSVReaderTests.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added testUnterminatedLastLine();
+ *
+ */
+
+package org.jfree.data.io.junit;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.io.MappedCSVReader;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * Tests for the {@link MappedCSVReader} class.
+ */
+public class MappedCSVReaderTests extends TestCase {
+
+    /** A temporary file. */
+    private File file;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(MappedCSVReaderTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public MappedCSVReaderTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the temporary file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.file = File.createTempFile("jfreechart", ".csv");
+    }
+
+    /**
+     * Deletes the temporary file.
+     */
+    protected void tearDown() {
+        this.file.delete();
+    }
+
+    /**
+     * Writes (or appends) some text to the temporary file.
+     *
+     * @param text  the text.
+     * @param append  append to the file?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void write(String text, boolean append) throws IOException {
+        FileOutputStream out = new FileOutputStream(this.file, append);
+        out.write(text.getBytes("ISO-8859-1"));
+        out.close();
+    }
+
+    /**
+     * Numbers in a variety of formats should be parsed exactly as
+     * {@link Double#parseDouble(String)} would parse them.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testNumberFormats() throws IOException {
+        String[] values = {"0", "-0", "1", "-1", "+2.5", "3.14159", ".5",
+                "5.", "1e10", "1.5E-7", "-2.25e+3", "0.000123", "123456789012",
+                "0.1", "0.3", "9007199254740993", "1234567890123456789012",
+                "1.7976931348623157E308", "4.9E-324", "1e400", "NaN",
+                "Infinity", "0.1000000000000000055511151231257827",
+                "\"7.5\"", " 8 "};
+        StringBuffer b = new StringBuffer("value\n");
+        for (int i = 0; i < values.length; i++) {
+            b.append(values[i]).append('\n');
+        }
+        write(b.toString(), false);
+        MappedCSVReader reader = new MappedCSVReader();
+        double[] v = reader.readColumns(this.file, new int[] {0})[0];
+        assertEquals(values.length, v.length);
+        for (int i = 0; i < values.length; i++) {
+            String s = values[i].replace('"', ' ').trim();
+            double expected = Double.parseDouble(s);
+            assertEquals(values[i], Double.doubleToLongBits(expected),
+                    Double.doubleToLongBits(v[i]));
+        }
+    }
+
+    /**
+     * Missing, empty and invalid fields are read as NaN, blank lines are
+     * ignored, and both line terminators are accepted.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testMissingValues() throws IOException {
+        write("x,y,z\r\n1,2,3\r\n\r\n4,,6\n7,abc\n8", false);
+        MappedCSVReader reader = new MappedCSVReader();
+        double[][] data = reader.readColumns(this.file, new int[] {2, 0, 1});
+        assertEquals(4, data[0].length);
+        assertEquals(3.0, data[0][0], 0.0);
+        assertEquals(1.0, data[1][0], 0.0);
+        assertTrue(Double.isNaN(data[2][1]));
+        assertEquals(6.0, data[0][1], 0.0);
+        assertEquals(7.0, data[1][2], 0.0);
+        assertTrue(Double.isNaN(data[2][2]));
+        assertTrue(Double.isNaN(data[0][2]));
+        assertEquals(8.0, data[1][3], 0.0);
+        assertTrue(Double.isNaN(data[2][3]));
+    }
+
+    /**
+     * Parsing with several threads and small windows must give the same
+     * result as a single pass.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testThreadsAndWindows() throws IOException {
+        StringBuffer b = new StringBuffer("time;a;b\n");
+        for (int i = 0; i < 20000; i++) {
+            b.append(i).append(';').append(i * 0.25).append(';');
+            b.append(-i).append('\n');
+        }
+        write(b.toString(), false);
+        MappedCSVReader reader = new MappedCSVReader(';', '"', 1);
+        DefaultXYDataset d1 = reader.readXYDataset(this.file, 0,
+                new int[] {1, 2}, new Comparable[] {"A", "B"});
+        reader.setThreadCount(4);
+        reader.setWindowSize(50000);
+        DefaultXYDataset d2 = reader.readXYDataset(this.file, 0,
+                new int[] {1, 2}, new Comparable[] {"A", "B"});
+        assertEquals(20000, d1.getItemCount(0));
+        assertEquals(4999.75, d1.getYValue(0, 19999), 0.0);
+        assertEquals(-123.0, d1.getYValue(1, 123), 0.0);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * A line longer than the window size is an error.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testLongLine() throws IOException {
+        StringBuffer b = new StringBuffer("x\n");
+        for (int i = 0; i < 100; i++) {
+            b.append('1');
+        }
+        b.append("\n1\n");
+        write(b.toString(), false);
+        MappedCSVReader reader = new MappedCSVReader();
+        reader.setWindowSize(50);
+        boolean pass = false;
+        try {
+            reader.readColumns(this.file, new int[] {0});
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Appending rows from a growing file should only read complete lines.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testAppendRowsXY() throws IOException {
+        MappedCSVReader reader = new MappedCSVReader();
+        XYSeries series = new XYSeries("S");
+        write("x,y\n1,10\n2,2", false);
+        long pos = reader.appendRows(this.file, 0L, series, 0, 1);
+        assertEquals(1, series.getItemCount());
+        assertEquals(10.0, series.getY(0).doubleValue(), 0.0);
+
+        write("0\n3,30\n", true);
+        pos = reader.appendRows(this.file, pos, series, 0, 1);
+        assertEquals(3, series.getItemCount());
+        assertEquals(20.0, series.getY(1).doubleValue(), 0.0);
+        assertEquals(this.file.length(), pos);
+
+        // nothing new
+        assertEquals(pos, reader.appendRows(this.file, pos, series, 0, 1));
+        assertEquals(3, series.getItemCount());
+    }
+
+    /**
+     * Some checks for reading and appending time series data.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testTimeSeries() throws IOException {
+        write("t,v\n1000,1.5\n2000,2.5\n2000,9\n,4\n", false);
+        MappedCSVReader reader = new MappedCSVReader();
+        TimeSeries series = reader.readTimeSeries(this.file, 0, 1, "S");
+        assertEquals(2, series.getItemCount());
+        assertEquals(new FixedMillisecond(2000L), series.getTimePeriod(1));
+        assertEquals(2.5, series.getValue(1).doubleValue(), 0.0);
+
+        long pos = this.file.length();
+        write("3000,3.5\n", true);
+        reader.appendRows(this.file, pos, series, 0, 1);
+        assertEquals(3, series.getItemCount());
+        assertEquals(3.5, series.getValue(2).doubleValue(), 0.0);
+    }
+
+    /**
+     * The methods that read a whole file should all keep a last line that
+     * has no line terminator, while appendRows() leaves it for the next
+     * call.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testUnterminatedLastLine() throws IOException {
+        write("t,v\n1000,1.5\n2000,2.5", false);
+        MappedCSVReader reader = new MappedCSVReader();
+        double[][] data = reader.readColumns(this.file, new int[] {0, 1});
+        assertEquals(2, data[0].length);
+        assertEquals(2.5, data[1][1], 0.0);
+        assertEquals(2, reader.readXYDataset(this.file, 0, new int[] {1},
+                new Comparable[] {"S"}).getItemCount(0));
+
+        TimeSeries series = reader.readTimeSeries(this.file, 0, 1, "S");
+        assertEquals(2, series.getItemCount());
+        assertEquals(new FixedMillisecond(2000L), series.getTimePeriod(1));
+        assertEquals(2.5, series.getValue(1).doubleValue(), 0.0);
+
+        TimeSeries appended = new TimeSeries("S", FixedMillisecond.class);
+        long pos = reader.appendRows(this.file, 0L, appended, 0, 1);
+        assertEquals(1, appended.getItemCount());
+        write("\n", true);
+        reader.appendRows(this.file, pos, appended, 0, 1);
+        assertEquals(series, appended);
+    }
+
+}
@@ -0,0 +1,845 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------------
+ * JDBCStreamingXYDatasetTests.java
+ * --------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added testPublish() and checks for the event thread;
+ *
+ */
+
+package org.jfree.data.jdbc.junit;
+
+import java.awt.EventQueue;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import javax.swing.SwingUtilities;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.jdbc.JDBCStreamingXYDataset;
+
+/**
+ * Tests for the {@link JDBCStreamingXYDataset} class, using a stub JDBC
+ * connection that serves rows from memory.
+ */
+public class JDBCStreamingXYDatasetTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The number of change events received. */
+    private int eventCount;
+
+    /**
+     * A flag that records whether the last change event was received on the
+     * event dispatch thread.
+     */
+    private boolean eventOnDispatchThread;
+
+    /**
+     * Counts the change events received.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+        this.eventOnDispatchThread = EventQueue.isDispatchThread();
+    }
+
+    /**
+     * Waits for the tasks already queued on the event dispatch thread.
+     *
+     * @throws Exception if the wait is interrupted.
+     */
+    private static void flushEvents() throws Exception {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+                // nothing to do
+            }
+        });
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(JDBCStreamingXYDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public JDBCStreamingXYDatasetTests(String name) {
+        super(name);
+    }
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * A stub database holding a single table in memory.  Queries executed
+     * through a plain statement return all the rows (or the rows set with
+     * {@link #setNextResult(int[], String[], Object[][])}), queries executed
+     * through a prepared statement return the rows with an x-value greater
+     * than the parameter.
+     */
+    static class StubDatabase {
+
+        /** The column types. */
+        int[] types;
+
+        /** The column labels. */
+        String[] labels;
+
+        /** The rows (each an Object[]). */
+        List rows;
+
+        /** The types for the next result, if overridden. */
+        int[] nextTypes;
+
+        /** The labels for the next result, if overridden. */
+        String[] nextLabels;
+
+        /** The rows for the next result, if overridden. */
+        Object[][] nextRows;
+
+        /** The SQL of the last query executed. */
+        String lastSQL;
+
+        /** The parameter of the last prepared query executed. */
+        Object lastParameter;
+
+        /** The fetch size requested for the last statement. */
+        int lastFetchSize;
+
+        /** The number of statements not yet closed. */
+        int openStatements;
+
+        /** A flag that controls whether queries fail. */
+        boolean failing;
+
+        /** A flag that records whether the connection was closed. */
+        boolean closed;
+
+        /**
+         * Creates a database with a table having the specified columns.
+         *
+         * @param types  the column types.
+         * @param labels  the column labels.
+         */
+        StubDatabase(int[] types, String[] labels) {
+            this.types = types;
+            this.labels = labels;
+            this.rows = new ArrayList();
+        }
+
+        /**
+         * Adds a row to the table.
+         *
+         * @param row  the row.
+         */
+        void addRow(Object[] row) {
+            this.rows.add(row);
+        }
+
+        /**
+         * Sets the result returned by the next plain query.
+         *
+         * @param types  the column types.
+         * @param labels  the column labels.
+         * @param rows  the rows.
+         */
+        void setNextResult(int[] types, String[] labels, Object[][] rows) {
+            this.nextTypes = types;
+            this.nextLabels = labels;
+            this.nextRows = rows;
+        }
+
+        /**
+         * Returns a connection to this database.
+         *
+         * @return A connection.
+         */
+        Connection getConnection() {
+            return (Connection) createProxy(Connection.class,
+                    new InvocationHandler() {
+                public Object invoke(Object proxy, Method method,
+                        Object[] args) {
+                    String name = method.getName();
+                    if (name.equals("createStatement")) {
+                        return createStatement(Statement.class, null);
+                    }
+                    if (name.equals("prepareStatement")) {
+                        return createStatement(PreparedStatement.class,
+                                (String) args[0]);
+                    }
+                    if (name.equals("close")) {
+                        StubDatabase.this.closed = true;
+                        return null;
+                    }
+                    return handleObjectMethod(proxy, method, args);
+                }
+            });
+        }
+
+        /**
+         * Creates a statement.
+         *
+         * @param type  the statement interface.
+         * @param preparedSQL  the SQL for a prepared statement.
+         *
+         * @return A statement.
+         */
+        Object createStatement(Class type, final String preparedSQL) {
+            this.openStatements++;
+            this.lastFetchSize = 0;
+            return createProxy(type, new InvocationHandler() {
+                public Object invoke(Object proxy, Method method,
+                        Object[] args) throws SQLException {
+                    StubDatabase db = StubDatabase.this;
+                    String name = method.getName();
+                    if (name.equals("setFetchSize")) {
+                        db.lastFetchSize = ((Integer) args[0]).intValue();
+                        return null;
+                    }
+                    if (name.equals("setTimestamp")
+                            || name.equals("setDouble")) {
+                        db.lastParameter = args[1];
+                        return null;
+                    }
+                    if (name.equals("executeQuery")) {
+                        if (db.failing) {
+                            throw new SQLException("Stub failure.");
+                        }
+                        if (args == null) {
+                            db.lastSQL = preparedSQL;
+                            return createResultSet(db.types, db.labels,
+                                    getRowsAfter(db.lastParameter));
+                        }
+                        db.lastSQL = (String) args[0];
+                        if (db.nextRows != null) {
+                            Object[][] result = db.nextRows;
+                            db.nextRows = null;
+                            return createResultSet(db.nextTypes,
+                                    db.nextLabels, result);
+                        }
+                        return createResultSet(db.types, db.labels,
+                                (Object[][]) db.rows.toArray(
+                                        new Object[db.rows.size()][]));
+                    }
+                    if (name.equals("close")) {
+                        db.openStatements--;
+                        return null;
+                    }
+                    return handleObjectMethod(proxy, method, args);
+                }
+            });
+        }
+
+        /**
+         * Returns the rows with an x-value greater than the specified value.
+         *
+         * @param parameter  the value (a Timestamp or a Double).
+         *
+         * @return The rows.
+         */
+        Object[][] getRowsAfter(Object parameter) {
+            double limit = toDouble(parameter);
+            List result = new ArrayList();
+            for (int i = 0; i < this.rows.size(); i++) {
+                Object[] row = (Object[]) this.rows.get(i);
+                if (toDouble(row[0]) > limit) {
+                    result.add(row);
+                }
+            }
+            return (Object[][]) result.toArray(new Object[result.size()][]);
+        }
+
+        /**
+         * Creates a result set.
+         *
+         * @param types  the column types.
+         * @param labels  the column labels.
+         * @param data  the rows.
+         *
+         * @return A result set.
+         */
+        ResultSet createResultSet(final int[] types, final String[] labels,
+                final Object[][] data) {
+            final ResultSetMetaData metaData = (ResultSetMetaData)
+                    createProxy(ResultSetMetaData.class,
+                    new InvocationHandler() {
+                public Object invoke(Object proxy, Method method,
+                        Object[] args) {
+                    String name = method.getName();
+                    if (name.equals("getColumnCount")) {
+                        return new Integer(types.length);
+                    }
+                    if (name.equals("getColumnType")) {
+                        int c = ((Integer) args[0]).intValue();
+                        return new Integer(types[c - 1]);
+                    }
+                    if (name.equals("getColumnLabel")) {
+                        int c = ((Integer) args[0]).intValue();
+                        return labels[c - 1];
+                    }
+                    return handleObjectMethod(proxy, method, args);
+                }
+            });
+            return (ResultSet) createProxy(ResultSet.class,
+                    new InvocationHandler() {
+                private int row = -1;
+                private boolean wasNull;
+                public Object invoke(Object proxy, Method method,
+                        Object[] args) {
+                    String name = method.getName();
+                    if (name.equals("getMetaData")) {
+                        return metaData;
+                    }
+                    if (name.equals("next")) {
+                        this.row++;
+                        return Boolean.valueOf(this.row < data.length);
+                    }
+                    if (name.equals("getDouble")) {
+                        Object v = getValue(args);
+                        return new Double(v != null ? toDouble(v) : 0.0);
+                    }
+                    if (name.equals("getTimestamp")) {
+                        return getValue(args);
+                    }
+                    if (name.equals("wasNull")) {
+                        return Boolean.valueOf(this.wasNull);
+                    }
+                    if (name.equals("close")) {
+                        return null;
+                    }
+                    return handleObjectMethod(proxy, method, args);
+                }
+                private Object getValue(Object[] args) {
+                    int c = ((Integer) args[0]).intValue();
+                    Object v = data[this.row][c - 1];
+                    this.wasNull = (v == null);
+                    return v;
+                }
+            });
+        }
+
+        /**
+         * Converts a value (a Number or a Timestamp) to a double.
+         *
+         * @param value  the value.
+         *
+         * @return The double value.
+         */
+        static double toDouble(Object value) {
+            if (value instanceof Timestamp) {
+                return ((Timestamp) value).getTime();
+            }
+            return ((Number) value).doubleValue();
+        }
+
+        /**
+         * Creates a proxy for a JDBC interface.
+         *
+         * @param type  the interface.
+         * @param handler  the handler.
+         *
+         * @return The proxy.
+         */
+        static Object createProxy(Class type, InvocationHandler handler) {
+            return Proxy.newProxyInstance(
+                    JDBCStreamingXYDatasetTests.class.getClassLoader(),
+                    new Class[] {type}, handler);
+        }
+
+        /**
+         * Handles the methods inherited from Object, and rejects any other
+         * method.
+         *
+         * @param proxy  the proxy.
+         * @param method  the method.
+         * @param args  the arguments.
+         *
+         * @return The result.
+         */
+        static Object handleObjectMethod(Object proxy, Method method,
+                Object[] args) {
+            String name = method.getName();
+            if (name.equals("hashCode")) {
+                return new Integer(System.identityHashCode(proxy));
+            }
+            if (name.equals("equals")) {
+                return Boolean.valueOf(proxy == args[0]);
+            }
+            if (name.equals("toString")) {
+                return "Stub" + method.getDeclaringClass().getName();
+            }
+            throw new UnsupportedOperationException(name);
+        }
+
+    }
+
+    /**
+     * Creates a database with a numeric x-column, two numeric y-columns and
+     * a text column (which is not a series).
+     *
+     * @param rowCount  the number of rows to add.
+     *
+     * @return The database.
+     */
+    private StubDatabase createNumericDatabase(int rowCount) {
+        StubDatabase db = new StubDatabase(new int[] {Types.DOUBLE,
+                Types.INTEGER, Types.VARCHAR, Types.DECIMAL},
+                new String[] {"X", "A", "NAME", "B"});
+        for (int i = 0; i < rowCount; i++) {
+            db.addRow(new Object[] {new Double(i), new Integer(i * 2),
+                    "row" + i, new Double(i + 0.5)});
+        }
+        return db;
+    }
+
+    /**
+     * Some checks for a full load.
+     */
+    public void testExecuteQuery() throws SQLException {
+        StubDatabase db = createNumericDatabase(3);
+        db.addRow(new Object[] {new Double(3.0), null, "row3",
+                new Double(-1.0)});
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        d.addChangeListener(this);
+        assertEquals(0, d.getSeriesCount());
+        assertEquals(0, d.getItemCount());
+        assertNull(d.getDomainBounds(false));
+        assertNull(d.getRangeBounds(false));
+
+        d.setFetchSize(100);
+        d.executeQuery("SELECT X, A, NAME, B FROM T");
+        assertEquals("SELECT X, A, NAME, B FROM T", db.lastSQL);
+        assertEquals(100, db.lastFetchSize);
+        assertEquals(0, db.openStatements);
+        assertEquals(1, this.eventCount);
+
+        assertFalse(d.isTimeSeries());
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("A", d.getSeriesKey(0));
+        assertEquals("B", d.getSeriesKey(1));
+        assertEquals(4, d.getItemCount());
+        assertEquals(4, d.getItemCount(1));
+        assertEquals(2.0, d.getXValue(0, 2), EPSILON);
+        assertEquals(new Double(2.0), d.getX(1, 2));
+        assertEquals(4.0, d.getYValue(0, 2), EPSILON);
+        assertEquals(2.5, d.getYValue(1, 2), EPSILON);
+        assertTrue(Double.isNaN(d.getYValue(0, 3)));
+        assertNull(d.getY(0, 3));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        assertEquals(new Range(0.0, 3.0), d.getDomainBounds(false));
+        assertEquals(new Range(-1.0, 4.0), d.getRangeBounds(false));
+        assertEquals(-1.0, d.getRangeLowerBound(false), EPSILON);
+        assertEquals(4.0, d.getRangeUpperBound(false), EPSILON);
+
+        try {
+            d.getXValue(0, 4);
+            fail("Should have thrown an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        d.close();
+        assertTrue(db.closed);
+    }
+
+    /**
+     * A timestamp x-column gives a time series, with the x-values in
+     * milliseconds.
+     */
+    public void testTimeSeries() throws SQLException {
+        StubDatabase db = new StubDatabase(new int[] {Types.TIMESTAMP,
+                Types.DOUBLE}, new String[] {"T", "V"});
+        db.addRow(new Object[] {new Timestamp(2000L), new Double(1.0)});
+        db.addRow(new Object[] {new Timestamp(1000L), new Double(2.0)});
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        d.executeQuery("SELECT T, V FROM S");
+        assertTrue(d.isTimeSeries());
+        assertEquals(2000.0, d.getXValue(0, 0), EPSILON);
+        assertEquals(1000.0, d.getXValue(0, 1), EPSILON);
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+    }
+
+    /**
+     * Queries with unsuitable columns are rejected.
+     */
+    public void testUnsupportedColumns() {
+        StubDatabase db = new StubDatabase(new int[] {Types.VARCHAR,
+                Types.DOUBLE}, new String[] {"K", "V"});
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        try {
+            d.executeQuery("SELECT K, V FROM T");
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+        db.types = new int[] {Types.DOUBLE, Types.VARCHAR};
+        try {
+            d.executeQuery("SELECT V, K FROM T");
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+        assertEquals(0, db.openStatements);
+        assertEquals(0, d.getSeriesCount());
+    }
+
+    /**
+     * Some checks for the incremental refresh.
+     */
+    public void testRefresh() throws SQLException {
+        StubDatabase db = createNumericDatabase(10);
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        try {
+            d.refresh();
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected, no query yet
+        }
+        d.executeQuery("SELECT X, A, NAME, B FROM T");
+        try {
+            d.refresh();
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected, no incremental query
+        }
+        d.setIncrementalQuery("SELECT X, A, NAME, B FROM T WHERE X > ?");
+        d.addChangeListener(this);
+
+        assertEquals(0, d.refresh());
+        assertEquals(new Double(9.0), db.lastParameter);
+        assertEquals(0, this.eventCount);
+
+        // enough rows to grow the arrays
+        for (int i = 10; i < 40; i++) {
+            db.addRow(new Object[] {new Double(i), new Integer(i * 2),
+                    "row" + i, new Double(i + 0.5)});
+        }
+        assertEquals(30, d.refresh());
+        assertEquals("SELECT X, A, NAME, B FROM T WHERE X > ?", db.lastSQL);
+        assertEquals(1, this.eventCount);
+        assertEquals(0, db.openStatements);
+        assertEquals(40, d.getItemCount());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, d.getXValue(0, i), EPSILON);
+            assertEquals(i * 2.0, d.getYValue(0, i), EPSILON);
+            assertEquals(i + 0.5, d.getYValue(1, i), EPSILON);
+        }
+        assertEquals(new Range(0.0, 39.0), d.getDomainBounds(false));
+        assertEquals(new Range(0.0, 78.0), d.getRangeBounds(false));
+
+        db.addRow(new Object[] {new Double(40.0), new Integer(1), "row40",
+                new Double(2.0)});
+        d.setFetchSize(5);
+        assertEquals(1, d.refresh());
+        assertEquals(new Double(39.0), db.lastParameter);
+        assertEquals(5, db.lastFetchSize);
+        assertEquals(41, d.getItemCount());
+    }
+
+    /**
+     * A refresh of an empty dataset runs the full query again.
+     */
+    public void testRefreshEmpty() throws SQLException {
+        StubDatabase db = createNumericDatabase(0);
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        d.executeQuery("SELECT X, A, NAME, B FROM T");
+        assertEquals(0, d.getItemCount());
+        db.addRow(new Object[] {new Double(1.0), new Integer(2), "row",
+                new Double(3.0)});
+        assertEquals(1, d.refresh());
+        assertEquals("SELECT X, A, NAME, B FROM T", db.lastSQL);
+        assertEquals(3.0, d.getYValue(1, 0), EPSILON);
+    }
+
+    /**
+     * The incremental refresh of a time series passes a timestamp, and
+     * rejects a query with different columns.
+     */
+    public void testRefreshTimeSeries() throws SQLException {
+        StubDatabase db = new StubDatabase(new int[] {Types.TIMESTAMP,
+                Types.DOUBLE}, new String[] {"T", "V"});
+        db.addRow(new Object[] {new Timestamp(1000L), new Double(1.0)});
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        d.executeQuery("SELECT T, V FROM S");
+        d.setIncrementalQuery("SELECT T, V FROM S WHERE T > ?");
+        db.addRow(new Object[] {new Timestamp(2000L), new Double(2.0)});
+        assertEquals(1, d.refresh());
+        assertEquals(new Timestamp(1000L), db.lastParameter);
+        assertEquals(2000.0, d.getXValue(0, 1), EPSILON);
+
+        db.types = new int[] {Types.DOUBLE, Types.DOUBLE};
+        db.addRow(new Object[] {new Double(3000.0), new Double(3.0)});
+        try {
+            d.refresh();
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+        assertEquals(2, d.getItemCount());
+    }
+
+    /**
+     * Some checks for the asynchronous load and refresh.  The results are
+     * published on the event dispatch thread.
+     */
+    public void testAsync() throws Exception {
+        StubDatabase db = createNumericDatabase(5);
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        d.addChangeListener(this);
+        Thread t = d.executeQueryAsync("SELECT X, A, NAME, B FROM T");
+        assertTrue(t.isDaemon());
+        t.join();
+        flushEvents();
+        assertNull(d.getLastException());
+        assertEquals(1, this.eventCount);
+        assertTrue(this.eventOnDispatchThread);
+        assertEquals(5, d.getItemCount());
+
+        d.setIncrementalQuery("SELECT X, A, NAME, B FROM T WHERE X > ?");
+        db.addRow(new Object[] {new Double(5.0), new Integer(10), "row5",
+                new Double(5.5)});
+        d.refreshAsync().join();
+        flushEvents();
+        assertNull(d.getLastException());
+        assertEquals(2, this.eventCount);
+        assertTrue(this.eventOnDispatchThread);
+        assertEquals(6, d.getItemCount());
+        assertEquals(5.5, d.getYValue(1, 5), EPSILON);
+
+        db.failing = true;
+        d.refreshAsync().join();
+        flushEvents();
+        assertNotNull(d.getLastException());
+        assertEquals(2, this.eventCount);
+        d.executeQueryAsync("SELECT X, A, NAME, B FROM T").join();
+        flushEvents();
+        assertNotNull(d.getLastException());
+        assertEquals(6, d.getItemCount());
+
+        db.failing = false;
+        d.executeQueryAsync("SELECT X, A, NAME, B FROM T").join();
+        flushEvents();
+        assertNull(d.getLastException());
+        assertEquals(3, this.eventCount);
+        assertEquals(0, db.openStatements);
+
+        db.setNextResult(new int[] {Types.DOUBLE, Types.DOUBLE, Types.DOUBLE},
+                new String[] {"B", "MIN", "MAX"}, new Object[][] {
+                {new Double(1.0), new Double(1.0), new Double(2.0)}});
+        d.executeBucketQueryAsync("SAMPLES", "TS", "V", 0.0, 4.0, 2).join();
+        flushEvents();
+        assertNull(d.getLastException());
+        assertEquals(4, this.eventCount);
+        assertTrue(this.eventOnDispatchThread);
+        assertEquals(1, d.getItemCount());
+        assertEquals(3.0, d.getXValue(0, 0), EPSILON);
+    }
+
+    /**
+     * A dataset that holds back the results of asynchronous loads.
+     */
+    static class HeldDataset extends JDBCStreamingXYDataset {
+
+        /** The tasks handed to publish(). */
+        List tasks = new ArrayList();
+
+        /**
+         * Creates a new dataset.
+         *
+         * @param connection  the connection.
+         */
+        HeldDataset(Connection connection) {
+            super(connection);
+        }
+
+        /**
+         * Records the task instead of running it.
+         *
+         * @param task  the task.
+         */
+        protected void publish(Runnable task) {
+            this.tasks.add(task);
+        }
+
+    }
+
+    /**
+     * The data loaded asynchronously only changes when the published task
+     * runs, and an appended result is discarded if the data has been
+     * replaced in the meantime.
+     */
+    public void testPublish() throws Exception {
+        StubDatabase db = createNumericDatabase(5);
+        HeldDataset d = new HeldDataset(db.getConnection());
+        d.addChangeListener(this);
+        d.executeQueryAsync("SELECT X, A, NAME, B FROM T").join();
+        assertEquals(1, d.tasks.size());
+        assertEquals(0, d.getItemCount());
+        assertEquals(0, this.eventCount);
+        ((Runnable) d.tasks.remove(0)).run();
+        assertEquals(5, d.getItemCount());
+        assertEquals(1, this.eventCount);
+
+        // nothing to publish
+        d.setIncrementalQuery("SELECT X, A, NAME, B FROM T WHERE X > ?");
+        d.refreshAsync().join();
+        assertNull(d.getLastException());
+        assertEquals(0, d.tasks.size());
+
+        // a refresh based on data that has since been replaced
+        db.addRow(new Object[] {new Double(5.0), new Integer(10), "row5",
+                new Double(5.5)});
+        d.refreshAsync().join();
+        assertEquals(1, d.tasks.size());
+        d.executeQuery("SELECT X, A, NAME, B FROM T");
+        assertEquals(2, this.eventCount);
+        int count = d.getItemCount();
+        ((Runnable) d.tasks.remove(0)).run();
+        assertEquals(2, this.eventCount);
+        assertEquals(count, d.getItemCount());
+    }
+
+    /**
+     * Some checks for the aggregated query.
+     */
+    public void testExecuteBucketQuery() throws SQLException {
+        StubDatabase db = createNumericDatabase(3);
+        JDBCStreamingXYDataset d = new JDBCStreamingXYDataset(
+                db.getConnection());
+        d.executeQuery("SELECT X, A, NAME, B FROM T");
+        d.setIncrementalQuery("SELECT X, A, NAME, B FROM T WHERE X > ?");
+        d.addChangeListener(this);
+
+        // the row for bucket 4 holds values equal to the upper bound
+        db.setNextResult(new int[] {Types.DOUBLE, Types.DOUBLE, Types.DOUBLE},
+                new String[] {"B", "MIN", "MAX"}, new Object[][] {
+                {new Double(0.0), new Double(1.0), new Double(5.0)},
+                {new Double(2.0), null, new Double(3.0)},
+                {new Double(4.0), new Double(7.0), new Double(7.0)}});
+        d.executeBucketQuery("SAMPLES", "TS", "V", 10.0, 50.0, 4);
+        assertEquals(1, this.eventCount);
+        assertEquals(0, db.openStatements);
+        assertTrue(db.lastSQL.startsWith("SELECT FLOOR((TS - 10.0) / 10.0)"));
+        assertTrue(db.lastSQL.indexOf("MIN(V), MAX(V) FROM SAMPLES") > 0);
+        assertTrue(db.lastSQL.indexOf("WHERE TS >= 10.0 AND TS <= 50.0") > 0);
+        assertTrue(db.lastSQL.indexOf("GROUP BY") > 0);
+
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("V (min)", d.getSeriesKey(0));
+        assertEquals("V (max)", d.getSeriesKey(1));
+        assertEquals(3, d.getItemCount());
+        assertEquals(15.0, d.getXValue(0, 0), EPSILON);
+        assertEquals(35.0, d.getXValue(0, 1), EPSILON);
+        assertEquals(45.0, d.getXValue(0, 2), EPSILON);
+        assertEquals(1.0, d.getYValue(0, 0), EPSILON);
+        assertEquals(5.0, d.getYValue(1, 0), EPSILON);
+        assertTrue(Double.isNaN(d.getYValue(0, 1)));
+        assertEquals(7.0, d.getYValue(1, 2), EPSILON);
+        assertEquals(new Range(1.0, 7.0), d.getRangeBounds(false));
+
+        // the aggregated data cannot be refreshed incrementally
+        db.addRow(new Object[] {new Double(3.0), new Integer(6), "row3",
+                new Double(3.5)});
+        try {
+            d.refresh();
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+        assertEquals(3, d.getItemCount());
+
+        try {
+            d.executeBucketQuery("SAMPLES", "TS", "V", 10.0, 10.0, 4);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d.executeBucketQuery("SAMPLES", "TS", "V", 10.0, 50.0, 0);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d.executeBucketQuery(null, "TS", "V", 10.0, 50.0, 4);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -41,6 +41,7 @@
  * 26-Feb-2007 : Added some basic tests (DG);
  * 30-Mar-2007 : Added a test for bug 1690654 (DG);
  * 21-Nov-2007 : Added testRemoveColumnByKey() method (DG);
+ * 19-Oct-2026 : Added testIndicesAfterRemoval() and testIndicesAfterSerialization();
  *
  */
 
@@ -365,4 +366,61 @@ public class DefaultKeyedValues2DTests extends TestCase {
         assertTrue(pass);
     }
 
+    /**
+     * The row and column indices must stay consistent after rows and
+     * columns are removed.
+     */
+    public void testIndicesAfterRemoval() {
+        DefaultKeyedValues2D d = new DefaultKeyedValues2D();
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.addValue(new Double(2.0), "R2", "C2");
+        d.addValue(new Double(3.0), "R3", "C3");
+        d.removeRow("R1");
+        assertEquals(-1, d.getRowIndex("R1"));
+        assertEquals(0, d.getRowIndex("R2"));
+        assertEquals(1, d.getRowIndex("R3"));
+        d.removeColumn("C2");
+        assertEquals(-1, d.getColumnIndex("C2"));
+        assertEquals(0, d.getColumnIndex("C1"));
+        assertEquals(1, d.getColumnIndex("C3"));
+        assertEquals(new Double(3.0), d.getValue("R3", "C3"));
+        d.addValue(new Double(4.0), "R1", "C2");
+        assertEquals(2, d.getRowIndex("R1"));
+        assertEquals(2, d.getColumnIndex("C2"));
+        assertEquals(new Double(4.0), d.getValue("R1", "C2"));
+        d.clear();
+        assertEquals(-1, d.getRowIndex("R2"));
+        assertEquals(-1, d.getColumnIndex("C1"));
+    }
+
+    /**
+     * The key indices are transient, so check that they are rebuilt when the
+     * object is deserialized.
+     */
+    public void testIndicesAfterSerialization() {
+        DefaultKeyedValues2D d1 = new DefaultKeyedValues2D();
+        d1.addValue(new Double(1.0), "R1", "C1");
+        d1.addValue(new Double(2.0), "R2", "C2");
+        DefaultKeyedValues2D d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (DefaultKeyedValues2D) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(1, d2.getRowIndex("R2"));
+        assertEquals(1, d2.getColumnIndex("C2"));
+        d2.addValue(new Double(3.0), "R3", "C1");
+        assertEquals(2, d2.getRowIndex("R3"));
+        assertEquals(new Double(3.0), d2.getValue("R3", "C1"));
+    }
+
 }
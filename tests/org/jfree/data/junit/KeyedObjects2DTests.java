@@ -37,6 +37,7 @@
  * 01-Mar-2004 : Version 1 (DG);
  * 28-Sep-2007 : Added testEquals() and enhanced testClone() (DG);
  * 03-Oct-2007 : Added new tests (DG);
+ * 19-Oct-2026 : Added testIndicesAfterRemoval() and testIndicesAfterSerialization();
  *
  */
 
@@ -426,4 +427,61 @@ public class KeyedObjects2DTests extends TestCase {
         assertEquals("Obj1", data.getObject(0, 0));
     }
 
+    /**
+     * The row and column indices must stay consistent after rows and
+     * columns are removed.
+     */
+    public void testIndicesAfterRemoval() {
+        KeyedObjects2D d = new KeyedObjects2D();
+        d.addObject("A", "R1", "C1");
+        d.addObject("B", "R2", "C2");
+        d.addObject("C", "R3", "C3");
+        d.removeRow("R1");
+        assertEquals(-1, d.getRowIndex("R1"));
+        assertEquals(0, d.getRowIndex("R2"));
+        assertEquals(1, d.getRowIndex("R3"));
+        d.removeColumn("C2");
+        assertEquals(-1, d.getColumnIndex("C2"));
+        assertEquals(0, d.getColumnIndex("C1"));
+        assertEquals(1, d.getColumnIndex("C3"));
+        assertEquals("C", d.getObject("R3", "C3"));
+        d.addObject("D", "R1", "C2");
+        assertEquals(2, d.getRowIndex("R1"));
+        assertEquals(2, d.getColumnIndex("C2"));
+        assertEquals("D", d.getObject("R1", "C2"));
+        d.clear();
+        assertEquals(-1, d.getRowIndex("R2"));
+        assertEquals(-1, d.getColumnIndex("C1"));
+    }
+
+    /**
+     * The key indices are transient, so check that they are rebuilt when the
+     * object is deserialized.
+     */
+    public void testIndicesAfterSerialization() {
+        KeyedObjects2D d1 = new KeyedObjects2D();
+        d1.addObject("A", "R1", "C1");
+        d1.addObject("B", "R2", "C2");
+        KeyedObjects2D d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (KeyedObjects2D) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(1, d2.getRowIndex("R2"));
+        assertEquals(1, d2.getColumnIndex("C2"));
+        d2.addObject("C", "R3", "C1");
+        assertEquals(2, d2.getRowIndex("R3"));
+        assertEquals("C", d2.getObject("R3", "C1"));
+    }
+
 }
@@ -37,6 +37,7 @@
  * 27-Jan-2004 : Version 1 (DG);
  * 28-Sep-2007 : Added testCloning2() (DG);
  * 03-Oct-2007 : New tests (DG);
+ * 19-Oct-2026 : Added testIndicesAfterRemoval() and testIndicesAfterSerialization();
  *
  */
 
@@ -413,4 +414,55 @@ public class KeyedObjectsTests extends TestCase {
         assertTrue(pass);
     }
 
+    /**
+     * The key index must stay consistent after values are inserted and
+     * removed.
+     */
+    public void testIndicesAfterRemoval() {
+        KeyedObjects ko = new KeyedObjects();
+        ko.addObject("K1", "A");
+        ko.addObject("K2", "B");
+        ko.addObject("K3", "C");
+        ko.removeValue("K1");
+        assertEquals(-1, ko.getIndex("K1"));
+        assertEquals(0, ko.getIndex("K2"));
+        assertEquals(1, ko.getIndex("K3"));
+        ko.insertValue(0, "K0", "Z");
+        assertEquals(0, ko.getIndex("K0"));
+        assertEquals(1, ko.getIndex("K2"));
+        assertEquals(2, ko.getIndex("K3"));
+        assertEquals("C", ko.getObject("K3"));
+        ko.clear();
+        assertEquals(-1, ko.getIndex("K2"));
+    }
+
+    /**
+     * The key index is transient, so check that it is rebuilt when the
+     * object is deserialized.
+     */
+    public void testIndicesAfterSerialization() {
+        KeyedObjects ko1 = new KeyedObjects();
+        ko1.addObject("K1", "A");
+        ko1.addObject("K2", "B");
+        KeyedObjects ko2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(ko1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            ko2 = (KeyedObjects) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(1, ko2.getIndex("K2"));
+        ko2.addObject("K3", "C");
+        assertEquals(2, ko2.getIndex("K3"));
+        assertEquals("C", ko2.getObject("K3"));
+    }
+
 }
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 28-Aug-2003 : Version 1 (DG);
+ * 19-Oct-2026 : Added tests for double arrays and quantile sketches;
  *
  */
 
@@ -42,6 +43,7 @@ package org.jfree.data.statistics.junit;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -49,6 +51,7 @@ import junit.framework.TestSuite;
 
 import org.jfree.data.statistics.BoxAndWhiskerCalculator;
 import org.jfree.data.statistics.BoxAndWhiskerItem;
+import org.jfree.data.statistics.QuantileSketch;
 
 /**
  * Tests for the {@link BoxAndWhiskerCalculator} class.
@@ -179,4 +182,81 @@ public class BoxAndWhiskerCalculatorTests extends TestCase {
         assertEquals(1.0, theItem.getMinRegularValue().doubleValue(), EPSILON);
         assertEquals(4.0, theItem.getMaxRegularValue().doubleValue(), EPSILON);
     }
+    /**
+     * The calculation for a double array should match the calculation for a 
+     * list, for odd and even sizes, with and without outliers.
+     */
+    public void testCalculateForArray() {
+        Random random = new Random(42L);
+        for (int n = 1; n < 60; n++) {
+            double[] values = new double[n];
+            List list = new ArrayList();
+            for (int i = 0; i < n; i++) {
+                values[i] = Math.floor(random.nextGaussian() * 10.0);
+                if (i % 17 == 5) {
+                    values[i] = values[i] * 10.0;
+                }
+                list.add(new Double(values[i]));
+            }
+            BoxAndWhiskerItem expected 
+                    = BoxAndWhiskerCalculator.calculateBoxAndWhiskerStatistics(
+                    list);
+            BoxAndWhiskerItem item 
+                    = BoxAndWhiskerCalculator.calculateFromArray(values);
+            assertEquals(expected.getMean().doubleValue(), 
+                    item.getMean().doubleValue(), EPSILON);
+            assertEquals(expected.getMedian(), item.getMedian());
+            assertEquals(expected.getQ1(), item.getQ1());
+            assertEquals(expected.getQ3(), item.getQ3());
+            assertEquals(expected.getMinRegularValue(), 
+                    item.getMinRegularValue());
+            assertEquals(expected.getMaxRegularValue(), 
+                    item.getMaxRegularValue());
+            assertEquals(expected.getMinOutlier(), item.getMinOutlier());
+            assertEquals(expected.getMaxOutlier(), item.getMaxOutlier());
+            assertEquals(expected.getOutliers(), item.getOutliers());
+        }
+        
+        // NaN values are ignored
+        BoxAndWhiskerItem item = BoxAndWhiskerCalculator.calculateFromArray(
+                new double[] {1.0, 2.0, Double.NaN, 3.0, 4.0});
+        assertEquals(1.0, item.getMinRegularValue().doubleValue(), EPSILON);
+        assertEquals(4.0, item.getMaxRegularValue().doubleValue(), EPSILON);
+        assertEquals(2.5, item.getMedian().doubleValue(), EPSILON);
+    }
+
+    /**
+     * The approximate calculation from a sketch should be close to the 
+     * exact calculation, and should report a few outliers exactly.
+     */
+    public void testCalculateForSketch() {
+        Random random = new Random(7L);
+        double[] values = new double[20000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 100.0;
+            if (i % 5000 == 0) {
+                values[i] = 1000.0 + i;
+            }
+            sketch.add(values[i]);
+        }
+        BoxAndWhiskerItem expected 
+                = BoxAndWhiskerCalculator.calculateFromArray(values);
+        BoxAndWhiskerItem item 
+                = BoxAndWhiskerCalculator.calculateFromSketch(sketch);
+        assertEquals(expected.getMean().doubleValue(), 
+                item.getMean().doubleValue(), 0.000001);
+        assertEquals(expected.getMedian().doubleValue(), 
+                item.getMedian().doubleValue(), 1.0);
+        assertEquals(expected.getQ1().doubleValue(), 
+                item.getQ1().doubleValue(), 1.0);
+        assertEquals(expected.getQ3().doubleValue(), 
+                item.getQ3().doubleValue(), 1.0);
+        assertEquals(expected.getMinRegularValue(), 
+                item.getMinRegularValue());
+        assertEquals(expected.getMaxRegularValue(), 
+                item.getMaxRegularValue());
+        assertEquals(expected.getOutliers(), item.getOutliers());
+    }
+
 }
@@ -41,6 +41,10 @@
  *               SimpleHistogramBin classes (DG);
  * 18-Jan-2005 : Added main() method (DG);
  * 12-Nov-2007 : Added DefaultBoxAndWhiskerXYDatasetTests (DG);
+ * 19-Oct-2026 : Added StreamingHistogramDatasetTests;
+ * 19-Oct-2026 : Added QuantileSketchTests and 
+ *               IncrementalBoxAndWhiskerCategoryDatasetTests;
+ * 19-Oct-2026 : Added OnlineStatisticTests;
  *
  */
 
@@ -71,10 +75,14 @@ public class DataStatisticsPackageTests extends TestCase {
         suite.addTestSuite(DefaultStatisticalCategoryDatasetTests.class);
         suite.addTestSuite(HistogramBinTests.class);
         suite.addTestSuite(HistogramDatasetTests.class);
+        suite.addTestSuite(IncrementalBoxAndWhiskerCategoryDatasetTests.class);
         suite.addTestSuite(MeanAndStandardDeviationTests.class);
+        suite.addTestSuite(OnlineStatisticTests.class);
+        suite.addTestSuite(QuantileSketchTests.class);
         suite.addTestSuite(RegressionTests.class);
         suite.addTestSuite(SimpleHistogramBinTests.class);
         suite.addTestSuite(SimpleHistogramDatasetTests.class);
+        suite.addTestSuite(StreamingHistogramDatasetTests.class);
         suite.addTestSuite(StatisticsTests.class);
         return suite;
     }
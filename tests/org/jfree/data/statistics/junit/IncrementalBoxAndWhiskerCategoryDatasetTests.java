@@ -0,0 +1,187 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------------------------
+ * IncrementalBoxAndWhiskerCategoryDatasetTests.java
+ * -------------------------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.Range;
+import org.jfree.data.statistics.BoxAndWhiskerItem;
+import org.jfree.data.statistics.IncrementalBoxAndWhiskerCategoryDataset;
+
+/**
+ * Tests for the {@link IncrementalBoxAndWhiskerCategoryDataset} class.
+ */
+public class IncrementalBoxAndWhiskerCategoryDatasetTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(IncrementalBoxAndWhiskerCategoryDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public IncrementalBoxAndWhiskerCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Values added one at a time update the statistics and range.
+     */
+    public void testAdd() {
+        IncrementalBoxAndWhiskerCategoryDataset d
+                = new IncrementalBoxAndWhiskerCategoryDataset();
+        for (int i = 1; i <= 99; i++) {
+            d.add(i, "R1", "C1");
+        }
+        d.add(500.0, "R1", "C1");
+        assertEquals(1, d.getRowCount());
+        assertEquals(1, d.getColumnCount());
+        assertEquals(50.5, d.getMedianValue(0, 0).doubleValue(), 1.0);
+        assertEquals(1.0, d.getMinRegularValue(0, 0).doubleValue(), 0.0);
+        assertEquals(99.0, d.getMaxRegularValue(0, 0).doubleValue(), 0.0);
+        List outliers = d.getOutliers(0, 0);
+        assertEquals(1, outliers.size());
+        assertEquals(new Double(500.0), outliers.get(0));
+        assertEquals(new Range(1.0, 99.0), d.getRangeBounds(false));
+
+        d.add(new double[] {-10.0, 1000.0}, "R2", "C1");
+        assertEquals(2, d.getRowCount());
+        assertEquals(2L, d.getSketch("R2", "C1").getCount());
+    }
+
+    /**
+     * Adding precalculated statistics replaces the sketch for a cell.
+     */
+    public void testAddItem() {
+        IncrementalBoxAndWhiskerCategoryDataset d
+                = new IncrementalBoxAndWhiskerCategoryDataset();
+        d.add(1.0, "R1", "C1");
+        assertNotNull(d.getSketch("R1", "C1"));
+        d.add(new BoxAndWhiskerItem(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0,
+                new ArrayList()), "R1", "C1");
+        assertNull(d.getSketch("R1", "C1"));
+        assertEquals(2.0, d.getMedianValue(0, 0).doubleValue(), 0.0);
+    }
+
+    /**
+     * Removing rows, columns and cells also removes the sketches.
+     */
+    public void testRemove() {
+        IncrementalBoxAndWhiskerCategoryDataset d
+                = new IncrementalBoxAndWhiskerCategoryDataset();
+        d.add(1.0, "R1", "C1");
+        d.add(2.0, "R1", "C2");
+        d.add(3.0, "R2", "C1");
+        d.removeColumn(1);
+        assertNull(d.getSketch("R1", "C2"));
+        d.removeRow("R2");
+        assertNull(d.getSketch("R2", "C1"));
+        d.remove("R1", "C1");
+        assertNull(d.getSketch("R1", "C1"));
+        d.add(4.0, "R3", "C3");
+        d.clear();
+        assertNull(d.getSketch("R3", "C3"));
+        assertEquals(0, d.getRowCount());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        IncrementalBoxAndWhiskerCategoryDataset d1
+                = new IncrementalBoxAndWhiskerCategoryDataset();
+        d1.add(new double[] {1.0, 2.0, 3.0}, "R1", "C1");
+        IncrementalBoxAndWhiskerCategoryDataset d2
+                = (IncrementalBoxAndWhiskerCategoryDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertEquals(d1, d2);
+        d1.add(4.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.add(4.0, "R1", "C1");
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        IncrementalBoxAndWhiskerCategoryDataset d1
+                = new IncrementalBoxAndWhiskerCategoryDataset();
+        d1.add(new double[] {1.0, 2.0, 3.0}, "R1", "C1");
+        IncrementalBoxAndWhiskerCategoryDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (IncrementalBoxAndWhiskerCategoryDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+        d2.add(4.0, "R1", "C1");
+        assertEquals(4L, d2.getSketch("R1", "C1").getCount());
+    }
+
+}
@@ -0,0 +1,295 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * OnlineStatisticTests.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.statistics.ExponentialSmoothing;
+import org.jfree.data.statistics.OnlineRegression;
+import org.jfree.data.statistics.OnlineStatistic;
+import org.jfree.data.statistics.Regression;
+import org.jfree.data.statistics.RollingExtremum;
+import org.jfree.data.statistics.RollingMean;
+import org.jfree.data.statistics.RollingStandardDeviation;
+import org.jfree.data.statistics.Statistics;
+
+/**
+ * Tests for the {@link OnlineStatistic} implementations.
+ */
+public class OnlineStatisticTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(OnlineStatisticTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public OnlineStatisticTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Returns the y-values from <code>start</code> to <code>end</code>
+     * (exclusive) as an array of numbers.
+     *
+     * @param values  the values.
+     * @param start  the start index.
+     * @param end  the end index.
+     *
+     * @return The numbers.
+     */
+    private Number[] subset(double[] values, int start, int end) {
+        Number[] result = new Number[end - start];
+        for (int i = start; i < end; i++) {
+            result[i - start] = new Double(values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns some random values.
+     *
+     * @param count  the number of values.
+     *
+     * @return The values.
+     */
+    private double[] createValues(int count) {
+        Random random = new Random(38L);
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = 100.0 + random.nextGaussian() * 10.0;
+        }
+        return values;
+    }
+
+    /**
+     * Check the rolling mean against a direct calculation.
+     */
+    public void testRollingMean() {
+        double[] values = createValues(500);
+        RollingMean mean = new RollingMean(7);
+        for (int i = 0; i < values.length; i++) {
+            mean.add(i, values[i]);
+            if (i < 6) {
+                assertTrue(Double.isNaN(mean.getValue()));
+            }
+            else {
+                assertEquals(Statistics.calculateMean(subset(values, i - 6,
+                        i + 1)), mean.getValue(), 1e-9);
+            }
+        }
+        mean.clear();
+        assertTrue(Double.isNaN(mean.getValue()));
+
+        boolean pass = false;
+        try {
+            new RollingMean(0);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Some checks for the exponential moving average.
+     */
+    public void testExponentialSmoothing() {
+        ExponentialSmoothing s = new ExponentialSmoothing(0.25);
+        assertTrue(Double.isNaN(s.getValue()));
+        s.add(0.0, 8.0);
+        assertEquals(8.0, s.getValue(), 1e-12);
+        s.add(1.0, 4.0);
+        assertEquals(7.0, s.getValue(), 1e-12);
+        s.add(2.0, 11.0);
+        assertEquals(8.0, s.getValue(), 1e-12);
+
+        boolean pass = false;
+        try {
+            new ExponentialSmoothing(0.0);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Check the rolling minimum and maximum against a direct calculation.
+     */
+    public void testRollingExtremum() {
+        double[] values = createValues(500);
+        RollingExtremum min = new RollingExtremum(10, false);
+        RollingExtremum max = new RollingExtremum(10, true);
+        for (int i = 0; i < values.length; i++) {
+            min.add(i, values[i]);
+            max.add(i, values[i]);
+            if (i < 9) {
+                assertTrue(Double.isNaN(max.getValue()));
+                continue;
+            }
+            double lo = Double.POSITIVE_INFINITY;
+            double hi = Double.NEGATIVE_INFINITY;
+            for (int j = i - 9; j <= i; j++) {
+                lo = Math.min(lo, values[j]);
+                hi = Math.max(hi, values[j]);
+            }
+            assertEquals(lo, min.getValue(), 0.0);
+            assertEquals(hi, max.getValue(), 0.0);
+        }
+    }
+
+    /**
+     * Check the rolling standard deviation against a direct calculation.
+     */
+    public void testRollingStandardDeviation() {
+        double[] values = createValues(500);
+        RollingStandardDeviation sd = new RollingStandardDeviation(12);
+        for (int i = 0; i < values.length; i++) {
+            sd.add(i, values[i]);
+            if (i < 11) {
+                assertTrue(Double.isNaN(sd.getValue()));
+            }
+            else {
+                assertEquals(Statistics.getStdDev(subset(values, i - 11,
+                        i + 1)), sd.getValue(), 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Check the regression against {@link Regression#getOLSRegression(
+     * double[][])}.
+     */
+    public void testOnlineRegression() {
+        double[] values = createValues(200);
+        OnlineRegression all = new OnlineRegression();
+        OnlineRegression window = new OnlineRegression(20);
+        double[][] data = new double[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            double x = i * 0.5;
+            data[i] = new double[] {x, values[i] + 2.0 * x};
+            all.add(x, data[i][1]);
+            window.add(x, data[i][1]);
+        }
+        double[] expected = Regression.getOLSRegression(data);
+        double[] actual = all.getCoefficients();
+        assertEquals(expected[0], actual[0], 1e-9);
+        assertEquals(expected[1], actual[1], 1e-9);
+        assertEquals(expected[0] + expected[1] * 99.5, all.getValue(), 1e-9);
+
+        double[][] last = new double[20][];
+        System.arraycopy(data, 180, last, 0, 20);
+        expected = Regression.getOLSRegression(last);
+        assertEquals(expected[0], window.getIntercept(), 1e-9);
+        assertEquals(expected[1], window.getSlope(), 1e-9);
+        assertEquals(20, window.getCount());
+
+        OnlineRegression r = new OnlineRegression();
+        r.add(1.0, 1.0);
+        assertTrue(Double.isNaN(r.getValue()));
+    }
+
+    /**
+     * A clone should be independent of the original.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        RollingMean m1 = new RollingMean(2);
+        m1.add(0.0, 1.0);
+        m1.add(1.0, 3.0);
+        RollingMean m2 = (RollingMean) m1.clone();
+        assertEquals(2.0, m2.getValue(), 1e-12);
+        m1.add(2.0, 5.0);
+        assertEquals(4.0, m1.getValue(), 1e-12);
+        assertEquals(2.0, m2.getValue(), 1e-12);
+        m2.add(2.0, 7.0);
+        assertEquals(5.0, m2.getValue(), 1e-12);
+
+        RollingExtremum e1 = new RollingExtremum(2, true);
+        e1.add(0.0, 5.0);
+        e1.add(1.0, 1.0);
+        RollingExtremum e2 = (RollingExtremum) e1.clone();
+        e1.add(2.0, 2.0);
+        assertEquals(2.0, e1.getValue(), 0.0);
+        assertEquals(5.0, e2.getValue(), 0.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it carries on with
+     * the same state.
+     */
+    public void testSerialization() throws Exception {
+        RollingStandardDeviation s1 = new RollingStandardDeviation(3);
+        s1.add(0.0, 1.0);
+        s1.add(1.0, 2.0);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        RollingStandardDeviation s2 = (RollingStandardDeviation)
+                in.readObject();
+        in.close();
+        s1.add(2.0, 6.0);
+        s2.add(2.0, 6.0);
+        assertEquals(s1.getValue(), s2.getValue(), 0.0);
+    }
+
+}
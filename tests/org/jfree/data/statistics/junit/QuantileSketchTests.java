@@ -0,0 +1,234 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * QuantileSketchTests.java
+ * ------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.statistics.QuantileSketch;
+
+/**
+ * Tests for the {@link QuantileSketch} class.
+ */
+public class QuantileSketchTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(QuantileSketchTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public QuantileSketchTests(String name) {
+        super(name);
+    }
+
+    /**
+     * An empty sketch.
+     */
+    public void testEmpty() {
+        QuantileSketch s = new QuantileSketch();
+        assertEquals(0L, s.getCount());
+        assertTrue(Double.isNaN(s.getMean()));
+        assertTrue(Double.isNaN(s.getQuantile(0.5)));
+        s.add(Double.NaN);
+        assertEquals(0L, s.getCount());
+    }
+
+    /**
+     * The quantile estimates for a large sample should be close to the
+     * exact values, and the count, mean and extremes should be exact.
+     */
+    public void testAccuracy() {
+        Random random = new Random(3L);
+        int n = 100000;
+        double[] values = new double[n];
+        QuantileSketch s = new QuantileSketch();
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextGaussian();
+            sum += values[i];
+            s.add(values[i]);
+        }
+        Arrays.sort(values);
+        assertEquals(n, s.getCount());
+        assertEquals(sum / n, s.getMean(), 1e-12);
+        assertEquals(values[0], s.getMinimum(), 0.0);
+        assertEquals(values[n - 1], s.getMaximum(), 0.0);
+        assertEquals(values[0], s.getQuantile(0.0), 0.0);
+        assertEquals(values[n - 1], s.getQuantile(1.0), 0.0);
+        double[] qs = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+        for (int i = 0; i < qs.length; i++) {
+            double estimate = s.getQuantile(qs[i]);
+            // compare in rank terms: the estimate should lie within 0.5%
+            // of the requested rank
+            int rank = Arrays.binarySearch(values, estimate);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            assertEquals(qs[i], (double) rank / n, 0.005);
+            assertEquals(qs[i], s.getCDF(estimate), 0.005);
+        }
+    }
+
+    /**
+     * Merging sketches for two halves of a sample gives much the same
+     * estimates as one sketch for the whole sample.
+     */
+    public void testMerge() {
+        Random random = new Random(5L);
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch s1 = new QuantileSketch();
+        QuantileSketch s2 = new QuantileSketch();
+        for (int i = 0; i < 50000; i++) {
+            double v = random.nextDouble();
+            if (i % 2 == 0) {
+                s1.add(v);
+                all.add(v);
+            }
+            else {
+                s2.add(v + 1.0);
+                all.add(v + 1.0);
+            }
+        }
+        s1.merge(s2);
+        assertEquals(all.getCount(), s1.getCount());
+        assertEquals(all.getMean(), s1.getMean(), 1e-9);
+        assertEquals(all.getMinimum(), s1.getMinimum(), 0.0);
+        assertEquals(all.getMaximum(), s1.getMaximum(), 0.0);
+        for (int i = 1; i < 10; i++) {
+            assertEquals(all.getQuantile(i / 10.0),
+                    s1.getQuantile(i / 10.0), 0.01);
+        }
+    }
+
+    /**
+     * The centroids should stay bounded however many values are added.
+     */
+    public void testBoundedMemory() throws Exception {
+        QuantileSketch s = new QuantileSketch(50.0, 4);
+        for (int i = 0; i < 10000; i++) {
+            s.add(i);
+        }
+        int size1 = serializedSize(s);
+        for (int i = 0; i < 200000; i++) {
+            s.add(i % 977);
+        }
+        int size2 = serializedSize(s);
+        assertTrue(size2 < size1 + 2000);
+    }
+
+    /**
+     * Returns the size of a serialized sketch.
+     *
+     * @param s  the sketch.
+     *
+     * @return The size in bytes.
+     */
+    private static int serializedSize(QuantileSketch s) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s);
+        out.close();
+        return buffer.size();
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        QuantileSketch s1 = new QuantileSketch();
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i);
+        }
+        QuantileSketch s2 = (QuantileSketch) s1.clone();
+        assertTrue(s1 != s2);
+        assertEquals(s1, s2);
+        s1.add(5.0);
+        assertFalse(s1.equals(s2));
+        s2.add(5.0);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        QuantileSketch s1 = new QuantileSketch();
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i * 0.5);
+        }
+        QuantileSketch s2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(s1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            s2 = (QuantileSketch) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(s1, s2);
+    }
+
+}
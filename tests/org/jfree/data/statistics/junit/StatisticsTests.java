@@ -36,6 +36,7 @@
  * -------
  * 25-Mar-2004 : Version 1 (DG);
  * 04-Oct-2004 : Eliminated NumberUtils usage (DG);
+ * 19-Oct-2026 : Added test for calculateMedian(double[]);
  *
  */
 
@@ -45,6 +46,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -372,6 +374,34 @@ public class StatisticsTests extends TestCase {
         assertEquals(3.0, median, 0.0000001);
     }
 
+    /**
+     * Some checks for the calculateMedian(double[]) method.
+     */
+    public void testCalculateMedian_Array() {
+        assertTrue(Double.isNaN(Statistics.calculateMedian(new double[0])));
+        assertEquals(2.0, Statistics.calculateMedian(new double[] {2.0}), 
+                0.0);
+        double[] values = {7.0, 2.0, 3.0, 5.0, Double.NaN, 4.0, 6.0, 1.0};
+        assertEquals(4.0, Statistics.calculateMedian(values), 0.0);
+        // the array is not modified
+        assertEquals(7.0, values[0], 0.0);
+        assertEquals(5.5, Statistics.calculateMedian(new double[] {9.0, 1.0, 
+                5.0, 6.0, 6.0, 2.0}), 0.0);
+        
+        // compare with the list method
+        Random random = new Random(1L);
+        for (int n = 1; n < 100; n++) {
+            double[] a = new double[n];
+            List list = new ArrayList();
+            for (int i = 0; i < n; i++) {
+                a[i] = random.nextInt(20);
+                list.add(new Double(a[i]));
+            }
+            assertEquals(Statistics.calculateMedian(list), 
+                    Statistics.calculateMedian(a), 0.0);
+        }
+    }
+
     /**
      * A simple test for the correlation calculation.
      */
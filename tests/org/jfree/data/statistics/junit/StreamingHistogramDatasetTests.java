@@ -0,0 +1,346 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------------
+ * StreamingHistogramDatasetTests.java
+ * -----------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.statistics.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.statistics.HistogramDataset;
+import org.jfree.data.statistics.HistogramType;
+import org.jfree.data.statistics.StreamingHistogramDataset;
+
+/**
+ * Tests for the {@link StreamingHistogramDataset} class.
+ */
+public class StreamingHistogramDatasetTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The number of change events received. */
+    private int eventCount;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(StreamingHistogramDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public StreamingHistogramDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Records a change event.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * The bins and y-values should match a {@link HistogramDataset} built
+     * from the same values.
+     */
+    public void testMatchesHistogramDataset() {
+        double[] values = {1.0, 2.0, 3.0, 4.0, 6.0, 12.0, 5.0, 6.3, 4.5,
+                -1.0, 10.0};
+        HistogramDataset d1 = new HistogramDataset();
+        d1.addSeries("S", values, 5, 0.0, 10.0);
+        StreamingHistogramDataset d2 = new StreamingHistogramDataset();
+        d2.addSeries("S", 5, 0.0, 10.0);
+        for (int i = 0; i < values.length; i++) {
+            d2.add(0, values[i]);
+        }
+        HistogramType[] types = {HistogramType.FREQUENCY,
+                HistogramType.RELATIVE_FREQUENCY,
+                HistogramType.SCALE_AREA_TO_1};
+        for (int t = 0; t < types.length; t++) {
+            d1.setType(types[t]);
+            d2.setType(types[t]);
+            assertEquals(d1.getItemCount(0), d2.getItemCount(0));
+            for (int i = 0; i < 5; i++) {
+                assertEquals(d1.getStartXValue(0, i),
+                        d2.getStartXValue(0, i), 0.0);
+                assertEquals(d1.getEndXValue(0, i), d2.getEndXValue(0, i),
+                        0.0);
+                assertEquals(d1.getYValue(0, i), d2.getYValue(0, i), 1e-12);
+            }
+        }
+        assertEquals(values.length, d2.getTotal(0));
+
+        // a batch gives the same counts as single values
+        StreamingHistogramDataset d3 = new StreamingHistogramDataset();
+        d3.addSeries("S", 5, 0.0, 10.0);
+        d3.add(0, values);
+        d3.setType(HistogramType.SCALE_AREA_TO_1);
+        assertEquals(d2, d3);
+    }
+
+    /**
+     * Values added from several threads at once should all be counted.
+     */
+    public void testConcurrentAdd() throws InterruptedException {
+        final StreamingHistogramDataset d = new StreamingHistogramDataset(4);
+        d.addSeries("S", 10, 0.0, 1.0);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final int seed = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        d.add(0, ((i * 7 + seed) % 100) / 100.0);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(80000, d.getTotal(0));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(8000, d.getCount(0, i));
+        }
+    }
+
+    /**
+     * Batches of values and merged datasets added from several threads at
+     * once should all be counted, and a pending change should be reported
+     * by the final flush.
+     */
+    public void testConcurrentBatchAdd() throws InterruptedException {
+        final StreamingHistogramDataset d = new StreamingHistogramDataset(4);
+        d.addSeries("S", 10, 0.0, 1.0);
+        d.setEventInterval(60000L);
+        final double[] values = new double[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i / 100.0;
+        }
+        final StreamingHistogramDataset part = new StreamingHistogramDataset();
+        part.addSeries("S", 10, 0.0, 1.0);
+        part.add(0, values);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final boolean merging = t % 2 == 0;
+            threads[t] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        if (merging) {
+                            d.merge(part);
+                        }
+                        else {
+                            d.add(0, values);
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(800000, d.getTotal(0));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(80000, d.getCount(0, i));
+        }
+        final int[] events = new int[1];
+        d.addChangeListener(new DatasetChangeListener() {
+            public void datasetChanged(DatasetChangeEvent event) {
+                events[0]++;
+            }
+        });
+        d.add(0, values);
+        d.flushEvents();
+        assertEquals(1, events[0]);
+        d.flushEvents();
+        assertEquals(1, events[0]);
+    }
+
+    /**
+     * Merging partial histograms adds their counts.
+     */
+    public void testMerge() {
+        StreamingHistogramDataset d1 = new StreamingHistogramDataset();
+        d1.addSeries("S", 4, 0.0, 4.0);
+        d1.add(0, new double[] {0.5, 1.5, 1.6});
+        StreamingHistogramDataset d2 = new StreamingHistogramDataset();
+        d2.addSeries("S", 4, 0.0, 4.0);
+        d2.addSeries("T", 2, 0.0, 1.0);
+        d2.add(0, new double[] {1.5, 3.5});
+        d2.add(1, 0.9);
+        d1.merge(d2);
+        assertEquals(2, d1.getSeriesCount());
+        assertEquals(1, d1.getCount(0, 0));
+        assertEquals(3, d1.getCount(0, 1));
+        assertEquals(0, d1.getCount(0, 2));
+        assertEquals(1, d1.getCount(0, 3));
+        assertEquals(5, d1.getTotal(0));
+        assertEquals(1, d1.getCount(1, 1));
+
+        StreamingHistogramDataset d3 = new StreamingHistogramDataset();
+        d3.addSeries("S", 3, 0.0, 4.0);
+        boolean pass = false;
+        try {
+            d1.merge(d3);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Re-binning keeps the total and shares counts in proportion.
+     */
+    public void testRebin() {
+        StreamingHistogramDataset d = new StreamingHistogramDataset();
+        d.addSeries("S", 4, 0.0, 4.0);
+        d.add(0, new double[] {0.5, 0.5, 1.5, 1.5, 2.5, 2.5, 3.5, 3.5});
+        d.rebin(0, 2);
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(4, d.getCount(0, 0));
+        assertEquals(4, d.getCount(0, 1));
+        assertEquals(2.0, d.getEndXValue(0, 0), 0.0);
+
+        d.rebin(0, 8);
+        assertEquals(8, d.getTotal(0));
+        for (int i = 0; i < 8; i++) {
+            assertEquals(1, d.getCount(0, i));
+        }
+
+        d.rebin(0, 3);
+        long sum = 0;
+        for (int i = 0; i < 3; i++) {
+            sum += d.getCount(0, i);
+        }
+        assertEquals(8, sum);
+        assertEquals(8, d.getTotal(0));
+
+        // values added after re-binning use the new bins
+        d.add(0, 3.9);
+        assertEquals(9, d.getTotal(0));
+    }
+
+    /**
+     * With an event interval, adds are reported at most once per interval
+     * and the pending change is sent by flushEvents().
+     */
+    public void testEventInterval() {
+        StreamingHistogramDataset d = new StreamingHistogramDataset();
+        d.addSeries("S", 4, 0.0, 4.0);
+        d.addChangeListener(this);
+        d.add(0, 1.0);
+        assertEquals(1, this.eventCount);
+
+        d.setEventInterval(60000L);
+        for (int i = 0; i < 100; i++) {
+            d.add(0, 1.0);
+        }
+        assertTrue(this.eventCount <= 2);
+        int count = this.eventCount;
+        d.flushEvents();
+        assertEquals(count + 1, this.eventCount);
+        d.flushEvents();
+        assertEquals(count + 1, this.eventCount);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        StreamingHistogramDataset d1 = new StreamingHistogramDataset();
+        d1.addSeries("S", 4, 0.0, 4.0);
+        d1.add(0, new double[] {0.5, 2.5});
+        StreamingHistogramDataset d2 = (StreamingHistogramDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertEquals(d1, d2);
+        d1.add(0, 1.0);
+        assertFalse(d1.equals(d2));
+        d2.add(0, 1.0);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        StreamingHistogramDataset d1 = new StreamingHistogramDataset();
+        d1.addSeries("S", 4, 0.0, 4.0);
+        d1.add(0, new double[] {0.5, 2.5, 3.0});
+        StreamingHistogramDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (StreamingHistogramDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+        d2.add(0, 1.0);
+        assertEquals(4, d2.getTotal(0));
+    }
+
+}
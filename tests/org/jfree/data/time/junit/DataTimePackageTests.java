@@ -37,6 +37,8 @@
  * 13-Mar-2001 : Version 1 (DG);
  * 23-Aug-2004 : Restructured org.jfree.data package (DG);
  * 18-Jan-2005 : Added main() method (DG);
+ * 19-Oct-2026 : Added DerivedTimeSeriesTests;
+ * 19-Oct-2026 : Added TimeBucketedXYDatasetTests;
  *
  */
 
@@ -63,6 +65,7 @@ public class DataTimePackageTests extends TestCase {
         TestSuite suite = new TestSuite("org.jfree.data.time");
         suite.addTestSuite(DateRangeTests.class);
         suite.addTestSuite(DayTests.class);
+        suite.addTestSuite(DerivedTimeSeriesTests.class);
         suite.addTestSuite(FixedMillisecondTests.class);
         suite.addTestSuite(HourTests.class);
         suite.addTestSuite(MinuteTests.class);
@@ -72,6 +75,7 @@ public class DataTimePackageTests extends TestCase {
         suite.addTestSuite(QuarterTests.class);
         suite.addTestSuite(SecondTests.class);
         suite.addTestSuite(SimpleTimePeriodTests.class);
+        suite.addTestSuite(TimeBucketedXYDatasetTests.class);
         suite.addTestSuite(TimePeriodAnchorTests.class);
         suite.addTestSuite(TimePeriodValueTests.class);
         suite.addTestSuite(TimePeriodValuesTests.class);
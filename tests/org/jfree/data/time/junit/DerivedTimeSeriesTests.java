@@ -0,0 +1,285 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * DerivedTimeSeriesTests.java
+ * ---------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.statistics.RollingMean;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.DerivedTimeSeries;
+import org.jfree.data.time.MovingAverage;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+
+/**
+ * Tests for the {@link DerivedTimeSeries} class.
+ */
+public class DerivedTimeSeriesTests extends TestCase
+        implements SeriesChangeListener {
+
+    /** The number of change events received. */
+    private int eventCount;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DerivedTimeSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DerivedTimeSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Counts change events.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Creates a daily series with the specified number of items.
+     *
+     * @param count  the item count.
+     *
+     * @return The series.
+     */
+    private TimeSeries createSeries(int count) {
+        TimeSeries s = new TimeSeries("S", Day.class);
+        RegularTimePeriod day = new Day(1, 1, 2008);
+        for (int i = 0; i < count; i++) {
+            s.add(day, Math.sin(i / 5.0) * 10.0 + i);
+            day = day.next();
+        }
+        return s;
+    }
+
+    /**
+     * Checks that two series have the same periods and (approximately) the
+     * same values.
+     *
+     * @param expected  the expected series.
+     * @param actual  the actual series.
+     */
+    private void assertSameItems(TimeSeries expected, TimeSeries actual) {
+        assertEquals(expected.getItemCount(), actual.getItemCount());
+        for (int i = 0; i < expected.getItemCount(); i++) {
+            assertEquals(expected.getTimePeriod(i), actual.getTimePeriod(i));
+            assertEquals(expected.getValue(i).doubleValue(),
+                    actual.getValue(i).doubleValue(), 1e-9);
+        }
+    }
+
+    /**
+     * The derived series should match the point moving average, before and
+     * after items are appended.
+     */
+    public void testMovingAverage() {
+        TimeSeries source = createSeries(50);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new RollingMean(5));
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "E",
+                5), ma);
+
+        ma.addChangeListener(this);
+        RegularTimePeriod day = source.getNextTimePeriod();
+        for (int i = 0; i < 20; i++) {
+            source.add(day, i * 3.0);
+            day = day.next();
+        }
+        assertEquals(20, this.eventCount);
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "E",
+                5), ma);
+    }
+
+    /**
+     * Changing the last item, or inserting an item before it, should cause
+     * a rebuild.
+     */
+    public void testRebuild() {
+        TimeSeries source = createSeries(30);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new RollingMean(3));
+        source.update(29, new Double(-100.0));
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "E",
+                3), ma);
+        source.delete(new Day(5, 1, 2008));
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "E",
+                3), ma);
+        source.add(new Day(5, 1, 2008), 99.0);
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "E",
+                3), ma);
+        source.clear();
+        assertEquals(0, ma.getItemCount());
+        source.add(new Day(1, 1, 2008), 4.0);
+        source.add(new Day(2, 1, 2008), 5.0);
+        source.add(new Day(3, 1, 2008), 6.0);
+        assertEquals(1, ma.getItemCount());
+        assertEquals(5.0, ma.getValue(0).doubleValue(), 1e-12);
+    }
+
+    /**
+     * When the source discards its oldest items, the existing values are
+     * kept and the new items are processed.
+     */
+    public void testMaximumItemCount() {
+        TimeSeries source = createSeries(10);
+        source.setMaximumItemCount(10);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new RollingMean(2));
+        assertEquals(9, ma.getItemCount());
+        source.add(source.getNextTimePeriod(), 100.0);
+        assertEquals(10, ma.getItemCount());
+        assertEquals((source.getValue(8).doubleValue() + 100.0) / 2.0,
+                ma.getValue(9).doubleValue(), 1e-12);
+    }
+
+    /**
+     * When the source discards items older than its maximum item age, the
+     * existing values are kept and only the new items are processed.
+     */
+    public void testMaximumItemAge() {
+        TimeSeries source = createSeries(10);
+        source.setMaximumItemAge(10);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new RollingMean(2));
+        ma.add(new Day(1, 1, 2000), -1.0);  // would be lost by a rebuild
+        ma.addChangeListener(this);
+        RegularTimePeriod day = source.getNextTimePeriod();
+        for (int i = 0; i < 5; i++) {
+            source.add(day, 100.0 + i);
+            day = day.next();
+        }
+        assertEquals(new Day(5, 1, 2008), source.getTimePeriod(0));
+        assertEquals(5, this.eventCount);
+        assertEquals(15, ma.getItemCount());
+        assertEquals(-1.0, ma.getValue(0).doubleValue(), 1e-12);
+        assertEquals(103.5, ma.getValue(14).doubleValue(), 1e-12);
+    }
+
+    /**
+     * Items with a null value are skipped.
+     */
+    public void testNullValues() {
+        TimeSeries source = new TimeSeries("S", Day.class);
+        source.add(new Day(1, 1, 2008), 1.0);
+        source.add(new Day(2, 1, 2008), null);
+        source.add(new Day(3, 1, 2008), 3.0);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new RollingMean(2));
+        assertEquals(1, ma.getItemCount());
+        assertEquals(new Day(3, 1, 2008), ma.getTimePeriod(0));
+        assertEquals(2.0, ma.getValue(0).doubleValue(), 1e-12);
+    }
+
+    /**
+     * After dispose(), changes to the source are ignored.
+     */
+    public void testDispose() {
+        TimeSeries source = createSeries(10);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new RollingMean(2));
+        ma.dispose();
+        assertNull(ma.getSource());
+        source.add(source.getNextTimePeriod(), 1.0);
+        assertEquals(9, ma.getItemCount());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        TimeSeries source = createSeries(10);
+        DerivedTimeSeries s1 = new DerivedTimeSeries("MA", source,
+                new RollingMean(2));
+        DerivedTimeSeries s2 = (DerivedTimeSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertTrue(s1.getStatistic() != s2.getStatistic());
+        assertEquals(s1, s2);
+        assertNull(s2.getSource());
+        source.add(source.getNextTimePeriod(), 1.0);
+        assertEquals(10, s1.getItemCount());
+        assertEquals(9, s2.getItemCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.  The
+     * restored series should still follow its (restored) source.
+     */
+    public void testSerialization() throws Exception {
+        TimeSeries source = createSeries(10);
+        DerivedTimeSeries s1 = new DerivedTimeSeries("MA", source,
+                new RollingMean(2));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        DerivedTimeSeries s2 = (DerivedTimeSeries) in.readObject();
+        in.close();
+        assertEquals(s1, s2);
+        s2.getSource().add(s2.getSource().getNextTimePeriod(), 1.0);
+        assertEquals(10, s2.getItemCount());
+    }
+
+}
@@ -0,0 +1,268 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------
+ * TimeBucketedXYDatasetTests.java
+ * -------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.TimeZone;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.time.BucketAggregation;
+import org.jfree.data.time.Hour;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.Second;
+import org.jfree.data.time.TimeBucketedXYDataset;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.DefaultXYDataset;
+
+/**
+ * Tests for the {@link TimeBucketedXYDataset} class.
+ */
+public class TimeBucketedXYDatasetTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TimeBucketedXYDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TimeBucketedXYDatasetTests(String name) {
+        super(name);
+    }
+
+    private static final double EPSILON = 0.0000000001;
+
+    /** The GMT time zone. */
+    private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
+    /**
+     * Creates a series with one value per second, starting at midnight.
+     *
+     * @param values  the values.
+     *
+     * @return A series.
+     */
+    private TimeSeries createSeries(double[] values) {
+        TimeSeries s = new TimeSeries("S1", Second.class);
+        for (int i = 0; i < values.length; i++) {
+            s.add(new Second(i % 60, i / 60, 0, 1, 1, 2008), values[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Some checks for the aggregated values.
+     */
+    public void testAggregation() {
+        // three minutes of data: 1..60, then 61..120, then 121
+        double[] values = new double[121];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+        TimeSeries s = createSeries(values);
+        TimeBucketedXYDataset d = new TimeBucketedXYDataset(s, Minute.class);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(new Minute(1, 0, 1, 1, 2008), d.getPeriod(0, 1));
+        assertEquals(d.getPeriod(0, 1).getFirstMillisecond(),
+                d.getXValue(0, 1), EPSILON);
+
+        assertEquals(30.5, d.getYValue(0, 0), EPSILON);
+        assertEquals(1.0, d.getValue(0, 0, BucketAggregation.MIN), EPSILON);
+        assertEquals(60.0, d.getValue(0, 0, BucketAggregation.MAX), EPSILON);
+        assertEquals(1830.0, d.getValue(0, 0, BucketAggregation.SUM),
+                EPSILON);
+        assertEquals(60.0, d.getValue(0, 0, BucketAggregation.COUNT),
+                EPSILON);
+
+        assertEquals(61.0, d.getOpenValue(0, 1), EPSILON);
+        assertEquals(120.0, d.getHighValue(0, 1), EPSILON);
+        assertEquals(61.0, d.getLowValue(0, 1), EPSILON);
+        assertEquals(120.0, d.getCloseValue(0, 1), EPSILON);
+        assertEquals(60.0, d.getVolumeValue(0, 1), EPSILON);
+        assertEquals(1.0, d.getVolumeValue(0, 2), EPSILON);
+
+        d.setAggregation(BucketAggregation.LAST);
+        assertEquals(60.0, d.getYValue(0, 0), EPSILON);
+        d.setXPosition(TimePeriodAnchor.END);
+        assertEquals(d.getPeriod(0, 0).getLastMillisecond(),
+                d.getXValue(0, 0), EPSILON);
+    }
+
+    /**
+     * Appending to the source updates the periods.
+     */
+    public void testAppend() {
+        TimeSeries s = createSeries(new double[] {1.0, 2.0});
+        TimeBucketedXYDataset d = new TimeBucketedXYDataset(s, Minute.class);
+        assertEquals(1, d.getItemCount(0));
+        assertEquals(2.0, d.getVolumeValue(0, 0), EPSILON);
+
+        s.add(new Second(2, 0, 0, 1, 1, 2008), 6.0);
+        assertEquals(1, d.getItemCount(0));
+        assertEquals(3.0, d.getYValue(0, 0), EPSILON);
+        assertEquals(3.0, d.getVolumeValue(0, 0), EPSILON);
+
+        s.add(new Second(0, 5, 0, 1, 1, 2008), 10.0);
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(10.0, d.getYValue(0, 1), EPSILON);
+
+        // changing an earlier value is also picked up
+        s.update(new Second(0, 0, 0, 1, 1, 2008), new Double(4.0));
+        s.update(new Second(0, 5, 0, 1, 1, 2008), new Double(20.0));
+        assertEquals(4.0, d.getYValue(0, 0), EPSILON);
+        assertEquals(20.0, d.getYValue(0, 1), EPSILON);
+
+        // as is removing items
+        s.delete(new Second(0, 5, 0, 1, 1, 2008));
+        assertEquals(1, d.getItemCount(0));
+    }
+
+    /**
+     * Source items that are not in ascending order of x are still grouped
+     * into the right periods.
+     */
+    public void testUnorderedSource() {
+        long hour = 60L * 60L * 1000L;
+        DefaultXYDataset source = new DefaultXYDataset();
+        source.addSeries("S1", new double[][] {
+                {2 * hour + 5, 10, hour, 20, 30},
+                {1.0, 2.0, 3.0, 4.0, Double.NaN}});
+        TimeBucketedXYDataset d = new TimeBucketedXYDataset(source,
+                Hour.class, GMT);
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(0.0, d.getXValue(0, 0), EPSILON);
+        assertEquals(2.0, d.getValue(0, 0, BucketAggregation.COUNT),
+                EPSILON);
+        assertEquals(2.0, d.getOpenValue(0, 0), EPSILON);
+        assertEquals(4.0, d.getCloseValue(0, 0), EPSILON);
+        assertEquals(3.0, d.getYValue(0, 1), EPSILON);
+        assertEquals(1.0, d.getYValue(0, 2), EPSILON);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        TimeSeries s = createSeries(new double[] {1.0, 2.0});
+        TimeBucketedXYDataset d1 = new TimeBucketedXYDataset(s, Minute.class);
+        TimeBucketedXYDataset d2 = new TimeBucketedXYDataset(s, Minute.class);
+        assertTrue(d1.equals(d2));
+
+        d1.setAggregation(BucketAggregation.SUM);
+        assertFalse(d1.equals(d2));
+        d2.setAggregation(BucketAggregation.SUM);
+        assertTrue(d1.equals(d2));
+
+        d1.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertFalse(d1.equals(d2));
+        d2.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertTrue(d1.equals(d2));
+
+        assertFalse(d1.equals(new TimeBucketedXYDataset(s, Hour.class)));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        TimeSeries s = createSeries(new double[] {1.0, 2.0});
+        TimeBucketedXYDataset d1 = new TimeBucketedXYDataset(s, Minute.class);
+        TimeBucketedXYDataset d2 = null;
+        try {
+            d2 = (TimeBucketedXYDataset) d1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        d1.setAggregation(BucketAggregation.MAX);
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        TimeSeries s = createSeries(new double[] {1.0, 2.0});
+        TimeBucketedXYDataset d1 = new TimeBucketedXYDataset(s, Minute.class);
+        d1.setAggregation(BucketAggregation.COUNT);
+        TimeBucketedXYDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (TimeBucketedXYDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+        assertTrue(d2.getAggregation() == BucketAggregation.COUNT);
+        assertEquals(2.0, d2.getYValue(0, 0), EPSILON);
+    }
+
+}
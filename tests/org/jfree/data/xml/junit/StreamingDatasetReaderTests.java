@@ -0,0 +1,315 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------------
+ * StreamingDatasetReaderTests.java
+ * --------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added testInvalidValue() and testTimeSeriesTimeZone();
+ *
+ */
+
+package org.jfree.data.xml.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.TimeZone;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.category.DenseCategoryDataset;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Month;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xml.DatasetReader;
+import org.jfree.data.xml.DatasetWriter;
+import org.jfree.data.xml.StreamingDatasetReader;
+import org.jfree.data.xy.DefaultXYDataset;
+
+/**
+ * Tests for the {@link StreamingDatasetReader} and {@link DatasetWriter}
+ * classes.
+ */
+public class StreamingDatasetReaderTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(StreamingDatasetReaderTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public StreamingDatasetReaderTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Returns a stream for a string.
+     *
+     * @param s  the string.
+     *
+     * @return A stream.
+     */
+    private static InputStream stream(String s) throws IOException {
+        return new ByteArrayInputStream(s.getBytes("UTF-8"));
+    }
+
+    /**
+     * Reads a pie dataset, including a missing value.
+     */
+    public void testReadPieDataset() throws IOException {
+        String xml = "<PieDataset><Item><Key>A</Key><Value>1.5</Value></Item>"
+                + "<Item><Key>B</Key><Value></Value></Item></PieDataset>";
+        DefaultPieDataset d = StreamingDatasetReader.readPieDataset(
+                stream(xml));
+        assertEquals(2, d.getItemCount());
+        assertEquals(new Double(1.5), d.getValue("A"));
+        assertNull(d.getValue("B"));
+    }
+
+    /**
+     * Reads a category dataset and checks it against the original reader.
+     */
+    public void testReadCategoryDataset() throws IOException {
+        String xml = "<CategoryDataset>"
+                + "<Series name=\"R1\">"
+                + "<Item><Key>C1</Key><Value>1.0</Value></Item>"
+                + "<Item><Key>C2</Key><Value>2.0</Value></Item>"
+                + "</Series>"
+                + "<Series name=\"R2\">"
+                + "<Item><Key>C2</Key><Value>4.0</Value></Item>"
+                + "<Item><Key>C3</Key><Value>5.0</Value></Item>"
+                + "</Series></CategoryDataset>";
+        DenseCategoryDataset d = StreamingDatasetReader.readCategoryDataset(
+                stream(xml));
+        CategoryDataset expected = DatasetReader.readCategoryDatasetFromXML(
+                stream(xml));
+        assertEquals(d, expected);
+        assertEquals(3, d.getColumnCount());
+        assertNull(d.getValue("R2", "C1"));
+        assertEquals(5.0, d.getDoubleValue(1, 2), 0.0);
+    }
+
+    /**
+     * A document with the wrong root element is rejected.
+     */
+    public void testWrongRoot() {
+        boolean pass = false;
+        try {
+            StreamingDatasetReader.readCategoryDataset(stream(
+                    "<PieDataset></PieDataset>"));
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            StreamingDatasetReader.readPieDataset(stream(
+                    "<PieDataset><Item><Value>1.0</Value></Item>"
+                    + "</PieDataset>"));
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * A value that is not a number is rejected rather than read as a
+     * missing value.
+     */
+    public void testInvalidValue() {
+        boolean pass = false;
+        try {
+            StreamingDatasetReader.readPieDataset(stream(
+                    "<PieDataset><Item><Key>A</Key><Value>abc</Value></Item>"
+                    + "</PieDataset>"));
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            StreamingDatasetReader.readXYDataset(stream(
+                    "<XYDataset><Series name=\"S\"><Item><X>1.0</X>"
+                    + "<Y>1..0</Y></Item></Series></XYDataset>"));
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Writes a pie dataset and reads it back with both readers, using keys
+     * that need escaping.
+     */
+    public void testPieRoundTrip() throws IOException {
+        DefaultPieDataset d1 = new DefaultPieDataset();
+        d1.setValue("A & B", 1.0);
+        d1.setValue("<C>", null);
+        d1.setValue("\"D\"", 0.1);
+        StringWriter out = new StringWriter();
+        DatasetWriter.writePieDataset(d1, out);
+        DefaultPieDataset d2 = StreamingDatasetReader.readPieDataset(
+                stream(out.toString()));
+        assertEquals(d1, d2);
+        PieDataset d3 = DatasetReader.readPieDatasetFromXML(
+                stream(out.toString()));
+        assertEquals(d1, d3);
+    }
+
+    /**
+     * Writes a category dataset and reads it back.
+     */
+    public void testCategoryRoundTrip() throws IOException {
+        DefaultCategoryDataset d1 = new DefaultCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(null, "R1", "C2");
+        d1.addValue(-3.25, "R2", "C1");
+        d1.addValue(1.0E-10, "R2", "C2");
+        StringWriter out = new StringWriter();
+        DatasetWriter.writeCategoryDataset(d1, out);
+        DenseCategoryDataset d2 = StreamingDatasetReader.readCategoryDataset(
+                stream(out.toString()));
+        assertEquals(d2, d1);
+    }
+
+    /**
+     * Writes an XY dataset and reads it back.
+     */
+    public void testXYRoundTrip() throws IOException {
+        DefaultXYDataset d1 = new DefaultXYDataset();
+        double[] x = new double[200];
+        double[] y = new double[200];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i * 0.1;
+            y[i] = Math.sin(i);
+        }
+        y[5] = Double.NaN;
+        d1.addSeries("S1", new double[][] {x, y});
+        d1.addSeries("S2", new double[][] {{1.0}, {2.0}});
+        StringWriter out = new StringWriter();
+        DatasetWriter.writeXYDataset(d1, out);
+        DefaultXYDataset d2 = StreamingDatasetReader.readXYDataset(
+                stream(out.toString()));
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Writes a time series collection and reads it back.
+     */
+    public void testTimeSeriesRoundTrip() throws IOException {
+        TimeSeries s1 = new TimeSeries("Daily", Day.class);
+        Day day = new Day(1, 1, 2008);
+        for (int i = 0; i < 100; i++) {
+            s1.add(day, i * 1.5);
+            day = (Day) day.next();
+        }
+        day = (Day) day.next();
+        s1.add(day, null);
+        TimeSeries s2 = new TimeSeries("Monthly", Month.class);
+        s2.add(new Month(1, 2008), 1.0);
+        s2.add(new Month(3, 2008), 3.0);
+        TimeSeriesCollection d1 = new TimeSeriesCollection();
+        d1.addSeries(s1);
+        d1.addSeries(s2);
+        StringWriter out = new StringWriter();
+        DatasetWriter.writeTimeSeriesCollection(d1, out);
+        TimeSeriesCollection d2 = StreamingDatasetReader
+                .readTimeSeriesCollection(stream(out.toString()));
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Time periods are read back unchanged when the default time zone of
+     * the reader differs from that of the writer.
+     */
+    public void testTimeSeriesTimeZone() throws IOException {
+        TimeZone saved = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            TimeSeries s1 = new TimeSeries("Daily", Day.class);
+            s1.add(new Day(1, 1, 2008), 1.0);
+            s1.add(new Day(2, 1, 2008), 2.0);
+            s1.add(new Day(5, 1, 2008), 5.0);
+            TimeSeriesCollection d1 = new TimeSeriesCollection(s1);
+            StringWriter out = new StringWriter();
+            DatasetWriter.writeTimeSeriesCollection(d1, out);
+            assertTrue(out.toString().startsWith(
+                    "<TimeSeriesCollection timeZone=\"Asia/Tokyo\">"));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            TimeSeriesCollection d2 = StreamingDatasetReader
+                    .readTimeSeriesCollection(stream(out.toString()));
+            assertEquals(d1, d2);
+            assertEquals(new Day(5, 1, 2008),
+                    d2.getSeries(0).getTimePeriod(2));
+
+            boolean pass = false;
+            try {
+                StreamingDatasetReader.readTimeSeriesCollection(stream(
+                        "<TimeSeriesCollection timeZone=\"Nowhere/Unknown\">"
+                        + "</TimeSeriesCollection>"));
+            }
+            catch (IOException e) {
+                pass = true;
+            }
+            assertTrue(pass);
+        }
+        finally {
+            TimeZone.setDefault(saved);
+        }
+    }
+
+}
@@ -45,6 +45,9 @@
  * 27-Nov-2006 : Added MatrixSeriesCollectionTests (DG);
  * 25-Jan-2007 : Added XYBarDatasetTests (DG);
  * 25-May-2007 : Added VectorXXX tests (DG);
+ * 19-Oct-2026 : Added MappedXYDatasetTests;
+ * 19-Oct-2026 : Added DerivedXYSeriesTests;
+ * 19-Oct-2026 : Added SharedXTableXYDatasetTests;
  *
  */
 
@@ -76,10 +79,13 @@ public class DataXYPackageTests extends TestCase {
         suite.addTestSuite(DefaultWindDatasetTests.class);
         suite.addTestSuite(DefaultXYDatasetTests.class);
         suite.addTestSuite(DefaultXYZDatasetTests.class);
+        suite.addTestSuite(DerivedXYSeriesTests.class);
         suite.addTestSuite(IntervalXYDelegateTests.class);
+        suite.addTestSuite(MappedXYDatasetTests.class);
         suite.addTestSuite(MatrixSeriesCollectionTests.class);
         suite.addTestSuite(MatrixSeriesTests.class);
         suite.addTestSuite(OHLCDataItemTests.class);
+        suite.addTestSuite(SharedXTableXYDatasetTests.class);
         suite.addTestSuite(TableXYDatasetTests.class);
         suite.addTestSuite(VectorDataItemTests.class);
         suite.addTestSuite(VectorSeriesCollectionTests.class);
@@ -0,0 +1,195 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DerivedXYSeriesTests.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.statistics.OnlineRegression;
+import org.jfree.data.statistics.RollingExtremum;
+import org.jfree.data.statistics.RollingMean;
+import org.jfree.data.xy.DerivedXYSeries;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * Tests for the {@link DerivedXYSeries} class.
+ */
+public class DerivedXYSeriesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DerivedXYSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DerivedXYSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * A rolling maximum, checked before and after items are appended.
+     */
+    public void testRollingMaximum() {
+        XYSeries source = new XYSeries("S");
+        source.add(1.0, 5.0);
+        source.add(2.0, 3.0);
+        source.add(3.0, 4.0);
+        DerivedXYSeries max = new DerivedXYSeries("Max", source,
+                new RollingExtremum(2, true));
+        assertEquals(2, max.getItemCount());
+        assertEquals(2.0, max.getX(0).doubleValue(), 0.0);
+        assertEquals(5.0, max.getY(0).doubleValue(), 0.0);
+        assertEquals(4.0, max.getY(1).doubleValue(), 0.0);
+        source.add(4.0, 1.0);
+        source.add(5.0, 0.0);
+        assertEquals(4, max.getItemCount());
+        assertEquals(1.0, max.getY(3).doubleValue(), 0.0);
+    }
+
+    /**
+     * The fitted values follow the regression line.
+     */
+    public void testRegression() {
+        XYSeries source = new XYSeries("S");
+        DerivedXYSeries fit = new DerivedXYSeries("Fit", source,
+                new OnlineRegression());
+        assertEquals(0, fit.getItemCount());
+        for (int i = 0; i < 10; i++) {
+            source.add(i, 3.0 + 2.0 * i);
+        }
+        assertEquals(9, fit.getItemCount());
+        assertEquals(21.0, fit.getY(8).doubleValue(), 1e-9);
+    }
+
+    /**
+     * Inserting an item before the last item processed (in a sorted series)
+     * causes a rebuild.
+     */
+    public void testRebuild() {
+        XYSeries source = new XYSeries("S");
+        source.add(1.0, 1.0);
+        source.add(3.0, 3.0);
+        DerivedXYSeries mean = new DerivedXYSeries("Mean", source,
+                new RollingMean(2));
+        assertEquals(2.0, mean.getY(0).doubleValue(), 1e-12);
+        source.add(2.0, 5.0);
+        assertEquals(2, mean.getItemCount());
+        assertEquals(3.0, mean.getY(0).doubleValue(), 1e-12);
+        assertEquals(4.0, mean.getY(1).doubleValue(), 1e-12);
+        source.updateByIndex(2, new Double(7.0));
+        assertEquals(6.0, mean.getY(1).doubleValue(), 1e-12);
+    }
+
+    /**
+     * When the source discards its oldest items, the existing values are
+     * kept and the new items are processed.
+     */
+    public void testMaximumItemCount() {
+        XYSeries source = new XYSeries("S");
+        source.setMaximumItemCount(3);
+        source.add(1.0, 1.0);
+        source.add(2.0, 2.0);
+        source.add(3.0, 3.0);
+        DerivedXYSeries mean = new DerivedXYSeries("Mean", source,
+                new RollingMean(2));
+        source.add(4.0, 6.0);
+        source.add(5.0, 8.0);
+        assertEquals(4, mean.getItemCount());
+        assertEquals(1.5, mean.getY(0).doubleValue(), 1e-12);
+        assertEquals(7.0, mean.getY(3).doubleValue(), 1e-12);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        XYSeries source = new XYSeries("S");
+        source.add(1.0, 1.0);
+        source.add(2.0, 2.0);
+        DerivedXYSeries s1 = new DerivedXYSeries("Mean", source,
+                new RollingMean(2));
+        DerivedXYSeries s2 = (DerivedXYSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertEquals(s1, s2);
+        source.add(3.0, 3.0);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(1, s2.getItemCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() throws Exception {
+        XYSeries source = new XYSeries("S");
+        source.add(1.0, 1.0);
+        source.add(2.0, 2.0);
+        DerivedXYSeries s1 = new DerivedXYSeries("Mean", source,
+                new RollingMean(2));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        DerivedXYSeries s2 = (DerivedXYSeries) in.readObject();
+        in.close();
+        assertEquals(s1, s2);
+        s2.getSource().add(3.0, 4.0);
+        assertEquals(2, s2.getItemCount());
+    }
+
+}
@@ -0,0 +1,278 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * MappedXYDatasetTests.java
+ * -------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.renderer.RendererUtilities;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.MappedXYDataset;
+import org.jfree.data.xy.MappedXYSeriesWriter;
+
+/**
+ * Tests for the {@link MappedXYDataset} class.
+ */
+public class MappedXYDatasetTests extends TestCase {
+
+    /** Temporary files. */
+    private File file1;
+
+    /** Temporary files. */
+    private File file2;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(MappedXYDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public MappedXYDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates the temporary files.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    protected void setUp() throws IOException {
+        this.file1 = File.createTempFile("jfreechart", ".xy");
+        this.file2 = File.createTempFile("jfreechart", ".xy");
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    protected void tearDown() {
+        this.file1.delete();
+        this.file2.delete();
+    }
+
+    /**
+     * Writes a series with x = i and y = sin(i) to the first file.
+     *
+     * @param count  the number of items.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeSineSeries(int count) throws IOException {
+        MappedXYSeriesWriter writer = new MappedXYSeriesWriter(this.file1,
+                false);
+        for (int i = 0; i < count; i++) {
+            writer.add(i, Math.sin(i));
+        }
+        assertEquals(count, writer.getItemCount());
+        writer.close();
+    }
+
+    /**
+     * Read values back across several segments.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testValues() throws IOException {
+        writeSineSeries(1000);
+        MappedXYDataset d = new MappedXYDataset(160);
+        d.addSeries("S1", this.file1);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        assertEquals(1000, d.getItemCount(0));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, d.getXValue(0, i), 0.0);
+            assertEquals(Math.sin(i), d.getYValue(0, i), 0.0);
+            assertEquals(i, d.getStartXValue(0, i), 0.0);
+            assertEquals(Math.sin(i), d.getEndYValue(0, i), 0.0);
+        }
+        assertEquals(new Double(Math.sin(999)), d.getY(0, 999));
+
+        boolean pass = false;
+        try {
+            d.getXValue(0, 1000);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * The bounds come from the file headers, with and without intervals.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testBounds() throws IOException {
+        MappedXYDataset d = new MappedXYDataset();
+        assertNull(d.getDomainBounds(true));
+        assertTrue(Double.isNaN(d.getRangeLowerBound(false)));
+
+        writeSineSeries(100);
+        MappedXYSeriesWriter writer = new MappedXYSeriesWriter(this.file2,
+                true);
+        writer.add(200.0, 199.0, 201.0, 5.0, 4.0, 6.0);
+        writer.add(300.0, 299.0, 301.0, Double.NaN, Double.NaN, Double.NaN);
+        writer.add(250.0, 249.0, 251.0, -3.0, -4.0, -2.0);
+        writer.close();
+        d.addSeries("S1", this.file1);
+        d.addSeries("S2", this.file2);
+
+        assertEquals(new Range(0.0, 300.0), d.getDomainBounds(false));
+        assertEquals(new Range(0.0, 301.0), d.getDomainBounds(true));
+        assertEquals(new Range(-4.0, 6.0), d.getRangeBounds(true));
+        assertEquals(-3.0, d.getRangeLowerBound(false), 0.0);
+        assertEquals(5.0, d.getRangeUpperBound(false), 0.0);
+        assertEquals(new Range(0.0, 301.0),
+                DatasetUtilities.findDomainBounds(d));
+        assertEquals(249.0, d.getStartXValue(1, 2), 0.0);
+        assertEquals(-2.0, d.getEndYValue(1, 2), 0.0);
+    }
+
+    /**
+     * The domain order is ascending only if every series is ascending, and
+     * the live items can then be found by binary search.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testDomainOrder() throws IOException {
+        writeSineSeries(1000);
+        MappedXYDataset d = new MappedXYDataset(160);
+        d.addSeries("S1", this.file1);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        int[] bounds = RendererUtilities.findLiveItems(d, 0, 500.5, 600.5);
+        assertEquals(500, bounds[0]);
+        assertEquals(601, bounds[1]);
+
+        MappedXYSeriesWriter writer = new MappedXYSeriesWriter(this.file2,
+                false);
+        writer.add(2.0, 1.0);
+        writer.add(1.0, 1.0);
+        writer.close();
+        d.addSeries("S2", this.file2);
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        d.removeSeries(1);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+    }
+
+    /**
+     * A file that is not a series file is rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testInvalidFile() throws IOException {
+        MappedXYDataset d = new MappedXYDataset();
+        boolean pass = false;
+        try {
+            d.addSeries("S1", this.file1);
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        assertEquals(0, d.getSeriesCount());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEquals() throws IOException {
+        writeSineSeries(10);
+        MappedXYDataset d1 = new MappedXYDataset();
+        MappedXYDataset d2 = new MappedXYDataset();
+        assertTrue(d1.equals(d2));
+        d1.addSeries("S1", this.file1);
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S1", this.file1);
+        assertTrue(d1.equals(d2));
+        assertFalse(d1.equals(new MappedXYDataset(1000)));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that the files are
+     * mapped again.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testSerialization() throws IOException {
+        writeSineSeries(10);
+        MappedXYDataset d1 = new MappedXYDataset();
+        d1.addSeries("S1", this.file1);
+        MappedXYDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (MappedXYDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+        assertEquals(Math.sin(9), d2.getYValue(0, 9), 0.0);
+    }
+
+}
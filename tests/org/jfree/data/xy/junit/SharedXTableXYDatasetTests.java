@@ -0,0 +1,345 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------
+ * SharedXTableXYDatasetTests.java
+ * -------------------------------
+ * (C) Copyright 2008, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 19-Oct-2026 : Version 1;
+ * 19-Oct-2026 : Added testRangeBounds();
+ *
+ */
+
+package org.jfree.data.xy.junit;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.SharedXTableXYDataset;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * Tests for the {@link SharedXTableXYDataset} class.
+ */
+public class SharedXTableXYDatasetTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The number of change events received. */
+    private int eventCount;
+
+    /**
+     * Counts the change events received.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SharedXTableXYDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public SharedXTableXYDatasetTests(String name) {
+        super(name);
+    }
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        SharedXTableXYDataset d1 = new SharedXTableXYDataset();
+        SharedXTableXYDataset d2 = new SharedXTableXYDataset();
+        assertTrue(d1.equals(d2));
+
+        d1.addSeries("S1");
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S1");
+        assertTrue(d1.equals(d2));
+
+        d1.addRow(1.0, new double[] {1.1});
+        assertFalse(d1.equals(d2));
+        d2.addRow(1.0, new double[] {1.1});
+        assertTrue(d1.equals(d2));
+
+        d1.addRow(2.0, new double[] {Double.NaN});
+        assertFalse(d1.equals(d2));
+        d2.addRow(2.0, new double[] {Double.NaN});
+        assertTrue(d1.equals(d2));
+
+        assertFalse(d1.equals(new SharedXTableXYDataset(true, false)));
+        assertFalse(d1.equals(new SharedXTableXYDataset(false, true)));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        SharedXTableXYDataset d1 = new SharedXTableXYDataset(true, true);
+        d1.addSeries("S1");
+        d1.addRow(1L, new double[] {1.5});
+        SharedXTableXYDataset d2 = null;
+        try {
+            d2 = (SharedXTableXYDataset) d1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.addRow(2L, new double[] {2.5});
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S2");
+        assertEquals(1, d1.getSeriesCount());
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    public void testPublicCloneable() {
+        SharedXTableXYDataset d1 = new SharedXTableXYDataset();
+        assertTrue(d1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        SharedXTableXYDataset d1 = new SharedXTableXYDataset(true, true);
+        d1.addSeries("S1");
+        d1.addSeries("S2");
+        d1.addRow(10L, new double[] {1.0, 2.0});
+        d1.addRow(20L, new double[] {3.0, Double.NaN});
+        SharedXTableXYDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (SharedXTableXYDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Some checks for appending rows beyond the initial capacity.
+     */
+    public void testAddRow() {
+        SharedXTableXYDataset d = new SharedXTableXYDataset();
+        d.addChangeListener(this);
+        d.addSeries("S1");
+        d.addSeries("S2");
+        for (int i = 0; i < 100; i++) {
+            d.addRow(i, new double[] {i * 2.0, i * 3.0});
+        }
+        assertEquals(102, this.eventCount);
+        assertEquals(100, d.getItemCount());
+        assertEquals(100, d.getItemCount(1));
+        assertEquals(99.0, d.getXValue(1, 99), EPSILON);
+        assertEquals(198.0, d.getYValue(0, 99), EPSILON);
+        assertEquals(297.0, d.getYValue(1, 99), EPSILON);
+        assertEquals(new Range(0.0, 99.0), d.getDomainBounds(false));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+
+        try {
+            d.getXValue(0, 100);
+            fail("Should have thrown an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            d.addRow(100.0, new double[] {1.0});
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        d.addRow(-1.0, new double[] {1.0, 1.0});
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        assertEquals(new Range(-1.0, 99.0), d.getDomainBounds(false));
+    }
+
+    /**
+     * Appending several rows at once sends a single change event.
+     */
+    public void testAddRows() {
+        SharedXTableXYDataset d = new SharedXTableXYDataset(true, false);
+        d.addSeries("S1");
+        d.addRow(1L, new double[] {1.0});
+        d.addChangeListener(this);
+        long[] x = new long[40];
+        double[][] y = new double[1][40];
+        for (int i = 0; i < 40; i++) {
+            x[i] = 2L + i;
+            y[0][i] = i;
+        }
+        d.addRows(x, y);
+        assertEquals(1, this.eventCount);
+        assertEquals(41, d.getItemCount());
+        assertEquals(41L, d.getXLongValue(40));
+        assertEquals(new Long(41L), d.getX(0, 40));
+        assertEquals(39.0, d.getYValue(0, 40), EPSILON);
+    }
+
+    /**
+     * Checks that x-values stored as longs keep millisecond precision and
+     * that y-values can be stored as floats.
+     */
+    public void testPrecision() {
+        long t = 1224374400123L;
+        SharedXTableXYDataset d = new SharedXTableXYDataset(true, true);
+        d.addSeries("S1");
+        d.addRow(t, new double[] {0.1});
+        assertEquals(t, d.getXLongValue(0));
+        assertEquals(0.1f, d.getYValue(0, 0), 0.0);
+    }
+
+    /**
+     * A series added after some rows have a <code>null</code> y-value for
+     * those rows, and a series can be removed.
+     */
+    public void testAddAndRemoveSeries() {
+        SharedXTableXYDataset d = new SharedXTableXYDataset();
+        d.addSeries("S1");
+        d.addRow(1.0, new double[] {1.0});
+        d.addSeries("S2");
+        assertNull(d.getY(1, 0));
+        assertTrue(Double.isNaN(d.getYValue(1, 0)));
+        try {
+            d.addSeries("S1");
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        d.addRow(2.0, new double[] {2.0, 3.0});
+        d.removeSeries("S1");
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S2", d.getSeriesKey(0));
+        assertEquals(3.0, d.getYValue(0, 1), EPSILON);
+    }
+
+    /**
+     * Checks that the y-value bounds follow appended rows and removed
+     * series.
+     */
+    public void testRangeBounds() {
+        SharedXTableXYDataset d = new SharedXTableXYDataset(false, true);
+        assertNull(d.getRangeBounds(false));
+        d.addSeries("S1");
+        d.addSeries("S2");
+        d.addRow(1.0, new double[] {2.0, Double.NaN});
+        assertEquals(new Range(2.0, 2.0), d.getRangeBounds(false));
+        d.addRows(new double[] {2.0, 3.0},
+                new double[][] {{-1.0, 4.0}, {8.0, 0.5}});
+        assertEquals(new Range(-1.0, 8.0), d.getRangeBounds(false));
+        assertEquals(new Range(-1.0, 8.0),
+                DatasetUtilities.findRangeBounds(d));
+        d.removeSeries("S2");
+        assertEquals(new Range(-1.0, 4.0), d.getRangeBounds(false));
+        d.clear();
+        assertNull(d.getRangeBounds(false));
+    }
+
+    /**
+     * Checks that the dataset can be used with a stacked XY area chart.
+     */
+    public void testStackedXYAreaChart() {
+        SharedXTableXYDataset d = new SharedXTableXYDataset();
+        d.addSeries("S1");
+        d.addSeries("S2");
+        d.addRow(1.0, new double[] {1.0, 2.0});
+        d.addRow(2.0, new double[] {3.0, 4.0});
+        assertEquals(new Range(0.0, 7.0),
+                DatasetUtilities.findStackedRangeBounds(d));
+        JFreeChart chart = ChartFactory.createStackedXYAreaChart("Test", "X",
+                "Y", d, PlotOrientation.VERTICAL, true, false, false);
+        boolean success = false;
+        try {
+            BufferedImage image = new BufferedImage(200 , 100,
+                    BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2 = image.createGraphics();
+            chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null,
+                    null);
+            g2.dispose();
+            success = true;
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertTrue(success);
+    }
+
+}